@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.FunctionType;
+
+/**
+ * A Ballerina module function resolved once with {@link Runtime#getFunctionCallSite}, which can be called repeatedly
+ * without looking up the function and its module by name on each call.
+ *
+ * @since 2201.12.0
+ */
+public interface FunctionCallSite {
+
+    /**
+     * Returns the type of the resolved function.
+     *
+     * @return function type
+     */
+    FunctionType getFunctionType();
+
+    /**
+     * Calls the resolved function.
+     *
+     * @param metadata Meta data of new strand.
+     * @param args     Arguments of the Ballerina function.
+     * @return return value of the function
+     */
+    Object call(StrandMetadata metadata, Object... args);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.values.BObject;
+
+/**
+ * A Ballerina object method resolved once with {@link Runtime#getMethodCallSite}, which can be called repeatedly
+ * without looking up the method by name on each call. Listeners which dispatch to the same service method for each
+ * request should keep and reuse the call site.
+ *
+ * @since 2201.12.0
+ */
+public interface MethodCallSite {
+
+    /**
+     * Returns the type of the resolved method.
+     *
+     * @return method type
+     */
+    MethodType getMethodType();
+
+    /**
+     * Calls the resolved method on the given object.
+     *
+     * @param object   Object value, which must belong to the object type the call site was resolved for.
+     * @param metadata Meta data of new strand.
+     * @param args     Arguments of the Ballerina method.
+     * @return return value of the method
+     */
+    Object call(BObject object, StrandMetadata metadata, Object... args);
+}
@@ -17,11 +17,15 @@
 
 package io.ballerina.runtime.api;
 
+import io.ballerina.runtime.api.concurrent.AdmissionLimit;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.BalRuntime;
 
+import java.time.Duration;
+
 /**
  * External API to be used by the interop users to control Ballerina runtime behavior.
  *
@@ -78,6 +82,55 @@ public abstract class Runtime {
     public abstract Object callMethod(BObject object, String methodName, StrandMetadata metadata,
                                       Object... args);
 
+    /**
+     * Resolves a Ballerina function, so that it can be called repeatedly without resolving it on each call.
+     *
+     * @param module       Module of the function.
+     * @param functionName Name of the function.
+     * @return resolved function
+     */
+    public abstract FunctionCallSite getFunctionCallSite(Module module, String functionName);
+
+    /**
+     * Resolves a method of a Ballerina object type, so that it can be called repeatedly without resolving it on each
+     * call.
+     *
+     * @param objectType Object type which contains the method.
+     * @param methodName Name of the method.
+     * @return resolved method
+     */
+    public abstract MethodCallSite getMethodCallSite(ObjectType objectType, String methodName);
+
+    /**
+     * Returns the global limit on the number of strands started by the program, which can be used to monitor the
+     * number of active, queued and rejected strands.
+     *
+     * @return global admission limit
+     */
+    public abstract AdmissionLimit getAdmissionLimit();
+
+    /**
+     * Creates a limit on the number of concurrent strands, which can be applied to the calls made with a given strand
+     * metadata with {@link #setAdmissionLimit}.
+     *
+     * @param name           Name of the limit, which is included in the rejection errors.
+     * @param maxConcurrency Maximum number of concurrent strands.
+     * @param maxQueueLength Maximum number of strands waiting to be admitted.
+     * @param maxWait        Maximum time a strand waits to be admitted.
+     * @return admission limit
+     */
+    public abstract AdmissionLimit createAdmissionLimit(String name, int maxConcurrency, int maxQueueLength,
+                                                       Duration maxWait);
+
+    /**
+     * Applies an admission limit to the calls made with {@link #callFunction}, {@link #callMethod} and the call sites,
+     * using the given strand metadata instance. A call which is not admitted fails with an error.
+     *
+     * @param metadata Meta data of the strands to limit.
+     * @param limit    Admission limit created with {@link #createAdmissionLimit}, or null to remove the limit.
+     */
+    public abstract void setAdmissionLimit(StrandMetadata metadata, AdmissionLimit limit);
+
     /**
      * Register a Ballerina listener object in runtime.
      * @param listener Ballerina Listener object.
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.api.concurrent;
+
+/**
+ * Limits the number of strands which run concurrently. When the limit is reached, new strands wait in a bounded queue
+ * for a bounded time, and are rejected with an error if they cannot be admitted.
+ * <p>
+ * The runtime applies a global limit to the strands started by the program, which is configured with the
+ * {@code BAL_MAX_CONCURRENT_STRANDS}, {@code BAL_MAX_QUEUED_STRANDS} and {@code BAL_STRAND_ADMISSION_TIMEOUT}
+ * environment variables. Listeners can create limits of their own with {@link
+ * io.ballerina.runtime.api.Runtime#createAdmissionLimit} and apply them to the calls made with a given
+ * {@link StrandMetadata}, or use {@link #acquire()} and {@link #release()} directly to shed load before dispatching.
+ *
+ * @since 2201.12.0
+ */
+public interface AdmissionLimit {
+
+    /**
+     * Returns the name of the limit, which is included in the rejection errors.
+     *
+     * @return name of the limit
+     */
+    String getName();
+
+    /**
+     * Returns the maximum number of strands admitted concurrently, or {@code 0} if the number is not limited.
+     *
+     * @return maximum number of concurrent strands
+     */
+    int getMaxConcurrency();
+
+    /**
+     * Returns the number of strands currently admitted.
+     *
+     * @return number of active strands
+     */
+    int getActiveCount();
+
+    /**
+     * Returns the number of strands currently waiting to be admitted.
+     *
+     * @return number of queued strands
+     */
+    int getQueuedCount();
+
+    /**
+     * Returns the number of strands rejected so far.
+     *
+     * @return number of rejected strands
+     */
+    long getRejectedCount();
+
+    /**
+     * Waits until a strand can be admitted. Each successful call must be followed by a call to {@link #release()}.
+     *
+     * @throws io.ballerina.runtime.api.values.BError if the queue is full, or the strand could not be admitted within
+     *                                                the maximum wait time
+     */
+    void acquire();
+
+    /**
+     * Releases a strand admitted with {@link #acquire()}.
+     */
+    void release();
+}
@@ -46,7 +46,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
-import java.io.StringReader;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -111,7 +110,7 @@ public final class JsonUtils {
      * @throws BError for any parsing error
      */
     public static Object parse(BString jsonStr, NonStringValueProcessingMode mode) throws BError {
-        return JsonParser.parse(new StringReader(jsonStr.getValue()), mode);
+        return JsonParser.parse(jsonStr.getValue(), mode);
     }
 
     /**
@@ -134,7 +133,7 @@ public final class JsonUtils {
      * @throws BError for any parsing error
      */
     public static Object parse(String jsonStr, NonStringValueProcessingMode mode) throws BError {
-        return JsonParser.parse(new StringReader(jsonStr), mode);
+        return JsonParser.parse(jsonStr, mode);
     }
 
     /**
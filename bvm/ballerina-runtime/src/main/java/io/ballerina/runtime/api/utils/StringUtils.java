@@ -40,8 +40,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -108,27 +106,14 @@ public final class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
+        // Only the presence of a surrogate pair is checked here. The locations of the surrogate pairs, which are
+        // needed for the code point based operations, are computed when they are first used.
         for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                return new NonBmpStringValue(s);
             }
         }
-        if (highSurrogates == null) {
-            return new BmpStringValue(s);
-        }
-
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
-
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
-        }
-        return new NonBmpStringValue(s, highSurrogatesArr);
+        return new BmpStringValue(s);
     }
 
     public static BArray fromStringArray(String[] s) {
@@ -234,6 +219,14 @@ public final class StringUtils {
      * @return Json String value of the value
      */
     public static String getJsonString(Object value) {
+        switch (TypeUtils.getImpliedType(TypeChecker.getType(value)).getTag()) {
+            case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG, TypeTags.ARRAY_TAG, TypeTags.TUPLE_TAG -> {
+                // Structured values are serialized directly, without creating an intermediate json value.
+                return JsonGenerator.toJsonString(value);
+            }
+            default -> {
+            }
+        }
         Object jsonValue = JsonUtils.convertToJson(value);
 
         Type type = TypeUtils.getImpliedType(TypeChecker.getType(jsonValue));
@@ -253,15 +246,7 @@ public final class StringUtils {
     }
 
     private static String stringToJson(BString value) {
-        try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-             JsonGenerator gen = new JsonGenerator(byteOut)) {
-            gen.writeString(value.getValue());
-            gen.flush();
-            return byteOut.toString();
-        } catch (IOException e) {
-            throw ErrorCreator.createError(StringUtils.fromString(
-                    "Error in converting string value to a json string: " + e.getMessage()), e);
-        }
+        return JsonGenerator.serializeToString(value);
     }
 
     private StringUtils() {
@@ -19,10 +19,14 @@
 package io.ballerina.runtime.internal;
 
 import io.ballerina.identifier.Utils;
+import io.ballerina.runtime.api.FunctionCallSite;
+import io.ballerina.runtime.api.MethodCallSite;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.AdmissionLimit;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BObject;
@@ -30,12 +34,14 @@ import io.ballerina.runtime.internal.configurable.providers.ConfigDetails;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.launch.LaunchUtils;
+import io.ballerina.runtime.internal.scheduling.AdmissionLimitImpl;
 import io.ballerina.runtime.internal.scheduling.RuntimeRegistry;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -122,6 +128,54 @@ public class BalRuntime extends Runtime {
         return this.scheduler.callMethod(object, methodName, metadata, args);
     }
 
+    @Override
+    public FunctionCallSite getFunctionCallSite(Module module, String functionName) {
+        this.handleCallBeforeModuleInit(functionName);
+        this.validateArgs(module, functionName);
+        return this.scheduler.getFunctionCallSite(module, functionName);
+    }
+
+    @Override
+    public MethodCallSite getMethodCallSite(ObjectType objectType, String methodName) {
+        if (objectType == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("object type cannot be null"));
+        }
+        if (methodName == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("method name cannot be null"));
+        }
+        this.handleCallBeforeModuleInit(objectType.getName() + ":" + methodName);
+        return this.scheduler.getMethodCallSite(objectType, methodName);
+    }
+
+    @Override
+    public AdmissionLimit getAdmissionLimit() {
+        return this.scheduler.getAdmissionLimit();
+    }
+
+    @Override
+    public AdmissionLimit createAdmissionLimit(String name, int maxConcurrency, int maxQueueLength,
+                                              Duration maxWait) {
+        if (name == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("admission limit name cannot be null"));
+        }
+        if (maxWait == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("maximum wait time cannot be null"));
+        }
+        return new AdmissionLimitImpl(name, maxConcurrency, maxQueueLength, maxWait.toMillis());
+    }
+
+    @Override
+    public void setAdmissionLimit(StrandMetadata metadata, AdmissionLimit limit) {
+        if (metadata == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("strand metadata cannot be null"));
+        }
+        if (limit != null && !(limit instanceof AdmissionLimitImpl)) {
+            throw ErrorCreator.createError(StringUtils.fromString(
+                    "admission limit must be created with Runtime.createAdmissionLimit"));
+        }
+        this.scheduler.setAdmissionLimit(metadata, limit);
+    }
+
     @Override
     public void registerListener(BObject listener) {
         this.handleCallBeforeModuleInit("registerListener");
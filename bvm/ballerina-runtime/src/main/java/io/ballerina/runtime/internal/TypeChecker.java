@@ -439,7 +439,7 @@ public final class TypeChecker {
 
     public static boolean checkDecimalExactEqual(DecimalValue lhsValue, DecimalValue rhsValue) {
         return isDecimalRealNumber(lhsValue) && isDecimalRealNumber(rhsValue)
-                && lhsValue.decimalValue().equals(rhsValue.decimalValue());
+                && lhsValue.exactlyEquals(rhsValue);
     }
 
     /**
@@ -638,7 +638,7 @@ public final class TypeChecker {
      */
     public static boolean checkDecimalEqual(DecimalValue lhsValue, DecimalValue rhsValue) {
         return isDecimalRealNumber(lhsValue) && isDecimalRealNumber(rhsValue) &&
-                lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) == 0;
+                lhsValue.compareTo(rhsValue) == 0;
     }
 
     public static boolean isNumericType(Type type) {
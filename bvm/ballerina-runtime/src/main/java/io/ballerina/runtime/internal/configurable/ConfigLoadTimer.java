@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.configurable;
+
+import io.ballerina.runtime.api.Module;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the time spent on loading configurable values, per config provider and per module. The collected timings
+ * are reported to the standard error stream when the {@code BAL_LOG_CONFIG_LOAD_TIME} environment variable is set to
+ * {@code true}.
+ *
+ * @since 2201.12.0
+ */
+public class ConfigLoadTimer {
+
+    static final String CONFIG_LOAD_TIME_ENV_VARIABLE = "BAL_LOG_CONFIG_LOAD_TIME";
+
+    private final boolean enabled;
+    private final Map<String, Long> providerInitTimes = new LinkedHashMap<>();
+    private final Map<Module, ModuleLoadTime> moduleLoadTimes = new LinkedHashMap<>();
+    private long loadTime;
+
+    public ConfigLoadTimer() {
+        this("true".equalsIgnoreCase(System.getenv(CONFIG_LOAD_TIME_ENV_VARIABLE)));
+    }
+
+    public ConfigLoadTimer(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void providerInitialized(ConfigProvider provider, long startTime) {
+        if (enabled) {
+            providerInitTimes.merge(provider.getClass().getSimpleName(), System.nanoTime() - startTime, Long::sum);
+        }
+    }
+
+    public void moduleLoaded(Module module, int variableCount, long startTime) {
+        if (enabled) {
+            moduleLoadTimes.put(module, new ModuleLoadTime(variableCount, System.nanoTime() - startTime));
+        }
+    }
+
+    public void loaded(long startTime) {
+        if (enabled) {
+            loadTime = System.nanoTime() - startTime;
+        }
+    }
+
+    public Map<String, Long> getProviderInitTimes() {
+        return providerInitTimes;
+    }
+
+    public Map<Module, ModuleLoadTime> getModuleLoadTimes() {
+        return moduleLoadTimes;
+    }
+
+    /**
+     * Returns the total time spent on loading the configurable values, including initializing the providers and
+     * creating the values.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getLoadTime() {
+        return loadTime;
+    }
+
+    public void report(PrintStream out) {
+        if (!enabled) {
+            return;
+        }
+        for (Map.Entry<String, Long> entry : providerInitTimes.entrySet()) {
+            out.println("[CONFIG] provider " + entry.getKey() + " initialized in " + toMillis(entry.getValue()) +
+                    " ms");
+        }
+        for (Map.Entry<Module, ModuleLoadTime> entry : moduleLoadTimes.entrySet()) {
+            ModuleLoadTime loadTime = entry.getValue();
+            out.println("[CONFIG] module " + entry.getKey() + ": " + loadTime.variableCount() +
+                    " configurable variable(s) loaded in " + toMillis(loadTime.nanos()) + " ms");
+        }
+        out.println("[CONFIG] configurable values loaded in " + toMillis(loadTime) + " ms");
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Time spent on resolving the configurable variables of a module.
+     *
+     * @param variableCount number of configurable variables in the module
+     * @param nanos         elapsed time in nanoseconds
+     */
+    public record ModuleLoadTime(int variableCount, long nanos) {
+    }
+}
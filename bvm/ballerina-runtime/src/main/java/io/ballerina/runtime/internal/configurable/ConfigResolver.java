@@ -53,12 +53,24 @@ public class ConfigResolver {
 
     private final RuntimeDiagnosticLog diagnosticLog;
 
+    private final ConfigLoadTimer loadTimer;
+
     public ConfigResolver(Map<Module, VariableKey[]> configVarMap, RuntimeDiagnosticLog diagnosticLog,
                           List<ConfigProvider> supportedConfigProviders) {
+        this(configVarMap, diagnosticLog, supportedConfigProviders, new ConfigLoadTimer());
+    }
+
+    public ConfigResolver(Map<Module, VariableKey[]> configVarMap, RuntimeDiagnosticLog diagnosticLog,
+                          List<ConfigProvider> supportedConfigProviders, ConfigLoadTimer loadTimer) {
         this.configVarMap = configVarMap;
         this.supportedConfigProviders = supportedConfigProviders;
         this.runtimeConfigProviders = new LinkedList<>();
         this.diagnosticLog = diagnosticLog;
+        this.loadTimer = loadTimer;
+    }
+
+    public ConfigLoadTimer getLoadTimer() {
+        return loadTimer;
     }
 
     public Map<VariableKey, ConfigValue> resolveConfigs() {
@@ -66,7 +78,9 @@ public class ConfigResolver {
         if (configVarMap.isEmpty()) {
             return configValueMap;
         }
+        long loadStartTime = loadTimer.start();
         for (ConfigProvider provider : supportedConfigProviders) {
+            long startTime = loadTimer.start();
             try {
                 provider.initialize();
                 if (provider.hasConfigs()) {
@@ -74,22 +88,36 @@ public class ConfigResolver {
                 }
             } catch (ConfigException e) {
                 diagnosticLog.warn(e.getErrorCode(), null, e.getArgs());
+            } finally {
+                loadTimer.providerInitialized(provider, startTime);
             }
         }
         for (Map.Entry<Module, VariableKey[]> entry : configVarMap.entrySet()) {
             Module module = entry.getKey();
             VariableKey[] variableKeys = entry.getValue();
+            long startTime = loadTimer.start();
             for (VariableKey varKey : variableKeys) {
                 Optional<?> configValue = getConfigValue(module, varKey);
-                configValue.ifPresent(o -> configValueMap.put(varKey, (ConfigValue) o));
+                configValue.ifPresent(o -> configValueMap.put(varKey, materialize((ConfigValue) o)));
             }
+            loadTimer.moduleLoaded(module, variableKeys.length, startTime);
         }
         for (ConfigProvider provider : runtimeConfigProviders) {
             provider.complete(diagnosticLog);
         }
+        loadTimer.loaded(loadStartTime);
         return configValueMap;
     }
 
+    private ConfigValue materialize(ConfigValue configValue) {
+        // Structured values are otherwise created when the module is initialized. They are created here when timing
+        // the load, so that the module load time includes creating the values.
+        if (loadTimer.isEnabled()) {
+            configValue.getValue();
+        }
+        return configValue;
+    }
+
     private Optional<?> getConfigValue(Module module, VariableKey key) {
         Function<ConfigProvider, Optional<?>> function = getValueFunction(module, key, key.type);
         if (function != null) {
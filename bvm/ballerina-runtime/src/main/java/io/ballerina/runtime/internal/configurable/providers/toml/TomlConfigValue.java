@@ -24,12 +24,16 @@ import io.ballerina.toml.semantic.ast.TomlNode;
 
 /**
  *  This class represents a configurable value retrieved from TOML configuration.
+ *  <p>
+ *  Structured values (records, tables, arrays, maps, etc.) are kept as TOML nodes and the Ballerina value is created
+ *  only when it is first accessed. The TOML node is released once the value is created, so that the parsed TOML
+ *  document does not stay in memory for the lifetime of the program.
  *
  *  @since 2.0.0
  */
 public class TomlConfigValue implements ConfigValue {
     private static final ConfigValueCreator valueCreator = new ConfigValueCreator();
-    private final Object value;
+    private volatile Object value;
     private final Type type;
 
     public TomlConfigValue(Object value, Type type) {
@@ -39,9 +43,15 @@ public class TomlConfigValue implements ConfigValue {
 
     @Override
     public Object getValue() {
-        if (value instanceof TomlNode tomlNode) {
-            return valueCreator.createValue(tomlNode, type);
+        Object currentValue = value;
+        if (!(currentValue instanceof TomlNode)) {
+            return currentValue;
+        }
+        synchronized (this) {
+            if (value instanceof TomlNode tomlNode) {
+                value = valueCreator.createValue(tomlNode, type);
+            }
+            return value;
         }
-        return value;
     }
 }
@@ -158,7 +158,9 @@ public enum ErrorCodes implements DiagnosticCode {
     NO_MESSAGE_ERROR("no.worker.message.received", "RUNTIME_0128"),
     FUNCTION_ALREADY_CALLED("function.already.called", "RUNTIME_0129"),
     INVALID_FUNCTION_INVOCATION_BEFORE_MODULE_INIT("invalid.function.call.before.module.init", "RUNTIME_0130"),
-    INVALID_TUPLE_MEMBER_SIZE("invalid.tuple.member.size", "RUNTIME_0131");
+    INVALID_TUPLE_MEMBER_SIZE("invalid.tuple.member.size", "RUNTIME_0131"),
+    STRAND_ADMISSION_REJECTED("strand.admission.rejected", "RUNTIME_0132"),
+    INVALID_ADMISSION_LIMIT("invalid.admission.limit", "RUNTIME_0133");
 
     private final String errorMsgKey;
     private final String errorCode;
@@ -120,6 +120,8 @@ public final class ErrorReasons {
     public static final BString ASYNC_CALL_INSIDE_LOCK =
             StringUtils.fromString(BALLERINA_PREFIX.concat("AsyncCallInsideLockError"));
     public static final BString UNORDERED_TYPES_ERROR = StringUtils.fromString(UNORDERED_TYPES);
+    public static final BString STRAND_ADMISSION_REJECTED =
+            StringUtils.fromString(BALLERINA_PREFIX.concat("StrandAdmissionRejected"));
     public static final BString UNSUPPORTED_DECIMAL_ERROR = StringUtils.fromString(BALLERINA_PREFIX.concat(
             "UnsupportedDecimalError"));
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.json;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The field names of a record type, escaped and encoded the way {@link JsonGenerator} writes them, so that they are
+ * not re-escaped for each value of the record type which is serialized.
+ *
+ * @since 2201.12.0
+ */
+public final class JsonFieldNames {
+
+    private final Map<String, EncodedFieldName> fieldNames;
+
+    public JsonFieldNames(Collection<String> fieldNames) {
+        Map<String, EncodedFieldName> encodedFieldNames = new HashMap<>(fieldNames.size() * 2);
+        for (String fieldName : fieldNames) {
+            encodedFieldNames.put(fieldName, encode(fieldName));
+        }
+        this.fieldNames = encodedFieldNames;
+    }
+
+    /**
+     * Returns the encoded field name, if the given name is a field of the record type.
+     *
+     * @param fieldName field name
+     * @return encoded field name, or null if the name is not a field of the record type (i.e. a rest field)
+     */
+    EncodedFieldName get(String fieldName) {
+        return fieldNames.get(fieldName);
+    }
+
+    private static EncodedFieldName encode(String fieldName) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = new JsonGenerator(writer)) {
+            gen.writeFieldName(fieldName);
+        } catch (IOException e) {
+            // Not expected, as the field name is written to memory.
+            throw new UncheckedIOException(e);
+        }
+        String text = writer.toString();
+        return new EncodedFieldName(text, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A field name, along with the quotes and the colon, escaped as a JSON string.
+     *
+     * @param text escaped field name
+     * @param utf8 UTF-8 encoded bytes of the escaped field name
+     */
+    record EncodedFieldName(String text, byte[] utf8) {
+    }
+}
@@ -17,14 +17,18 @@
  */
 package io.ballerina.runtime.internal.json;
 
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
-import io.ballerina.runtime.internal.values.RefValue;
 import io.ballerina.runtime.internal.values.StreamingJsonValue;
 
 import java.io.BufferedWriter;
@@ -35,11 +39,17 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
 
 /**
  * This class represents the functionality to generate the JSON constructs to be written out
  * to a given {@link OutputStream}.
+ * <p>
+ * When the output is UTF-8 encoded, the JSON text is encoded directly into a byte buffer, and the field names of
+ * records are written using the pre-encoded names cached in the record type.
  * 
  * @since 0.995.0
  */
@@ -47,7 +57,7 @@ public class JsonGenerator implements Closeable {
 
     private static final int DEFAULT_DEPTH = 10;
 
-    private final Writer writer;
+    private final JsonOutput output;
 
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
 
@@ -55,6 +65,11 @@ public class JsonGenerator implements Closeable {
 
     private boolean fieldActive;
 
+    // Set when serializing an anydata value as a JSON string, to hold the mappings and lists being serialized.
+    private List<Object> activeValues;
+
+    private Object rootValue;
+
     private static final boolean[] ESC_CHARS = new boolean[93];
 
     static {
@@ -71,11 +86,54 @@ public class JsonGenerator implements Closeable {
     }
 
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        this(StandardCharsets.UTF_8.equals(charset) ? new Utf8JsonOutput(out) :
+                new WriterJsonOutput(new BufferedWriter(new OutputStreamWriter(out, charset))));
     }
 
     public JsonGenerator(Writer writer) {
-        this.writer = writer;
+        this(new WriterJsonOutput(writer));
+    }
+
+    private JsonGenerator(JsonOutput output) {
+        this.output = output;
+    }
+
+    /**
+     * Returns the JSON string of the given JSON value.
+     *
+     * @param json JSON value
+     * @return JSON string
+     */
+    public static String serializeToString(Object json) {
+        Utf8JsonOutput output = new Utf8JsonOutput();
+        try {
+            new JsonGenerator(output).serialize(json);
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(
+                    "Error in converting JSON to a string: " + e.getMessage()), e);
+        }
+        return output.getText();
+    }
+
+    /**
+     * Returns the JSON string of the given anydata value, which is the same as serializing the value returned by
+     * {@link JsonUtils#convertToJson(Object)}, but without creating the intermediate JSON value.
+     *
+     * @param value anydata value
+     * @return JSON string
+     */
+    public static String toJsonString(Object value) {
+        Utf8JsonOutput output = new Utf8JsonOutput();
+        JsonGenerator gen = new JsonGenerator(output);
+        gen.activeValues = new ArrayList<>();
+        gen.rootValue = value;
+        try {
+            gen.serialize(value);
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(
+                    "Error in converting JSON to a string: " + e.getMessage()), e);
+        }
+        return output.getText();
     }
 
     private void setLevelInit(int index, boolean init) {
@@ -99,7 +157,7 @@ public class JsonGenerator implements Closeable {
     private void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(", ");
+                this.output.writeAscii(", ");
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -117,7 +175,7 @@ public class JsonGenerator implements Closeable {
 
     private void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.output.writeAscii(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -130,7 +188,7 @@ public class JsonGenerator implements Closeable {
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.output.writeAscii(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -138,39 +196,42 @@ public class JsonGenerator implements Closeable {
 
     public void startObject() throws IOException {
         this.processStartLevel();
-        this.writer.write('{');
+        this.output.writeAscii('{');
     }
 
     public void endObject() throws IOException {
-        this.writer.write('}');
+        this.output.writeAscii('}');
         this.processEndLevel();
     }
 
     public void writeFieldName(String fieldName) throws IOException {
         this.processFieldInit();
         this.writeStringValue(fieldName);
-        this.writer.write(":");
+        this.output.writeAscii(':');
+    }
+
+    private void writeFieldName(JsonFieldNames.EncodedFieldName fieldName) throws IOException {
+        this.processFieldInit();
+        this.output.writeFieldName(fieldName);
     }
 
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
+        this.output.writeAscii('"');
         int count = value.length();
-        char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            char ch = value.charAt(i);
             if (ch < ESC_CHARS.length && ESC_CHARS[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeEscaped(value);
         } else {
-            this.writer.write(chs);
+            this.output.write(value, 0, count);
         }
-        this.writer.write("\"");
+        this.output.writeAscii('"');
     }
 
     public void writeString(String value) throws IOException {
@@ -179,105 +240,78 @@ public class JsonGenerator implements Closeable {
     }
 
     public void writeStringEsc(char[] chs) throws IOException {
-        int count = chs.length;
+        this.writeEscaped(new String(chs));
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        int count = value.length();
         int index = 0;
-        char ch;
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
-            switch (ch) {
-                case '"':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\"");
-                    index = i + 1;
-                    break;
-                case '\\':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\\");
-                    index = i + 1;
-                    break;
-                case '/':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\/");
-                    index = i + 1;
-                    break;
-                case '\b':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\b");
-                    index = i + 1;
-                    break;
-                case '\n':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\n");
-                    index = i + 1;
-                    break;
-                case '\r':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\r");
-                    index = i + 1;
-                    break;
-                case '\f':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\f");
-                    index = i + 1;
-                    break;
-                case '\t':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\t");
-                    index = i + 1;
-                    break;
-                default:
-                    break;
+            String escape = switch (value.charAt(i)) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '/' -> "\\/";
+                case '\b' -> "\\b";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\f' -> "\\f";
+                case '\t' -> "\\t";
+                default -> null;
+            };
+            if (escape != null) {
+                this.output.write(value, index, i);
+                this.output.writeAscii(escape);
+                index = i + 1;
             }
         }
 
         if (count - index > 0) {
-            this.writer.write(chs, index, count - index);
+            this.output.write(value, index, count);
         }
-
     }
 
     public void writeNumber(long value) throws IOException {
         this.processValueInit();
-        this.writer.write(Long.toString(value));
+        this.output.writeLong(value);
     }
 
     public void writeNumber(double value) throws IOException {
         this.processValueInit();
-        this.writer.write(Double.toString(value));
+        this.output.writeAscii(Double.toString(value));
     }
 
     public void writeNumber(BigDecimal value) throws IOException {
         this.processValueInit();
-        this.writer.write(value.toString());
+        this.output.writeAscii(value.toString());
     }
 
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
-        this.writer.write(Boolean.toString(value));
+        this.output.writeAscii(value ? "true" : "false");
     }
 
     public void writeNull() throws IOException {
         this.processValueInit();
-        this.writer.write("null");
+        this.output.writeAscii("null");
     }
 
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.output.writeAscii('[');
     }
 
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.output.writeAscii(']');
         this.processEndLevel();
     }
 
     public void flush() throws IOException {
-        this.writer.flush();
+        this.output.flush();
     }
 
     @Override
     public void close() throws IOException {
-        this.writer.close();
+        this.output.close();
     }
 
     @SuppressWarnings("unchecked")
@@ -287,19 +321,22 @@ public class JsonGenerator implements Closeable {
             return;
         }
 
-        switch (TypeUtils.getImpliedType(TypeChecker.getType(json)).getTag()) {
+        Type type = TypeUtils.getImpliedType(TypeChecker.getType(json));
+        switch (type.getTag()) {
             case TypeTags.ARRAY_TAG:
             case TypeTags.TUPLE_TAG:
                 if (json instanceof StreamingJsonValue streamingJsonValue) {
                     streamingJsonValue.serialize(this);
                     break;
                 }
+                this.enterValue(json);
                 this.writeStartArray();
                 ArrayValue jsonArray = (ArrayValue) json;
                 for (int i = 0; i < jsonArray.size(); i++) {
                     this.serialize(jsonArray.get(i));
                 }
                 this.writeEndArray();
+                this.exitValue();
                 break;
             case TypeTags.BOOLEAN_TAG:
                 this.writeBoolean((Boolean) json);
@@ -316,21 +353,74 @@ public class JsonGenerator implements Closeable {
             case TypeTags.BYTE_TAG:
                 this.writeNumber(((Number) json).intValue());
                 break;
-            case TypeTags.MAP_TAG:
-            case TypeTags.JSON_TAG:
             case TypeTags.RECORD_TYPE_TAG:
-                this.startObject();
-                for (Entry<BString, RefValue> entry : ((MapValueImpl<BString, RefValue>) json).entrySet()) {
-                    this.writeFieldName(entry.getKey().getValue());
-                    serialize(entry.getValue());
+                if (type instanceof BRecordType recordType) {
+                    this.serializeRecord((MapValueImpl<BString, Object>) json, recordType.getJsonFieldNames());
+                    break;
                 }
-                this.endObject();
+                this.serializeMap((MapValueImpl<BString, Object>) json);
+                break;
+            case TypeTags.MAP_TAG:
+            case TypeTags.JSON_TAG:
+                this.serializeMap((MapValueImpl<BString, Object>) json);
                 break;
             case TypeTags.STRING_TAG:
                 this.writeString(json.toString());
                 break;
             default:
+                if (this.activeValues != null) {
+                    // Values such as XML and tables are converted to JSON values, same as in `toJsonString`.
+                    this.serialize(JsonUtils.convertToJson(json));
+                }
                 break;
         }
     }
+
+    private void serializeMap(MapValueImpl<BString, Object> map) throws IOException {
+        this.enterValue(map);
+        this.startObject();
+        for (Entry<BString, Object> entry : map.entrySet()) {
+            this.writeFieldName(entry.getKey().getValue());
+            this.serialize(entry.getValue());
+        }
+        this.endObject();
+        this.exitValue();
+    }
+
+    private void serializeRecord(MapValueImpl<BString, Object> record, JsonFieldNames fieldNames)
+            throws IOException {
+        this.enterValue(record);
+        this.startObject();
+        for (Entry<BString, Object> entry : record.entrySet()) {
+            String key = entry.getKey().getValue();
+            JsonFieldNames.EncodedFieldName fieldName = fieldNames.get(key);
+            if (fieldName != null) {
+                this.writeFieldName(fieldName);
+            } else {
+                this.writeFieldName(key);
+            }
+            this.serialize(entry.getValue());
+        }
+        this.endObject();
+        this.exitValue();
+    }
+
+    private void enterValue(Object value) {
+        if (this.activeValues == null) {
+            return;
+        }
+        for (Object activeValue : this.activeValues) {
+            if (activeValue == value) {
+                // Let the conversion report the cyclic value reference, in the same way as `toJsonString`.
+                JsonUtils.convertToJson(this.rootValue);
+            }
+        }
+        this.activeValues.add(value);
+    }
+
+    private void exitValue() {
+        if (this.activeValues != null) {
+            this.activeValues.remove(this.activeValues.size() - 1);
+        }
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * The target to which a {@link JsonGenerator} writes the JSON text.
+ *
+ * @since 2201.12.0
+ */
+interface JsonOutput extends Closeable {
+
+    /**
+     * Writes an ASCII character.
+     *
+     * @param ch ASCII character
+     * @throws IOException if the write fails
+     */
+    void writeAscii(char ch) throws IOException;
+
+    /**
+     * Writes a string which only contains ASCII characters, such as a JSON literal or a number.
+     *
+     * @param value ASCII string
+     * @throws IOException if the write fails
+     */
+    void writeAscii(String value) throws IOException;
+
+    /**
+     * Writes the characters of the given string in the given range, without escaping.
+     *
+     * @param value string value
+     * @param start index of the first character to write
+     * @param end   index after the last character to write
+     * @throws IOException if the write fails
+     */
+    void write(String value, int start, int end) throws IOException;
+
+    void writeLong(long value) throws IOException;
+
+    /**
+     * Writes a field name, along with the quotes and the colon, which has already been escaped and encoded.
+     *
+     * @param fieldName encoded field name
+     * @throws IOException if the write fails
+     */
+    void writeFieldName(JsonFieldNames.EncodedFieldName fieldName) throws IOException;
+
+    void flush() throws IOException;
+}
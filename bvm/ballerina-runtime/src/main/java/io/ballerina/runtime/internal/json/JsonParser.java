@@ -56,6 +56,7 @@ import io.ballerina.runtime.internal.utils.ValueConverter;
 import io.ballerina.runtime.internal.utils.ValueUtils;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.BStringInternTable;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
@@ -146,7 +147,36 @@ public final class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(String str, Type targetType) throws BError {
-        return parse(new StringReader(str), targetType);
+        return parse(str, targetType, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    /**
+     * Parses the contents in the given string into a value of JSON type.
+     *
+     * @param str  the string which contains the JSON content
+     * @param mode the mode to use when processing numeric values
+     * @return value of the JSON type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(String str, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return parse(str, getTargetType(mode), mode);
+    }
+
+    /**
+     * Parses the contents in the given string and returns a value of the given target type. Large documents are
+     * parsed in parallel, if enabled with the {@code BAL_JSON_PARALLEL_PARSING_THRESHOLD} environment variable.
+     *
+     * @param str  the string which contains the content
+     * @param mode the mode to use when processing numeric values
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(String str, Type targetType, JsonUtils.NonStringValueProcessingMode mode)
+            throws BError {
+        if (ParallelJsonParser.isApplicable(str)) {
+            return ParallelJsonParser.parse(str, targetType, mode, ParallelJsonParser.getDefaultChunkCount());
+        }
+        return parse(new StringReader(str), targetType, mode);
     }
 
     /**
@@ -162,7 +192,7 @@ public final class JsonParser {
         JsonStateMachine sm = tlStateMachine.get();
         try {
             sm.addTargetType(targetType);
-            JsonStateMachine.mode = mode;
+            sm.mode = mode;
             return sm.execute(reader);
         } finally {
             // Need to reset the state machine before leaving. Otherwise, references to the created
@@ -225,7 +255,7 @@ public final class JsonParser {
         List<Type> targetTypes = new ArrayList<>();
         List<Integer> listIndices = new ArrayList<>(); // we keep only the current indices of arrays and tuples
         private int nodesStackSizeWhenUnionStarts = -1; // when we come across a union target type we set this value
-        private static JsonUtils.NonStringValueProcessingMode mode =
+        private JsonUtils.NonStringValueProcessingMode mode =
                 JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
 
         JsonStateMachine() {
@@ -249,7 +279,7 @@ public final class JsonParser {
             return new ParserException("value '" + inputValue + "' cannot be converted to '" + targetType + "'");
         }
 
-        private static Object convertValues(Type targetType, String inputValue) throws ParserException {
+        private Object convertValues(Type targetType, String inputValue) throws ParserException {
             return switch (targetType.getTag()) {
                 case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG,
                         TypeTags.SIGNED8_INT_TAG, TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
@@ -357,7 +387,7 @@ public final class JsonParser {
             return switch (parentTargetType.getTag()) {
                 case TypeTags.RECORD_TYPE_TAG, TypeTags.MAP_TAG -> {
                     ((MapValueImpl<BString, Object>) parentNode).putForcefully(
-                            StringUtils.fromString(fieldNames.pop()), currentJsonNode);
+                            BStringInternTable.getOrCreate(fieldNames.pop()), currentJsonNode);
                     this.currentJsonNode = parentNode;
                     yield FIELD_END_STATE;
                 }
@@ -372,7 +402,7 @@ public final class JsonParser {
                         TypeTags.FINITE_TYPE_TAG -> {
                     if (TypeUtils.getImpliedType(TypeChecker.getType(parentNode)).getTag() == TypeTags.MAP_TAG) {
                         ((MapValueImpl<BString, Object>) parentNode).putForcefully(
-                                StringUtils.fromString(fieldNames.pop()), currentJsonNode);
+                                BStringInternTable.getOrCreate(fieldNames.pop()), currentJsonNode);
                         this.currentJsonNode = parentNode;
                         yield FIELD_END_STATE;
                     }
@@ -417,7 +447,7 @@ public final class JsonParser {
             List<String> notProvidedFields = new ArrayList<>();
             for (Map.Entry<String, Field> stringFieldEntry : recordType.getFields().entrySet()) {
                 String fieldName = stringFieldEntry.getKey();
-                BString bFieldName = StringUtils.fromString(fieldName);
+                BString bFieldName = BStringInternTable.getOrCreate(fieldName);
                 if (constructedMap.containsKey(bFieldName)) {
                     continue;
                 }
@@ -883,7 +913,11 @@ public final class JsonParser {
 
         }
 
-        private static Object getNonStringValueAsJson(String str) throws ParserException {
+        private Object getNonStringValueAsJson(String str) throws ParserException {
+            if (str.isEmpty()) {
+                // e.g. a missing array member in '[1, , 2]'
+                throw new ParserException(UNRECOGNIZED_TOKEN + "'");
+            }
             if (str.indexOf('.') >= 0) {
                 return getFloatingPointValue(str);
             } else {
@@ -900,7 +934,7 @@ public final class JsonParser {
             }
         }
 
-        private static Object getNumericValue(String str) throws ParserException {
+        private Object getNumericValue(String str) throws ParserException {
             try {
                 if (isNegativeZero(str) || mode == FROM_JSON_FLOAT_STRING) {
                     return Double.parseDouble(str);
@@ -914,7 +948,7 @@ public final class JsonParser {
             }
         }
 
-        private static Object getFloatingPointValue(String str) throws ParserException {
+        private Object getFloatingPointValue(String str) throws ParserException {
             try {
                 if (isNegativeZero(str) || mode == FROM_JSON_FLOAT_STRING) {
                     return Double.parseDouble(str);
@@ -961,7 +995,7 @@ public final class JsonParser {
             Field field = fields.get(fieldName);
             Type fieldType = field == null ? referredType.restFieldType : field.getFieldType();
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
+                    BStringInternTable.getOrCreate(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
         }
 
         private void processMapType(String str, MapType referredType) throws ParserException {
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Parses large JSON documents in parallel.
+ * <p>
+ * The document is parsed in two phases. First, the top level array or object is scanned to find the separators
+ * between its members, skipping over the string literals with {@link String#indexOf(int, int)}, which is vectorized
+ * by the JVM. Then, the members are split into chunks of about the same length, and each chunk is parsed as an array
+ * or an object of the target type by the sequential {@link JsonParser} on the common fork-join pool. The chunks are
+ * merged in order, hence the result is identical to that of the sequential parser.
+ * <p>
+ * If the document is not an array or an object of a supported target type, or if any of the chunks cannot be parsed,
+ * the whole document is parsed by the sequential parser, which also reports the error for an invalid document.
+ *
+ * @since 2201.12.0
+ */
+public final class ParallelJsonParser {
+
+    static final String THRESHOLD_ENV_VARIABLE = "BAL_JSON_PARALLEL_PARSING_THRESHOLD";
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int THRESHOLD = getThreshold();
+
+    private ParallelJsonParser() {
+    }
+
+    /**
+     * Returns whether the given document is large enough to be parsed in parallel. Parallel parsing is disabled
+     * unless the minimum document length is set with the {@code BAL_JSON_PARALLEL_PARSING_THRESHOLD} environment
+     * variable.
+     *
+     * @param str the string which contains the JSON content
+     * @return true if the document should be parsed in parallel
+     */
+    static boolean isApplicable(String str) {
+        return str.length() >= THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    static int getDefaultChunkCount() {
+        return ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD;
+    }
+
+    /**
+     * Parses the contents in the given string into a value of the given target type, splitting the top level array
+     * or object into the given number of chunks.
+     *
+     * @param str        the string which contains the content
+     * @param targetType the target type
+     * @param mode       the mode to use when processing numeric values
+     * @param chunkCount maximum number of chunks to be parsed in parallel
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(String str, Type targetType, JsonUtils.NonStringValueProcessingMode mode,
+                               int chunkCount) throws BError {
+        Type impliedType = TypeUtils.getImpliedType(targetType);
+        int[] separators = chunkCount > 1 && isSupportedTargetType(impliedType) ? indexMembers(str) : null;
+        if (separators == null || !isSupportedContainer(impliedType, str.charAt(separators[0]))) {
+            return JsonParser.parse(new StringReader(str), targetType, mode);
+        }
+
+        int[] boundaries = getChunkBoundaries(separators, chunkCount);
+        char open = str.charAt(separators[0]);
+        char close = str.charAt(separators[separators.length - 1]);
+        List<Object> chunks;
+        try {
+            chunks = IntStream.range(0, boundaries.length - 1).parallel()
+                    .mapToObj(i -> JsonParser.parse(new ChunkReader(str, boundaries[i] + 1, boundaries[i + 1],
+                            open, close), targetType, mode))
+                    .toList();
+        } catch (BError e) {
+            // Reparse the whole document, so that the error refers to the position in the document.
+            return JsonParser.parse(new StringReader(str), targetType, mode);
+        }
+        return open == '[' ? mergeArrays(chunks, impliedType) : mergeMaps(chunks);
+    }
+
+    private static boolean isSupportedTargetType(Type impliedType) {
+        if (impliedType.isReadOnly()) {
+            return false;
+        }
+        return switch (impliedType.getTag()) {
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.MAP_TAG -> true;
+            case TypeTags.ARRAY_TAG -> ((ArrayType) impliedType).getState() == ArrayType.ArrayState.OPEN;
+            default -> false;
+        };
+    }
+
+    private static boolean isSupportedContainer(Type impliedType, char open) {
+        return switch (impliedType.getTag()) {
+            case TypeTags.MAP_TAG -> open == '{';
+            case TypeTags.ARRAY_TAG -> open == '[';
+            default -> true;
+        };
+    }
+
+    /**
+     * Finds the separators of the members of the top level array or object in the given document.
+     *
+     * @param str the string which contains the JSON content
+     * @return the positions of the opening bracket, the commas which separate the members and the closing bracket,
+     * or null if the document does not have at least two non-empty members
+     */
+    private static int[] indexMembers(String str) {
+        int length = str.length();
+        int start = skipWhitespace(str, 0, length);
+        if (start == length || (str.charAt(start) != '[' && str.charAt(start) != '{')) {
+            return null;
+        }
+
+        int[] separators = new int[64];
+        int count = 0;
+        separators[count++] = start;
+        int depth = 1;
+        boolean hasContent = false;
+        int end = -1;
+        for (int i = start + 1; i < length && end == -1; i++) {
+            char ch = str.charAt(i);
+            switch (ch) {
+                case StateMachine.QUOTES -> {
+                    i = skipString(str, i + 1, length);
+                    if (i == -1) {
+                        return null;
+                    }
+                    hasContent = true;
+                }
+                case '[', '{' -> {
+                    hasContent = true;
+                    depth++;
+                }
+                case ']', '}' -> {
+                    depth--;
+                    if (depth == 0) {
+                        end = i;
+                    }
+                }
+                case ',' -> {
+                    if (depth == 1) {
+                        // An empty member would be accepted when it is at the end of a chunk.
+                        if (!hasContent) {
+                            return null;
+                        }
+                        if (count == separators.length) {
+                            separators = Arrays.copyOf(separators, count * 2);
+                        }
+                        separators[count++] = i;
+                        hasContent = false;
+                    }
+                }
+                default -> {
+                    if (!StateMachine.isWhitespace(ch)) {
+                        hasContent = true;
+                    }
+                }
+            }
+        }
+
+        if (end == -1 || !hasContent || count == 1 || skipWhitespace(str, end + 1, length) != length) {
+            return null;
+        }
+        if (count == separators.length) {
+            separators = Arrays.copyOf(separators, count + 1);
+        }
+        separators[count++] = end;
+        return Arrays.copyOf(separators, count);
+    }
+
+    private static int skipWhitespace(String str, int index, int length) {
+        while (index < length && StateMachine.isWhitespace(str.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of the quote which ends the string literal starting at the given position.
+     */
+    private static int skipString(String str, int index, int length) {
+        while (index < length) {
+            int quote = str.indexOf(StateMachine.QUOTES, index);
+            if (quote == -1) {
+                return -1;
+            }
+            int escapes = 0;
+            while (str.charAt(quote - 1 - escapes) == StateMachine.REV_SOL) {
+                escapes++;
+            }
+            if (escapes % 2 == 0) {
+                return quote;
+            }
+            index = quote + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Selects the separators at which the document is split, so that the chunks are of about the same length.
+     */
+    private static int[] getChunkBoundaries(int[] separators, int chunkCount) {
+        int start = separators[0];
+        int end = separators[separators.length - 1];
+        int[] boundaries = new int[Math.min(chunkCount, separators.length - 1) + 1];
+        int count = 0;
+        boundaries[count++] = start;
+        int separatorIndex = 1;
+        for (int i = 1; i < boundaries.length - 1; i++) {
+            int target = start + (int) ((long) (end - start) * i / (boundaries.length - 1));
+            while (separatorIndex < separators.length - 1 && separators[separatorIndex] < target) {
+                separatorIndex++;
+            }
+            if (separatorIndex < separators.length - 1 && separators[separatorIndex] > boundaries[count - 1]) {
+                boundaries[count++] = separators[separatorIndex];
+            }
+        }
+        boundaries[count++] = end;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    private static Object mergeArrays(List<Object> chunks, Type impliedType) {
+        ArrayValueImpl result = (ArrayValueImpl) chunks.get(0);
+        // The sequential parser adds the elements in the same way, depending on the target type.
+        boolean isArrayType = impliedType.getTag() == TypeTags.ARRAY_TAG;
+        for (int i = 1; i < chunks.size(); i++) {
+            ArrayValueImpl chunk = (ArrayValueImpl) chunks.get(i);
+            for (int j = 0; j < chunk.size(); j++) {
+                if (isArrayType) {
+                    result.addRefValue(result.size(), chunk.get(j));
+                } else {
+                    result.addRefValueForcefully(result.size(), chunk.get(j));
+                }
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object mergeMaps(List<Object> chunks) {
+        MapValueImpl<BString, Object> result = (MapValueImpl<BString, Object>) chunks.get(0);
+        for (int i = 1; i < chunks.size(); i++) {
+            for (Map.Entry<BString, Object> entry : ((MapValueImpl<BString, Object>) chunks.get(i)).entrySet()) {
+                result.putForcefully(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static int getThreshold() {
+        String value = System.getenv(THRESHOLD_ENV_VARIABLE);
+        if (value == null || value.isBlank()) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            return Math.max(Integer.parseInt(value.strip()), 1);
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Reads a range of a string, enclosed in the given brackets.
+     */
+    private static final class ChunkReader extends Reader {
+
+        private final String str;
+        private final int end;
+        private final char open;
+        private final char close;
+        private int index;
+        private boolean openRead = false;
+        private boolean closeRead = false;
+
+        ChunkReader(String str, int start, int end, char open, char close) {
+            this.str = str;
+            this.index = start;
+            this.end = end;
+            this.open = open;
+            this.close = close;
+        }
+
+        @Override
+        public int read(char[] buff, int offset, int length) {
+            if (closeRead) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+            int count = 0;
+            if (!openRead) {
+                buff[offset + count++] = open;
+                openRead = true;
+            }
+            int charCount = Math.min(end - index, length - count);
+            str.getChars(index, index + charCount, buff, offset + count);
+            index += charCount;
+            count += charCount;
+            if (index == end && count < length) {
+                buff[offset + count++] = close;
+                closeRead = true;
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
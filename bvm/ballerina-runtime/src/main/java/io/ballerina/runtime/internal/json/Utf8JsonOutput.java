@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A {@link JsonOutput} which encodes the JSON text as UTF-8 into a byte buffer, without going through a
+ * {@link java.io.Writer}. The buffer is either written to an {@link OutputStream} when it is full, or grown to hold
+ * the whole text when there is no output stream.
+ * <p>
+ * Unpaired surrogates are written as {@code ?}, same as an {@link java.io.OutputStreamWriter}.
+ *
+ * @since 2201.12.0
+ */
+final class Utf8JsonOutput implements JsonOutput {
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    // Number of characters encoded at a time, so that the required buffer space can be reserved upfront.
+    private static final int MAX_CHUNK_LENGTH = 1024;
+    private static final int MAX_BYTES_PER_CHAR = 3;
+    private static final int MAX_LONG_LENGTH = 20;
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int position;
+
+    /**
+     * Creates an output which keeps the whole JSON text in memory.
+     */
+    Utf8JsonOutput() {
+        this.out = null;
+        this.buffer = new byte[INITIAL_BUFFER_SIZE];
+    }
+
+    Utf8JsonOutput(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[STREAM_BUFFER_SIZE];
+    }
+
+    @Override
+    public void writeAscii(char ch) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = (byte) ch;
+    }
+
+    @Override
+    public void writeAscii(String value) throws IOException {
+        int length = value.length();
+        ensureCapacity(length);
+        byte[] bytes = buffer;
+        int pos = position;
+        for (int i = 0; i < length; i++) {
+            bytes[pos++] = (byte) value.charAt(i);
+        }
+        position = pos;
+    }
+
+    @Override
+    public void write(String value, int start, int end) throws IOException {
+        while (start < end) {
+            int chunkEnd = Math.min(end, start + MAX_CHUNK_LENGTH);
+            if (chunkEnd < end && Character.isHighSurrogate(value.charAt(chunkEnd - 1))) {
+                // Keep surrogate pairs in the same chunk.
+                chunkEnd--;
+            }
+            ensureCapacity((chunkEnd - start) * MAX_BYTES_PER_CHAR);
+            position = encode(value, start, chunkEnd, buffer, position);
+            start = chunkEnd;
+        }
+    }
+
+    private static int encode(String value, int start, int end, byte[] bytes, int pos) {
+        int i = start;
+        // Fast path for ASCII characters, which is the common case for JSON text.
+        for (; i < end; i++) {
+            char ch = value.charAt(i);
+            if (ch >= 0x80) {
+                break;
+            }
+            bytes[pos++] = (byte) ch;
+        }
+
+        for (; i < end; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                bytes[pos++] = (byte) ch;
+            } else if (ch < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | (ch >> 6));
+                bytes[pos++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                bytes[pos++] = (byte) (0xE0 | (ch >> 12));
+                bytes[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                bytes[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                bytes[pos++] = '?';
+            }
+        }
+        return pos;
+    }
+
+    @Override
+    public void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(MAX_LONG_LENGTH);
+        byte[] bytes = buffer;
+        int pos = position;
+        if (value < 0) {
+            bytes[pos++] = '-';
+            value = -value;
+        }
+        int end = pos + getDigitCount(value);
+        for (int i = end - 1; i >= pos; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    private static int getDigitCount(long value) {
+        int count = 1;
+        long limit = 10;
+        while (count < 19 && value >= limit) {
+            count++;
+            limit *= 10;
+        }
+        return count;
+    }
+
+    @Override
+    public void writeFieldName(JsonFieldNames.EncodedFieldName fieldName) throws IOException {
+        byte[] bytes = fieldName.utf8();
+        if (out != null && bytes.length > buffer.length) {
+            flushBuffer();
+            out.write(bytes);
+            return;
+        }
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.length - position >= length) {
+            return;
+        }
+        if (out != null) {
+            flushBuffer();
+            if (buffer.length >= length) {
+                return;
+            }
+        }
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Returns the JSON text written so far, when there is no output stream.
+     *
+     * @return JSON text
+     */
+    String getText() {
+        return new String(buffer, 0, position, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null) {
+            flushBuffer();
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            flushBuffer();
+            out.close();
+        }
+    }
+}
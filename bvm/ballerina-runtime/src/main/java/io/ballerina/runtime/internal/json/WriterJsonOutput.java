@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.json;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A {@link JsonOutput} which writes the JSON text to a {@link Writer}.
+ *
+ * @since 2201.12.0
+ */
+final class WriterJsonOutput implements JsonOutput {
+
+    private final Writer writer;
+
+    WriterJsonOutput(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeAscii(char ch) throws IOException {
+        writer.write(ch);
+    }
+
+    @Override
+    public void writeAscii(String value) throws IOException {
+        writer.write(value);
+    }
+
+    @Override
+    public void write(String value, int start, int end) throws IOException {
+        writer.write(value, start, end - start);
+    }
+
+    @Override
+    public void writeLong(long value) throws IOException {
+        writer.write(Long.toString(value));
+    }
+
+    @Override
+    public void writeFieldName(JsonFieldNames.EncodedFieldName fieldName) throws IOException {
+        writer.write(fieldName.text());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.launch;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * Entry point of the training run which generates the class data sharing archive of a Ballerina executable.
+ * <p>
+ * The executable jar is run with this class as the main class and {@code -XX:ArchiveClassesAtExit}, so that the JVM
+ * archives the classes loaded by this run when it exits. All the classes of the jar are loaded without being
+ * initialized, hence no Ballerina code, including the module initializers, is executed by the training run.
+ * <p>
+ * The classes of the jars in the manifest class path of the executable jar, such as the runtime and the dependency
+ * jars of a layered executable, are loaded as well, since they are on the class path of the executable.
+ * <p>
+ * The JVM fails the whole archive dump if it cannot resolve a class referred by the constant pool of a loaded class.
+ * Hence the classes which refer to a non-public class of another package, such as the ones of some shaded libraries,
+ * are not loaded by the training run, even though the JVM loads them fine as long as the reference is not resolved.
+ *
+ * @since 2201.12.0
+ */
+public final class ClassDataSharingTrainer {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String VERSIONED_ENTRY_PREFIX = "META-INF/";
+    private static final String MODULE_INFO_CLASS = "module-info";
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final ClassLoader classLoader;
+    private final Map<String, Boolean> publicClasses = new HashMap<>();
+
+    private ClassDataSharingTrainer(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("usage: ClassDataSharingTrainer <executable jar>");
+        }
+        ClassDataSharingTrainer trainer = new ClassDataSharingTrainer(ClassDataSharingTrainer.class.getClassLoader());
+        Set<Path> visitedJars = new LinkedHashSet<>();
+        Deque<Path> jars = new ArrayDeque<>();
+        jars.add(Path.of(args[0]).toAbsolutePath().normalize());
+        while (!jars.isEmpty()) {
+            Path jarPath = jars.poll();
+            if (!visitedJars.add(jarPath) || !Files.isRegularFile(jarPath)) {
+                continue;
+            }
+            try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+                jars.addAll(getClassPathJars(jarPath, jarFile.getManifest()));
+                trainer.loadClasses(jarFile);
+            }
+        }
+    }
+
+    private static Set<Path> getClassPathJars(Path jarPath, Manifest manifest) {
+        Set<Path> classPathJars = new LinkedHashSet<>();
+        String classPath = manifest == null ? null : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+        if (classPath == null) {
+            return classPathJars;
+        }
+        // The manifest class path entries are URLs relative to the jar which has the manifest.
+        URI jarUri = jarPath.toUri();
+        for (String entry : classPath.trim().split("\\s+")) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            try {
+                classPathJars.add(Path.of(jarUri.resolve(entry)).normalize());
+            } catch (IllegalArgumentException e) {
+                // The JVM ignores the entries which are not valid URLs as well.
+            }
+        }
+        return classPathJars;
+    }
+
+    private void loadClasses(JarFile jarFile) throws IOException {
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            String entryName = entry.getName();
+            if (!entryName.endsWith(CLASS_FILE_SUFFIX) || entryName.startsWith(VERSIONED_ENTRY_PREFIX)) {
+                continue;
+            }
+            String className = entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length());
+            if (className.endsWith(MODULE_INFO_CLASS)) {
+                continue;
+            }
+            byte[] classBytes;
+            try (InputStream classStream = jarFile.getInputStream(entry)) {
+                classBytes = classStream.readAllBytes();
+            }
+            if (isArchivable(className, classBytes)) {
+                loadClass(className.replace('/', '.'));
+            }
+        }
+    }
+
+    private boolean isArchivable(String className, byte[] classBytes) {
+        ClassFileHeader header;
+        try {
+            header = readClassFileHeader(new ByteArrayInputStream(classBytes));
+        } catch (IOException e) {
+            // Malformed classes cannot be loaded either.
+            return false;
+        }
+        String packageName = getPackageName(className);
+        for (String referredClass : header.referredClasses()) {
+            String elementClass = getElementClass(referredClass);
+            if (elementClass != null && !getPackageName(elementClass).equals(packageName)
+                    && !isPublicClass(elementClass)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isPublicClass(String className) {
+        Boolean isPublic = publicClasses.get(className);
+        if (isPublic != null) {
+            return isPublic;
+        }
+        try (InputStream classStream = classLoader.getResourceAsStream(className + CLASS_FILE_SUFFIX)) {
+            // The classes which are not found are not resolved by the archive dump either.
+            isPublic = classStream == null || (readClassFileHeader(classStream).accessFlags() & ACC_PUBLIC) != 0;
+        } catch (IOException e) {
+            isPublic = false;
+        }
+        publicClasses.put(className, isPublic);
+        return isPublic;
+    }
+
+    private void loadClass(String className) {
+        try {
+            Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            // Classes which depend on optional libraries which are not in the executable are not archived.
+        }
+    }
+
+    private static ClassFileHeader readClassFileHeader(InputStream classStream) throws IOException {
+        DataInputStream dataStream = new DataInputStream(classStream);
+        // The magic number and the version of the class file.
+        dataStream.skipNBytes(8);
+        int constantPoolCount = dataStream.readUnsignedShort();
+        String[] utf8Constants = new String[constantPoolCount];
+        List<Integer> classNameIndexes = new ArrayList<>();
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = dataStream.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8 -> utf8Constants[i] = dataStream.readUTF();
+                case CONSTANT_CLASS -> classNameIndexes.add(dataStream.readUnsignedShort());
+                case CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE ->
+                        dataStream.skipNBytes(2);
+                case CONSTANT_METHOD_HANDLE -> dataStream.skipNBytes(3);
+                case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELDREF, CONSTANT_METHODREF,
+                     CONSTANT_INTERFACE_METHODREF, CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC,
+                     CONSTANT_INVOKE_DYNAMIC -> dataStream.skipNBytes(4);
+                case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+                    // Eight byte constants take two entries of the constant pool.
+                    dataStream.skipNBytes(8);
+                    i++;
+                }
+                default -> throw new IOException("invalid constant pool tag: " + tag);
+            }
+        }
+        int accessFlags = dataStream.readUnsignedShort();
+        List<String> referredClasses = new ArrayList<>(classNameIndexes.size());
+        for (int classNameIndex : classNameIndexes) {
+            if (classNameIndex >= constantPoolCount || utf8Constants[classNameIndex] == null) {
+                throw new IOException("invalid class constant: " + classNameIndex);
+            }
+            referredClasses.add(utf8Constants[classNameIndex]);
+        }
+        return new ClassFileHeader(accessFlags, referredClasses);
+    }
+
+    private static String getElementClass(String referredClass) {
+        if (!referredClass.startsWith("[")) {
+            return referredClass;
+        }
+        String elementDescriptor = referredClass.substring(referredClass.lastIndexOf('[') + 1);
+        // Arrays of primitive types do not refer to any class.
+        return elementDescriptor.startsWith("L") && elementDescriptor.endsWith(";") ?
+                elementDescriptor.substring(1, elementDescriptor.length() - 1) : null;
+    }
+
+    private static String getPackageName(String className) {
+        int separatorIndex = className.lastIndexOf('/');
+        return separatorIndex < 0 ? "" : className.substring(0, separatorIndex);
+    }
+
+    private record ClassFileHeader(int accessFlags, List<String> referredClasses) {
+    }
+}
@@ -59,6 +59,7 @@ import static io.ballerina.runtime.internal.configurable.providers.toml.TomlCons
 public final class LaunchUtils {
 
     private static final PrintStream outStream = System.out;
+    private static final PrintStream errStream = System.err;
 
     private LaunchUtils() {
     }
@@ -122,6 +123,7 @@ public final class LaunchUtils {
         ConfigResolver configResolver = new ConfigResolver(configurationData,
                                                            diagnosticLog, supportedConfigProviders);
         ConfigMap.setConfigurableMap(configResolver.resolveConfigs());
+        configResolver.getLoadTimer().report(errStream);
         if (!diagnosticLog.getDiagnosticList().isEmpty()) {
             RuntimeUtils.handleDiagnosticErrors(diagnosticLog);
         }
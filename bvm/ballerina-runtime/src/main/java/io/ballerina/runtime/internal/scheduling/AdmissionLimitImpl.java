@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.concurrent.AdmissionLimit;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.errors.ErrorCodes;
+import io.ballerina.runtime.internal.errors.ErrorHelper;
+import io.ballerina.runtime.internal.errors.ErrorReasons;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link AdmissionLimit} implementation, backed by a fair semaphore so that the queued strands are admitted
+ * in arrival order.
+ *
+ * @since 2201.12.0
+ */
+public class AdmissionLimitImpl implements AdmissionLimit {
+
+    static final String MAX_CONCURRENT_STRANDS_ENV_VARIABLE = "BAL_MAX_CONCURRENT_STRANDS";
+    static final String MAX_QUEUED_STRANDS_ENV_VARIABLE = "BAL_MAX_QUEUED_STRANDS";
+    static final String ADMISSION_TIMEOUT_ENV_VARIABLE = "BAL_STRAND_ADMISSION_TIMEOUT";
+    static final String GLOBAL_LIMIT_NAME = "strands";
+    private static final long DEFAULT_ADMISSION_TIMEOUT_MILLIS = 60000;
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int maxQueueLength;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    // Updated by every strand, hence a LongAdder is used to avoid contention when the number of strands is not limited.
+    private final LongAdder activeCount = new LongAdder();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * Creates an admission limit.
+     *
+     * @param name           name of the limit
+     * @param maxConcurrency maximum number of concurrent strands, or {@code 0} for no limit
+     * @param maxQueueLength maximum number of strands waiting to be admitted
+     * @param maxWaitMillis  maximum time a strand waits to be admitted, in milliseconds
+     */
+    public AdmissionLimitImpl(String name, int maxConcurrency, int maxQueueLength, long maxWaitMillis) {
+        if (maxConcurrency < 0 || maxQueueLength < 0 || maxWaitMillis < 0) {
+            throw ErrorHelper.getRuntimeException(ErrorCodes.INVALID_ADMISSION_LIMIT, name);
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueLength = maxQueueLength;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+    }
+
+    /**
+     * Creates the global admission limit from the environment variables. The number of strands is not limited unless
+     * {@code BAL_MAX_CONCURRENT_STRANDS} is set.
+     *
+     * @return global admission limit
+     */
+    static AdmissionLimitImpl fromEnvironment() {
+        int maxConcurrency = (int) getEnvValue(MAX_CONCURRENT_STRANDS_ENV_VARIABLE, 0);
+        int maxQueueLength = (int) getEnvValue(MAX_QUEUED_STRANDS_ENV_VARIABLE, Integer.MAX_VALUE);
+        long maxWaitMillis = getEnvValue(ADMISSION_TIMEOUT_ENV_VARIABLE, DEFAULT_ADMISSION_TIMEOUT_MILLIS);
+        return new AdmissionLimitImpl(GLOBAL_LIMIT_NAME, maxConcurrency, maxQueueLength, maxWaitMillis);
+    }
+
+    private static long getEnvValue(String envVariable, long defaultValue) {
+        String value = System.getenv(envVariable);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.strip());
+        } catch (NumberFormatException e) {
+            throw ErrorHelper.getRuntimeException(ErrorCodes.INVALID_ADMISSION_LIMIT, envVariable);
+        }
+    }
+
+    /**
+     * Admits a strand if it can be admitted without waiting.
+     *
+     * @return true if the strand is admitted
+     */
+    boolean tryAcquireWithoutWaiting() {
+        if (permits != null && !permits.tryAcquire()) {
+            return false;
+        }
+        activeCount.increment();
+        return true;
+    }
+
+    /**
+     * Admits a strand, waiting in the queue if the limit has been reached.
+     *
+     * @return true if the strand is admitted, false if it is rejected
+     */
+    boolean tryAcquire() {
+        if (tryAcquireWithoutWaiting()) {
+            return true;
+        }
+        if (maxWaitNanos == 0 || queuedCount.incrementAndGet() > maxQueueLength) {
+            if (maxWaitNanos != 0) {
+                queuedCount.decrementAndGet();
+            }
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        } finally {
+            queuedCount.decrementAndGet();
+        }
+        if (!admitted) {
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        activeCount.increment();
+        return true;
+    }
+
+    /**
+     * Admits a strand which was admitted before and released its permit while it was blocked. The strand is not
+     * rejected, as it is already running, hence it waits until a permit is available.
+     */
+    void reacquire() {
+        if (permits != null) {
+            permits.acquireUninterruptibly();
+        }
+        activeCount.increment();
+    }
+
+    BError createRejectedError() {
+        return ErrorCreator.createError(ErrorReasons.STRAND_ADMISSION_REJECTED,
+                ErrorHelper.getErrorDetails(ErrorCodes.STRAND_ADMISSION_REJECTED, name, maxConcurrency));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return activeCount.intValue();
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public void acquire() {
+        if (!tryAcquire()) {
+            throw createRejectedError();
+        }
+    }
+
+    @Override
+    public void release() {
+        activeCount.decrement();
+        if (permits != null) {
+            permits.release();
+        }
+    }
+}
@@ -65,10 +65,22 @@ public final class AsyncUtils {
     }
 
     public static Object handleWait(Strand strand, CompletableFuture<Object> completableFuture) {
+        return handleBlockingStrand(strand, () -> getFutureResult(completableFuture));
+    }
+
+    /**
+     * Runs a blocking operation of a strand. The strand releases its admission permit, and the global lock if it is
+     * not isolated, until the operation completes.
+     *
+     * @param strand         strand which is blocked
+     * @param resultSupplier blocking operation
+     * @return result of the operation
+     */
+    public static Object handleBlockingStrand(Strand strand, Supplier<?> resultSupplier) {
         if (strand.isIsolated) {
-            return getFutureResult(completableFuture);
+            return strand.runWithoutAdmission(resultSupplier);
         }
-        return handleNonIsolatedStrand(strand, () -> getFutureResult(completableFuture));
+        return handleNonIsolatedStrand(strand, () -> strand.runWithoutAdmission(resultSupplier));
     }
 
     @SuppressWarnings("unused")
@@ -106,11 +118,7 @@ public final class AsyncUtils {
                 alreadyWaitedKeys.add(entry.getKey());
             }
         }
-        if (strand.isIsolated) {
-            waitForAllFutureResult(cFutures.toArray(new CompletableFuture[0]));
-            getAllFutureResult(futureMap, alreadyWaitedKeys, target);
-        }
-        handleNonIsolatedStrand(strand, () -> {
+        handleBlockingStrand(strand, () -> {
             waitForAllFutureResult(cFutures.toArray(new CompletableFuture[0]));
             getAllFutureResult(futureMap, alreadyWaitedKeys, target);
             return null;
@@ -118,12 +126,7 @@ public final class AsyncUtils {
     }
 
     public static Object handleWaitAny(Strand strand, CompletableFuture<?>[] cFutures) {
-        Object result;
-        if (strand.isIsolated) {
-            result = getAnyFutureResult(cFutures);
-        } else {
-            result = handleNonIsolatedStrand(strand, () -> getAnyFutureResult(cFutures));
-        }
+        Object result = handleBlockingStrand(strand, () -> getAnyFutureResult(cFutures));
         if (cFutures.length > 1 && result instanceof BError) {
             List<CompletableFuture<?>> nonErrorFutures = new ArrayList<>();
             for (CompletableFuture<?> completableFuture : cFutures) {
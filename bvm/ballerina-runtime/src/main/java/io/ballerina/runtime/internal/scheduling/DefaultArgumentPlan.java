@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.values.BNever;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+/**
+ * Fills in the default values of the omitted arguments of a function. The defaultable parameters and the functions
+ * which compute their default values are resolved once, when the plan is created.
+ *
+ * @since 2201.12.0
+ */
+final class DefaultArgumentPlan {
+
+    private final ValueCreator valueCreator;
+    private final int length;
+    private final int[] defaultParamIndexes;
+    private final String[] defaultFunctionNames;
+
+    DefaultArgumentPlan(ValueCreator valueCreator, FunctionType functionType) {
+        this.valueCreator = valueCreator;
+        Parameter[] parameters = functionType.getParameters();
+        this.length = functionType.getRestType() == null ? parameters.length : parameters.length + 1;
+        int defaultParamCount = 0;
+        for (Parameter parameter : parameters) {
+            if (parameter.isDefault) {
+                defaultParamCount++;
+            }
+        }
+        this.defaultParamIndexes = new int[defaultParamCount];
+        this.defaultFunctionNames = new String[defaultParamCount];
+        int j = 0;
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isDefault) {
+                defaultParamIndexes[j] = i;
+                defaultFunctionNames[j] = parameters[i].defaultFunctionName;
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given number of arguments are passed to the function as they are.
+     *
+     * @param argCount number of given arguments
+     * @return true if no default value needs to be computed
+     */
+    boolean isPassThrough(int argCount) {
+        return argCount >= length && defaultParamIndexes.length == 0;
+    }
+
+    /**
+     * Returns the arguments with the default values of the omitted arguments. Arguments given as {@link BNever} are
+     * considered as omitted.
+     *
+     * @param strand current strand
+     * @param args   given arguments
+     * @return arguments with the default values
+     */
+    Object[] apply(Strand strand, Object[] args) {
+        int argsLength = Math.max(length, args.length);
+        if (argsLength == args.length && defaultParamIndexes.length == 0) {
+            return args;
+        }
+        Object[] argsWithDefaultValues = new Object[argsLength];
+        System.arraycopy(args, 0, argsWithDefaultValues, 0, args.length);
+        for (int j = 0; j < defaultParamIndexes.length; j++) {
+            int i = defaultParamIndexes[j];
+            if (args.length <= i || args[i] == BNever.getValue()) {
+                argsWithDefaultValues[i] = valueCreator.call(strand, defaultFunctionNames[j], argsWithDefaultValues);
+            }
+        }
+        return argsWithDefaultValues;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.FunctionCallSite;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+/**
+ * A resolved Ballerina module function. The value creator of the module, the function type and the default arguments
+ * are resolved once, when the call site is created.
+ *
+ * @since 2201.12.0
+ */
+public final class FunctionCallSiteImpl implements FunctionCallSite {
+
+    private final Scheduler scheduler;
+    private final ValueCreator valueCreator;
+    private final FunctionType functionType;
+    private final String functionName;
+    private final DefaultArgumentPlan argumentPlan;
+
+    FunctionCallSiteImpl(Scheduler scheduler, ValueCreator valueCreator, FunctionType functionType,
+                         String functionName) {
+        this.scheduler = scheduler;
+        this.valueCreator = valueCreator;
+        this.functionType = functionType;
+        this.functionName = functionName;
+        this.argumentPlan = new DefaultArgumentPlan(valueCreator, functionType);
+    }
+
+    @Override
+    public FunctionType getFunctionType() {
+        return functionType;
+    }
+
+    @Override
+    public Object call(StrandMetadata metadata, Object... args) {
+        return scheduler.callFunction(this, metadata, args);
+    }
+
+    String getFunctionName() {
+        return functionName;
+    }
+
+    Object invoke(Strand strand, Object[] args) {
+        return valueCreator.call(strand, functionName, argumentPlan.apply(strand, args));
+    }
+}
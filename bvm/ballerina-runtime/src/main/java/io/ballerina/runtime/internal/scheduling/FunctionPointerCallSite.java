@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.values.FPValue;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+/**
+ * A function pointer prepared to be called repeatedly from the current strand, e.g. for each member by the
+ * higher-order langlib functions. The function type and the default arguments are resolved once, on the first call,
+ * and the function is invoked directly with a reused argument array, when the current strand is runnable and no
+ * default value needs to be computed. Otherwise, the call falls back to {@link Scheduler#callFP}.
+ * <p>
+ * A call site is not thread safe and must not be shared beyond the strand which created it.
+ *
+ * @since 2201.12.0
+ */
+public final class FunctionPointerCallSite {
+
+    private final Scheduler scheduler;
+    private final FPValue fp;
+    private final Strand strand;
+    private final boolean hasAdmissionLimit;
+    private boolean prepared;
+    private Object[] unaryArgs;
+    private Object[] binaryArgs;
+
+    private FunctionPointerCallSite(Scheduler scheduler, FPValue fp) {
+        this.scheduler = scheduler;
+        this.fp = fp;
+        this.strand = Scheduler.getStrand();
+        this.hasAdmissionLimit = scheduler.hasAdmissionLimit(fp.metadata);
+    }
+
+    public static FunctionPointerCallSite of(Runtime runtime, BFunctionPointer fp) {
+        return new FunctionPointerCallSite(((BalRuntime) runtime).scheduler, (FPValue) fp);
+    }
+
+    /**
+     * Calls the function pointer with a single argument.
+     *
+     * @param arg argument
+     * @return return value of the function
+     */
+    public Object call(Object arg) {
+        if (!isDirectlyCallable()) {
+            return scheduler.callFP(fp, fp.metadata, arg);
+        }
+        Object[] args = unaryArgs;
+        if (args == null) {
+            return scheduler.callFP(fp, fp.metadata, arg);
+        }
+        args[0] = strand;
+        args[1] = arg;
+        return fp.function.apply(args);
+    }
+
+    /**
+     * Calls the function pointer with two arguments.
+     *
+     * @param arg1 first argument
+     * @param arg2 second argument
+     * @return return value of the function
+     */
+    public Object call(Object arg1, Object arg2) {
+        if (!isDirectlyCallable()) {
+            return scheduler.callFP(fp, fp.metadata, arg1, arg2);
+        }
+        Object[] args = binaryArgs;
+        if (args == null) {
+            return scheduler.callFP(fp, fp.metadata, arg1, arg2);
+        }
+        args[0] = strand;
+        args[1] = arg1;
+        args[2] = arg2;
+        return fp.function.apply(args);
+    }
+
+    private boolean isDirectlyCallable() {
+        if (strand == null || hasAdmissionLimit || !strand.isRunnable()) {
+            return false;
+        }
+        if (!prepared) {
+            prepare();
+        }
+        return true;
+    }
+
+    private void prepare() {
+        prepared = true;
+        FunctionType functionType = (FunctionType) TypeUtils.getImpliedType(TypeUtils.getType(fp));
+        Module module = functionType.getPackage();
+        DefaultArgumentPlan argumentPlan = module == null ? null :
+                new DefaultArgumentPlan(ValueCreator.getValueCreator(ValueCreator.getLookupKey(module)),
+                        functionType);
+        // The argument array is reused only if the arguments are passed as they are.
+        if (argumentPlan == null || argumentPlan.isPassThrough(1)) {
+            unaryArgs = new Object[2];
+        }
+        if (argumentPlan == null || argumentPlan.isPassThrough(2)) {
+            binaryArgs = new Object[3];
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.MethodCallSite;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.utils.ErrorUtils;
+import io.ballerina.runtime.internal.values.ObjectValue;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A resolved Ballerina object method.
+ * <p>
+ * The generated {@code call} method of an object dispatches on the method name. Instead, the call site looks up the
+ * generated Java method once per object class, and invokes it through a {@link MethodHandle}. If the Java method
+ * cannot be resolved, the call site falls back to the generated {@code call} method.
+ *
+ * @since 2201.12.0
+ */
+public final class MethodCallSiteImpl implements MethodCallSite {
+
+    // Listener attach methods are dispatched through the generated call method, which registers the listener.
+    private static final String LISTENER_ATTACH_METHOD = "attach";
+
+    private final Scheduler scheduler;
+    private final ObjectType objectType;
+    private final MethodType methodType;
+    private final String methodName;
+    private final String strandName;
+    private final DefaultArgumentPlan argumentPlan;
+    private volatile Target target;
+
+    MethodCallSiteImpl(Scheduler scheduler, ObjectType objectType, MethodType methodType,
+                       ValueCreator valueCreator) {
+        this.scheduler = scheduler;
+        this.objectType = objectType;
+        this.methodType = methodType;
+        this.methodName = methodType.getName();
+        this.strandName = objectType.getName() + ":" + methodName;
+        this.argumentPlan = new DefaultArgumentPlan(valueCreator, methodType);
+    }
+
+    @Override
+    public MethodType getMethodType() {
+        return methodType;
+    }
+
+    @Override
+    public Object call(BObject object, StrandMetadata metadata, Object... args) {
+        if (object == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("object cannot be null"));
+        }
+        if (TypeUtils.getImpliedType(object.getOriginalType()) != objectType) {
+            // The method of an object of a different type has to be resolved by name.
+            return scheduler.callMethod(object, methodName, metadata, args);
+        }
+        return scheduler.callMethod(object, this, metadata, args);
+    }
+
+    String getStrandName() {
+        return strandName;
+    }
+
+    Object invoke(Strand strand, BObject object, Object[] args) {
+        Object[] argsWithDefaultValues = argumentPlan.apply(strand, args);
+        Target target = getTarget(object.getClass());
+        if (target.handle() == null || target.arity() != argsWithDefaultValues.length) {
+            return ((ObjectValue) object).call(strand, methodName, argsWithDefaultValues);
+        }
+        try {
+            return (Object) target.handle().invokeExact((Object) object, (Object) strand, argsWithDefaultValues);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw ErrorUtils.createErrorFromThrowable(t);
+        }
+    }
+
+    private Target getTarget(Class<?> objectClass) {
+        // Instances of an object type are almost always of the same class, hence only the last target is kept.
+        Target currentTarget = this.target;
+        if (currentTarget != null && currentTarget.objectClass() == objectClass) {
+            return currentTarget;
+        }
+        currentTarget = resolveTarget(objectClass);
+        this.target = currentTarget;
+        return currentTarget;
+    }
+
+    private Target resolveTarget(Class<?> objectClass) {
+        if (LISTENER_ATTACH_METHOD.equals(methodName)) {
+            return new Target(objectClass, null, -1);
+        }
+        Method method = null;
+        for (Method candidate : objectClass.getMethods()) {
+            if (!candidate.getName().equals(methodName) || Modifier.isStatic(candidate.getModifiers()) ||
+                    candidate.getParameterCount() == 0 || candidate.getParameterTypes()[0] != Strand.class) {
+                continue;
+            }
+            if (method != null) {
+                return new Target(objectClass, null, -1);
+            }
+            method = candidate;
+        }
+        if (method == null) {
+            return new Target(objectClass, null, -1);
+        }
+
+        // Adapt (Object, Strand, P1 .. Pn) R to (Object, Object, Object[]) Object, unboxing the arguments and boxing
+        // the return value the same way as the generated call method.
+        int arity = method.getParameterCount() - 1;
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method)
+                    .asType(java.lang.invoke.MethodType.genericMethodType(arity + 2))
+                    .asSpreader(Object[].class, arity);
+            return new Target(objectClass, handle, arity);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new Target(objectClass, null, -1);
+        }
+    }
+
+    private record Target(Class<?> objectClass, MethodHandle handle, int arity) {
+    }
+}
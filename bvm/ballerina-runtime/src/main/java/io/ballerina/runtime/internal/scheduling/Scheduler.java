@@ -18,20 +18,17 @@
 package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.concurrent.AdmissionLimit;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.FunctionType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.RemoteMethodType;
-import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
-import io.ballerina.runtime.api.values.BNever;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.BalRuntime;
 import io.ballerina.runtime.internal.types.BServiceType;
@@ -41,8 +38,8 @@ import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.ValueCreator;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
@@ -59,6 +56,13 @@ public class Scheduler {
 
     public  final BalRuntime runtime;
 
+    private final AdmissionLimitImpl admissionLimit = AdmissionLimitImpl.fromEnvironment();
+    private final Map<StrandMetadataKey, AdmissionLimitImpl> metadataAdmissionLimits = new ConcurrentHashMap<>();
+    // The functions, methods and function pointers called by name are resolved once. Only the ones which are called
+    // are kept, and these are defined in the program.
+    private final Map<FunctionKey, FunctionCallSiteImpl> functionCallSites = new ConcurrentHashMap<>();
+    private final Map<ArgumentPlanKey, DefaultArgumentPlan> argumentPlans = new ConcurrentHashMap<>();
+
     public Scheduler(BalRuntime runtime) {
         this.runtime = runtime;
     }
@@ -67,44 +71,113 @@ public class Scheduler {
         return strandHolder.get().strand;
     }
     public Object callFunction(Module module, String functionName, StrandMetadata metadata, Object... args) {
-        Strand strand = getStrand(functionName, metadata);
-        if (strand.isRunnable()) {
-            return callFunction(module, functionName, args, strand);
+        return call(functionName, metadata, strand -> callFunction(module, functionName, args, strand));
+    }
+
+    public Object callMethod(BObject object, String methodName, StrandMetadata metadata, Object... args) {
+        return call(getStrandName(object, methodName), metadata, strand -> callMethod(object, methodName, args,
+                strand));
+    }
+
+    public Object callFunction(FunctionCallSiteImpl callSite, StrandMetadata metadata, Object... args) {
+        return call(callSite.getFunctionName(), metadata, strand -> callSite.invoke(strand, args));
+    }
+
+    public Object callMethod(BObject object, MethodCallSiteImpl callSite, StrandMetadata metadata, Object... args) {
+        return call(callSite.getStrandName(), metadata, strand -> callSite.invoke(strand, object, args));
+    }
+
+    public FunctionCallSiteImpl getFunctionCallSite(Module module, String functionName) {
+        ValueCreatorAndFunctionType functionType = getGetValueCreatorAndFunctionType(module, functionName);
+        return new FunctionCallSiteImpl(this, functionType.valueCreator(), functionType.functionType(),
+                functionName);
+    }
+
+    public MethodCallSiteImpl getMethodCallSite(ObjectType objectType, String methodName) {
+        ObjectType impliedType = (ObjectType) TypeUtils.getImpliedType(objectType);
+        MethodType methodType = getObjectMethodType(methodName, impliedType);
+        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(impliedType.getPackage()));
+        return new MethodCallSiteImpl(this, impliedType, methodType, valueCreator);
+    }
+
+    public Object callFP(FPValue fp, StrandMetadata metadata, Object... args) {
+        return call(getStrandName(fp.getName()), metadata, strand -> callFp(fp, args, strand));
+    }
+
+    private Object call(String strandName, StrandMetadata metadata, Function<Strand, Object> function) {
+        AdmissionLimitImpl limit = getAdmissionLimit(metadata);
+        if (limit != null && !admit(limit)) {
+            throw limit.createRejectedError();
         }
         try {
-            strand.resume();
-            return callFunction(module, functionName, args, strand);
-        }  finally {
-            strand.done();
+            Strand strand = getStrand(strandName, metadata);
+            if (strand.isRunnable()) {
+                return function.apply(strand);
+            }
+            try {
+                strand.resume();
+                return function.apply(strand);
+            } finally {
+                strand.done();
+            }
+        } finally {
+            if (limit != null) {
+                limit.release();
+            }
         }
     }
 
-    public Object callMethod(BObject object, String methodName, StrandMetadata metadata, Object... args) {
-        Strand strand = getStrand(getStrandName(object, methodName), metadata);
-        if (strand.isRunnable()) {
-            return callMethod(object, methodName, args, strand);
+    public AdmissionLimit getAdmissionLimit() {
+        return admissionLimit;
+    }
+
+    public void setAdmissionLimit(StrandMetadata metadata, AdmissionLimit limit) {
+        if (limit == null) {
+            metadataAdmissionLimits.remove(new StrandMetadataKey(metadata));
+        } else {
+            metadataAdmissionLimits.put(new StrandMetadataKey(metadata), (AdmissionLimitImpl) limit);
         }
-        try {
-            strand.resume();
-            return callMethod(object, methodName, args, strand);
-        }  finally {
-            strand.done();
+    }
+
+    boolean hasAdmissionLimit(StrandMetadata metadata) {
+        return getAdmissionLimit(metadata) != null;
+    }
+
+    private AdmissionLimitImpl getAdmissionLimit(StrandMetadata metadata) {
+        if (metadata == null || metadataAdmissionLimits.isEmpty()) {
+            return null;
         }
+        return metadataAdmissionLimits.get(new StrandMetadataKey(metadata));
     }
 
-    public Object callFP(FPValue fp, StrandMetadata metadata, Object... args) {
-        Strand strand = getStrand(getStrandName(fp.getName()), metadata);
-        if (strand.isRunnable()) {
-            return callFp(fp, args, strand);
+    private boolean admit(AdmissionLimitImpl limit) {
+        if (limit.tryAcquireWithoutWaiting()) {
+            return true;
+        }
+        // The non-isolated strands which are running need the global lock to complete, hence it is released while
+        // waiting to be admitted.
+        boolean holdsGlobalLock = globalNonIsolatedLock.isHeldByCurrentThread();
+        if (holdsGlobalLock) {
+            globalNonIsolatedLock.unlock();
         }
         try {
-            strand.resume();
-            return callFp(fp, args, strand);
-        }  finally {
-            strand.done();
+            return limit.tryAcquire();
+        } finally {
+            if (holdsGlobalLock) {
+                globalNonIsolatedLock.lock();
+            }
         }
     }
 
+    private boolean admitWorker(FutureValue future) {
+        if (admit(admissionLimit)) {
+            future.strand.admissionLimit = admissionLimit;
+            return true;
+        }
+        future.completableFuture.completeExceptionally(admissionLimit.createRejectedError());
+        return false;
+    }
+
     @SuppressWarnings("unused")
     /*
      * Used for codegen isolated function pointer start call
@@ -114,6 +187,10 @@ public class Scheduler {
         FutureValue future = createFuture(parentStrand, strandName, true, returnType,
                 null, workerChannelMap);
         args[0] = future.strand;
+        if (!admitWorker(future)) {
+            return future;
+        }
+        future.strand.admissionLimit = admissionLimit;
         Thread.startVirtualThread(() -> {
             try {
                 strandHolder.get().strand = future.strand;
@@ -121,6 +198,8 @@ public class Scheduler {
                 future.completableFuture.complete(result);
             } catch (Throwable t) {
                 future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
+            } finally {
+                admissionLimit.release();
             }
         }).setName(future.strand.name);
         return future;
@@ -134,6 +213,9 @@ public class Scheduler {
                                               WorkerChannelMap workerChannelMap, Object[] args) {
         FutureValue future = createFuture(parentStrand, strandName, false, returnType, null, workerChannelMap);
         args[0] = future.strand;
+        if (!admitWorker(future)) {
+            return future;
+        }
         Thread.startVirtualThread(() -> {
             try {
                 future.strand.resume();
@@ -144,6 +226,7 @@ public class Scheduler {
                 future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
             } finally {
                 future.strand.done();
+                admissionLimit.release();
             }
         }).setName(future.strand.name);
         return future;
@@ -165,33 +248,32 @@ public class Scheduler {
     }
 
     private Object callFunction(Module module, String functionName, Object[] args, Strand parentStrand) {
-        ValueCreatorAndFunctionType functionType = getGetValueCreatorAndFunctionType(module, functionName);
-        Object[] argsWithDefaultValues = getArgsWithDefaultValues(functionType.valueCreator(),
-                functionType.functionType(), parentStrand, args);
-        return functionType.valueCreator().call(parentStrand, functionName, argsWithDefaultValues);
+        FunctionCallSiteImpl callSite = functionCallSites.computeIfAbsent(new FunctionKey(module, functionName),
+                key -> getFunctionCallSite(module, functionName));
+        return callSite.invoke(parentStrand, args);
     }
 
     private Object callMethod(BObject object, String methodName, Object[] args, Strand parentStrand) {
         ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getOriginalType());
         MethodType methodType = getObjectMethodType(methodName, objectType);
-        Object[] argsWithDefaultValues = getArgsWithDefaultValues(objectType, methodType, parentStrand, args);
+        Object[] argsWithDefaultValues = getArgumentPlan(objectType.getPackage(), methodType)
+                .apply(parentStrand, args);
         return ((ObjectValue) object).call(parentStrand, methodName, argsWithDefaultValues);
     }
 
     private Object callFp(FPValue fp, Object[] args, Strand parentStrand) {
         FunctionType functionType = (FunctionType) TypeUtils.getImpliedType(TypeUtils.getType(fp));
-        Object[] argsWithDefaultValues = getArgsWithDefaultValues(parentStrand, args, functionType);
+        Module module = functionType.getPackage();
+        Object[] argsWithDefaultValues = module == null ? args :
+                getArgumentPlan(module, functionType).apply(parentStrand, args);
         Object[] argsWithStrand = getArgsWithStrand(parentStrand, argsWithDefaultValues);
         return fp.function.apply(argsWithStrand);
     }
 
-    private Object[] getArgsWithDefaultValues(Strand parentStrand, Object[] args, FunctionType functionType) {
-        Module module = functionType.getPackage();
-        if (module == null) {
-            return args;
-        }
-        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
-        return getArgsWithDefaultValues(valueCreator, functionType, parentStrand, args);
+    private DefaultArgumentPlan getArgumentPlan(Module module, FunctionType functionType) {
+        return argumentPlans.computeIfAbsent(new ArgumentPlanKey(functionType, module),
+                key -> new DefaultArgumentPlan(ValueCreator.getValueCreator(ValueCreator.getLookupKey(module)),
+                        functionType));
     }
 
     /*
@@ -236,60 +318,68 @@ public class Scheduler {
 
     }
 
-    private Object[] getArgsWithDefaultValues(ObjectType objectType, MethodType methodType, Strand strand,
-                                              Object... args) {
+    private record FunctionKey(Module module, String functionName) {
 
-        Module module = objectType.getPackage();
-        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
-        return getArgsWithDefaultValues(valueCreator, methodType, strand, args);
     }
 
-    private Object[] getArgsWithDefaultValues(ValueCreator valueCreator, FunctionType functionType, Strand strand,
-                                              Object... args) {
-        Parameter[] parameters = functionType.getParameters();
-        if (args.length == 0 && parameters.length == 0) {
-            return new Object[]{};
+    /**
+     * Strand metadata is compared by identity, since its properties can be modified after the limit is applied.
+     */
+    private record StrandMetadataKey(StrandMetadata metadata) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StrandMetadataKey that && metadata == that.metadata;
         }
-        int length = functionType.getRestType() == null ? parameters.length : parameters.length + 1;
-        if (length < args.length) {
-            length = args.length;
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(metadata);
         }
-        Object[] argsWithDefaultValues = new Object[length];
-        System.arraycopy(args, 0, argsWithDefaultValues, 0, args.length);
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
-            if (parameter.isDefault && (args.length <= i || args[i] == BNever.getValue())) {
-                Object defaultValue = valueCreator.call(strand, parameter.defaultFunctionName, argsWithDefaultValues);
-                argsWithDefaultValues[i] = defaultValue;
-            }
+    }
+
+    /**
+     * Types are compared by identity, since equal types of different modules have different default functions.
+     */
+    private record ArgumentPlanKey(FunctionType functionType, Module module) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ArgumentPlanKey that && functionType == that.functionType &&
+                    module.equals(that.module);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(functionType) + module.hashCode();
         }
-        return argsWithDefaultValues;
     }
 
     public MethodType getObjectMethodType(String methodName, ObjectType objectType) {
-        Map<String, MethodType> methodTypesMap = new HashMap<>();
-        if (objectType.getTag() == TypeTags.SERVICE_TAG) {
+        // Object methods take precedence over remote methods, which take precedence over resource methods.
+        MethodType methodType = findMethodType(methodName, objectType.getMethods());
+        if (methodType == null && objectType.getTag() == TypeTags.SERVICE_TAG) {
             BServiceType serviceType = (BServiceType) objectType;
-            ResourceMethodType[] resourceMethods = serviceType.getResourceMethods();
-            for (ResourceMethodType resourceMethodType : resourceMethods) {
-                methodTypesMap.put(resourceMethodType.getName(), resourceMethodType);
-            }
-            RemoteMethodType[] remoteMethodTypes = serviceType.getRemoteMethods();
-            for (RemoteMethodType remoteMethodType : remoteMethodTypes) {
-                methodTypesMap.put(remoteMethodType.getName(), remoteMethodType);
+            methodType = findMethodType(methodName, serviceType.getRemoteMethods());
+            if (methodType == null) {
+                methodType = findMethodType(methodName, serviceType.getResourceMethods());
             }
         }
-        MethodType[] objectTypeMethods = objectType.getMethods();
-        for (MethodType methodType : objectTypeMethods) {
-            methodTypesMap.put(methodType.getName(), methodType);
-        }
-        MethodType methodType = methodTypesMap.get(methodName);
         if (methodType != null) {
             return methodType;
         }
         throw ErrorCreator.createError(StringUtils.fromString("No such method: " + methodName));
     }
 
+    private static MethodType findMethodType(String methodName, MethodType[] methodTypes) {
+        for (MethodType methodType : methodTypes) {
+            if (methodType.getName().equals(methodName)) {
+                return methodType;
+            }
+        }
+        return null;
+    }
+
     public FutureValue createFutureWithMetadata(Strand parentStrand, String strandName, boolean isIsolated,
                                                 Type constraint,  StrandMetadata metadata,
                                                 WorkerChannelMap workerChannelMap) {
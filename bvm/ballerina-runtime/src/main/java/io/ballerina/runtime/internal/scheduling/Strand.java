@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Supplier;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.CURRENT_TRANSACTION_CONTEXT_PROPERTY;
 
@@ -36,32 +38,40 @@ import static io.ballerina.runtime.api.constants.RuntimeConstants.CURRENT_TRANSA
  */
 public class Strand {
 
-    private final int id;
     private static final AtomicInteger nextStrandId = new AtomicInteger(0);
+    private static final AtomicIntegerFieldUpdater<Strand> ID_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Strand.class, "id");
+
+    // Assigned when the id is first requested, as most strands never use it.
+    private volatile int id;
+    // Shared with the parent and the child strands until either of them modifies it.
     private Map<String, Object> globalProps;
+    private boolean globalPropsShared;
 
     public final String name;
     public final boolean isIsolated;
     public boolean cancelled;
     public Scheduler scheduler;
     public TransactionLocalContext currentTrxContext;
+    // Created when a transaction context is first pushed, as most strands never participate in transactions.
     public Stack<TransactionLocalContext> trxContexts;
     public WorkerChannelMap workerChannelMap;
     public int acquiredLockCount;
+    // The limit which admitted the strand, whose permit is released while the strand is blocked.
+    AdmissionLimitImpl admissionLimit;
 
     public Strand(Scheduler scheduler, String strandName, Strand parent, boolean isIsolated,
                   Map<String, Object> properties, WorkerChannelMap workerChannelMap) {
-        this.id = nextStrandId.incrementAndGet();
         this.name = Objects.requireNonNullElse(strandName, "$anon");
         this.scheduler = scheduler;
-        this.trxContexts = new Stack<>();
         this.isIsolated = isIsolated;
         if (properties != null) {
             this.globalProps = properties;
-        } else if (parent != null && parent.globalProps != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
-        } else {
-            this.globalProps = new HashMap<>();
+        } else if (parent != null && parent.globalProps != null && !parent.globalProps.isEmpty()) {
+            // The parent is running on the current thread, hence it is safe to mark its properties as shared.
+            this.globalProps = parent.globalProps;
+            this.globalPropsShared = true;
+            parent.globalPropsShared = true;
         }
         this.workerChannelMap = workerChannelMap;
     }
@@ -71,14 +81,14 @@ public class Strand {
                   TransactionLocalContext currentTrxContext) {
         this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap);
         if (currentTrxContext != null) {
-            this.trxContexts = parent.trxContexts;
+            this.trxContexts = parent.getTrxContexts();
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = currentTrxContext;
         } else {
             Object currentContext = this.getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
             if (currentContext != null) {
                 TransactionLocalContext branchedContext =
-                        createTrxContextBranch((TransactionLocalContext) currentContext, this.id);
+                        createTrxContextBranch((TransactionLocalContext) currentContext, getId());
                 setCurrentTransactionContext(branchedContext);
             }
         }
@@ -104,6 +114,26 @@ public class Strand {
         }
     }
 
+    /**
+     * Runs a blocking operation of the strand, releasing its admission permit until the operation completes, so that
+     * the strands it waits on can be admitted.
+     *
+     * @param supplier blocking operation
+     * @return result of the operation
+     */
+    public <T> T runWithoutAdmission(Supplier<T> supplier) {
+        AdmissionLimitImpl limit = admissionLimit;
+        if (limit == null) {
+            return supplier.get();
+        }
+        limit.release();
+        try {
+            return supplier.get();
+        } finally {
+            limit.reacquire();
+        }
+    }
+
     public boolean isRunnable() {
         return this.isIsolated || this.scheduler.globalNonIsolatedLock.isHeldByCurrentThread();
     }
@@ -126,11 +156,28 @@ public class Strand {
     }
 
     public Object getProperty(String key) {
-        return this.globalProps.get(key);
+        return this.globalProps == null ? null : this.globalProps.get(key);
     }
 
     public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+        getWritableGlobalProps().put(key, value);
+    }
+
+    private Map<String, Object> getWritableGlobalProps() {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        } else if (this.globalPropsShared) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.globalPropsShared = false;
+        }
+        return this.globalProps;
+    }
+
+    private Stack<TransactionLocalContext> getTrxContexts() {
+        if (this.trxContexts == null) {
+            this.trxContexts = new Stack<>();
+        }
+        return this.trxContexts;
     }
 
     public boolean isInTransaction() {
@@ -138,25 +185,35 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
-            this.globalProps.put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+            getWritableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
             return;
         }
-        this.globalProps.remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        if (this.globalProps != null && this.globalProps.containsKey(CURRENT_TRANSACTION_CONTEXT_PROPERTY)) {
+            getWritableGlobalProps().remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        }
         this.currentTrxContext = null;
     }
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
-            this.trxContexts.push(this.currentTrxContext);
+            getTrxContexts().push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        this.globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        if (getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY) == null) {
+            getWritableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        }
     }
 
     public int getId() {
-        return this.id;
+        int strandId = this.id;
+        if (strandId == 0) {
+            // If another thread assigned the id concurrently, the id assigned by that thread is used.
+            ID_UPDATER.compareAndSet(this, 0, nextStrandId.incrementAndGet());
+            strandId = this.id;
+        }
+        return strandId;
     }
 
     public void checkStrandCancelled() {
@@ -75,14 +75,10 @@ import java.util.concurrent.CompletableFuture;
              futures[i] = channel.getReceiveFuture();
              channels[i] = channel;
          }
-         if (strand.isIsolated) {
+         AsyncUtils.handleBlockingStrand(strand, () -> {
              AsyncUtils.waitForAllFutureResult(futures);
-         } else {
-             AsyncUtils.handleNonIsolatedStrand(strand, () -> {
-                 AsyncUtils.waitForAllFutureResult(futures);
-                 return null;
-             });
-         }
+             return null;
+         });
 
          for (WorkerChannel channel : channels) {
              Object result = channel.getReceiveFuture().resultNow();
@@ -95,10 +91,7 @@ import java.util.concurrent.CompletableFuture;
 
      public static Object receive(Strand strand, WorkerChannelMap workerChannelMap, String channelKey) {
          WorkerChannel channel = workerChannelMap.get(channelKey);
-         if (strand.isIsolated) {
-             return channel.read();
-         }
-         return AsyncUtils.handleNonIsolatedStrand(strand, channel::read);
+         return AsyncUtils.handleBlockingStrand(strand, channel::read);
      }
 
      /*
@@ -134,11 +127,7 @@ import java.util.concurrent.CompletableFuture;
          for (int i = 0; i < channels.length; i++) {
              futures[i] = channels[i].getResultFuture();
          }
-         if (strand.isIsolated) {
-             AsyncUtils.waitForAllFutureResult(futures);
-             return getMultipleReceiveResult(workerChannelMap, channelFieldNameMap, targetType, channels);
-         }
-         return (BMap<BString, Object>) AsyncUtils.handleNonIsolatedStrand(strand,
+         return (BMap<BString, Object>) AsyncUtils.handleBlockingStrand(strand,
                  () -> {
                      AsyncUtils.waitForAllFutureResult(futures);
                      return getMultipleReceiveResult(workerChannelMap, channelFieldNameMap, targetType, channels);
@@ -267,19 +267,22 @@ public class BMapType extends BType implements MapType, TypeWithShape, Cloneable
         int nFields = value.size();
         MappingDefinition md = new MappingDefinition();
         value.setReadonlyShapeDefinition(md);
-        MappingDefinition.Field[] fields = new MappingDefinition.Field[nFields];
-        Map.Entry<?, ?>[] entries = value.entrySet().toArray(Map.Entry[]::new);
-        for (int i = 0; i < nFields; i++) {
-            Optional<SemType> valueType = shapeSupplier.get(cx, entries[i].getValue());
-            SemType fieldType = valueType.orElseThrow();
-            fields[i] = new MappingDefinition.Field(entries[i].getKey().toString(), fieldType, true, false);
+        try {
+            MappingDefinition.Field[] fields = new MappingDefinition.Field[nFields];
+            Map.Entry<?, ?>[] entries = value.entrySet().toArray(Map.Entry[]::new);
+            for (int i = 0; i < nFields; i++) {
+                Optional<SemType> valueType = shapeSupplier.get(cx, entries[i].getValue());
+                SemType fieldType = valueType.orElseThrow();
+                fields[i] = new MappingDefinition.Field(entries[i].getKey().toString(), fieldType, true, false);
+            }
+            CellAtomicType.CellMutability mut = value.getType().isReadOnly() ? CELL_MUT_NONE :
+                    CellAtomicType.CellMutability.CELL_MUT_LIMITED;
+            SemType semType = md.defineMappingTypeWrapped(cx.env, fields, Builder.getNeverType(), mut);
+            value.cacheShape(semType);
+            return Optional.of(semType);
+        } finally {
+            value.resetReadonlyShapeDefinition();
         }
-        CellAtomicType.CellMutability mut = value.getType().isReadOnly() ? CELL_MUT_NONE :
-                CellAtomicType.CellMutability.CELL_MUT_LIMITED;
-        SemType semType = md.defineMappingTypeWrapped(cx.env, fields, Builder.getNeverType(), mut);
-        value.cacheShape(semType);
-        value.resetReadonlyShapeDefinition();
-        return Optional.of(semType);
     }
 
     private SemType createSemTypeInner(Env env, MappingDefinition defn, SemType restType,
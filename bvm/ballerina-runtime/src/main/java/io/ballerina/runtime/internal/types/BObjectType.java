@@ -430,33 +430,39 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
         }
         ObjectDefinition od = new ObjectDefinition();
         object.setReadonlyShapeDefinition(od);
-        List<Member> members = new ArrayList<>();
-        Set<String> seen = new HashSet<>(fields.size() + methodTypes.length);
-        ObjectQualifiers qualifiers = getObjectQualifiers();
-        for (Entry<String, Field> entry : fields.entrySet()) {
-            String name = entry.getKey();
-            if (skipField(seen, name)) {
-                continue;
+        try {
+            List<Member> members = new ArrayList<>();
+            Set<String> seen = new HashSet<>(fields.size() + methodTypes.length);
+            ObjectQualifiers qualifiers = getObjectQualifiers();
+            for (Entry<String, Field> entry : fields.entrySet()) {
+                String name = entry.getKey();
+                if (skipField(seen, name)) {
+                    continue;
+                }
+                Field field = entry.getValue();
+                boolean isPublic = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.PUBLIC);
+                boolean isImmutable = qualifiers.readonly() |
+                        SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY) |
+                        SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.FINAL);
+                members.add(new Member(name, fieldShape(cx, shapeSupplier, field, object, isImmutable),
+                        Member.Kind.Field, isPublic ? Member.Visibility.Public : Member.Visibility.Private,
+                        isImmutable));
             }
-            Field field = entry.getValue();
-            boolean isPublic = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.PUBLIC);
-            boolean isImmutable = qualifiers.readonly() | SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY) |
-                    SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.FINAL);
-            members.add(new Member(name, fieldShape(cx, shapeSupplier, field, object, isImmutable), Member.Kind.Field,
-                    isPublic ? Member.Visibility.Public : Member.Visibility.Private, isImmutable));
-        }
-        for (MethodData method : allMethods(cx)) {
-            String name = method.name();
-            if (skipField(seen, name)) {
-                continue;
+            for (MethodData method : allMethods(cx)) {
+                String name = method.name();
+                if (skipField(seen, name)) {
+                    continue;
+                }
+                boolean isPublic = SymbolFlags.isFlagOn(method.flags(), SymbolFlags.PUBLIC);
+                members.add(new Member(name, method.semType(), Member.Kind.Method,
+                        isPublic ? Member.Visibility.Public : Member.Visibility.Private, true));
             }
-            boolean isPublic = SymbolFlags.isFlagOn(method.flags(), SymbolFlags.PUBLIC);
-            members.add(new Member(name, method.semType(), Member.Kind.Method,
-                    isPublic ? Member.Visibility.Public : Member.Visibility.Private, true));
+            return od.define(cx.env, qualifiers, members,
+                    qualifiers.readonly() ? CellAtomicType.CellMutability.CELL_MUT_NONE :
+                            CellAtomicType.CellMutability.CELL_MUT_LIMITED);
+        } finally {
+            object.resetReadonlyShapeDefinition();
         }
-        return od.define(cx.env, qualifiers, members,
-                qualifiers.readonly() ? CellAtomicType.CellMutability.CELL_MUT_NONE :
-                        CellAtomicType.CellMutability.CELL_MUT_LIMITED);
     }
 
     private static SemType fieldShape(Context cx, ShapeSupplier shapeSupplier, Field field,
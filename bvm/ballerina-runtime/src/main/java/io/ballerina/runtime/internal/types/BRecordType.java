@@ -40,6 +40,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.json.JsonFieldNames;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.types.semtype.CellAtomicType.CellMutability;
 import io.ballerina.runtime.internal.types.semtype.DefinitionContainer;
@@ -80,6 +81,7 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
     private final DefinitionContainer<MappingDefinition> defn = new DefinitionContainer<>();
     private final DefinitionContainer<MappingDefinition> acceptedTypeDefn = new DefinitionContainer<>();
     private byte couldInhereTypeBeDifferentCache = 0;
+    private JsonFieldNames jsonFieldNames;
 
     private final Map<String, BFunctionPointer> defaultValues = new LinkedHashMap<>();
 
@@ -250,6 +252,21 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
         return defaultValues;
     }
 
+    /**
+     * Returns the field names of this record type, as written by the JSON serializer.
+     *
+     * @return JSON encoded field names
+     */
+    public JsonFieldNames getJsonFieldNames() {
+        // Racy initialization is fine, as the field names are immutable once created.
+        JsonFieldNames names = this.jsonFieldNames;
+        if (names == null) {
+            names = new JsonFieldNames(getFields().keySet());
+            this.jsonFieldNames = names;
+        }
+        return names;
+    }
+
     @Override
     public SemType createSemType(Context cx) {
         Env env = cx.env;
@@ -334,29 +351,33 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
         } else {
             md = new MappingDefinition();
         }
-        List<MappingDefinition.Field> fields = new ArrayList<>(nFields);
-        for (int i = 0; i < nFields; i++) {
-            String fieldName = entries[i].getKey().toString();
-            Object fieldValue = entries[i].getValue();
-            handledFields.add(fieldName);
-            fields.add(fieldShape(cx, shapeSupplier, fieldName, fieldValue, takeFieldShape));
-        }
-        if (!takeFieldShape) {
-            getFields().values().stream()
-                    .filter(field -> !handledFields.contains(field.getFieldName()))
-                    .map(field -> fieldShapeWithoutValue(cx, field, field.getFieldName()))
-                    .forEach(fields::add);
-        }
-        MappingDefinition.Field[] fieldsArray = fields.toArray(MappingDefinition.Field[]::new);
-        SemType rest;
-        if (takeFieldShape) {
-            rest = Builder.getNeverType();
-        } else {
-            rest = restFieldType != null ? SemType.tryInto(cx, restFieldType) : getNeverType();
+        try {
+            List<MappingDefinition.Field> fields = new ArrayList<>(nFields);
+            for (int i = 0; i < nFields; i++) {
+                String fieldName = entries[i].getKey().toString();
+                Object fieldValue = entries[i].getValue();
+                handledFields.add(fieldName);
+                fields.add(fieldShape(cx, shapeSupplier, fieldName, fieldValue, takeFieldShape));
+            }
+            if (!takeFieldShape) {
+                getFields().values().stream()
+                        .filter(field -> !handledFields.contains(field.getFieldName()))
+                        .map(field -> fieldShapeWithoutValue(cx, field, field.getFieldName()))
+                        .forEach(fields::add);
+            }
+            MappingDefinition.Field[] fieldsArray = fields.toArray(MappingDefinition.Field[]::new);
+            SemType rest;
+            if (takeFieldShape) {
+                rest = Builder.getNeverType();
+            } else {
+                rest = restFieldType != null ? SemType.tryInto(cx, restFieldType) : getNeverType();
+            }
+            return md.defineMappingTypeWrapped(env, fieldsArray, rest, mut());
+        } finally {
+            if (takeFieldShape) {
+                value.resetReadonlyShapeDefinition();
+            }
         }
-        SemType shape = md.defineMappingTypeWrapped(env, fieldsArray, rest, mut());
-        value.resetReadonlyShapeDefinition();
-        return shape;
     }
 
     private MappingDefinition.Field fieldShapeWithoutValue(Context cx, Field field, String fieldName) {
@@ -432,13 +432,15 @@ public class BTupleType extends BAnnotatableType implements TupleType, TypeWithS
         SemType[] memberTypes = new SemType[size];
         ListDefinition ld = new ListDefinition();
         value.setReadonlyShapeDefinition(ld);
-        for (int i = 0; i < size; i++) {
-            Optional<SemType> memberType = shapeSupplier.get(cx, value.get(i));
-            assert memberType.isPresent();
-            memberTypes[i] = memberType.get();
+        try {
+            for (int i = 0; i < size; i++) {
+                Optional<SemType> memberType = shapeSupplier.get(cx, value.get(i));
+                assert memberType.isPresent();
+                memberTypes[i] = memberType.get();
+            }
+            return ld.defineListTypeWrapped(env, memberTypes, memberTypes.length, getNeverType(), mut());
+        } finally {
+            value.resetReadonlyShapeDefinition();
         }
-        SemType semType = ld.defineListTypeWrapped(env, memberTypes, memberTypes.length, getNeverType(), mut());
-        value.resetReadonlyShapeDefinition();
-        return semType;
     }
 }
@@ -31,6 +31,7 @@ import io.ballerina.runtime.api.types.semtype.TypeCheckCacheFactory;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.types.semtype.MutableSemType;
+import io.ballerina.runtime.internal.utils.TargetTypeConverter;
 
 import java.util.HashSet;
 import java.util.Objects;
@@ -56,6 +57,7 @@ public abstract non-sealed class BType extends SemType
     private Type cachedReferredType = null;
     private Type cachedImpliedType = null;
     private volatile SemType cachedSemType = null;
+    private volatile TargetTypeConverter cachedConverter = null;
     protected TypeCheckCache typeCheckCache;
     protected int typeId;
 
@@ -260,6 +262,14 @@ public abstract non-sealed class BType extends SemType
         return this.cachedImpliedType;
     }
 
+    public TargetTypeConverter getCachedConverter() {
+        return this.cachedConverter;
+    }
+
+    public void setCachedConverter(TargetTypeConverter converter) {
+        this.cachedConverter = converter;
+    }
+
     @Override
     public SemType createSemType(Context cx) {
         throw new IllegalStateException("Child that are used for type checking must implement this method");
@@ -290,6 +300,7 @@ public abstract non-sealed class BType extends SemType
         try {
             BType clone = (BType) super.clone();
             clone.cachedSemType = null;
+            clone.cachedConverter = null;
             clone.setCachedImpliedType(null);
             clone.setCachedReferredType(null);
             return clone;
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Creates the runtime types of the type definitions of a module on first use.
+ * <p>
+ * The generated code of each module extends this class, identifying its type definitions by their index. A type is
+ * created and populated only when it is first requested. Since the types are created before they are populated,
+ * recursive type references resolve to the type being populated.
+ * <p>
+ * A type which is populated as a part of populating another type is published only once the outermost type is
+ * populated, so that the other threads never see a partially populated type. All the types are populated under a
+ * single lock, which avoids lock ordering issues between the types of different modules.
+ *
+ * @since 2201.12.0
+ */
+public abstract class LazyTypeCreator {
+
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static final List<PendingType> pendingTypes = new ArrayList<>();
+    private static int depth = 0;
+
+    private final AtomicReferenceArray<Type> publishedTypes;
+    private final Type[] createdTypes;
+
+    protected LazyTypeCreator(int typeCount) {
+        this.publishedTypes = new AtomicReferenceArray<>(typeCount);
+        this.createdTypes = new Type[typeCount];
+    }
+
+    /**
+     * Returns the type with the given index, creating and populating it if it is not created yet.
+     *
+     * @param typeIndex index of the type definition
+     * @return the type
+     */
+    public final Type getType(int typeIndex) {
+        Type type = publishedTypes.get(typeIndex);
+        if (type != null) {
+            return type;
+        }
+        return initType(typeIndex);
+    }
+
+    /**
+     * Creates the type with the given index, without populating its members.
+     *
+     * @param typeIndex index of the type definition
+     * @return the created type, or null if there is no such type
+     */
+    protected abstract Type createType(int typeIndex);
+
+    /**
+     * Populates the members of the type with the given index, which has been created already.
+     *
+     * @param typeIndex index of the type definition
+     */
+    protected abstract void populateType(int typeIndex);
+
+    private Type initType(int typeIndex) {
+        lock.lock();
+        try {
+            Type type = publishedTypes.get(typeIndex);
+            if (type != null) {
+                return type;
+            }
+            type = createdTypes[typeIndex];
+            if (type != null) {
+                // A recursive reference to a type being populated by the current thread.
+                return type;
+            }
+            type = createType(typeIndex);
+            if (type == null) {
+                throw new IllegalStateException("no such type: " + typeIndex);
+            }
+            createdTypes[typeIndex] = type;
+            pendingTypes.add(new PendingType(this, typeIndex));
+            populate(typeIndex);
+            return type;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void populate(int typeIndex) {
+        boolean populated = false;
+        depth++;
+        try {
+            populateType(typeIndex);
+            populated = true;
+        } finally {
+            if (--depth == 0) {
+                completePendingTypes(populated);
+            }
+        }
+    }
+
+    private static void completePendingTypes(boolean populated) {
+        for (PendingType pendingType : pendingTypes) {
+            LazyTypeCreator creator = pendingType.creator();
+            int typeIndex = pendingType.typeIndex();
+            if (populated) {
+                creator.publishedTypes.set(typeIndex, creator.createdTypes[typeIndex]);
+            }
+            creator.createdTypes[typeIndex] = null;
+        }
+        pendingTypes.clear();
+    }
+
+    private record PendingType(LazyTypeCreator creator, int typeIndex) {
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BListInitialValueEntry;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BType;
+import io.ballerina.runtime.internal.types.BTypeReferenceType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts values to a specific target type, as done by {@code value:cloneWithType} and
+ * {@code value:fromJsonWithType}.
+ * <p>
+ * The generic conversion in {@link ValueConverter} validates the whole value against the target type at every level
+ * before converting it, which makes the conversion of nested values quadratic in their depth. A converter is built
+ * once per target type, from the shape of that type, and validates and converts the value in a single pass. Only the
+ * common target types (mutable records, maps and open arrays of basic types and of such types) are handled. The
+ * other target types are delegated to the generic conversion.
+ * <p>
+ * A converter never reports errors. When a value cannot be converted, it returns {@link #NOT_CONVERTED} and the
+ * caller falls back to the generic conversion of the whole value, which produces the detailed error. This includes
+ * cyclic values: a container which is reached again while it is being converted is not converted.
+ *
+ * @since 2201.12.0
+ */
+public abstract class TargetTypeConverter {
+
+    static final Object NOT_CONVERTED = new Object();
+
+    // Marks the target types which are not specialized, so that they are only examined once.
+    private static final TargetTypeConverter GENERIC = new TargetTypeConverter() {
+        @Override
+        Object convert(Object value, Set<Object> unresolvedValues) {
+            return NOT_CONVERTED;
+        }
+    };
+
+    TargetTypeConverter() {
+    }
+
+    /**
+     * Returns the converter for the given target type.
+     *
+     * @param targetType target type
+     * @return the converter, or null if the conversion to the target type is not specialized
+     */
+    static TargetTypeConverter forType(Type targetType) {
+        if (!(targetType instanceof BType bType)) {
+            return null;
+        }
+        TargetTypeConverter converter = bType.getCachedConverter();
+        if (converter == null) {
+            converter = createConverter(targetType);
+            bType.setCachedConverter(converter);
+        }
+        return converter == GENERIC ? null : converter;
+    }
+
+    /**
+     * Converts the given value to the target type of this converter.
+     *
+     * @param value value to be converted
+     * @return the converted value, or {@link #NOT_CONVERTED} if the value cannot be converted by this converter
+     */
+    Object convert(Object value) {
+        return convert(value, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Converts the given value to the target type of this converter.
+     *
+     * @param value            value to be converted
+     * @param unresolvedValues containers which are being converted, compared by identity
+     * @return the converted value, or {@link #NOT_CONVERTED} if the value cannot be converted by this converter
+     */
+    abstract Object convert(Object value, Set<Object> unresolvedValues);
+
+    private static Object convertMember(Object value, Type targetType, Set<Object> unresolvedValues) {
+        TargetTypeConverter converter = forType(targetType);
+        if (converter == null) {
+            return convertGenerically(value, targetType);
+        }
+        return converter.convert(value, unresolvedValues);
+    }
+
+    private static Object convertGenerically(Object value, Type targetType) {
+        try {
+            return ValueConverter.convertGenerically(value, targetType);
+        } catch (BError e) {
+            return NOT_CONVERTED;
+        }
+    }
+
+    private static TargetTypeConverter createConverter(Type targetType) {
+        Type type = targetType;
+        while (type.getTag() == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
+            type = ((BTypeReferenceType) type).getReferredType();
+        }
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return new BasicTypeConverter(targetType, type.getTag());
+            case TypeTags.UNION_TAG:
+                Type memberType = getNilLiftedType((BUnionType) type);
+                return memberType == null ? GENERIC : new NilableConverter(memberType);
+            case TypeTags.RECORD_TYPE_TAG:
+                return type.isReadOnly() ? GENERIC : new RecordConverter(targetType, (BRecordType) type);
+            case TypeTags.MAP_TAG:
+                return type.isReadOnly() ? GENERIC : new MapConverter(targetType, (BMapType) type);
+            case TypeTags.ARRAY_TAG:
+                BArrayType arrayType = (BArrayType) type;
+                return arrayType.isReadOnly() || arrayType.getState() != ArrayType.ArrayState.OPEN ? GENERIC :
+                        new ArrayConverter(targetType, arrayType);
+            default:
+                return GENERIC;
+        }
+    }
+
+    private static Type getNilLiftedType(BUnionType unionType) {
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        Type first = memberTypes.get(0);
+        Type second = memberTypes.get(1);
+        if (second.getTag() == TypeTags.NULL_TAG) {
+            return first;
+        }
+        return first.getTag() == TypeTags.NULL_TAG ? second : null;
+    }
+
+    /**
+     * Converter for int, float, decimal, string and boolean target types.
+     */
+    private static final class BasicTypeConverter extends TargetTypeConverter {
+
+        private final Type targetType;
+        private final int tag;
+
+        BasicTypeConverter(Type targetType, int tag) {
+            this.targetType = targetType;
+            this.tag = tag;
+        }
+
+        @Override
+        Object convert(Object value, Set<Object> unresolvedValues) {
+            switch (tag) {
+                case TypeTags.INT_TAG:
+                    if (value instanceof Long) {
+                        return value;
+                    }
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    if (value instanceof Double) {
+                        return value;
+                    }
+                    if (value instanceof Long longValue) {
+                        return longValue.doubleValue();
+                    }
+                    break;
+                case TypeTags.DECIMAL_TAG:
+                    if (value instanceof DecimalValue) {
+                        return value;
+                    }
+                    break;
+                case TypeTags.STRING_TAG:
+                    if (value instanceof BString) {
+                        return value;
+                    }
+                    break;
+                default:
+                    if (value instanceof Boolean) {
+                        return value;
+                    }
+                    break;
+            }
+            // Other numeric conversions are rare, hence they are left to the generic conversion.
+            return convertGenerically(value, targetType);
+        }
+    }
+
+    /**
+     * Converter for {@code T?} target types.
+     */
+    private static final class NilableConverter extends TargetTypeConverter {
+
+        private final Type memberType;
+
+        NilableConverter(Type memberType) {
+            this.memberType = memberType;
+        }
+
+        @Override
+        Object convert(Object value, Set<Object> unresolvedValues) {
+            if (value == null) {
+                return null;
+            }
+            return convertMember(value, memberType, unresolvedValues);
+        }
+    }
+
+    /**
+     * Converter for mutable record target types.
+     */
+    private static final class RecordConverter extends TargetTypeConverter {
+
+        private final Type targetType;
+        private final Map<String, Type> fieldTypes;
+        private final BString[] requiredFields;
+        private final Type restFieldType;
+
+        RecordConverter(Type targetType, BRecordType recordType) {
+            this.targetType = targetType;
+            this.fieldTypes = new HashMap<>();
+            List<BString> requiredFields = new ArrayList<>();
+            for (Field field : recordType.getFields().values()) {
+                fieldTypes.put(field.getFieldName(), field.getFieldType());
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED)) {
+                    requiredFields.add(StringUtils.fromString(field.getFieldName()));
+                }
+            }
+            this.requiredFields = requiredFields.toArray(BString[]::new);
+            this.restFieldType = recordType.sealed ? null : recordType.restFieldType;
+        }
+
+        @Override
+        Object convert(Object value, Set<Object> unresolvedValues) {
+            if (!(value instanceof MapValueImpl<?, ?> source)) {
+                return NOT_CONVERTED;
+            }
+            for (BString requiredField : requiredFields) {
+                if (!source.containsKey(requiredField)) {
+                    return NOT_CONVERTED;
+                }
+            }
+            if (!unresolvedValues.add(source)) {
+                return NOT_CONVERTED;
+            }
+            Map<String, Object> valueMap = new HashMap<>();
+            try {
+                for (Map.Entry<?, ?> entry : source.entrySet()) {
+                    String fieldName = entry.getKey().toString();
+                    Type fieldType = fieldTypes.getOrDefault(fieldName, restFieldType);
+                    if (fieldType == null) {
+                        return NOT_CONVERTED;
+                    }
+                    Object newValue = convertMember(entry.getValue(), fieldType, unresolvedValues);
+                    if (newValue == NOT_CONVERTED) {
+                        return NOT_CONVERTED;
+                    }
+                    valueMap.put(fieldName, newValue);
+                }
+            } finally {
+                unresolvedValues.remove(source);
+            }
+            return ValueCreator.createRecordValue(targetType.getPackage(), targetType.getName(), valueMap);
+        }
+    }
+
+    /**
+     * Converter for mutable map target types.
+     */
+    private static final class MapConverter extends TargetTypeConverter {
+
+        private final Type targetType;
+        private final Type constraintType;
+
+        MapConverter(Type targetType, BMapType mapType) {
+            this.targetType = targetType;
+            this.constraintType = mapType.getConstrainedType();
+        }
+
+        @Override
+        Object convert(Object value, Set<Object> unresolvedValues) {
+            if (!(value instanceof MapValueImpl<?, ?> source)) {
+                return NOT_CONVERTED;
+            }
+            if (!unresolvedValues.add(source)) {
+                return NOT_CONVERTED;
+            }
+            BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[source.size()];
+            int count = 0;
+            try {
+                for (Map.Entry<?, ?> entry : source.entrySet()) {
+                    Object newValue = convertMember(entry.getValue(), constraintType, unresolvedValues);
+                    if (newValue == NOT_CONVERTED) {
+                        return NOT_CONVERTED;
+                    }
+                    initialValues[count++] = ValueCreator.createKeyFieldEntry(
+                            StringUtils.fromString(entry.getKey().toString()), newValue);
+                }
+            } finally {
+                unresolvedValues.remove(source);
+            }
+            return new MapValueImpl<>(targetType, initialValues);
+        }
+    }
+
+    /**
+     * Converter for mutable open array target types.
+     */
+    private static final class ArrayConverter extends TargetTypeConverter {
+
+        private final Type targetType;
+        private final Type elementType;
+        private final int size;
+
+        ArrayConverter(Type targetType, BArrayType arrayType) {
+            this.targetType = targetType;
+            this.elementType = arrayType.getElementType();
+            this.size = arrayType.getSize();
+        }
+
+        @Override
+        Object convert(Object value, Set<Object> unresolvedValues) {
+            if (!(value instanceof ArrayValue source)) {
+                return NOT_CONVERTED;
+            }
+            if (!unresolvedValues.add(source)) {
+                return NOT_CONVERTED;
+            }
+            int length = source.size();
+            BListInitialValueEntry[] initialValues = new BListInitialValueEntry[length];
+            try {
+                for (int i = 0; i < length; i++) {
+                    Object newValue = convertMember(source.get(i), elementType, unresolvedValues);
+                    if (newValue == NOT_CONVERTED) {
+                        return NOT_CONVERTED;
+                    }
+                    initialValues[i] = ValueCreator.createListInitialValueEntry(newValue);
+                }
+            } finally {
+                unresolvedValues.remove(source);
+            }
+            return new ArrayValueImpl(targetType, size, initialValues);
+        }
+    }
+}
@@ -27,8 +27,6 @@ import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.DecimalValueKind;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.util.PrimitiveIterator;
-
 import static io.ballerina.runtime.api.types.PredefinedTypes.TYPE_NULL;
 
 /**
@@ -255,25 +253,32 @@ public final class ValueComparisonUtils {
                 TypeChecker.getType(rhsValue));
     }
 
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
-            }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
+    /**
+     * Compares the given strings in the code point order.
+     *
+     * @param str1 first string
+     * @param str2 second string
+     * @return -1, 0 or 1, if the first string is less than, equal to or greater than the second string
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char ch1 = str1.charAt(i);
+            char ch2 = str2.charAt(i);
+            if (ch1 != ch2) {
+                // UTF-16 code units are in the code point order, except for the surrogates, which represent the
+                // code points above the code units from U+E000 to U+FFFF.
+                if (ch1 >= Character.MIN_SURROGATE && ch2 >= Character.MIN_SURROGATE) {
+                    return Integer.compare(toCodePointOrder(ch1), toCodePointOrder(ch2));
+                }
+                return ch1 < ch2 ? -1 : 1;
             }
         }
-        if (iterator2.hasNext()) {
-            return -1;
-        }
-        return 0;
+        return Integer.compare(str1.length(), str2.length());
+    }
+
+    private static int toCodePointOrder(char ch) {
+        return Character.isSurrogate(ch) ? ch + 0x2000 : ch - 0x800;
     }
 
     private static int compareFloatValues(double lhsValue, double rhsValue, boolean inRelationalExpr,
@@ -313,7 +318,7 @@ public final class ValueComparisonUtils {
         return switch (lhsValue.valueKind) {
             case ZERO,
                  OTHER -> (isDecimalRealNumber(rhsValue) &&
-                    lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) > 0);
+                    lhsValue.compareTo(rhsValue) > 0);
         };
     }
 
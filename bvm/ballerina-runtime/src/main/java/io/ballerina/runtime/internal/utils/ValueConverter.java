@@ -88,6 +88,17 @@ public final class ValueConverter {
     }
 
     public static Object convert(Object value, Type targetType) {
+        TargetTypeConverter converter = TargetTypeConverter.forType(targetType);
+        if (converter != null) {
+            Object newValue = converter.convert(value);
+            if (newValue != TargetTypeConverter.NOT_CONVERTED) {
+                return newValue;
+            }
+        }
+        return convertGenerically(value, targetType);
+    }
+
+    static Object convertGenerically(Object value, Type targetType) {
         return convert(value, targetType, new HashSet<>());
     }
 
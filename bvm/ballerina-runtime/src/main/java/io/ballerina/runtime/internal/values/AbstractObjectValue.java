@@ -68,9 +68,9 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
     private final BObjectType objectType;
     private final Type type;
     private SemType shape;
-    private final ThreadLocal<ObjectDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
 
-    private final HashMap<String, Object> nativeData = new HashMap<>();
+    // Created when native data is first added, as most objects do not have any.
+    private HashMap<String, Object> nativeData;
 
     public AbstractObjectValue(Type type) {
         this.type = type;
@@ -79,16 +79,19 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
 
     @Override
     public void addNativeData(String key, Object data) {
-        this.nativeData.put(key, data);
+        getNativeData().put(key, data);
     }
 
     @Override
     public Object getNativeData(String key) {
-        return this.nativeData.get(key);
+        return this.nativeData == null ? null : this.nativeData.get(key);
     }
 
     @Override
     public HashMap<String, Object> getNativeData() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return nativeData;
     }
 
@@ -258,16 +261,16 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
 
     @Override
     public ObjectDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
+        return ReadonlyShapeDefinitions.get(this);
     }
 
     @Override
     public void setReadonlyShapeDefinition(ObjectDefinition definition) {
-        readonlyAttachedDefinition.set(definition);
+        ReadonlyShapeDefinitions.set(this, definition);
     }
 
     @Override
     public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
+        ReadonlyShapeDefinitions.reset(this);
     }
 }
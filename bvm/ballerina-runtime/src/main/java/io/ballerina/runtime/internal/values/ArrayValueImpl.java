@@ -45,6 +45,7 @@ import io.ballerina.runtime.internal.utils.ValueConverter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.reflect.Array;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -86,6 +87,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     private byte[] byteValues;
     private double[] floatValues;
     private BString[] bStringValues;
+    // Index of the first member in the backing array. Members removed from the front are not moved, so that
+    // shifting and unshifting is amortised O(1); the free space is reclaimed when the backing array is resized.
+    private int start;
     private BTypedesc typedesc;
 
     private SemType shape;
@@ -188,6 +192,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     @Override
     public Object reverse() {
+        normalize();
         return switch (elementType.getTag()) {
             case TypeTags.INT_TAG,
                  TypeTags.SIGNED32_INT_TAG,
@@ -322,18 +327,18 @@ public class ArrayValueImpl extends AbstractArrayValue {
                  TypeTags.SIGNED8_INT_TAG,
                  TypeTags.UNSIGNED32_INT_TAG,
                  TypeTags.UNSIGNED16_INT_TAG,
-                 TypeTags.UNSIGNED8_INT_TAG -> intValues[(int) index];
-            case TypeTags.BOOLEAN_TAG -> booleanValues[(int) index];
-            case TypeTags.BYTE_TAG -> Byte.toUnsignedInt(byteValues[(int) index]);
-            case TypeTags.FLOAT_TAG -> floatValues[(int) index];
+                 TypeTags.UNSIGNED8_INT_TAG -> intValues[start + (int) index];
+            case TypeTags.BOOLEAN_TAG -> booleanValues[start + (int) index];
+            case TypeTags.BYTE_TAG -> Byte.toUnsignedInt(byteValues[start + (int) index]);
+            case TypeTags.FLOAT_TAG -> floatValues[start + (int) index];
             case TypeTags.STRING_TAG,
-                 TypeTags.CHAR_STRING_TAG -> bStringValues[(int) index];
-            default -> refValues[(int) index];
+                 TypeTags.CHAR_STRING_TAG -> bStringValues[start + (int) index];
+            default -> refValues[start + (int) index];
         };
     }
 
     public Object getRefValue(int index) {
-        return refValues[index];
+        return refValues[start + index];
     }
 
     /**
@@ -346,7 +351,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public Object getRefValue(long index) {
         rangeCheckForGet(index, size);
         if (refValues != null) {
-            return refValues[(int) index];
+            return refValues[start + (int) index];
         }
         return get(index);
     }
@@ -359,7 +364,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 handleImmutableArrayValue();
                 fillRead(index, refValues.length);
             }
-            return refValues[(int) index];
+            return refValues[start + (int) index];
         }
         return get(index);
     }
@@ -374,11 +379,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public long getInt(long index) {
         rangeCheckForGet(index, size);
         if (intValues != null) {
-            return intValues[(int) index];
+            return intValues[start + (int) index];
         } else if (refValues != null) {
-            return (Long) refValues[(int) index];
+            return (Long) refValues[start + (int) index];
         }
-        return Byte.toUnsignedInt(byteValues[(int) index]);
+        return Byte.toUnsignedInt(byteValues[start + (int) index]);
     }
 
     /**
@@ -391,9 +396,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public boolean getBoolean(long index) {
         rangeCheckForGet(index, size);
         if (booleanValues != null) {
-            return booleanValues[(int) index];
+            return booleanValues[start + (int) index];
         }
-        return (Boolean) refValues[(int) index];
+        return (Boolean) refValues[start + (int) index];
     }
 
     /**
@@ -406,11 +411,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public byte getByte(long index) {
         rangeCheckForGet(index, size);
         if (byteValues != null) {
-            return byteValues[(int) index];
+            return byteValues[start + (int) index];
         } else if (intValues != null) {
-            return ((Long) intValues[(int) index]).byteValue();
+            return ((Long) intValues[start + (int) index]).byteValue();
         }
-        return ((Long) refValues[(int) index]).byteValue();
+        return ((Long) refValues[start + (int) index]).byteValue();
     }
 
     /**
@@ -423,9 +428,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public double getFloat(long index) {
         rangeCheckForGet(index, size);
         if (floatValues != null) {
-            return floatValues[(int) index];
+            return floatValues[start + (int) index];
         }
-        return (Double) refValues[(int) index];
+        return (Double) refValues[start + (int) index];
     }
 
     /**
@@ -439,9 +444,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public String getString(long index) {
         rangeCheckForGet(index, size);
         if (bStringValues != null) {
-            return bStringValues[(int) index].getValue();
+            return bStringValues[start + (int) index].getValue();
         }
-        return (String) refValues[(int) index];
+        return (String) refValues[start + (int) index];
     }
 
     /**
@@ -454,9 +459,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public BString getBString(long index) {
         rangeCheckForGet(index, size);
         if (bStringValues != null) {
-            return bStringValues[(int) index];
+            return bStringValues[start + (int) index];
         }
-        return (BString) refValues[(int) index];
+        return (BString) refValues[start + (int) index];
     }
 
     // ---------------------------- add methods --------------------------------------------------
@@ -550,15 +555,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
         switch (this.elementReferredType.getTag()) {
             case TypeTags.BOOLEAN_TAG:
                 prepareForAddForcefully(index, booleanValues.length);
-                this.booleanValues[index] = (Boolean) value;
+                this.booleanValues[start + index] = (Boolean) value;
                 return;
             case TypeTags.FLOAT_TAG:
                 prepareForAddForcefully(index, floatValues.length);
-                this.floatValues[index] = (Double) value;
+                this.floatValues[start + index] = (Double) value;
                 return;
             case TypeTags.BYTE_TAG:
                 prepareForAddForcefully(index, byteValues.length);
-                this.byteValues[index] = ((Number) value).byteValue();
+                this.byteValues[start + index] = ((Number) value).byteValue();
                 return;
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -568,16 +573,16 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 prepareForAddForcefully(index, intValues.length);
-                this.intValues[index] = (Long) value;
+                this.intValues[start + index] = (Long) value;
                 return;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 prepareForAddForcefully(index, bStringValues.length);
-                this.bStringValues[index] = (BString) value;
+                this.bStringValues[start + index] = (BString) value;
                 return;
             default:
                 prepareForAddForcefully(index, refValues.length);
-                this.refValues[index] = value;
+                this.refValues[start + index] = value;
         }
     }
 
@@ -604,12 +609,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
                             ErrorCodes.INCOMPATIBLE_TYPE, this.elementType, PredefinedTypes.TYPE_STRING));
                 }
                 prepareForAddWithoutTypeCheck(index, bStringValues.length);
-                this.bStringValues[(int) index] = (BString) value;
+                this.bStringValues[start + (int) index] = (BString) value;
                 return;
             default:
                 Object val = ValueConverter.getConvertedStringValue((BString) value, this.elementType);
                 prepareForAddWithoutTypeCheck(index, refValues.length);
-                this.refValues[(int) index] = val;
+                this.refValues[start + (int) index] = val;
         }
     }
 
@@ -618,15 +623,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
         switch (this.elementReferredType.getTag()) {
             case TypeTags.BOOLEAN_TAG:
                 prepareForAdd(index, value, booleanValues.length);
-                this.booleanValues[(int) index] = (Boolean) value;
+                this.booleanValues[start + (int) index] = (Boolean) value;
                 return;
             case TypeTags.FLOAT_TAG:
                 prepareForAdd(index, value, floatValues.length);
-                this.floatValues[(int) index] = (Double) value;
+                this.floatValues[start + (int) index] = (Double) value;
                 return;
             case TypeTags.BYTE_TAG:
                 prepareForAdd(index, value, byteValues.length);
-                this.byteValues[(int) index] = ((Number) value).byteValue();
+                this.byteValues[start + (int) index] = ((Number) value).byteValue();
                 return;
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -636,21 +641,21 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 prepareForAdd(index, value, intValues.length);
-                this.intValues[(int) index] = (Long) value;
+                this.intValues[start + (int) index] = (Long) value;
                 return;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 prepareForAdd(index, value, bStringValues.length);
-                this.bStringValues[(int) index] = (BString) value;
+                this.bStringValues[start + (int) index] = (BString) value;
                 return;
             default:
                 prepareForAdd(index, value, refValues.length);
-                this.refValues[(int) index] = value;
+                this.refValues[start + (int) index] = value;
         }
     }
 
     public void setRefValueForcefully(int index, Object refValue) {
-        this.refValues[index] = refValue;
+        this.refValues[start + index] = refValue;
     }
 
     public void setArrayRefTypeForcefully(ArrayType type, int size) {
@@ -668,7 +673,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
             } else {
                 prepareForAdd(index, value, intValues.length);
             }
-            intValues[(int) index] = value;
+            intValues[start + (int) index] = value;
             return;
         }
         if (sourceType == this.elementType) {
@@ -676,22 +681,22 @@ public class ArrayValueImpl extends AbstractArrayValue {
         } else {
             prepareForAdd(index, value, byteValues.length);
         }
-        byteValues[(int) index] = (byte) ((Long) value).intValue();
+        byteValues[start + (int) index] = (byte) ((Long) value).intValue();
     }
 
     private void addBoolean(long index, boolean value) {
         prepareForAddWithoutTypeCheck(index, booleanValues.length);
-        booleanValues[(int) index] = value;
+        booleanValues[start + (int) index] = value;
     }
 
     private void addByte(long index, byte value) {
         prepareForAddWithoutTypeCheck(index, byteValues.length);
-        byteValues[(int) index] = value;
+        byteValues[start + (int) index] = value;
     }
 
     private void addFloat(long index, double value) {
         prepareForAddWithoutTypeCheck(index, floatValues.length);
-        floatValues[(int) index] = value;
+        floatValues[start + (int) index] = value;
     }
 
     @Deprecated
@@ -706,7 +711,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         } else {
             prepareForAdd(index, value, bStringValues.length);
         }
-        bStringValues[(int) index] = value;
+        bStringValues[start + (int) index] = value;
     }
 
     // -------------------------------------------------------------------------------------------------------------
@@ -766,28 +771,28 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(intValues[i]));
+                    sj.add(Long.toString(intValues[start + i]));
                 }
                 break;
             case TypeTags.BOOLEAN_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Boolean.toString(booleanValues[i]));
+                    sj.add(Boolean.toString(booleanValues[start + i]));
                 }
                 break;
             case TypeTags.BYTE_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues[i])));
+                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues[start + i])));
                 }
                 break;
             case TypeTags.FLOAT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Double.toString(floatValues[i]));
+                    sj.add(Double.toString(floatValues[start + i]));
                 }
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(((BValue) (bStringValues[i])).informalStringValue(parent));
+                    sj.add(((BValue) (bStringValues[start + i])).informalStringValue(parent));
                 }
                 break;
             default:
@@ -799,10 +804,10 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     private void getRefValuesString(BLink parent, StringJoiner sj) {
         for (int i = 0; i < size; i++) {
-            if (refValues[i] == null) {
+            if (refValues[start + i] == null) {
                 sj.add("null");
             } else {
-                Type type = TypeChecker.getType(refValues[i]);
+                Type type = TypeChecker.getType(refValues[start + i]);
                 switch (type.getTag()) {
                     case TypeTags.STRING_TAG:
                     case TypeTags.XML_TAG:
@@ -812,11 +817,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
                     case TypeTags.XML_PI_TAG:
                     case TypeTags.XMLNS_TAG:
                     case TypeTags.XML_TEXT_TAG:
-                        sj.add(((BValue) (refValues[i])).informalStringValue(new CycleUtils
+                        sj.add(((BValue) (refValues[start + i])).informalStringValue(new CycleUtils
                                 .Node(this, parent)));
                         break;
                     default:
-                        sj.add(getStringVal(refValues[i], new CycleUtils.Node(this, parent)));
+                        sj.add(getStringVal(refValues[start + i], new CycleUtils.Node(this, parent)));
                         break;
                 }
             }
@@ -835,33 +840,33 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(getExpressionStringVal(intValues[i], new CycleUtils.Node(this, parent)));
+                    sj.add(getExpressionStringVal(intValues[start + i], new CycleUtils.Node(this, parent)));
                 }
                 break;
             case TypeTags.BOOLEAN_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(getExpressionStringVal(booleanValues[i], new CycleUtils.Node(this, parent)));
+                    sj.add(getExpressionStringVal(booleanValues[start + i], new CycleUtils.Node(this, parent)));
                 }
                 break;
             case TypeTags.BYTE_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues[i])));
+                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues[start + i])));
                 }
                 break;
             case TypeTags.FLOAT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(getExpressionStringVal(floatValues[i], new CycleUtils.Node(this, parent)));
+                    sj.add(getExpressionStringVal(floatValues[start + i], new CycleUtils.Node(this, parent)));
                 }
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(getExpressionStringVal(bStringValues[i], new CycleUtils.Node(this, parent)));
+                    sj.add(getExpressionStringVal(bStringValues[start + i], new CycleUtils.Node(this, parent)));
                 }
                 break;
             default:
                 for (int i = 0; i < size; i++) {
-                    sj.add(getExpressionStringVal(refValues[i], new CycleUtils.Node(this, parent)));
+                    sj.add(getExpressionStringVal(refValues[start + i], new CycleUtils.Node(this, parent)));
                 }
                 break;
         }
@@ -902,26 +907,31 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(intValues, start, start + this.size),
+                        arrayType.isReadOnly());
                 break;
             case TypeTags.BOOLEAN_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(booleanValues, start, start + this.size),
+                        arrayType.isReadOnly());
                 break;
             case TypeTags.BYTE_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(byteValues, start, start + this.size),
+                        arrayType.isReadOnly());
                 break;
             case TypeTags.FLOAT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(floatValues, start, start + this.size),
+                        arrayType.isReadOnly());
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(bStringValues, start, start + this.size),
+                        arrayType.isReadOnly());
                 break;
             default:
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
                 IntStream.range(0, this.size).forEach(i -> {
-                    Object value = this.refValues[i];
+                    Object value = this.refValues[start + i];
                     if (value instanceof BRefValue refValue) {
                         values[i] = refValue.copy(refs);
                     } else {
@@ -964,28 +974,28 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 slicedArray = new ArrayValueImpl(new long[slicedSize], false);
-                System.arraycopy(intValues, (int) startIndex, slicedArray.intValues, 0, slicedSize);
+                System.arraycopy(intValues, start + (int) startIndex, slicedArray.intValues, 0, slicedSize);
                 break;
             case TypeTags.BOOLEAN_TAG:
                 slicedArray = new ArrayValueImpl(new boolean[slicedSize], false);
-                System.arraycopy(booleanValues, (int) startIndex, slicedArray.booleanValues, 0, slicedSize);
+                System.arraycopy(booleanValues, start + (int) startIndex, slicedArray.booleanValues, 0, slicedSize);
                 break;
             case TypeTags.BYTE_TAG:
                 slicedArray = new ArrayValueImpl(new byte[slicedSize], false);
-                System.arraycopy(byteValues, (int) startIndex, slicedArray.byteValues, 0, slicedSize);
+                System.arraycopy(byteValues, start + (int) startIndex, slicedArray.byteValues, 0, slicedSize);
                 break;
             case TypeTags.FLOAT_TAG:
                 slicedArray = new ArrayValueImpl(new double[slicedSize], false);
-                System.arraycopy(floatValues, (int) startIndex, slicedArray.floatValues, 0, slicedSize);
+                System.arraycopy(floatValues, start + (int) startIndex, slicedArray.floatValues, 0, slicedSize);
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 slicedArray = new ArrayValueImpl(new BString[slicedSize], false);
-                System.arraycopy(bStringValues, (int) startIndex, slicedArray.bStringValues, 0, slicedSize);
+                System.arraycopy(bStringValues, start + (int) startIndex, slicedArray.bStringValues, 0, slicedSize);
                 break;
             default:
                 slicedArray = new ArrayValueImpl(new Object[slicedSize], new BArrayType(this.elementType));
-                System.arraycopy(refValues, (int) startIndex, slicedArray.refValues, 0, slicedSize);
+                System.arraycopy(refValues, start + (int) startIndex, slicedArray.refValues, 0, slicedSize);
                 break;
         }
         return slicedArray;
@@ -1003,6 +1013,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
      */
     @Override
     public Object[] getValues() {
+        normalize();
         return refValues;
     }
 
@@ -1014,7 +1025,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public byte[] getBytes() {
         byte[] bytes = new byte[this.size];
-        System.arraycopy(byteValues, 0, bytes, 0, this.size);
+        System.arraycopy(byteValues, start, bytes, 0, this.size);
         return bytes;
     }
 
@@ -1027,7 +1038,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public String[] getStringArray() {
         String[] arr = new String[size];
         for (int i = 0; i < size; i++) {
-            arr[i] = bStringValues[i].getValue();
+            arr[i] = bStringValues[start + i].getValue();
         }
         return arr;
     }
@@ -1039,22 +1050,22 @@ public class ArrayValueImpl extends AbstractArrayValue {
      */
     @Override
     public long[] getIntArray() {
-        return Arrays.copyOf(intValues, size);
+        return Arrays.copyOfRange(intValues, start, start + size);
     }
 
     @Override
     public boolean[] getBooleanArray() {
-        return Arrays.copyOf(booleanValues, size);
+        return Arrays.copyOfRange(booleanValues, start, start + size);
     }
 
     @Override
     public byte[] getByteArray() {
-        return Arrays.copyOf(byteValues, size);
+        return Arrays.copyOfRange(byteValues, start, start + size);
     }
 
     @Override
     public double[] getFloatArray() {
-        return Arrays.copyOf(floatValues, size);
+        return Arrays.copyOfRange(floatValues, start, start + size);
     }
 
     @Override
@@ -1062,7 +1073,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         if (this.elementReferredType.getTag() == TypeTags.BYTE_TAG) {
             try {
                 for (int i = 0; i < this.size; i++) {
-                    outputStream.write(this.byteValues[i]);
+                    outputStream.write(this.byteValues[start + i]);
                 }
             } catch (IOException e) {
                 throw ErrorCreator.createError(StringUtils.fromString(
@@ -1086,6 +1097,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return;
         }
 
+        // Immutable values may be read concurrently, hence the members are moved to the start of the backing array
+        // while the value can still be updated.
+        normalize();
         this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
         this.arrayType = (ArrayType) TypeUtils.getImpliedType(type);
 
@@ -1122,33 +1136,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     @Override
     protected void resizeInternalArray(int newLength) {
-        switch (this.elementReferredType.getTag()) {
-            case TypeTags.INT_TAG:
-            case TypeTags.SIGNED32_INT_TAG:
-            case TypeTags.SIGNED16_INT_TAG:
-            case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
-            case TypeTags.UNSIGNED8_INT_TAG:
-                intValues = Arrays.copyOf(intValues, newLength);
-                break;
-            case TypeTags.BOOLEAN_TAG:
-                booleanValues = Arrays.copyOf(booleanValues, newLength);
-                break;
-            case TypeTags.BYTE_TAG:
-                byteValues = Arrays.copyOf(byteValues, newLength);
-                break;
-            case TypeTags.FLOAT_TAG:
-                floatValues = Arrays.copyOf(floatValues, newLength);
-                break;
-            case TypeTags.STRING_TAG:
-            case TypeTags.CHAR_STRING_TAG:
-                bStringValues = Arrays.copyOf(bStringValues, newLength);
-                break;
-            default:
-                refValues = Arrays.copyOf(refValues, newLength);
-                break;
-        }
+        relocate(0, newLength);
     }
 
     @Override
@@ -1159,7 +1147,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
         switch (this.elementReferredType.getTag()) {
             case TypeTags.STRING_TAG:
-                Arrays.fill(bStringValues, size, index, RuntimeConstants.STRING_EMPTY_VALUE);
+                Arrays.fill(bStringValues, start + size, start + index, RuntimeConstants.STRING_EMPTY_VALUE);
                 return;
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -1181,7 +1169,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     private void extractComplexFillerValues(int index) {
         for (int i = size; i < index; i++) {
-            this.refValues[i] = getElementZeroValue();
+            this.refValues[start + i] = getElementZeroValue();
         }
     }
 
@@ -1230,7 +1218,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     @Override
     protected void ensureCapacity(int requestedCapacity, int currentArraySize) {
-        if (requestedCapacity <= currentArraySize) {
+        if (start + requestedCapacity <= currentArraySize) {
             return;
         }
 
@@ -1238,6 +1226,13 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return;
         }
 
+        // If at least half of the backing array is free at the front, move the members to the start instead of
+        // growing. The free space at the end is then at least the number of members moved.
+        if (requestedCapacity <= currentArraySize && start >= currentArraySize >> 1) {
+            relocate(0, currentArraySize);
+            return;
+        }
+
         // Here the growth rate is 1.5. This value has been used by many other languages
         int newArraySize = currentArraySize + (currentArraySize >> 1);
 
@@ -1261,7 +1256,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     protected void unshift(long index, Object[] vals) {
         handleImmutableArrayValue();
-        unshiftArray(index, vals.length, getCurrentArrayLength());
+        unshiftArray(index, vals.length);
 
         int startIndex = (int) index;
         int endIndex = startIndex + vals.length;
@@ -1309,11 +1304,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.BOOLEAN_TAG:
                 break;
             case TypeTags.STRING_TAG:
-                Arrays.fill(bStringValues, size, intIndex, RuntimeConstants.STRING_EMPTY_VALUE);
+                Arrays.fill(bStringValues, start + size, start + intIndex, RuntimeConstants.STRING_EMPTY_VALUE);
                 break;
             default:
                 for (int i = size; i <= index; i++) {
-                    this.refValues[i] = this.elementType.getZeroValue();
+                    this.refValues[start + i] = this.elementType.getZeroValue();
                 }
         }
 
@@ -1333,25 +1328,98 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private void shiftArray(int index, Object arr) {
-        int nElemsToBeMoved = this.size - 1 - index;
-        if (nElemsToBeMoved >= 0) {
-            System.arraycopy(arr, index + 1, arr, index, nElemsToBeMoved);
+        // Move the members before or after the removed member, whichever is fewer.
+        if (index < this.size >> 1) {
+            System.arraycopy(arr, start, arr, start + 1, index);
+            clearMember(arr, start);
+            start++;
+        } else {
+            System.arraycopy(arr, start + index + 1, arr, start + index, this.size - 1 - index);
         }
         this.size--;
+        if (this.size == 0) {
+            start = 0;
+        }
     }
 
-    private void unshiftArray(long index, int unshiftByN, int arrLength) {
+    private void unshiftArray(long index, int unshiftByN) {
         int lastIndex = size() + unshiftByN - 1;
-        prepareForConsecutiveMultiAdd(lastIndex, arrLength);
+        rangeCheck(lastIndex, size);
         if (index > lastIndex) {
             throw ErrorHelper.getRuntimeException(
                     getModulePrefixedReason(ARRAY_LANG_LIB, INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER),
                     ErrorCodes.INDEX_NUMBER_TOO_LARGE, index);
         }
         int i = (int) index;
-        ensureCapacity(this.size + unshiftByN, this.size);
-        Object arr = getArrayFromType(elementType.getTag());
-        System.arraycopy(arr, i, arr, i + unshiftByN, this.size - i);
+        if (i > this.size >> 1) {
+            // Move the members after the index towards the end.
+            ensureCapacity(this.size + unshiftByN, getCurrentArrayLength());
+            Object arr = getArrayFromType(this.elementReferredType.getTag());
+            System.arraycopy(arr, start + i, arr, start + i + unshiftByN, this.size - i);
+        } else {
+            // Move the members before the index towards the front, making room at the front if there is not enough.
+            // The room made is proportional to the number of members, so that repeated unshifts are amortised O(1).
+            if (start < unshiftByN) {
+                int room = unshiftByN + Math.max(this.size >> 1, DEFAULT_ARRAY_SIZE);
+                int tailRoom = getCurrentArrayLength() - start - this.size;
+                relocate(room, room + this.size + Math.max(tailRoom, 0));
+            }
+            Object arr = getArrayFromType(this.elementReferredType.getTag());
+            System.arraycopy(arr, start, arr, start - unshiftByN, i);
+            start -= unshiftByN;
+        }
+        this.size += unshiftByN;
+    }
+
+    /**
+     * Moves the members to the given position of a backing array of the given length. Members which do not fit in
+     * the new backing array are dropped.
+     *
+     * @param newStart  index of the first member in the new backing array
+     * @param newLength length of the new backing array
+     */
+    private void relocate(int newStart, int newLength) {
+        switch (this.elementReferredType.getTag()) {
+            case TypeTags.INT_TAG,
+                 TypeTags.SIGNED32_INT_TAG,
+                 TypeTags.SIGNED16_INT_TAG,
+                 TypeTags.SIGNED8_INT_TAG,
+                 TypeTags.UNSIGNED32_INT_TAG,
+                 TypeTags.UNSIGNED16_INT_TAG,
+                 TypeTags.UNSIGNED8_INT_TAG -> intValues = (long[]) relocate(intValues, new long[newLength], newStart);
+            case TypeTags.BOOLEAN_TAG -> booleanValues = (boolean[]) relocate(booleanValues,
+                    new boolean[newLength], newStart);
+            case TypeTags.BYTE_TAG -> byteValues = (byte[]) relocate(byteValues, new byte[newLength], newStart);
+            case TypeTags.FLOAT_TAG -> floatValues = (double[]) relocate(floatValues, new double[newLength],
+                    newStart);
+            case TypeTags.STRING_TAG,
+                 TypeTags.CHAR_STRING_TAG -> bStringValues = (BString[]) relocate(bStringValues,
+                    new BString[newLength], newStart);
+            default -> refValues = (Object[]) relocate(refValues, new Object[newLength], newStart);
+        }
+        start = newStart;
+    }
+
+    private Object relocate(Object arr, Object newArr, int newStart) {
+        // Slots after the members are copied as well, since resizing has always preserved them.
+        int length = Math.min(Array.getLength(arr) - start, Array.getLength(newArr) - newStart);
+        System.arraycopy(arr, start, newArr, newStart, length);
+        return newArr;
+    }
+
+    /**
+     * Moves the members to the start of the backing array, so that the backing array can be used directly.
+     */
+    private void normalize() {
+        if (start != 0) {
+            relocate(0, getCurrentArrayLength());
+        }
+    }
+
+    private static void clearMember(Object arr, int index) {
+        if (arr instanceof Object[] refArray) {
+            refArray[index] = null;
+        }
     }
 
     private Object getArrayFromType(int typeTag) {
@@ -1373,7 +1441,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private int getCurrentArrayLength() {
-        return switch (elementType.getTag()) {
+        return switch (elementReferredType.getTag()) {
             case TypeTags.INT_TAG,
                  TypeTags.SIGNED32_INT_TAG,
                  TypeTags.SIGNED16_INT_TAG,
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A runtime-wide table of canonical {@link BString} values for the string constants of the compiled modules.
+ * <p>
+ * The constant strings, including the record field names, are interned when the constant classes are initialized.
+ * Hence, the keys of the mapping values which are created with constants, or looked up via {@link #get}, are the same
+ * instances, and are matched by identity in {@link StringValue#equals}. The keys which are not constants are never
+ * added to the table, so that the table does not grow with the data processed by the program.
+ *
+ * @since 2201.12.0
+ */
+public final class BStringInternTable {
+
+    private static final int MAX_ENTRIES = 1 << 20;
+    private static final Map<String, BString> table = new ConcurrentHashMap<>();
+
+    private BStringInternTable() {
+    }
+
+    /**
+     * Returns the canonical value of the given constant string. Used by the generated code to initialize the string
+     * constants.
+     *
+     * @param value constant string
+     * @return the canonical value
+     */
+    public static BString intern(BString value) {
+        BString interned = table.get(value.getValue());
+        if (interned != null) {
+            return interned;
+        }
+        if (table.size() >= MAX_ENTRIES) {
+            return value;
+        }
+        interned = table.putIfAbsent(value.getValue(), value);
+        return interned == null ? value : interned;
+    }
+
+    /**
+     * Returns the canonical value of the given string, if it is a constant string.
+     *
+     * @param value string
+     * @return the canonical value, or null if the string is not interned
+     */
+    public static BString get(String value) {
+        return table.get(value);
+    }
+
+    /**
+     * Returns the canonical value of the given string if it is a constant string, or else a new value. Intended for
+     * the strings which are likely to be constants, such as the field names of the parsed mapping values.
+     *
+     * @param value string
+     * @return the canonical value, or a new value if the string is not interned
+     */
+    public static BString getOrCreate(String value) {
+        BString interned = table.get(value);
+        return interned != null ? interned : StringUtils.fromString(value);
+    }
+}
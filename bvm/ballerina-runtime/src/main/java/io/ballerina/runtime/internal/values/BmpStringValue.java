@@ -45,13 +45,7 @@ public class BmpStringValue extends StringValue {
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
         if (stringValue.isNonBmp) {
-            int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
-            int[] newSurrogates = new int[otherSurrogates.length];
-            int length = length();
-            for (int i = 0; i < otherSurrogates.length; i++) {
-                newSurrogates[i] = otherSurrogates[i] + length;
-            }
-            return new NonBmpStringValue(this.value + str.getValue(), newSurrogates);
+            return new NonBmpStringValue(this.value + str.getValue());
         }
         return new BmpStringValue(this.value + str.getValue());
     }
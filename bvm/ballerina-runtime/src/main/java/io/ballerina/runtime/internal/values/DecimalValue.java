@@ -66,27 +66,57 @@ public class DecimalValue implements SimpleValue, BDecimal {
     private static final BigDecimal MIN_DECIMAL_MAGNITUDE =
             new BigDecimal("1.000000000000000000000000000000000e-6143", MathContext.DECIMAL128);
 
+    // Values with at most 18 digits and a scale between 0 and MAX_COMPACT_SCALE are also kept as an unscaled long, so
+    // that the arithmetic operations and the comparisons on them do not need BigDecimal. The results of these
+    // operations have at most 19 digits, hence they are exact and the same as the results rounded to DECIMAL128.
+    private static final int MAX_COMPACT_SCALE = 18;
+    private static final int MAX_COMPACT_PRECISION = 18;
+    private static final long MAX_COMPACT_UNSCALED_VALUE = 999_999_999_999_999_999L;
+    private static final int NON_COMPACT = -1;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
     // Variable used to track the kind of a decimal value.
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
-    private final BigDecimal value;
+    // Created on first use for the compact values computed without BigDecimal.
+    private BigDecimal value;
+    private final long unscaledValue;
+    private final int compactScale;
     private BDecimalType type;
     private final boolean shapeCalculated = false;
 
     public DecimalValue(BigDecimal value) {
         this.type = DECIMAL_TYPE;
         this.value = getValidDecimalValue(value);
+        this.compactScale = getCompactScale(this.value);
+        this.unscaledValue = this.compactScale == NON_COMPACT ? 0 : this.value.unscaledValue().longValue();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
     public DecimalValue(String value) {
+        this(parseDecimal(value));
+    }
+
+    private DecimalValue(long unscaledValue, int scale) {
+        this.type = DECIMAL_TYPE;
+        this.unscaledValue = unscaledValue;
+        this.compactScale = scale;
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
+    private static BigDecimal parseDecimal(String value) {
         // Check whether the number provided is a hexadecimal value.
-        BigDecimal bd;
         try {
-            bd = new BigDecimal(value, MathContext.DECIMAL128);
+            return new BigDecimal(value, MathContext.DECIMAL128);
         } catch (NumberFormatException exception) {
             String message = exception.getMessage();
             if ((message != null) && (message.equals("Too many nonzero exponent digits.") ||
@@ -96,11 +126,61 @@ public class DecimalValue implements SimpleValue, BDecimal {
             }
             throw exception;
         }
-        this.value = getValidDecimalValue(bd);
-        this.type = DECIMAL_TYPE;
-        if (!this.booleanValue()) {
-            this.valueKind = DecimalValueKind.ZERO;
+    }
+
+    private static int getCompactScale(BigDecimal bd) {
+        int scale = bd.scale();
+        if (scale < 0 || scale > MAX_COMPACT_SCALE || bd.precision() > MAX_COMPACT_PRECISION) {
+            return NON_COMPACT;
+        }
+        return scale;
+    }
+
+    private boolean isCompact() {
+        return this.compactScale != NON_COMPACT;
+    }
+
+    /**
+     * Returns a decimal of the given unscaled value and scale, which is computed exactly from compact values.
+     */
+    private static DecimalValue valueOfExact(long unscaledValue, int scale) {
+        if (scale <= MAX_COMPACT_SCALE && unscaledValue >= -MAX_COMPACT_UNSCALED_VALUE &&
+                unscaledValue <= MAX_COMPACT_UNSCALED_VALUE) {
+            return new DecimalValue(unscaledValue, scale);
+        }
+        return new DecimalValue(BigDecimal.valueOf(unscaledValue, scale));
+    }
+
+    /**
+     * Returns the sum of two compact values, or null if the sum cannot be computed with a long.
+     */
+    private static DecimalValue addCompact(long lhs, int lhsScale, long rhs, int rhsScale) {
+        int scale = Math.max(lhsScale, rhsScale);
+        long lhsAligned = scaleUp(lhs, scale - lhsScale);
+        long rhsAligned = scaleUp(rhs, scale - rhsScale);
+        if (lhsAligned == Long.MIN_VALUE || rhsAligned == Long.MIN_VALUE) {
+            return null;
+        }
+        long sum = lhsAligned + rhsAligned;
+        if (((lhsAligned ^ sum) & (rhsAligned ^ sum)) < 0) {
+            return null;
+        }
+        return valueOfExact(sum, scale);
+    }
+
+    /**
+     * Multiplies a compact unscaled value by the given power of ten, returning {@code Long.MIN_VALUE} on overflow.
+     */
+    private static long scaleUp(long unscaledValue, int exponent) {
+        if (exponent == 0) {
+            return unscaledValue;
         }
+        long multiplier = POWERS_OF_TEN[exponent];
+        long limit = Long.MAX_VALUE / multiplier;
+        if (unscaledValue > limit || unscaledValue < -limit) {
+            return Long.MIN_VALUE;
+        }
+        return unscaledValue * multiplier;
     }
 
     public DecimalValue(String value, DecimalValueKind valueKind) {
@@ -125,7 +205,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     @Override
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal bd = this.value;
+        if (bd == null) {
+            bd = BigDecimal.valueOf(this.unscaledValue, this.compactScale);
+            this.value = bd;
+        }
+        return bd;
     }
 
     /**
@@ -140,7 +225,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
         }
-        return value.setScale(0, RoundingMode.HALF_EVEN).longValue();
+        return decimalValue().setScale(0, RoundingMode.HALF_EVEN).longValue();
     }
 
     /**
@@ -149,7 +234,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is in int range
      */
     public static boolean isDecimalWithinIntRange(DecimalValue decimalValue) {
-        BigDecimal value = decimalValue.value;
+        BigDecimal value = decimalValue.decimalValue();
         return value.compareTo(RuntimeConstants.BINT_MAX_VALUE_BIG_DECIMAL_RANGE_MAX) < 0 &&
                value.compareTo(RuntimeConstants.BINT_MIN_VALUE_BIG_DECIMAL_RANGE_MIN) > 0;
     }
@@ -162,9 +247,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Override
     public int byteValue() {
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        int intVal = (int) Math.rint(decimalValue().doubleValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(decimalValue(), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -180,7 +265,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     @Override
     public double floatValue() {
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -189,6 +274,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     @Override
     public boolean booleanValue() {
+        if (isCompact()) {
+            return this.unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -212,7 +300,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -225,7 +313,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return decimalValue().toString() + "d";
     }
 
     /**
@@ -234,7 +322,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     @Override
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -260,6 +348,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (augend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.isCompact() && augend.isCompact()) {
+            DecimalValue sum = addCompact(this.unscaledValue, this.compactScale, augend.unscaledValue,
+                    augend.compactScale);
+            if (sum != null) {
+                return sum;
+            }
+        }
         return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
     }
 
@@ -279,6 +374,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (subtrahend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.isCompact() && subtrahend.isCompact()) {
+            DecimalValue difference = addCompact(this.unscaledValue, this.compactScale, -subtrahend.unscaledValue,
+                    subtrahend.compactScale);
+            if (difference != null) {
+                return difference;
+            }
+        }
         return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                 MathContext.DECIMAL128));
     }
@@ -295,6 +397,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
             return this;
         }
         if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+            if (this.isCompact() && multiplicand.isCompact()) {
+                long product = this.unscaledValue * multiplicand.unscaledValue;
+                if (Math.multiplyHigh(this.unscaledValue, multiplicand.unscaledValue) == (product >> 63)) {
+                    return valueOfExact(product, this.compactScale + multiplicand.compactScale);
+                }
+            }
             return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                     MathContext.DECIMAL128));
         }
@@ -346,6 +454,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Override
     public DecimalValue negate() {
         if (this.valueKind == DecimalValueKind.OTHER) {
+            if (isCompact()) {
+                return new DecimalValue(-this.unscaledValue, this.compactScale);
+            }
             return new DecimalValue(this.decimalValue().negate());
         }
         return this;
@@ -398,11 +509,51 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        return ((compareTo(bDecimal) == 0) && (this.valueKind == bDecimal.valueKind));
+    }
+
+    /**
+     * Compares this decimal with the given decimal numerically, ignoring the scale.
+     *
+     * @param other decimal to compare with
+     * @return -1, 0 or 1 if this decimal is less than, equal to or greater than the given decimal
+     */
+    public int compareTo(DecimalValue other) {
+        if (this.isCompact() && other.isCompact()) {
+            if (this.compactScale == other.compactScale) {
+                return Long.compare(this.unscaledValue, other.unscaledValue);
+            }
+            int scale = Math.max(this.compactScale, other.compactScale);
+            long lhs = scaleUp(this.unscaledValue, scale - this.compactScale);
+            long rhs = scaleUp(other.unscaledValue, scale - other.compactScale);
+            if (lhs != Long.MIN_VALUE && rhs != Long.MIN_VALUE) {
+                return Long.compare(lhs, rhs);
+            }
+        }
+        return this.decimalValue().compareTo(other.decimalValue());
+    }
+
+    /**
+     * Checks whether this decimal is equal to the given decimal in both value and scale.
+     *
+     * @param other decimal to compare with
+     * @return true if the decimals are exactly equal
+     */
+    public boolean exactlyEquals(DecimalValue other) {
+        if (this.isCompact() && other.isCompact()) {
+            return this.unscaledValue == other.unscaledValue && this.compactScale == other.compactScale;
+        }
+        return this.decimalValue().equals(other.decimalValue());
     }
 
     @Override
     public int hashCode() {
+        if (isCompact()) {
+            // Same as BigDecimal.hashCode() of the value, which does not have to be created.
+            long magnitude = this.unscaledValue < 0 ? -this.unscaledValue : this.unscaledValue;
+            int hash = (int) (((int) (magnitude >>> 32)) * 31 + (magnitude & 0xffffffffL));
+            return 31 * (this.unscaledValue < 0 ? -hash : hash) + this.compactScale;
+        }
         return value.hashCode();
     }
 
@@ -498,7 +649,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Override
     public Optional<SemType> inherentTypeOf(Context cx) {
         if (!shapeCalculated) {
-            this.type = BDecimalType.singletonType(value);
+            this.type = BDecimalType.singletonType(decimalValue());
         }
         return Optional.of(this.type.shape());
     }
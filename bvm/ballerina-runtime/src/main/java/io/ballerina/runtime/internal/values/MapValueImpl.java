@@ -56,8 +56,6 @@ import io.ballerina.runtime.internal.utils.CycleUtils;
 import io.ballerina.runtime.internal.utils.IteratorUtils;
 import io.ballerina.runtime.internal.utils.MapUtils;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -107,10 +105,10 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Created when native data is first added, as most maps do not have any.
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
     private SemType shape;
-    private final ThreadLocal<MappingDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -159,6 +157,55 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return getBooleanValue(key);
     }
 
+    /**
+     * Store an {@code int} value against the given key, without boxing the value when the key is an {@code int} field
+     * of a record. All the other cases go through the same validations as a boxed store.
+     *
+     * @param key   field name
+     * @param value value to be stored
+     */
+    public void putUnboxedIntValue(BString key, long value) {
+        if (type.isReadOnly() || !setIntField(key, value)) {
+            MapUtils.handleMapStore(asMapValue(), key, value);
+        }
+    }
+
+    public void putUnboxedFloatValue(BString key, double value) {
+        if (type.isReadOnly() || !setFloatField(key, value)) {
+            MapUtils.handleMapStore(asMapValue(), key, value);
+        }
+    }
+
+    public void putUnboxedBooleanValue(BString key, boolean value) {
+        if (type.isReadOnly() || !setBooleanField(key, value)) {
+            MapUtils.handleMapStore(asMapValue(), key, value);
+        }
+    }
+
+    /**
+     * Set the value of a mutable field of type {@code int} directly. Overridden by the generated record classes.
+     *
+     * @param key   field name
+     * @param value value to be set
+     * @return true if the key is a mutable {@code int} field which has been set, false otherwise
+     */
+    protected boolean setIntField(BString key, long value) {
+        return false;
+    }
+
+    protected boolean setFloatField(BString key, double value) {
+        return false;
+    }
+
+    protected boolean setBooleanField(BString key, boolean value) {
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapValue<BString, Object> asMapValue() {
+        return (MapValue<BString, Object>) this;
+    }
+
     @Override
     public Double getFloatValue(BString key) {
         return (Double) get(key);
@@ -604,15 +651,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public String getJSONString() {
-        try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-             JsonGenerator gen = new JsonGenerator(byteOut)) {
-            gen.serialize(this);
-            gen.flush();
-            return byteOut.toString();
-        } catch (IOException e) {
-            throw ErrorCreator.createError(StringUtils.fromString(
-                    "Error in converting JSON to a string: " + e.getMessage()), e);
-        }
+        return JsonGenerator.serializeToString(this);
     }
 
     @Override
@@ -622,17 +661,17 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
     @Override
     public MappingDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
+        return ReadonlyShapeDefinitions.get(this);
     }
 
     @Override
     public void setReadonlyShapeDefinition(MappingDefinition definition) {
-        readonlyAttachedDefinition.set(definition);
+        ReadonlyShapeDefinitions.set(this, definition);
     }
 
     @Override
     public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
+        ReadonlyShapeDefinitions.reset(this);
     }
 
     /**
@@ -681,7 +720,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -691,7 +730,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -708,6 +747,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
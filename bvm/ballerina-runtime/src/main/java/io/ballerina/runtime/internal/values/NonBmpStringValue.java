@@ -29,15 +29,27 @@ import java.util.Arrays;
  */
 public class NonBmpStringValue extends StringValue {
 
-    private final int[] surrogates;
+    // Computed on the first code point based operation, unless given by the creator.
+    private volatile int[] surrogates;
 
     public NonBmpStringValue(String value, int[] surrogatePairLocations) {
         super(value, true);
         surrogates = surrogatePairLocations;
     }
 
+    /**
+     * Creates a string value with a string which contains at least one surrogate pair. The locations of the surrogate
+     * pairs are computed when they are needed.
+     *
+     * @param value string with surrogate pairs
+     */
+    public NonBmpStringValue(String value) {
+        super(value, true);
+    }
+
    @Override
    public int getCodePoint(int index) {
+       int[] surrogates = surrogates();
        if ((index < 0) || (index >= value.length() - surrogates.length)) {
            throw new StringIndexOutOfBoundsException(index);
        }
@@ -57,7 +69,7 @@ public class NonBmpStringValue extends StringValue {
 
    @Override
    public int length() {
-       return value.length() - surrogates.length;
+       return value.length() - surrogates().length;
    }
 
    @Override
@@ -65,18 +77,50 @@ public class NonBmpStringValue extends StringValue {
        StringValue stringValue = (StringValue) str;
        if (stringValue.isNonBmp) {
            NonBmpStringValue other = (NonBmpStringValue) str;
-           int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
+           int[] surrogates = surrogates();
+           int[] otherSurrogates = other.surrogates();
+           int[] both = Arrays.copyOf(surrogates, surrogates.length + otherSurrogates.length);
            int length = length();
-           for (int i = 0; i < other.surrogates.length; i++) {
-               both[i + surrogates.length] = other.surrogates[i] + length;
+           for (int i = 0; i < otherSurrogates.length; i++) {
+               both[i + surrogates.length] = otherSurrogates[i] + length;
            }
            return new NonBmpStringValue(this.value + other.value, both);
        }
-       return new NonBmpStringValue(this.value + str.getValue(), surrogates);
+       // Appending basic multilingual plane characters does not move the surrogate pairs.
+       int[] surrogates = this.surrogates;
+       String newValue = this.value + str.getValue();
+       return surrogates == null ? new NonBmpStringValue(newValue) : new NonBmpStringValue(newValue, surrogates);
    }
 
     public int[] getSurrogates() {
-        return surrogates.clone();
+        return surrogates().clone();
+    }
+
+    private int[] surrogates() {
+        int[] surrogates = this.surrogates;
+        if (surrogates == null) {
+            surrogates = listHighSurrogates(value);
+            this.surrogates = surrogates;
+        }
+        return surrogates;
+    }
+
+    private static int[] listHighSurrogates(String value) {
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isHighSurrogate(value.charAt(i))) {
+                count++;
+            }
+        }
+        int[] highSurrogates = new int[count];
+        int j = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isHighSurrogate(value.charAt(i))) {
+                highSurrogates[j] = i - j;
+                j++;
+            }
+        }
+        return highSurrogates;
     }
 
     @Override
@@ -119,7 +163,7 @@ public class NonBmpStringValue extends StringValue {
 
     private int getOffset(int fromIndex) {
         int offset = fromIndex;
-        for (int surrogate : surrogates) {
+        for (int surrogate : surrogates()) {
             if (surrogate < fromIndex) {
                 offset++;
             } else {
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.semtype.Definition;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Holds the readonly shape definitions of the {@link RecursiveValue}s whose shapes are being computed by the current
+ * thread. The definitions are only set while the shape of a value is computed, hence they are kept in a side table
+ * instead of a field in every value. Callers must reset a definition once the shape is computed; the table of a thread
+ * is dropped when its last definition is reset, so no value is kept reachable from the thread afterwards.
+ *
+ * @since 2201.12.0
+ */
+final class ReadonlyShapeDefinitions {
+
+    private static final ThreadLocal<Map<Object, Definition>> definitions = new ThreadLocal<>();
+
+    private ReadonlyShapeDefinitions() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Definition> E get(RecursiveValue<E> value) {
+        Map<Object, Definition> valueDefinitions = definitions.get();
+        return valueDefinitions == null ? null : (E) valueDefinitions.get(value);
+    }
+
+    static <E extends Definition> void set(RecursiveValue<E> value, E definition) {
+        Map<Object, Definition> valueDefinitions = definitions.get();
+        if (valueDefinitions == null) {
+            valueDefinitions = new IdentityHashMap<>();
+            definitions.set(valueDefinitions);
+        }
+        valueDefinitions.put(value, definition);
+    }
+
+    static void reset(RecursiveValue<?> value) {
+        Map<Object, Definition> valueDefinitions = definitions.get();
+        if (valueDefinitions == null) {
+            return;
+        }
+        valueDefinitions.remove(value);
+        if (valueDefinitions.isEmpty()) {
+            definitions.remove();
+        }
+    }
+}
@@ -96,7 +96,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
             // First serialize the values loaded to memory
             for (int i = 0; i < size; i++) {
-                gen.serialize(refValues[i]);
+                gen.serialize(getRefValue(i));
             }
 
             // Then serialize remaining data in the data-source
@@ -137,7 +137,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
         if (datasource.hasNext()) {
             buildDatasource();
         }
-        return refValues;
+        return super.getValues();
     }
 
     @Override
@@ -112,7 +112,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private boolean nextKeySupported;
 
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Created when native data is first added, as most tables do not have any.
+    private Map<String, Object> nativeData;
     private BTypedesc typedesc;
 
     public TableValueImpl(TableType tableType) {
@@ -357,12 +358,15 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public void addNativeData(String key, Object data) {
+        if (nativeData == null) {
+            nativeData = new HashMap<>();
+        }
         nativeData.put(key, data);
     }
 
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
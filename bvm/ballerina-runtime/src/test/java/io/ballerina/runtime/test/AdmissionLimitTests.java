@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.AdmissionLimitImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link AdmissionLimitImpl}.
+ *
+ * @since 2201.12.0
+ */
+public class AdmissionLimitTests {
+
+    @Test
+    public void testUnlimited() {
+        AdmissionLimitImpl limit = new AdmissionLimitImpl("test", 0, 0, 0);
+        for (int i = 0; i < 100; i++) {
+            limit.acquire();
+        }
+        Assert.assertEquals(limit.getActiveCount(), 100);
+        for (int i = 0; i < 100; i++) {
+            limit.release();
+        }
+        Assert.assertEquals(limit.getActiveCount(), 0);
+        Assert.assertEquals(limit.getRejectedCount(), 0);
+    }
+
+    @Test
+    public void testRejectWithoutQueue() {
+        AdmissionLimitImpl limit = new AdmissionLimitImpl("test", 2, 0, 0);
+        limit.acquire();
+        limit.acquire();
+        try {
+            limit.acquire();
+            Assert.fail("expected the strand to be rejected");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), "{ballerina}StrandAdmissionRejected");
+            Assert.assertTrue(e.getDetails().toString().contains(
+                    "strand rejected by the admission limit 'test': 2 strand(s) are already running"));
+        }
+        Assert.assertEquals(limit.getActiveCount(), 2);
+        Assert.assertEquals(limit.getQueuedCount(), 0);
+        Assert.assertEquals(limit.getRejectedCount(), 1);
+        limit.release();
+        limit.acquire();
+        Assert.assertEquals(limit.getActiveCount(), 2);
+    }
+
+    @Test
+    public void testRejectAfterWaiting() {
+        AdmissionLimitImpl limit = new AdmissionLimitImpl("test", 1, 1, 10);
+        limit.acquire();
+        Assert.assertThrows(BError.class, limit::acquire);
+        Assert.assertEquals(limit.getQueuedCount(), 0);
+        Assert.assertEquals(limit.getRejectedCount(), 1);
+    }
+
+    @Test
+    public void testAdmitQueued() throws InterruptedException {
+        AdmissionLimitImpl limit = new AdmissionLimitImpl("test", 1, 1, TimeUnit.MINUTES.toMillis(1));
+        limit.acquire();
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread waiting = Thread.startVirtualThread(() -> {
+            limit.acquire();
+            admitted.countDown();
+        });
+        while (limit.getQueuedCount() == 0) {
+            Thread.sleep(1);
+        }
+        limit.release();
+        Assert.assertTrue(admitted.await(1, TimeUnit.MINUTES));
+        waiting.join();
+        Assert.assertEquals(limit.getActiveCount(), 1);
+        Assert.assertEquals(limit.getQueuedCount(), 0);
+        Assert.assertEquals(limit.getRejectedCount(), 0);
+    }
+
+    @Test(expectedExceptions = BError.class)
+    public void testInvalidLimit() {
+        new AdmissionLimitImpl("test", -1, 0, 0);
+    }
+}
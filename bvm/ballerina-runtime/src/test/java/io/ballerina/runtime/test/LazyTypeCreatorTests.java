@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.types.LazyTypeCreator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Test cases for {@link LazyTypeCreator}.
+ *
+ * @since 2201.12.0
+ */
+public class LazyTypeCreatorTests {
+
+    @Test
+    public void testTypeCreatedOnce() {
+        TestTypeCreator creator = new TestTypeCreator(2, typeIndex -> { });
+        Type type = creator.getType(0);
+        Assert.assertSame(creator.getType(0), type);
+        Assert.assertEquals(creator.createCount.get(), 1);
+        Assert.assertEquals(creator.populateCount.get(), 1);
+    }
+
+    @Test
+    public void testRecursiveTypes() {
+        List<Type> referredTypes = new ArrayList<>();
+        TestTypeCreator[] creators = new TestTypeCreator[1];
+        creators[0] = new TestTypeCreator(2, typeIndex -> referredTypes.add(creators[0].getType(1 - typeIndex)));
+        Type type0 = creators[0].getType(0);
+        Type type1 = creators[0].getType(1);
+        Assert.assertEquals(referredTypes, List.of(type0, type1));
+        Assert.assertEquals(creators[0].createCount.get(), 2);
+        Assert.assertEquals(creators[0].populateCount.get(), 2);
+    }
+
+    @Test
+    public void testFailedPopulationDiscardsTypes() {
+        AtomicInteger failures = new AtomicInteger(1);
+        TestTypeCreator[] creators = new TestTypeCreator[1];
+        creators[0] = new TestTypeCreator(2, typeIndex -> {
+            if (typeIndex == 0) {
+                creators[0].getType(1);
+            } else if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("failed to populate");
+            }
+        });
+        Assert.assertThrows(IllegalStateException.class, () -> creators[0].getType(0));
+        Type type0 = creators[0].getType(0);
+        Assert.assertSame(creators[0].getType(0), type0);
+        Assert.assertEquals(creators[0].createCount.get(), 4);
+    }
+
+    @Test
+    public void testUnknownType() {
+        TestTypeCreator creator = new TestTypeCreator(2, typeIndex -> { });
+        Assert.assertThrows(IllegalStateException.class, () -> creator.getType(2));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> creator.getType(3));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        TestTypeCreator creator = new TestTypeCreator(1, typeIndex -> {
+            try {
+                // Give the other threads a chance to request the type while it is being populated.
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Type>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return creator.getType(0);
+                }));
+            }
+            start.countDown();
+            Type type = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Type> result : results) {
+                Assert.assertSame(result.get(10, TimeUnit.SECONDS), type);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(creator.createCount.get(), 1);
+        Assert.assertEquals(creator.populateCount.get(), 1);
+    }
+
+    private static class TestTypeCreator extends LazyTypeCreator {
+
+        private final int typeCount;
+        private final IntConsumer populator;
+        private final AtomicInteger createCount = new AtomicInteger();
+        private final AtomicInteger populateCount = new AtomicInteger();
+
+        TestTypeCreator(int typeCount, IntConsumer populator) {
+            super(typeCount + 1);
+            this.typeCount = typeCount;
+            this.populator = populator;
+        }
+
+        @Override
+        protected Type createType(int typeIndex) {
+            if (typeIndex >= typeCount) {
+                return null;
+            }
+            createCount.incrementAndGet();
+            return TypeCreator.createArrayType(PredefinedTypes.TYPE_INT, typeIndex + 1);
+        }
+
+        @Override
+        protected void populateType(int typeIndex) {
+            populateCount.incrementAndGet();
+            populator.accept(typeIndex);
+        }
+    }
+}
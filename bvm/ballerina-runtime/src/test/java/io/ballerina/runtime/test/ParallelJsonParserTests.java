@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.json.JsonParser;
+import io.ballerina.runtime.internal.json.ParallelJsonParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+
+/**
+ * Test cases for {@link ParallelJsonParser}.
+ *
+ * @since 2201.12.0
+ */
+public class ParallelJsonParserTests {
+
+    private static final JsonUtils.NonStringValueProcessingMode MODE =
+            JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+
+    @DataProvider(name = "jsonDocuments")
+    public Object[][] jsonDocuments() {
+        StringBuilder largeArray = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                largeArray.append(",\n  ");
+            }
+            largeArray.append("{\"id\": ").append(i).append(", \"name\": \"item, [").append(i)
+                    .append("]\", \"tags\": [\"a\\\"]\", \"\\\\\"], \"price\": ").append(i).append(".25}");
+        }
+        largeArray.append("]");
+        return new Object[][]{
+                {largeArray.toString()},
+                {" [1, 2.5, -0, 1e3, \"x\", true, false, null, [], {}, [[1, [2]], {\"a\": {\"b\": []}}]] "},
+                {"{\"a\": 1, \"b\": \"}, {\", \"c\": [1, 2], \"a\": 2, \"d\": {\"e\": null}, \"b\": \"\\u0041\"}"},
+                {"[\"\\\\\", \"\\\\\\\"\", \"\\\"]\"]"}
+        };
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    public void testParseJson(String document) {
+        Object expected = JsonParser.parse(new StringReader(document), PredefinedTypes.TYPE_JSON, MODE);
+        for (int chunkCount : new int[]{2, 3, 7, 64}) {
+            assertIdentical(ParallelJsonParser.parse(document, PredefinedTypes.TYPE_JSON, MODE, chunkCount),
+                    expected);
+        }
+    }
+
+    @Test
+    public void testParseToArrayAndMapTypes() {
+        Type intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        String array = "[1, 2, 3, 4, 5, 6, 7, 8, 9]";
+        assertIdentical(ParallelJsonParser.parse(array, intArrayType, MODE, 4),
+                JsonParser.parse(new StringReader(array), intArrayType, MODE));
+
+        Type stringMapType = TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
+        String map = "{\"a\": \"1\", \"b\": \"2\", \"c\": \"3\", \"a\": \"4\"}";
+        assertIdentical(ParallelJsonParser.parse(map, stringMapType, MODE, 4),
+                JsonParser.parse(new StringReader(map), stringMapType, MODE));
+    }
+
+    @Test(dataProvider = "invalidJsonDocuments")
+    public void testParseInvalidJson(String document, Type targetType) {
+        BError expected = Assert.expectThrows(BError.class,
+                () -> JsonParser.parse(new StringReader(document), targetType, MODE));
+        BError actual = Assert.expectThrows(BError.class,
+                () -> ParallelJsonParser.parse(document, targetType, MODE, 4));
+        Assert.assertEquals(actual.getMessage(), expected.getMessage());
+    }
+
+    @DataProvider(name = "invalidJsonDocuments")
+    public Object[][] invalidJsonDocuments() {
+        Type intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        return new Object[][]{
+                {"[1, 2, , 3]", PredefinedTypes.TYPE_JSON},
+                {"[, 1, 2]", PredefinedTypes.TYPE_JSON},
+                {"[1, 2, 3, ]", PredefinedTypes.TYPE_JSON},
+                {"[1, 2 3, 4]", PredefinedTypes.TYPE_JSON},
+                {"{\"a\": 1, \"b\" 2, \"c\": 3}", PredefinedTypes.TYPE_JSON},
+                {"[1, 2, 3} ", PredefinedTypes.TYPE_JSON},
+                {"[1, 2, 3] 4", PredefinedTypes.TYPE_JSON},
+                {"[1, \"2, 3]", PredefinedTypes.TYPE_JSON},
+                {"[1, 2, \"3\", 4]", intArrayType}
+        };
+    }
+
+    private static void assertIdentical(Object actual, Object expected) {
+        Assert.assertEquals(TypeChecker.getType(actual), TypeChecker.getType(expected));
+        Assert.assertEquals(String.valueOf(actual), String.valueOf(expected));
+        Assert.assertTrue(TypeChecker.isEqual(actual, expected));
+    }
+}
@@ -1,5 +1,9 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BStringInternTable;
+import io.ballerina.runtime.internal.values.BmpStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +44,34 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testLazilyIndexedNonBmpString() {
+        BString str = StringUtils.fromString(UNICODE_STR);
+        Assert.assertTrue(str instanceof NonBmpStringValue);
+        Assert.assertEquals(((NonBmpStringValue) str).getSurrogates(), new int[]{1, 14});
+        Assert.assertEquals(str.length(), 16);
+        Assert.assertEquals(str.getCodePoint(14), 0x1F47D);
+        Assert.assertEquals(str.substring(1, 2).getValue(), "\uD83D\uDEF8");
+    }
+
+    @Test
+    void testConcatWithNonBmpString() {
+        BString bmp = StringUtils.fromString("ab");
+        BString nonBmp = StringUtils.fromString("\uD83D\uDEF8c");
+        BString concatenated = bmp.concat(nonBmp).concat(bmp).concat(nonBmp);
+        Assert.assertEquals(((NonBmpStringValue) concatenated).getSurrogates(), new int[]{2, 6});
+        Assert.assertEquals(concatenated.length(), 8);
+        Assert.assertEquals(concatenated.getCodePoint(6), 0x1F6F8);
+        Assert.assertEquals(concatenated.getCodePoint(7), 'c');
+    }
+
+    @Test
+    void testInternedStrings() {
+        BString constant = BStringInternTable.intern(new BmpStringValue("internedFieldName"));
+        Assert.assertSame(BStringInternTable.intern(new BmpStringValue("internedFieldName")), constant);
+        Assert.assertSame(BStringInternTable.getOrCreate("internedFieldName"), constant);
+        Assert.assertNull(BStringInternTable.get("notInternedFieldName"));
+        Assert.assertEquals(BStringInternTable.getOrCreate("notInternedFieldName").getValue(), "notInternedFieldName");
+    }
+
 }
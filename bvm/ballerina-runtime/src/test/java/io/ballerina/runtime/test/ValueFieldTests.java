@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.semtype.Context;
+import io.ballerina.runtime.api.types.semtype.Env;
+import io.ballerina.runtime.api.types.semtype.ShapeAnalyzer;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.values.AbstractObjectValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.NoSuchElementException;
+
+/**
+ * Test cases for the per instance state of the runtime value implementations.
+ *
+ * @since 2201.12.0
+ */
+public class ValueFieldTests {
+
+    @DataProvider
+    public Object[][] valueClasses() {
+        return new Object[][]{
+                {MapValueImpl.class},
+                {AbstractObjectValue.class},
+                {ArrayValueImpl.class},
+                {TupleValueImpl.class},
+                {TableValueImpl.class}
+        };
+    }
+
+    @Test(dataProvider = "valueClasses")
+    public void testNoThreadLocalInstanceFields(Class<?> valueClass) {
+        for (Class<?> c = valueClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    Assert.assertFalse(ThreadLocal.class.isAssignableFrom(field.getType()),
+                            "unexpected thread local field: " + c.getName() + "." + field.getName());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNativeData() {
+        MapValueImpl<Object, Object> map = new MapValueImpl<>();
+        Assert.assertNull(map.getNativeData("key"));
+        map.addNativeData("key", "value");
+        Assert.assertEquals(map.getNativeData("key"), "value");
+        Assert.assertEquals(map.getNativeDataMap().size(), 1);
+        Assert.assertTrue(new MapValueImpl<>().getNativeDataMap().isEmpty());
+    }
+
+    @Test
+    public void testReadonlyShapeDefinitionsResetAfterShape() throws ReflectiveOperationException {
+        Context cx = Context.from(Env.getInstance());
+        MapValueImpl<Object, Object> inner = new MapValueImpl<>(TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        inner.put(StringUtils.fromString("a"), 1L);
+        MapValueImpl<Object, Object> outer = new MapValueImpl<>(TypeCreator.createMapType(PredefinedTypes.TYPE_ANY));
+        outer.put(StringUtils.fromString("inner"), inner);
+        Assert.assertTrue(ShapeAnalyzer.shapeOf(cx, outer).isPresent());
+        Assert.assertNull(readonlyShapeDefinitions().get());
+    }
+
+    @Test
+    public void testReadonlyShapeDefinitionsResetOnFailure() throws ReflectiveOperationException {
+        Context cx = Context.from(Env.getInstance());
+        MapValueImpl<Object, Object> map = new MapValueImpl<>(TypeCreator.createMapType(PredefinedTypes.TYPE_ANY));
+        map.put(StringUtils.fromString("a"), new Object());
+        Assert.assertThrows(NoSuchElementException.class, () -> ShapeAnalyzer.shapeOf(cx, map));
+        Assert.assertNull(readonlyShapeDefinitions().get());
+    }
+
+    private static ThreadLocal<?> readonlyShapeDefinitions() throws ReflectiveOperationException {
+        Class<?> definitionsClass = Class.forName("io.ballerina.runtime.internal.values.ReadonlyShapeDefinitions");
+        Field definitions = definitionsClass.getDeclaredField("definitions");
+        definitions.setAccessible(true);
+        return (ThreadLocal<?>) definitions.get(null);
+    }
+}
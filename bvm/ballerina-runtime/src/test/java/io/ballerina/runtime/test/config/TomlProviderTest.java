@@ -34,6 +34,7 @@ import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BMapInitialValueEntry;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.configurable.ConfigLoadTimer;
 import io.ballerina.runtime.internal.configurable.ConfigProvider;
 import io.ballerina.runtime.internal.configurable.ConfigResolver;
 import io.ballerina.runtime.internal.configurable.ConfigValue;
@@ -760,6 +761,31 @@ public class TomlProviderTest {
         Assert.assertEquals(value, 12L);
     }
 
+    @Test
+    public void testStructuredValueCreatedOnceOnFirstAccess() {
+        ArrayType arrayType = TypeCreator.createArrayType(TYPE_INT, 4, true);
+        VariableKey arr = new VariableKey(ROOT_MODULE, "intArr",
+                new BIntersectionType(ROOT_MODULE, new Type[]{arrayType, PredefinedTypes.TYPE_READONLY}, arrayType, 0,
+                        true), true);
+        Map<Module, VariableKey[]> configVarMap = Map.ofEntries(Map.entry(ROOT_MODULE, new VariableKey[]{arr}));
+        RuntimeDiagnosticLog diagnosticLog = new RuntimeDiagnosticLog();
+        ConfigLoadTimer loadTimer = new ConfigLoadTimer(true);
+        ConfigResolver configResolver = new ConfigResolver(configVarMap, diagnosticLog,
+                List.of(new TomlFileProvider(ROOT_MODULE, getConfigPath("ArraySize.toml"), configVarMap.keySet())),
+                loadTimer);
+        Map<VariableKey, ConfigValue> valueMap = configResolver.resolveConfigs();
+        Assert.assertEquals(diagnosticLog.getWarningCount(), 0);
+
+        ConfigValue configValue = valueMap.get(arr);
+        Object value = configValue.getValue();
+        Assert.assertEquals(value.toString(), "[1,2,3,0]");
+        Assert.assertSame(configValue.getValue(), value);
+
+        Assert.assertEquals(loadTimer.getModuleLoadTimes().get(ROOT_MODULE).variableCount(), 1);
+        Assert.assertTrue(loadTimer.getProviderInitTimes().containsKey(TomlFileProvider.class.getSimpleName()));
+        Assert.assertTrue(loadTimer.getLoadTime() >= loadTimer.getModuleLoadTimes().get(ROOT_MODULE).nanos());
+    }
+
     @Test(dataProvider = "array-size-tests")
     public void testArraySize(Type elementType, String varName, String stringValue) {
         ArrayType arrayType = TypeCreator.createArrayType(elementType, 4, true);
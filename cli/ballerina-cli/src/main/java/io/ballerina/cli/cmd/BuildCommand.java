@@ -19,6 +19,7 @@ package io.ballerina.cli.cmd;
 
 import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.cli.TaskExecutor;
+import io.ballerina.cli.launcher.daemon.BuildDaemon;
 import io.ballerina.cli.task.CleanTargetDirTask;
 import io.ballerina.cli.task.CompileTask;
 import io.ballerina.cli.task.CreateExecutableTask;
@@ -206,6 +207,13 @@ public class BuildCommand implements BLauncherCmd {
             "generation")
     private String graalVMBuildOptions;
 
+    @CommandLine.Option(names = "--cds", description = "generate a class data sharing archive for the executable")
+    private Boolean classDataSharing;
+
+    @CommandLine.Option(names = "--layered", description = "generate a thin executable jar with separate runtime " +
+            "and dependency layers")
+    private Boolean layered;
+
     @CommandLine.Option(names = "--optimize-dependency-compilation", hidden = true,
             description = "experimental memory optimization for large projects")
     private Boolean optimizeDependencyCompilation;
@@ -261,7 +269,8 @@ public class BuildCommand implements BLauncherCmd {
                     start = System.currentTimeMillis();
                     BuildTime.getInstance().timestamp = start;
                 }
-                project = BuildProject.load(this.projectPath, buildOptions);
+                project = BuildProject.load(BuildDaemon.projectEnvironmentBuilder(), this.projectPath,
+                        buildOptions);
                 if (buildOptions.dumpBuildTime()) {
                     BuildTime.getInstance().projectLoadDuration = System.currentTimeMillis() - start;
                 }
@@ -299,7 +308,7 @@ public class BuildCommand implements BLauncherCmd {
 
         taskExecutor.executeTasks(project);
         if (this.exitWhenFinish) {
-            Runtime.getRuntime().exit(0);
+            CommandUtil.exit(0);
         }
     }
 
@@ -325,6 +334,8 @@ public class BuildCommand implements BLauncherCmd {
                 .setNativeImage(nativeImage)
                 .disableSyntaxTreeCaching(disableSyntaxTreeCaching)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
+                .setClassDataSharing(classDataSharing)
+                .setLayered(layered)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
                 .setOptimizeDependencyCompilation(optimizeDependencyCompilation);
 
@@ -21,6 +21,8 @@ package io.ballerina.cli.cmd;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import io.ballerina.cli.launcher.CommandExitException;
+import io.ballerina.cli.launcher.daemon.BuildDaemon;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
@@ -180,10 +182,22 @@ public final class CommandUtil {
      */
     public static void exitError(boolean exit) {
         if (exit) {
-            Runtime.getRuntime().exit(1);
+            exit(1);
         }
     }
 
+    /**
+     * Exit with the given exit code. Within the build daemon, only the current command is terminated.
+     *
+     * @param exitCode Exit code
+     */
+    public static void exit(int exitCode) {
+        if (BuildDaemon.isActive()) {
+            throw new CommandExitException(exitCode);
+        }
+        Runtime.getRuntime().exit(exitCode);
+    }
+
 
     static void applyTemplate(String orgName, String templatePkgName, String version, String packageName,
                               Path projectPath, Path balaCache, List<Path> filesInDir) {
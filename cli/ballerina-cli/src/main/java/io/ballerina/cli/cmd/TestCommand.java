@@ -19,6 +19,7 @@ package io.ballerina.cli.cmd;
 
 import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.cli.TaskExecutor;
+import io.ballerina.cli.launcher.daemon.BuildDaemon;
 import io.ballerina.cli.task.CleanTargetBinTestsDirTask;
 import io.ballerina.cli.task.CleanTargetCacheDirTask;
 import io.ballerina.cli.task.CompileTask;
@@ -291,7 +292,8 @@ public class TestCommand implements BLauncherCmd {
                     start = System.currentTimeMillis();
                     BuildTime.getInstance().timestamp = start;
                 }
-                project = BuildProject.load(this.projectPath, buildOptions);
+                project = BuildProject.load(BuildDaemon.projectEnvironmentBuilder(), this.projectPath,
+                        buildOptions);
                 if (buildOptions.dumpBuildTime()) {
                     BuildTime.getInstance().projectLoadDuration = System.currentTimeMillis() - start;
                 }
@@ -406,7 +408,7 @@ public class TestCommand implements BLauncherCmd {
 
         taskExecutor.executeTasks(project);
         if (this.exitWhenFinish) {
-            Runtime.getRuntime().exit(0);
+            CommandUtil.exit(0);
         }
     }
 
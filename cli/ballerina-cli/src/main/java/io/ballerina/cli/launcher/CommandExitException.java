@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.cli.launcher;
+
+/**
+ * Thrown instead of terminating the JVM, when a command exits within the build daemon.
+ *
+ * @since 2201.12.0
+ */
+public class CommandExitException extends RuntimeException {
+
+    private final int exitCode;
+
+    /**
+     * Constructs a new {@link CommandExitException} with the specified exit code.
+     *
+     * @param exitCode Exit code of the command
+     */
+    public CommandExitException(int exitCode) {
+        super("Command exited with the exit code " + exitCode);
+        this.exitCode = exitCode;
+    }
+
+    /**
+     * Returns the exit code of the command.
+     *
+     * @return int
+     */
+    public int getExitCode() {
+        return this.exitCode;
+    }
+}
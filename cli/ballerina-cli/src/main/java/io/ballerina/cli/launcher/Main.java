@@ -19,6 +19,7 @@
 package io.ballerina.cli.launcher;
 
 import io.ballerina.cli.BLauncherCmd;
+import io.ballerina.cli.launcher.daemon.BuildDaemonClient;
 import io.ballerina.cli.launcher.util.BalToolsUtil;
 import io.ballerina.runtime.internal.utils.RuntimeUtils;
 import org.ballerinalang.compiler.BLangCompilerException;
@@ -58,24 +59,48 @@ public final class Main {
     }
 
     public static void main(String... args) {
+        Optional<Integer> daemonExitCode = BuildDaemonClient.delegate(args);
+        if (daemonExitCode.isPresent()) {
+            Runtime.getRuntime().exit(daemonExitCode.get());
+            return;
+        }
+
+        int exitCode = execute(args);
+        if (exitCode != 0) {
+            Runtime.getRuntime().exit(exitCode);
+        }
+    }
+
+    /**
+     * Executes the command given by the arguments, in the current process.
+     *
+     * @param args command line arguments
+     * @return exit code of the command
+     */
+    public static int execute(String... args) {
+        // The error stream is resolved per execution, since it is redirected to the client in the build daemon.
+        PrintStream err = System.err;
         try {
             Optional<BLauncherCmd> optionalInvokedCmd = getInvokedCmd(args);
             optionalInvokedCmd.ifPresent(BLauncherCmd::execute);
+            return 0;
         } catch (BLangCompilerException e) {
             if (!(e.getMessage().contains(COMPILATION_ERROR_MESSAGE))) {
                 // print the error message only if the exception was not thrown due to compilation errors
-                errStream.println(prepareCompilerErrorMessage(e.getMessage()));
+                err.println(prepareCompilerErrorMessage(e.getMessage()));
             }
             // These are compiler errors, and are already logged. Hence simply exit.
-            Runtime.getRuntime().exit(1);
+            return 1;
         } catch (BLauncherException e) {
-            LauncherUtils.printLauncherException(e, errStream);
-            Runtime.getRuntime().exit(1);
+            LauncherUtils.printLauncherException(e, err);
+            return 1;
         } catch (RuntimePanicException e) {
-            Runtime.getRuntime().exit(e.getExitCode());
+            return e.getExitCode();
+        } catch (CommandExitException e) {
+            return e.getExitCode();
         } catch (Throwable e) {
             RuntimeUtils.logBadSad(e);
-            Runtime.getRuntime().exit(1);
+            return 1;
         }
     }
 
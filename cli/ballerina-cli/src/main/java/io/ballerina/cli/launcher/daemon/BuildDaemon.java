@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.cli.launcher.daemon;
+
+import io.ballerina.cli.launcher.Main;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.EXIT;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.PID;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.PORT;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.REJECTED;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.STDERR;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.STDOUT;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.TOKEN;
+
+/**
+ * An opt-in, long-running process which executes the {@code bal build}, {@code bal run} and {@code bal test}
+ * commands on behalf of the {@code bal} CLI, when the {@code BAL_BUILD_DAEMON} environment variable is set to
+ * {@code true}.
+ * <p>
+ * The daemon keeps the JIT compiled compiler, the langlib symbols and the dependency packages loaded across builds.
+ * The loaded dependencies are discarded whenever the repositories in the user home or the settings change, and the
+ * daemon does not serve the clients using a different distribution or build related environment variables. Commands
+ * are executed one at a time, with the standard output and error streams forwarded to the client.
+ *
+ * @since 2201.12.0
+ */
+public final class BuildDaemon {
+
+    private static final int IDLE_TIMEOUT = (int) TimeUnit.HOURS.toMillis(3);
+    private static final int BALA_DIR_SCAN_DEPTH = 4;
+    private static final String BALA_DIR = "bala";
+
+    private static final PrintStream daemonOut = System.out;
+    private static final PrintStream daemonErr = System.err;
+    private static final DaemonProtocol.RedirectableOutputStream stdout =
+            new DaemonProtocol.RedirectableOutputStream(daemonOut);
+    private static final DaemonProtocol.RedirectableOutputStream stderr =
+            new DaemonProtocol.RedirectableOutputStream(daemonErr);
+
+    private static volatile boolean active;
+    private static volatile Map<String, String> clientEnvironment = Map.of();
+    private static volatile Set<Process> processes = ConcurrentHashMap.newKeySet();
+    private static Environment environment;
+    private static String repositoriesStamp;
+
+    private BuildDaemon() {
+    }
+
+    public static void main(String... args) {
+        // Commands keep the standard streams in static fields. Hence, they are replaced once with streams which
+        // forward to the client being served.
+        System.setOut(new PrintStream(stdout, true));
+        System.setErr(new PrintStream(stderr, true));
+
+        Path workingDir = Path.of(System.getProperty(ProjectConstants.USER_DIR)).toAbsolutePath().normalize();
+        Path infoFile = DaemonProtocol.infoFile(workingDir);
+        String fingerprint = DaemonProtocol.fingerprint();
+        String token = UUID.randomUUID().toString();
+        Optional<FileLock> lock = Optional.empty();
+        try {
+            lock = DaemonProtocol.tryLock(DaemonProtocol.lockFile(infoFile));
+            if (lock.isEmpty()) {
+                // Another daemon serves the working directory.
+                return;
+            }
+            serve(infoFile, token, fingerprint, workingDir);
+        } catch (IOException e) {
+            daemonErr.println("build daemon terminated: " + e.getMessage());
+        } finally {
+            active = false;
+            removeInfo(infoFile, token);
+            lock.ifPresent(BuildDaemon::release);
+            Runtime.getRuntime().exit(0);
+        }
+    }
+
+    private static void serve(Path infoFile, String token, String fingerprint, Path workingDir)
+            throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout(IDLE_TIMEOUT);
+            Properties info = new Properties();
+            info.setProperty(PORT, String.valueOf(serverSocket.getLocalPort()));
+            info.setProperty(TOKEN, token);
+            info.setProperty(PID, String.valueOf(ProcessHandle.current().pid()));
+            DaemonProtocol.writeInfo(infoFile, info);
+            active = true;
+
+            boolean serve = true;
+            while (serve) {
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
+                } catch (SocketTimeoutException e) {
+                    break;
+                }
+                serve = serve(socket, token, fingerprint, workingDir);
+            }
+        }
+    }
+
+    private static void release(FileLock lock) {
+        try {
+            lock.acquiredBy().close();
+        } catch (IOException e) {
+            // The lock is released when the process exits.
+        }
+    }
+
+    /**
+     * Returns whether the current process is a build daemon.
+     *
+     * @return true if running in the build daemon
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Returns the environment builder to load the projects with. In the build daemon, the projects share an
+     * environment, so that the langlib and the dependency packages are not reloaded for every build.
+     *
+     * @return project environment builder
+     */
+    public static ProjectEnvironmentBuilder projectEnvironmentBuilder() {
+        if (!active) {
+            return ProjectEnvironmentBuilder.getDefaultBuilder();
+        }
+        return ProjectEnvironmentBuilder.getBuilder(sharedEnvironment());
+    }
+
+    /**
+     * Starts a process with the standard streams of the current command. In the build daemon, the output of the
+     * process is forwarded to the client and the process inherits the environment variables of the client.
+     *
+     * @param processBuilder process builder
+     * @return started process
+     * @throws IOException if the process cannot be started
+     */
+    public static Process startProcess(ProcessBuilder processBuilder) throws IOException {
+        if (!active) {
+            return processBuilder.inheritIO().start();
+        }
+
+        processBuilder.environment().clear();
+        processBuilder.environment().putAll(clientEnvironment);
+        Process process = processBuilder.redirectInput(ProcessBuilder.Redirect.INHERIT)
+                .redirectOutput(ProcessBuilder.Redirect.PIPE)
+                .redirectError(ProcessBuilder.Redirect.PIPE)
+                .start();
+        processes.add(process);
+        Thread outPump = startPump(process.getInputStream(), System.out);
+        Thread errPump = startPump(process.getErrorStream(), System.err);
+        return new ForwardedProcess(process, outPump, errPump);
+    }
+
+    private static boolean serve(Socket socket, String token, String fingerprint, Path workingDir) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            DaemonProtocol.Request request = DaemonProtocol.readRequest(in);
+            if (!token.equals(request.token())) {
+                return true;
+            }
+
+            if (!fingerprint.equals(request.fingerprint()) || !workingDir.equals(request.workingDir())) {
+                out.writeByte(REJECTED);
+                out.flush();
+                // The distribution or the build environment has been changed. Hence, let a new daemon take over.
+                return fingerprint.equals(request.fingerprint());
+            }
+
+            int exitCode = execute(request.args(), request.env(), in, out);
+            synchronized (out) {
+                out.writeByte(EXIT);
+                out.writeInt(exitCode);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The client has disconnected.
+        }
+        return true;
+    }
+
+    private static int execute(String[] args, Map<String, String> env, InputStream in, DataOutputStream out) {
+        Set<Process> requestProcesses = ConcurrentHashMap.newKeySet();
+        Thread disconnectWatcher = new Thread(() -> awaitDisconnect(in, requestProcesses),
+                "bal-daemon-client-watcher");
+        disconnectWatcher.setDaemon(true);
+        try {
+            stdout.redirect(new DaemonProtocol.FrameOutputStream(out, STDOUT));
+            stderr.redirect(new DaemonProtocol.FrameOutputStream(out, STDERR));
+            clientEnvironment = Map.copyOf(env);
+            processes = requestProcesses;
+            disconnectWatcher.start();
+            return Main.execute(args);
+        } finally {
+            System.out.flush();
+            System.err.flush();
+            stdout.redirect(daemonOut);
+            stderr.redirect(daemonErr);
+            clientEnvironment = Map.of();
+            requestProcesses.forEach(Process::destroy);
+        }
+    }
+
+    private static void awaitDisconnect(InputStream in, Set<Process> requestProcesses) {
+        try {
+            // Clients do not send anything once the request is sent. Hence, this returns only when the client
+            // disconnects (e.g. on Ctrl+C), or the request completes.
+            while (in.read() != -1) {
+                // ignore
+            }
+        } catch (IOException e) {
+            // The connection is closed.
+        }
+        requestProcesses.forEach(Process::destroy);
+    }
+
+    private static Thread startPump(InputStream in, OutputStream out) {
+        Thread pump = new Thread(() -> DaemonProtocol.pump(in, out), "bal-daemon-output-pump");
+        pump.setDaemon(true);
+        pump.start();
+        return pump;
+    }
+
+    private static synchronized Environment sharedEnvironment() {
+        String stamp = repositoriesStamp();
+        if (environment == null || !stamp.equals(repositoriesStamp)) {
+            environment = EnvironmentBuilder.buildDefault();
+            repositoriesStamp = stamp;
+        }
+        return environment;
+    }
+
+    /**
+     * Returns a stamp of the packages available in the repositories of the user home. Pulling, pushing or removing
+     * a package modifies the corresponding package or version directory.
+     */
+    private static String repositoriesStamp() {
+        Path homeRepo = ProjectUtils.createAndGetHomeReposPath();
+        StringBuilder stamp = new StringBuilder();
+        appendStamp(stamp, homeRepo.resolve(ProjectConstants.SETTINGS_FILE_NAME));
+        Path repositories = homeRepo.resolve(ProjectConstants.REPOSITORIES_DIR);
+        if (!Files.isDirectory(repositories)) {
+            return DaemonProtocol.sha256(stamp.toString());
+        }
+
+        try (Stream<Path> repos = Files.list(repositories)) {
+            for (Path balaDir : repos.map(repo -> repo.resolve(BALA_DIR)).filter(Files::isDirectory).toList()) {
+                try (Stream<Path> dirs = Files.walk(balaDir, BALA_DIR_SCAN_DEPTH)) {
+                    dirs.filter(Files::isDirectory).sorted().forEach(dir -> appendStamp(stamp, dir));
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // Forces reloading the environment.
+            return UUID.randomUUID().toString();
+        }
+        return DaemonProtocol.sha256(stamp.toString());
+    }
+
+    private static void appendStamp(StringBuilder stamp, Path path) {
+        stamp.append(path).append(':');
+        try {
+            stamp.append(Files.getLastModifiedTime(path).toMillis());
+        } catch (IOException e) {
+            stamp.append('-');
+        }
+        stamp.append('\n');
+    }
+
+    private static void removeInfo(Path infoFile, String token) {
+        // Another daemon may have taken over the working directory.
+        DaemonProtocol.readInfo(infoFile)
+                .filter(info -> token.equals(info.getProperty(TOKEN)))
+                .ifPresent(info -> {
+                    try {
+                        Files.deleteIfExists(infoFile);
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                });
+    }
+
+    /**
+     * A process whose output is forwarded to the client. Waiting for the process also waits until all of its output
+     * is forwarded.
+     */
+    private static final class ForwardedProcess extends Process {
+
+        private final Process process;
+        private final Thread outPump;
+        private final Thread errPump;
+
+        ForwardedProcess(Process process, Thread outPump, Thread errPump) {
+            this.process = process;
+            this.outPump = outPump;
+            this.errPump = errPump;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return process.getOutputStream();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public int waitFor() throws InterruptedException {
+            int exitValue = process.waitFor();
+            outPump.join();
+            errPump.join();
+            return exitValue;
+        }
+
+        @Override
+        public int exitValue() {
+            return process.exitValue();
+        }
+
+        @Override
+        public boolean isAlive() {
+            return process.isAlive();
+        }
+
+        @Override
+        public long pid() {
+            return process.pid();
+        }
+
+        @Override
+        public ProcessHandle toHandle() {
+            return process.toHandle();
+        }
+
+        @Override
+        public void destroy() {
+            process.destroy();
+        }
+
+        @Override
+        public Process destroyForcibly() {
+            process.destroyForcibly();
+            return this;
+        }
+    }
+}
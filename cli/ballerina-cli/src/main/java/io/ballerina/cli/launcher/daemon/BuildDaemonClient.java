@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.cli.launcher.daemon;
+
+import io.ballerina.projects.util.ProjectConstants;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.PORT;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.TOKEN;
+
+/**
+ * Delegates the {@code bal build}, {@code bal run} and {@code bal test} commands to the {@link BuildDaemon} serving
+ * the current working directory, when the {@code BAL_BUILD_DAEMON} environment variable is set to {@code true}.
+ * <p>
+ * If there is no daemon serving the working directory, a new daemon is started in the background and the current
+ * command is executed in the current process.
+ *
+ * @since 2201.12.0
+ */
+public final class BuildDaemonClient {
+
+    private static final int CONNECT_TIMEOUT = 1000;
+    private static final String WATCH_OPTION = "--watch";
+    private static final PrintStream errStream = System.err;
+
+    private BuildDaemonClient() {
+    }
+
+    /**
+     * Executes the given command in the build daemon, if applicable.
+     *
+     * @param args command line arguments
+     * @return the exit code of the command, or empty if the command should be executed in the current process
+     */
+    public static Optional<Integer> delegate(String... args) {
+        if (!DaemonProtocol.isEnabled() || args.length == 0 || !DaemonProtocol.DAEMON_COMMANDS.contains(args[0])) {
+            return Optional.empty();
+        }
+        // Watching a project never completes, which would block the daemon.
+        if (Arrays.asList(args).contains(WATCH_OPTION)) {
+            return Optional.empty();
+        }
+
+        Path workingDir = Path.of(System.getProperty(ProjectConstants.USER_DIR)).toAbsolutePath().normalize();
+        return delegate(workingDir, DaemonProtocol.infoFile(workingDir), args);
+    }
+
+    static Optional<Integer> delegate(Path workingDir, Path infoFile, String... args) {
+        Optional<Properties> info = DaemonProtocol.readInfo(infoFile);
+        if (info.isEmpty()) {
+            startDaemon(workingDir, infoFile);
+            return Optional.empty();
+        }
+
+        Socket socket = new Socket();
+        try {
+            int port = Integer.parseInt(info.get().getProperty(PORT));
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT);
+        } catch (IOException | NumberFormatException e) {
+            // The daemon has been terminated.
+            closeQuietly(socket);
+            startDaemon(workingDir, infoFile);
+            return Optional.empty();
+        }
+
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            DaemonProtocol.writeRequest(out, new DaemonProtocol.Request(info.get().getProperty(TOKEN, ""),
+                    DaemonProtocol.fingerprint(), workingDir, System.getenv(), args));
+            Optional<Integer> exitCode = DaemonProtocol.readFrames(in, System.out, System.err);
+            if (exitCode.isEmpty()) {
+                // The daemon was started with a different distribution or build environment.
+                startDaemon(workingDir, infoFile);
+            }
+            return exitCode;
+        } catch (IOException e) {
+            // The command may have been partially executed. Hence, it is not retried in the current process.
+            errStream.println("error: lost connection to the build daemon: " + e.getMessage());
+            return Optional.of(1);
+        }
+    }
+
+    private static void startDaemon(Path workingDir, Path infoFile) {
+        // A running daemon holds the lock. Hence, if it is held, another client has just started a daemon which has
+        // not published its port yet. If two clients start a daemon at the same time, the one which fails to acquire
+        // the lock exits.
+        try {
+            Optional<FileLock> lock = DaemonProtocol.tryLock(DaemonProtocol.lockFile(infoFile));
+            if (lock.isEmpty()) {
+                return;
+            }
+            lock.get().acquiredBy().close();
+        } catch (IOException e) {
+            return;
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        for (String jvmArg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            // The debug agent of the CLI would conflict with the one of the daemon.
+            if (!jvmArg.startsWith("-agentlib:jdwp") && !jvmArg.startsWith("-Xrunjdwp")) {
+                command.add(jvmArg);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(BuildDaemon.class.getName());
+
+        try {
+            Files.createDirectories(infoFile.getParent());
+            Process daemon = new ProcessBuilder(command)
+                    .directory(workingDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.appendTo(DaemonProtocol.logFile(infoFile).toFile()))
+                    .start();
+            daemon.getOutputStream().close();
+        } catch (IOException e) {
+            // The command is executed in the current process.
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+}
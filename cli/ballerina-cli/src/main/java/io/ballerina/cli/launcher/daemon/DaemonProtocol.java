@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.cli.launcher.daemon;
+
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Wire format and discovery details shared by the build daemon and its clients.
+ * <p>
+ * A daemon serves a single working directory, so that relative paths given to the commands resolve the same way as
+ * they would in a fresh JVM. The port of the daemon serving a working directory is published in a properties file in
+ * the {@code daemon} directory of the user home repository, along with a token which must be presented by the
+ * clients.
+ *
+ * @since 2201.12.0
+ */
+final class DaemonProtocol {
+
+    static final String DAEMON_ENV_VARIABLE = "BAL_BUILD_DAEMON";
+    static final Set<String> DAEMON_COMMANDS = Set.of("build", "run", "test");
+
+    static final byte STDOUT = 1;
+    static final byte STDERR = 2;
+    static final byte EXIT = 3;
+    static final byte REJECTED = 4;
+
+    static final String PORT = "port";
+    static final String TOKEN = "token";
+    static final String PID = "pid";
+
+    private static final String DAEMON_DIR = "daemon";
+    private static final int MAX_STRING_LENGTH = 1024 * 1024;
+    private static final Set<String> FINGERPRINTED_ENV_PREFIXES = Set.of("BAL", "JAVA");
+
+    private DaemonProtocol() {
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getenv(DAEMON_ENV_VARIABLE));
+    }
+
+    /**
+     * Returns the file which holds the connection details of the daemon serving the given working directory.
+     *
+     * @param workingDir working directory of the daemon
+     * @return daemon info file path
+     */
+    static Path infoFile(Path workingDir) {
+        String key = workingDir.toAbsolutePath().normalize() + "|" +
+                System.getProperty(ProjectConstants.BALLERINA_HOME);
+        String fileName = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + ".properties";
+        return ProjectUtils.createAndGetHomeReposPath().resolve(DAEMON_DIR).resolve(fileName);
+    }
+
+    static Path logFile(Path infoFile) {
+        return siblingFile(infoFile, ".log");
+    }
+
+    static Path lockFile(Path infoFile) {
+        return siblingFile(infoFile, ".lock");
+    }
+
+    private static Path siblingFile(Path infoFile, String extension) {
+        String fileName = infoFile.getFileName().toString();
+        return infoFile.resolveSibling(fileName.substring(0, fileName.lastIndexOf('.')) + extension);
+    }
+
+    /**
+     * Acquires the given lock file. The daemon serving a working directory holds its lock as long as it runs, so
+     * that only one daemon is started for a working directory.
+     *
+     * @param lockFile lock file
+     * @return the lock, or empty if it is held by another daemon
+     * @throws IOException if the lock file cannot be opened
+     */
+    static Optional<FileLock> tryLock(Path lockFile) throws IOException {
+        Files.createDirectories(lockFile.getParent());
+        FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return Optional.of(lock);
+            }
+        } catch (OverlappingFileLockException e) {
+            // The lock is held by the current process.
+        }
+        channel.close();
+        return Optional.empty();
+    }
+
+    static Optional<Properties> readInfo(Path infoFile) {
+        if (!Files.isRegularFile(infoFile)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(infoFile)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        return Optional.of(properties);
+    }
+
+    static void writeInfo(Path infoFile, Properties properties) throws IOException {
+        Files.createDirectories(infoFile.getParent());
+        // Write to a temporary file and move, so that the clients never see a partially written file.
+        Path tempFile = Files.createTempFile(infoFile.getParent(), "daemon", ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile)) {
+            properties.store(writer, null);
+        }
+        Files.move(tempFile, infoFile, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns a fingerprint of the distribution and the environment which affect the compilation. A daemon only
+     * serves the clients with the same fingerprint.
+     *
+     * @return fingerprint
+     */
+    static String fingerprint() {
+        Map<String, String> values = new TreeMap<>();
+        values.put(ProjectConstants.BALLERINA_HOME, System.getProperty(ProjectConstants.BALLERINA_HOME, ""));
+        values.put("ballerina.version", RepoUtils.getBallerinaVersion());
+        values.put("java.class.path", System.getProperty("java.class.path"));
+        for (Map.Entry<String, String> entry : System.getenv().entrySet()) {
+            if (FINGERPRINTED_ENV_PREFIXES.stream().anyMatch(prefix -> entry.getKey().startsWith(prefix))) {
+                values.put("env." + entry.getKey(), entry.getValue());
+            }
+        }
+        return sha256(values.toString());
+    }
+
+    static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IOException("invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeRequest(DataOutputStream out, Request request) throws IOException {
+        writeString(out, request.token());
+        writeString(out, request.fingerprint());
+        writeString(out, request.workingDir().toString());
+        out.writeInt(request.env().size());
+        for (Map.Entry<String, String> entry : request.env().entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+        out.writeInt(request.args().length);
+        for (String arg : request.args()) {
+            writeString(out, arg);
+        }
+        out.flush();
+    }
+
+    static Request readRequest(DataInputStream in) throws IOException {
+        String token = readString(in);
+        String fingerprint = readString(in);
+        Path workingDir = Path.of(readString(in));
+        Map<String, String> env = new HashMap<>();
+        int envCount = in.readInt();
+        for (int i = 0; i < envCount; i++) {
+            env.put(readString(in), readString(in));
+        }
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readString(in);
+        }
+        return new Request(token, fingerprint, workingDir, env, args);
+    }
+
+    /**
+     * Copies a framed output stream sent by the daemon, until the exit frame is received.
+     *
+     * @param in  input stream from the daemon
+     * @param out standard output of the client
+     * @param err standard error of the client
+     * @return exit code of the command, or empty if the daemon rejected the request
+     * @throws IOException if the connection fails
+     */
+    static Optional<Integer> readFrames(DataInputStream in, OutputStream out, OutputStream err) throws IOException {
+        while (true) {
+            byte kind = in.readByte();
+            switch (kind) {
+                case STDOUT, STDERR -> {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    OutputStream target = kind == STDOUT ? out : err;
+                    target.write(bytes);
+                    target.flush();
+                }
+                case EXIT -> {
+                    return Optional.of(in.readInt());
+                }
+                case REJECTED -> {
+                    return Optional.empty();
+                }
+                default -> throw new IOException("unexpected frame from the build daemon: " + kind);
+            }
+        }
+    }
+
+    /**
+     * A command to be executed by the daemon.
+     *
+     * @param token       token published by the daemon
+     * @param fingerprint fingerprint of the client
+     * @param workingDir  working directory of the client
+     * @param env         environment variables of the client
+     * @param args        command line arguments
+     */
+    record Request(String token, String fingerprint, Path workingDir, Map<String, String> env, String[] args) {
+    }
+
+    /**
+     * An output stream which writes to a target which can be replaced. The daemon installs these as the standard
+     * output and error streams, so that the streams kept in static fields are also forwarded to the current client.
+     */
+    static final class RedirectableOutputStream extends OutputStream {
+
+        private volatile OutputStream target;
+
+        RedirectableOutputStream(OutputStream target) {
+            this.target = target;
+        }
+
+        void redirect(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            target.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+    }
+
+    /**
+     * An output stream which sends the written bytes as frames of the given kind.
+     */
+    static final class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream out;
+        private final byte kind;
+
+        FrameOutputStream(DataOutputStream out, byte kind) {
+            this.out = out;
+            this.kind = kind;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            // Both the output and the error frames are written to the same connection.
+            synchronized (out) {
+                out.writeByte(kind);
+                out.writeInt(length);
+                out.write(bytes, offset, length);
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Copies all the bytes from the given input stream, ignoring the failures of the target stream once the client
+     * has disconnected.
+     */
+    static void pump(InputStream in, OutputStream out) {
+        byte[] buffer = new byte[8192];
+        try (in) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The process or the client has terminated.
+        }
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.cli.task;
 
 import io.ballerina.cli.utils.BuildTime;
 import io.ballerina.cli.utils.BuildUtils;
+import io.ballerina.cli.utils.ClassDataSharingUtils;
 import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.cli.utils.GraalVMCompatibilityUtils;
 import io.ballerina.projects.EmitResult;
@@ -92,6 +93,8 @@ public class CreateExecutableTask implements Task {
                     out.println(warnings);
                 }
                 emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.GRAAL_EXEC, executablePath);
+            } else if (project.buildOptions().layered()) {
+                emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.LAYERED_EXEC, executablePath);
             } else {
                 emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
             }
@@ -118,6 +121,10 @@ public class CreateExecutableTask implements Task {
             throw createLauncherException(e.getMessage());
         }
 
+        if (project.buildOptions().classDataSharing() && !project.buildOptions().nativeImage()) {
+            createClassDataSharingArchive(executablePath);
+        }
+
         if (!project.buildOptions().nativeImage() && !isHideTaskOutput) {
             Path relativePathToExecutable = currentDir.relativize(executablePath);
 
@@ -138,6 +145,18 @@ public class CreateExecutableTask implements Task {
         BuildUtils.notifyPlugins(project, target);
     }
 
+    private void createClassDataSharingArchive(Path executablePath) {
+        if (!isHideTaskOutput) {
+            this.out.println("\tGenerating class data sharing archive");
+        }
+        try {
+            ClassDataSharingUtils.createArchive(executablePath, System.getProperty("java.command"));
+        } catch (IOException e) {
+            // The executable is still usable without the archive.
+            this.out.println("\twarning: failed to generate the class data sharing archive: " + e.getMessage());
+        }
+    }
+
     private Target getTarget(Project project) {
         Target target;
         try {
@@ -18,6 +18,7 @@
 
 package io.ballerina.cli.task;
 
+import io.ballerina.cli.launcher.daemon.BuildDaemon;
 import io.ballerina.cli.utils.BuildTime;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JarResolver;
@@ -291,8 +292,7 @@ public class RunTestsTask implements Task {
                 this.groupList, this.disableGroupList, this.singleExecTests, this.isRerunTestExecution,
                 this.listGroups, this.cliArgs, false, isParallelExecution);
 
-        ProcessBuilder processBuilder = new ProcessBuilder(cmdArgs).inheritIO();
-        Process proc = processBuilder.start();
+        Process proc = BuildDaemon.startProcess(new ProcessBuilder(cmdArgs));
         return proc.waitFor();
     }
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.cli.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the class data sharing (CDS) archive of an executable jar, along with the scripts which run the
+ * executable with the archive.
+ * <p>
+ * The archive is a JDK dynamic CDS archive, created by a training run of the executable which loads all its classes
+ * without executing any Ballerina code. A JVM only uses an archive created by the same Java runtime, for the same
+ * executable jar. Otherwise, the archive is ignored and the classes are loaded from the jar.
+ *
+ * @since 2201.12.0
+ */
+public final class ClassDataSharingUtils {
+
+    private static final String ARCHIVE_EXTENSION = ".jsa";
+    private static final String SHELL_SCRIPT_EXTENSION = ".sh";
+    private static final String BATCH_SCRIPT_EXTENSION = ".bat";
+    private static final String TRAINER_CLASS = "io.ballerina.runtime.internal.launch.ClassDataSharingTrainer";
+    private static final long TRAINING_TIMEOUT_MINUTES = 10;
+
+    private ClassDataSharingUtils() {
+    }
+
+    /**
+     * Returns the path of the class data sharing archive of the given executable jar.
+     *
+     * @param executablePath path of the executable jar
+     * @return archive path
+     */
+    public static Path getArchivePath(Path executablePath) {
+        return executablePath.resolveSibling(FileUtils.getFileNameWithoutExtension(executablePath) +
+                ARCHIVE_EXTENSION);
+    }
+
+    /**
+     * Returns the JVM arguments to run the given executable jar with its class data sharing archive, if there is an
+     * archive which is up to date with the jar.
+     *
+     * @param executablePath path of the executable jar
+     * @return JVM arguments, or an empty list if there is no usable archive
+     */
+    public static List<String> getJvmArgs(Path executablePath) {
+        Path archivePath = getArchivePath(executablePath);
+        try {
+            if (!Files.isRegularFile(archivePath) || Files.getLastModifiedTime(archivePath)
+                    .compareTo(Files.getLastModifiedTime(executablePath)) < 0) {
+                return List.of();
+            }
+        } catch (IOException e) {
+            return List.of();
+        }
+        return List.of("-XX:SharedArchiveFile=" + archivePath, "-Xshare:auto");
+    }
+
+    /**
+     * Creates the class data sharing archive of the given executable jar, and the scripts to run the executable
+     * with the archive.
+     *
+     * @param executablePath path of the executable jar
+     * @param javaCommand    java command which is used to run the executable
+     * @throws IOException if the archive or the scripts cannot be created
+     */
+    public static void createArchive(Path executablePath, String javaCommand) throws IOException {
+        Path archivePath = getArchivePath(executablePath);
+        Files.deleteIfExists(archivePath);
+
+        List<String> command = new ArrayList<>();
+        command.add(javaCommand);
+        command.add("-XX:ArchiveClassesAtExit=" + archivePath);
+        command.add("-cp");
+        command.add(executablePath.toString());
+        command.add(TRAINER_CLASS);
+        command.add(executablePath.toString());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            if (!process.waitFor(TRAINING_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                process.destroyForcibly();
+                throw new IOException("the training run did not complete in " + TRAINING_TIMEOUT_MINUTES +
+                        " minutes");
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException("the training run was interrupted");
+        }
+        if (process.exitValue() != 0 || !Files.isRegularFile(archivePath)) {
+            throw new IOException("the training run failed with exit code " + process.exitValue());
+        }
+        writeScripts(executablePath, archivePath);
+    }
+
+    private static void writeScripts(Path executablePath, Path archivePath) throws IOException {
+        String jarName = executablePath.getFileName().toString();
+        String archiveName = archivePath.getFileName().toString();
+        String scriptName = FileUtils.getFileNameWithoutExtension(executablePath);
+
+        Path shellScript = executablePath.resolveSibling(scriptName + SHELL_SCRIPT_EXTENSION);
+        Files.writeString(shellScript, """
+                #!/bin/sh
+                # Runs %1$s with the class data sharing archive created by 'bal build --cds'.
+                # The archive is ignored if it was created by a different Java runtime.
+                DIR="$(cd "$(dirname "$0")" && pwd)"
+                if [ -n "$JAVA_HOME" ]; then JAVA="$JAVA_HOME/bin/java"; else JAVA="java"; fi
+                exec "$JAVA" -XX:SharedArchiveFile="$DIR/%2$s" -Xshare:auto $JAVA_OPTS -jar "$DIR/%1$s" "$@"
+                """.formatted(jarName, archiveName));
+        if (!OsUtils.isWindows()) {
+            Files.setPosixFilePermissions(shellScript, PosixFilePermissions.fromString("rwxr-xr-x"));
+        }
+
+        Path batchScript = executablePath.resolveSibling(scriptName + BATCH_SCRIPT_EXTENSION);
+        Files.writeString(batchScript, """
+                @echo off\r
+                rem Runs %1$s with the class data sharing archive created by 'bal build --cds'.\r
+                rem The archive is ignored if it was created by a different Java runtime.\r
+                if defined JAVA_HOME (set "JAVA=%%JAVA_HOME%%\\bin\\java") else (set "JAVA=java")\r
+                "%%JAVA%%" -XX:SharedArchiveFile="%%~dp0%2$s" -Xshare:auto %%JAVA_OPTS%% -jar "%%~dp0%1$s" %%*\r
+                """.formatted(jarName, archiveName));
+    }
+}
@@ -20,6 +20,7 @@ module io.ballerina.cli {
     requires io.ballerina.central.client;
     requires io.ballerina.docerina;
     requires jdk.httpserver;
+    requires java.management;
     requires org.slf4j;
     requires io.ballerina.shell.cli;
     requires io.ballerina.toml;
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.cli.launcher.daemon;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.EXIT;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.STDERR;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.STDOUT;
+
+/**
+ * Tests for delegating commands to the build daemon.
+ *
+ * @since 2201.12.0
+ */
+public class BuildDaemonClientTest {
+
+    private static final String TOKEN = "test-token";
+
+    private Path tmpDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tmpDir = Files.createTempDirectory("bal-daemon-client-test");
+    }
+
+    @Test
+    public void testCommandsNotDelegatedWhenDisabled() {
+        if (DaemonProtocol.isEnabled()) {
+            return;
+        }
+        Assert.assertTrue(BuildDaemonClient.delegate("build").isEmpty());
+    }
+
+    @Test
+    public void testDelegateForwardsOutputAndExitCode() throws Exception {
+        Path workingDir = tmpDir.resolve("project");
+        Path infoFile = tmpDir.resolve("daemon").resolve("project.properties");
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Properties info = new Properties();
+            info.setProperty(DaemonProtocol.PORT, String.valueOf(serverSocket.getLocalPort()));
+            info.setProperty(DaemonProtocol.TOKEN, TOKEN);
+            DaemonProtocol.writeInfo(infoFile, info);
+
+            CompletableFuture<DaemonProtocol.Request> received = CompletableFuture.supplyAsync(() -> {
+                try (Socket socket = serverSocket.accept();
+                     DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                     DataOutputStream out = new DataOutputStream(
+                             new BufferedOutputStream(socket.getOutputStream()))) {
+                    DaemonProtocol.Request request = DaemonProtocol.readRequest(in);
+                    new DaemonProtocol.FrameOutputStream(out, STDOUT)
+                            .write("Compiling source\n".getBytes(StandardCharsets.UTF_8));
+                    new DaemonProtocol.FrameOutputStream(out, STDERR)
+                            .write("error: compilation contains errors\n".getBytes(StandardCharsets.UTF_8));
+                    out.writeByte(EXIT);
+                    out.writeInt(1);
+                    out.flush();
+                    return request;
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+            ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+            PrintStream originalOut = System.out;
+            PrintStream originalErr = System.err;
+            Optional<Integer> exitCode;
+            try {
+                System.setOut(new PrintStream(stdout, true, StandardCharsets.UTF_8));
+                System.setErr(new PrintStream(stderr, true, StandardCharsets.UTF_8));
+                exitCode = BuildDaemonClient.delegate(workingDir, infoFile, "build", "--offline");
+            } finally {
+                System.setOut(originalOut);
+                System.setErr(originalErr);
+            }
+
+            Assert.assertEquals(exitCode, Optional.of(1));
+            Assert.assertEquals(stdout.toString(StandardCharsets.UTF_8), "Compiling source\n");
+            Assert.assertEquals(stderr.toString(StandardCharsets.UTF_8), "error: compilation contains errors\n");
+
+            DaemonProtocol.Request request = received.get(10, TimeUnit.SECONDS);
+            Assert.assertEquals(request.token(), TOKEN);
+            Assert.assertEquals(request.fingerprint(), DaemonProtocol.fingerprint());
+            Assert.assertEquals(request.workingDir(), workingDir);
+            Assert.assertEquals(request.args(), new String[]{"build", "--offline"});
+            Assert.assertEquals(request.env(), System.getenv());
+        }
+    }
+
+    @Test
+    public void testWatchIsNotDelegated() {
+        Assert.assertTrue(BuildDaemonClient.delegate("run", "--watch").isEmpty());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
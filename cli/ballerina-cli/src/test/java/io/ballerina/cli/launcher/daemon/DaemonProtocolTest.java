@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.cli.launcher.daemon;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.EXIT;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.REJECTED;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.STDERR;
+import static io.ballerina.cli.launcher.daemon.DaemonProtocol.STDOUT;
+
+/**
+ * Tests for the wire format and the discovery files of the build daemon.
+ *
+ * @since 2201.12.0
+ */
+public class DaemonProtocolTest {
+
+    private Path tmpDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tmpDir = Files.createTempDirectory("bal-daemon-protocol-test");
+    }
+
+    @Test
+    public void testRequestRoundTrip() throws IOException {
+        DaemonProtocol.Request request = new DaemonProtocol.Request("token", "fingerprint", Path.of("/tmp/project"),
+                Map.of("BAL_BUILD_DAEMON", "true", "HOME", "/home/ünïcode"), new String[]{"build", "--offline"});
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DaemonProtocol.writeRequest(new DataOutputStream(bytes), request);
+
+        DaemonProtocol.Request read = DaemonProtocol.readRequest(toInput(bytes));
+        Assert.assertEquals(read.token(), request.token());
+        Assert.assertEquals(read.fingerprint(), request.fingerprint());
+        Assert.assertEquals(read.workingDir(), request.workingDir());
+        Assert.assertEquals(read.env(), request.env());
+        Assert.assertEquals(read.args(), request.args());
+    }
+
+    @Test
+    public void testFramesAreForwardedUntilExit() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        PrintStream clientOut = new PrintStream(new DaemonProtocol.FrameOutputStream(out, STDOUT), true,
+                StandardCharsets.UTF_8);
+        PrintStream clientErr = new PrintStream(new DaemonProtocol.FrameOutputStream(out, STDERR), true,
+                StandardCharsets.UTF_8);
+        clientOut.print("Compiling source");
+        clientErr.print("error: something failed");
+        clientOut.print("\n");
+        out.writeByte(EXIT);
+        out.writeInt(3);
+        // Anything after the exit frame is not read.
+        out.writeByte(STDOUT);
+
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        Optional<Integer> exitCode = DaemonProtocol.readFrames(toInput(bytes), stdout, stderr);
+        Assert.assertEquals(exitCode, Optional.of(3));
+        Assert.assertEquals(stdout.toString(StandardCharsets.UTF_8), "Compiling source\n");
+        Assert.assertEquals(stderr.toString(StandardCharsets.UTF_8), "error: something failed");
+    }
+
+    @Test
+    public void testRejectedRequest() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeByte(REJECTED);
+        Optional<Integer> exitCode = DaemonProtocol.readFrames(toInput(bytes), new ByteArrayOutputStream(),
+                new ByteArrayOutputStream());
+        Assert.assertTrue(exitCode.isEmpty());
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "unexpected frame.*")
+    public void testUnexpectedFrame() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeByte(42);
+        DaemonProtocol.readFrames(toInput(bytes), new ByteArrayOutputStream(), new ByteArrayOutputStream());
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "invalid string length.*")
+    public void testInvalidStringLength() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeInt(-1);
+        DaemonProtocol.readString(toInput(bytes));
+    }
+
+    @Test
+    public void testInfoFileRoundTrip() throws IOException {
+        Path infoFile = tmpDir.resolve("daemon").resolve("info.properties");
+        Assert.assertTrue(DaemonProtocol.readInfo(infoFile).isEmpty());
+
+        Properties info = new Properties();
+        info.setProperty(DaemonProtocol.PORT, "4242");
+        info.setProperty(DaemonProtocol.TOKEN, "token");
+        DaemonProtocol.writeInfo(infoFile, info);
+        Assert.assertEquals(DaemonProtocol.readInfo(infoFile), Optional.of(info));
+        Assert.assertEquals(DaemonProtocol.logFile(infoFile), infoFile.resolveSibling("info.log"));
+        Assert.assertEquals(DaemonProtocol.lockFile(infoFile), infoFile.resolveSibling("info.lock"));
+    }
+
+    @Test
+    public void testLockIsExclusive() throws IOException {
+        Path lockFile = tmpDir.resolve("daemon").resolve("exclusive.lock");
+        Optional<FileLock> lock = DaemonProtocol.tryLock(lockFile);
+        Assert.assertTrue(lock.isPresent());
+        Assert.assertTrue(DaemonProtocol.tryLock(lockFile).isEmpty());
+
+        lock.get().acquiredBy().close();
+        Optional<FileLock> relock = DaemonProtocol.tryLock(lockFile);
+        Assert.assertTrue(relock.isPresent());
+        relock.get().acquiredBy().close();
+    }
+
+    @Test
+    public void testRedirectedStreamKeptInStaticField() {
+        ByteArrayOutputStream daemonLog = new ByteArrayOutputStream();
+        ByteArrayOutputStream client = new ByteArrayOutputStream();
+        DaemonProtocol.RedirectableOutputStream stream = new DaemonProtocol.RedirectableOutputStream(daemonLog);
+        // Similar to a stream kept in a static field, before any client is served.
+        PrintStream captured = new PrintStream(stream, true, StandardCharsets.UTF_8);
+
+        stream.redirect(client);
+        captured.println("to the client");
+        stream.redirect(daemonLog);
+        captured.println("to the log");
+
+        Assert.assertEquals(client.toString(StandardCharsets.UTF_8), "to the client" + System.lineSeparator());
+        Assert.assertEquals(daemonLog.toString(StandardCharsets.UTF_8), "to the log" + System.lineSeparator());
+    }
+
+    @Test
+    public void testFingerprintIsStable() {
+        Assert.assertEquals(DaemonProtocol.fingerprint(), DaemonProtocol.fingerprint());
+        Assert.assertNotEquals(DaemonProtocol.sha256("a"), DaemonProtocol.sha256("b"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static DataInputStream toInput(ByteArrayOutputStream bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.cli.utils;
+
+import io.ballerina.projects.util.ProjectUtils;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static org.objectweb.asm.Opcodes.ACC_ABSTRACT;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.V21;
+
+/**
+ * Tests for the class data sharing archive of the executables.
+ *
+ * @since 2201.12.0
+ */
+public class ClassDataSharingUtilsTest {
+
+    private static final String TRAINER_CLASS = "io.ballerina.runtime.internal.launch.ClassDataSharingTrainer";
+    private static final String JAVA_COMMAND = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tempDir = Files.createTempDirectory("cds-test-");
+    }
+
+    @Test(description = "Test the JVM arguments of an executable without an archive")
+    public void testGetJvmArgsWithoutArchive() throws IOException {
+        Path executablePath = writeJar(tempDir.resolve("no_archive.jar"), null, Greeting.class);
+        Assert.assertEquals(ClassDataSharingUtils.getJvmArgs(executablePath), List.of());
+    }
+
+    @Test(description = "Test the JVM arguments of an executable which is newer than its archive")
+    public void testGetJvmArgsWithStaleArchive() throws IOException {
+        Path executablePath = writeJar(tempDir.resolve("stale_archive.jar"), null, Greeting.class);
+        Path archivePath = ClassDataSharingUtils.getArchivePath(executablePath);
+        Assert.assertEquals(archivePath, tempDir.resolve("stale_archive.jsa"));
+        Files.writeString(archivePath, "archive");
+        Files.setLastModifiedTime(archivePath, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        Assert.assertEquals(ClassDataSharingUtils.getJvmArgs(executablePath), List.of());
+    }
+
+    @Test(description = "Test the JVM arguments of an executable with an up to date archive")
+    public void testGetJvmArgsWithArchive() throws IOException {
+        Path executablePath = writeJar(tempDir.resolve("archive.jar"), null, Greeting.class);
+        Path archivePath = ClassDataSharingUtils.getArchivePath(executablePath);
+        Files.writeString(archivePath, "archive");
+        Files.setLastModifiedTime(archivePath, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        Assert.assertEquals(ClassDataSharingUtils.getJvmArgs(executablePath),
+                List.of("-XX:SharedArchiveFile=" + archivePath, "-Xshare:auto"));
+    }
+
+    @Test(description = "Test creating the archive of an executable jar")
+    public void testCreateArchive() throws IOException, InterruptedException {
+        Path executablePath = writeJar(tempDir.resolve("fat.jar"), null, Greeting.class, getTrainerClass());
+        ClassDataSharingUtils.createArchive(executablePath, JAVA_COMMAND);
+
+        Path archivePath = tempDir.resolve("fat.jsa");
+        Assert.assertTrue(Files.isRegularFile(archivePath));
+        String shellScript = Files.readString(tempDir.resolve("fat.sh"));
+        Assert.assertTrue(shellScript.contains("-XX:SharedArchiveFile=\"$DIR/fat.jsa\""), shellScript);
+        Assert.assertTrue(Files.readString(tempDir.resolve("fat.bat")).contains("fat.jsa"));
+        Assert.assertEquals(ClassDataSharingUtils.getJvmArgs(executablePath).size(), 2);
+        assertArchived(executablePath, archivePath, Greeting.class.getName());
+    }
+
+    @Test(description = "Test creating the archive of a layered executable jar, which has a manifest class path")
+    public void testCreateArchiveOfLayeredExecutable() throws IOException, InterruptedException {
+        Path layeredDir = Files.createDirectories(tempDir.resolve("layered"));
+        writeJar(layeredDir.resolve("layers/runtime/runtime layer.jar"), null, getTrainerClass());
+        writeJar(layeredDir.resolve("layers/dependencies/dependency.jar"), null, Greeting.class);
+        Path executablePath = writeJar(layeredDir.resolve("thin.jar"),
+                "layers/runtime/runtime%20layer.jar layers/dependencies/dependency.jar", Farewell.class);
+        ClassDataSharingUtils.createArchive(executablePath, JAVA_COMMAND);
+
+        // The classes of the jars in the manifest class path are archived along with the ones of the thin jar.
+        Path archivePath = layeredDir.resolve("thin.jsa");
+        Assert.assertTrue(Files.isRegularFile(archivePath));
+        assertArchived(executablePath, archivePath, Farewell.class.getName());
+        assertArchived(executablePath, archivePath, Greeting.class.getName());
+    }
+
+    @Test(description = "Test creating the archive of an executable jar with a class which refers to a non-public " +
+            "class of another package")
+    public void testCreateArchiveWithInaccessibleClassReference() throws IOException, InterruptedException {
+        // The archive dump fails as a whole if the class which refers to its non-public super class is archived.
+        Map<String, byte[]> classes = getClassBytes(Greeting.class, getTrainerClass());
+        classes.put("hidden/Hidden", createClass("hidden/Hidden", ACC_ABSTRACT | ACC_SUPER, "java/lang/Object", null));
+        classes.put("hidden/Base", createClass("hidden/Base", ACC_PUBLIC | ACC_SUPER, "hidden/Hidden", null));
+        classes.put("shaded/Broken", createClass("shaded/Broken", ACC_PUBLIC | ACC_SUPER, "hidden/Base",
+                "hidden/Hidden"));
+        Path executablePath = writeJar(tempDir.resolve("inaccessible.jar"), null, classes);
+        ClassDataSharingUtils.createArchive(executablePath, JAVA_COMMAND);
+
+        Path archivePath = tempDir.resolve("inaccessible.jsa");
+        Assert.assertTrue(Files.isRegularFile(archivePath));
+        assertArchived(executablePath, archivePath, Greeting.class.getName());
+    }
+
+    @Test(description = "Test creating the archive of an executable jar without the runtime",
+            expectedExceptions = IOException.class)
+    public void testCreateArchiveWithoutRuntime() throws IOException {
+        Path executablePath = writeJar(tempDir.resolve("no_runtime.jar"), null, Greeting.class);
+        try {
+            ClassDataSharingUtils.createArchive(executablePath, JAVA_COMMAND);
+        } finally {
+            Assert.assertFalse(Files.exists(tempDir.resolve("no_runtime.sh")));
+        }
+    }
+
+    @AfterClass
+    public void cleanup() {
+        ProjectUtils.deleteDirectory(tempDir);
+    }
+
+    private static void assertArchived(Path executablePath, Path archivePath, String className)
+            throws IOException, InterruptedException {
+        List<String> command = List.of(JAVA_COMMAND, "-XX:SharedArchiveFile=" + archivePath, "-Xshare:auto",
+                "-Xlog:class+load=info", "-cp", executablePath.toString(), TRAINER_CLASS, executablePath.toString());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Assert.assertTrue(process.waitFor(1, TimeUnit.MINUTES));
+        Assert.assertEquals(process.exitValue(), 0, output);
+        Assert.assertTrue(output.contains(className + " source: shared objects file"), output);
+    }
+
+    private static Class<?> getTrainerClass() {
+        try {
+            return Class.forName(TRAINER_CLASS, false, ClassDataSharingUtilsTest.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static byte[] createClass(String className, int access, String superClass, String referredClass) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(V21, access, className, null, superClass, null);
+        if (referredClass != null) {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, "referredClass", "()Ljava/lang/Object;",
+                    null, null);
+            mv.visitCode();
+            mv.visitLdcInsn(Type.getObjectType(referredClass));
+            mv.visitInsn(POP);
+            // The class constants are resolved by the archive dump only for the classes with string constants.
+            mv.visitLdcInsn(referredClass);
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static Map<String, byte[]> getClassBytes(Class<?>... classes) throws IOException {
+        Map<String, byte[]> classBytes = new LinkedHashMap<>();
+        for (Class<?> clazz : classes) {
+            String className = clazz.getName().replace('.', '/');
+            try (InputStream classStream = ClassDataSharingUtilsTest.class.getClassLoader()
+                    .getResourceAsStream(className + ".class")) {
+                Assert.assertNotNull(classStream, className);
+                classBytes.put(className, classStream.readAllBytes());
+            }
+            // The nested classes are written along with the class, as they are in the jar of the class.
+            classBytes.putAll(getClassBytes(clazz.getDeclaredClasses()));
+        }
+        return classBytes;
+    }
+
+    private static Path writeJar(Path jarPath, String classPath, Class<?>... classes) throws IOException {
+        return writeJar(jarPath, classPath, getClassBytes(classes));
+    }
+
+    private static Path writeJar(Path jarPath, String classPath, Map<String, byte[]> classes) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (classPath != null) {
+            manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath);
+        }
+        Files.createDirectories(jarPath.getParent());
+        try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jarPath), manifest)) {
+            for (Map.Entry<String, byte[]> classEntry : classes.entrySet()) {
+                jarStream.putNextEntry(new JarEntry(classEntry.getKey() + ".class"));
+                jarStream.write(classEntry.getValue());
+                jarStream.closeEntry();
+            }
+        }
+        return jarPath;
+    }
+
+    /**
+     * Class which is archived by the training runs.
+     */
+    public static class Greeting {
+    }
+
+    /**
+     * Class of the thin executable jar of the layered executable.
+     */
+    public static class Farewell {
+    }
+}
@@ -114,7 +114,7 @@ public class LangLibFunctionBinder {
                                                                    original.owner, original.pos, original.origin);
         ((List<AnnotationAttachmentSymbol>) duplicate.getAnnotations()).addAll(original.getAnnotations());
         duplicate.bodyExist = original.bodyExist;
-        duplicate.markdownDocumentation = original.markdownDocumentation;
+        duplicate.copyMarkdownDocAttachment(original);
         duplicate.receiverSymbol = original.receiverSymbol;
 
         return duplicate;
@@ -152,7 +152,7 @@ public class LangLibFunctionBinder {
         BVarSymbol duplicate = new BVarSymbol(original.flags, original.isWildcard, original.name, original.originalName,
                                               original.pkgID, original.type, original.owner, original.pos,
                                               original.origin);
-        duplicate.markdownDocumentation = original.markdownDocumentation;
+        duplicate.copyMarkdownDocAttachment(original);
 
         for (AnnotationAttachmentSymbol annot : original.getAnnotations()) {
             duplicate.addAnnotation(annot);
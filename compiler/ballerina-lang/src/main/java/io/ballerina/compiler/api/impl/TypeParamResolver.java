@@ -434,7 +434,7 @@ public class TypeParamResolver implements BTypeVisitor<BType, BType> {
         BVarSymbol duplicate = new BVarSymbol(original.flags, original.isWildcard, original.name, original.originalName,
                 original.pkgID, original.type, original.owner, original.pos,
                 original.origin);
-        duplicate.markdownDocumentation = original.markdownDocumentation;
+        duplicate.copyMarkdownDocAttachment(original);
 
         for (AnnotationAttachmentSymbol annot : original.getAnnotations()) {
             duplicate.addAnnotation(annot);
@@ -460,7 +460,7 @@ public class TypeParamResolver implements BTypeVisitor<BType, BType> {
         }
 
         duplicate.bodyExist = original.bodyExist;
-        duplicate.markdownDocumentation = original.markdownDocumentation;
+        duplicate.copyMarkdownDocAttachment(original);
         duplicate.receiverSymbol = original.receiverSymbol;
 
         return duplicate;
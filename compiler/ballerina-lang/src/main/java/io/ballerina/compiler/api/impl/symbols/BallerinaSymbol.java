@@ -171,7 +171,7 @@ public class BallerinaSymbol implements Symbol {
     }
 
     Documentation getDocAttachment(BSymbol symbol) {
-        return symbol == null ? null : new BallerinaDocumentation(symbol.markdownDocumentation);
+        return symbol == null ? null : new BallerinaDocumentation(symbol.getMarkdownDocAttachment());
     }
 
     protected boolean isSameModule(Optional<ModuleSymbol> mod1, Optional<ModuleSymbol> mod2) {
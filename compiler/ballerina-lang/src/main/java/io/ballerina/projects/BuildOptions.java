@@ -35,11 +35,13 @@ public class BuildOptions {
     private final Boolean nativeImage;
     private final Boolean exportComponentModel;
     private final String graalVMBuildOptions;
+    private final Boolean classDataSharing;
+    private final Boolean layered;
 
     BuildOptions(Boolean testReport, Boolean codeCoverage, Boolean dumpBuildTime, Boolean skipTests,
                  CompilationOptions compilationOptions, String targetPath, Boolean enableCache,
                  Boolean nativeImage, Boolean exportComponentModel, String graalVMBuildOptions,
-                 Boolean showDependencyDiagnostics) {
+                 Boolean showDependencyDiagnostics, Boolean classDataSharing, Boolean layered) {
         this.testReport = testReport;
         this.codeCoverage = codeCoverage;
         this.dumpBuildTime = dumpBuildTime;
@@ -51,6 +53,8 @@ public class BuildOptions {
         this.exportComponentModel = exportComponentModel;
         this.graalVMBuildOptions = graalVMBuildOptions;
         this.showDependencyDiagnostics = showDependencyDiagnostics;
+        this.classDataSharing = classDataSharing;
+        this.layered = layered;
 
     }
 
@@ -110,6 +114,14 @@ public class BuildOptions {
         return this.compilationOptions.remoteManagement();
     }
 
+    public boolean parallelAnalysis() {
+        return this.compilationOptions.parallelAnalysis();
+    }
+
+    public boolean parallelCodeGen() {
+        return this.compilationOptions.parallelCodeGen();
+    }
+
     CompilationOptions compilationOptions() {
         return this.compilationOptions;
     }
@@ -138,6 +150,14 @@ public class BuildOptions {
         return toBooleanDefaultIfNull(this.showDependencyDiagnostics);
     }
 
+    public boolean classDataSharing() {
+        return toBooleanDefaultIfNull(this.classDataSharing);
+    }
+
+    public boolean layered() {
+        return toBooleanDefaultIfNull(this.layered);
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -196,6 +216,16 @@ public class BuildOptions {
         } else {
             buildOptionsBuilder.setShowDependencyDiagnostics(this.showDependencyDiagnostics);
         }
+        if (theirOptions.classDataSharing != null) {
+            buildOptionsBuilder.setClassDataSharing(theirOptions.classDataSharing);
+        } else {
+            buildOptionsBuilder.setClassDataSharing(this.classDataSharing);
+        }
+        if (theirOptions.layered != null) {
+            buildOptionsBuilder.setLayered(theirOptions.layered);
+        } else {
+            buildOptionsBuilder.setLayered(this.layered);
+        }
 
         CompilationOptions compilationOptions = this.compilationOptions.acceptTheirs(theirOptions.compilationOptions());
         buildOptionsBuilder.setOffline(compilationOptions.offlineBuild);
@@ -213,6 +243,8 @@ public class BuildOptions {
         buildOptionsBuilder.setEnableCache(compilationOptions.enableCache);
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
         buildOptionsBuilder.setOptimizeDependencyCompilation(compilationOptions.optimizeDependencyCompilation);
+        buildOptionsBuilder.setParallelAnalysis(compilationOptions.parallelAnalysis);
+        buildOptionsBuilder.setParallelCodeGen(compilationOptions.parallelCodeGen);
 
         return buildOptionsBuilder.build();
     }
@@ -252,7 +284,9 @@ public class BuildOptions {
         EXPORT_COMPONENT_MODEL("exportComponentModel"),
         GRAAL_VM_BUILD_OPTIONS("graalvmBuildOptions"),
         SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics"),
-        OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation");
+        OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation"),
+        CLASS_DATA_SHARING("cds"),
+        LAYERED("layered");
 
         private final String name;
 
@@ -284,6 +318,8 @@ public class BuildOptions {
         private Boolean exportComponentModel;
         private String graalVMBuildOptions;
         private Boolean showDependencyDiagnostics;
+        private Boolean classDataSharing;
+        private Boolean layered;
 
         private BuildOptionsBuilder() {
             compilationOptionsBuilder = CompilationOptions.builder();
@@ -416,6 +452,30 @@ public class BuildOptions {
             showDependencyDiagnostics = value;
             return this;
         }
+
+        /**
+         * Option to generate a class data sharing archive for the executable, by running the executable once to
+         * load its classes.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setClassDataSharing(Boolean value) {
+            classDataSharing = value;
+            return this;
+        }
+
+        /**
+         * Option to generate a thin executable jar, which refers to the runtime and the dependency jars copied into
+         * separate layer directories.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setLayered(Boolean value) {
+            layered = value;
+            return this;
+        }
         
         /**
          * (Experimental) option to specify that the memory usage must be optimized.
@@ -428,11 +488,33 @@ public class BuildOptions {
             return this;
         }
 
+        /**
+         * (Experimental) option to specify that the functions of a module must be code analyzed concurrently.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setParallelAnalysis(Boolean value) {
+            compilationOptionsBuilder.setParallelAnalysis(value);
+            return this;
+        }
+
+        /**
+         * (Experimental) option to specify that the class files of a module must be written concurrently.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setParallelCodeGen(Boolean value) {
+            compilationOptionsBuilder.setParallelCodeGen(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
                     targetPath, enableCache, nativeImage, exportComponentModel, graalVMBuildOptions,
-                    showDependencyDiagnostics);
+                    showDependencyDiagnostics, classDataSharing, layered);
         }
     }
 }
@@ -41,13 +41,16 @@ public class CompilationOptions {
     Boolean disableSyntaxTree;
     Boolean remoteManagement;
     Boolean optimizeDependencyCompilation;
+    Boolean parallelAnalysis;
+    Boolean parallelCodeGen;
 
     CompilationOptions(Boolean offlineBuild, Boolean observabilityIncluded, Boolean dumpBir,
                        Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
                        Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
                        Boolean exportComponentModel, Boolean enableCache, Boolean disableSyntaxTree,
-                       Boolean remoteManagement, Boolean optimizeDependencyCompilation) {
+                       Boolean remoteManagement, Boolean optimizeDependencyCompilation,
+                       Boolean parallelAnalysis, Boolean parallelCodeGen) {
         this.offlineBuild = offlineBuild;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
@@ -66,6 +69,8 @@ public class CompilationOptions {
         this.disableSyntaxTree = disableSyntaxTree;
         this.remoteManagement = remoteManagement;
         this.optimizeDependencyCompilation = optimizeDependencyCompilation;
+        this.parallelAnalysis = parallelAnalysis;
+        this.parallelCodeGen = parallelCodeGen;
     }
 
     public boolean offlineBuild() {
@@ -136,6 +141,14 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.optimizeDependencyCompilation);
     }
 
+    public boolean parallelAnalysis() {
+        return toBooleanDefaultIfNull(this.parallelAnalysis);
+    }
+
+    public boolean parallelCodeGen() {
+        return toBooleanDefaultIfNull(this.parallelCodeGen);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -229,6 +242,16 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setOptimizeDependencyCompilation(this.optimizeDependencyCompilation);
         }
+        if (theirOptions.parallelAnalysis != null) {
+            compilationOptionsBuilder.setParallelAnalysis(theirOptions.parallelAnalysis);
+        } else {
+            compilationOptionsBuilder.setParallelAnalysis(this.parallelAnalysis);
+        }
+        if (theirOptions.parallelCodeGen != null) {
+            compilationOptionsBuilder.setParallelCodeGen(theirOptions.parallelCodeGen);
+        } else {
+            compilationOptionsBuilder.setParallelCodeGen(this.parallelCodeGen);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -285,6 +308,8 @@ public class CompilationOptions {
         private Boolean disableSyntaxTree;
         private Boolean remoteManagement;
         private Boolean optimizeDependencyCompilation;
+        private Boolean parallelAnalysis;
+        private Boolean parallelCodeGen;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -376,12 +401,22 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setParallelAnalysis(Boolean value) {
+            parallelAnalysis = value;
+            return this;
+        }
+
+        public CompilationOptionsBuilder setParallelCodeGen(Boolean value) {
+            parallelCodeGen = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
                     withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI,
                     exportComponentModel, enableCache, disableSyntaxTree, remoteManagement,
-                    optimizeDependencyCompilation);
+                    optimizeDependencyCompilation, parallelAnalysis, parallelCodeGen);
         }
     }
 }
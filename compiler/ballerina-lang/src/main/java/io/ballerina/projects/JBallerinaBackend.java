@@ -29,6 +29,7 @@ import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
@@ -51,26 +52,37 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
+import java.util.stream.Stream;
 
 import static io.ballerina.projects.util.FileUtils.getFileNameWithoutExtension;
 import static io.ballerina.projects.util.ProjectConstants.BIN_DIR_NAME;
@@ -95,6 +107,10 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final String OS = System.getProperty("os.name").toLowerCase(Locale.getDefault());
     public static final String JAR_NAME_SEPARATOR = "-";
+    public static final String LAYERS_DIR_NAME = "lib";
+    public static final String RUNTIME_LAYER_NAME = "runtime";
+    public static final String DEPENDENCIES_LAYER_NAME = "dependencies";
+    private static final int LAYER_JAR_HASH_LENGTH = 16;
 
     private final PackageResolution pkgResolution;
     private final JvmTarget jdkVersion;
@@ -225,6 +241,7 @@ public class JBallerinaBackend extends CompilerBackend {
         generatedArtifact = switch (outputType) {
             case GRAAL_EXEC -> emitGraalExecutable(filePath, emitResultDiagnostics);
             case EXEC -> emitExecutable(filePath, emitResultDiagnostics);
+            case LAYERED_EXEC -> emitLayeredExecutable(filePath, emitResultDiagnostics);
             case BALA -> emitBala(filePath);
             default -> throw new RuntimeException("Unexpected output type: " + outputType);
         };
@@ -664,6 +681,167 @@ public class JBallerinaBackend extends CompilerBackend {
         return executableFilePath;
     }
 
+    private Path emitLayeredExecutable(Path executableFilePath, List<Diagnostic> emitResultDiagnostics) {
+        Manifest manifest = createManifest();
+        Collection<JarLibrary> jarLibraries = jarResolver.getJarFilePathsRequiredForExecution();
+        // Add warning when provided platform dependencies are found
+        addProvidedDependencyWarning(emitResultDiagnostics);
+        try {
+            assembleLayeredExecutableJar(executableFilePath, manifest, jarLibraries);
+        } catch (IOException e) {
+            throw new ProjectException("error while creating the layered executable jar file for package '" +
+                    this.packageContext.packageName().toString() + "' : " + e.getMessage(), e);
+        }
+        return executableFilePath;
+    }
+
+    /**
+     * Assembles a thin executable jar with the code generated for the root package, which refers to the other jars
+     * through its manifest class path. The other jars are copied as they are into the runtime and the dependencies
+     * layer directories next to the executable jar.
+     * <p>
+     * The layer jars are named after the hash of their content, so that a layer jar is copied only if it has changed
+     * and the layer directories stay the same across the builds which do not change the dependencies. Since the
+     * manifest class path is searched in order, the conflicting entries are resolved in the same order as the
+     * executable fat jar, except that the code generated for the root package always takes precedence.
+     *
+     * @param executableFilePath path of the thin executable jar
+     * @param manifest           manifest of the executable jar
+     * @param jarLibraries       jar libraries required for the execution
+     * @throws IOException if the jar files cannot be written
+     */
+    private void assembleLayeredExecutableJar(Path executableFilePath,
+                                              Manifest manifest,
+                                              Collection<JarLibrary> jarLibraries) throws IOException {
+        Set<Path> applicationJars = getApplicationJarPaths();
+        Path runtimeJar = runtimeLibrary().path();
+        List<JarLibrary> sortedJarLibraries = jarLibraries.stream()
+                .sorted(Comparator.comparing(jarLibrary -> jarLibrary.path().getFileName()))
+                .toList();
+
+        Path layersDir = executableFilePath.toAbsolutePath().resolveSibling(LAYERS_DIR_NAME);
+        Path runtimeLayerDir = Files.createDirectories(layersDir.resolve(RUNTIME_LAYER_NAME));
+        Path dependenciesLayerDir = Files.createDirectories(layersDir.resolve(DEPENDENCIES_LAYER_NAME));
+        List<JarLibrary> applicationLibraries = new ArrayList<>();
+        List<JarLibrary> layerLibraries = new ArrayList<>();
+        Set<Path> layerJars = new HashSet<>();
+        StringJoiner classPath = new StringJoiner(" ");
+        for (JarLibrary library : sortedJarLibraries) {
+            if (applicationJars.contains(library.path())) {
+                applicationLibraries.add(library);
+                continue;
+            }
+            Path layerDir = library.path().equals(runtimeJar) ? runtimeLayerDir : dependenciesLayerDir;
+            Path layerJar = copyToLayer(layerDir, library.path());
+            if (layerJars.add(layerJar)) {
+                layerLibraries.add(library);
+                classPath.add(LAYERS_DIR_NAME + "/" + layersDir.relativize(layerJar).toString()
+                        .replace(File.separatorChar, '/').replace(" ", "%20"));
+            }
+        }
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath.toString());
+
+        // Used to prevent adding duplicated entries and to report the conflicting jars.
+        HashMap<String, JarLibrary> copiedEntries = new HashMap<>();
+        HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
+
+        // Write to a temporary file and move, so that the executable jar is replaced only once it is complete.
+        Path tempFile = Files.createTempFile(executableFilePath.toAbsolutePath().getParent(),
+                getFileNameWithoutExtension(executableFilePath.toString()), JAR_FILE_EXTENSION);
+        try {
+            try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                writeManifest(manifest, outStream);
+                for (JarLibrary library : applicationLibraries) {
+                    copyJar(outStream, library, copiedEntries, serviceEntries);
+                }
+                // Service loader entries of the layer jars are read from the class path as they are.
+                copyMergedSpiServices(serviceEntries, outStream);
+            }
+            Files.move(tempFile, executableFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        for (JarLibrary library : layerLibraries) {
+            addLayerJarEntries(library, copiedEntries);
+        }
+        deleteStaleLayerJars(runtimeLayerDir, layerJars);
+        deleteStaleLayerJars(dependenciesLayerDir, layerJars);
+    }
+
+    private Set<Path> getApplicationJarPaths() {
+        Set<Path> applicationJars = new HashSet<>();
+        for (ModuleId moduleId : packageContext.moduleIds()) {
+            ModuleName moduleName = packageContext.moduleContext(moduleId).moduleName();
+            applicationJars.add(codeGeneratedLibrary(packageContext.packageId(), moduleName).path());
+        }
+        PlatformLibrary resourcesLibrary = codeGeneratedResourcesLibrary(packageContext.packageId());
+        if (resourcesLibrary != null) {
+            applicationJars.add(resourcesLibrary.path());
+        }
+        return applicationJars;
+    }
+
+    private static Path copyToLayer(Path layerDir, Path jarPath) throws IOException {
+        String fileName = getFileNameWithoutExtension(jarPath.toString()) + JAR_NAME_SEPARATOR +
+                getContentHash(jarPath) + JAR_FILE_EXTENSION;
+        Path layerJar = layerDir.resolve(fileName);
+        if (Files.isRegularFile(layerJar)) {
+            return layerJar;
+        }
+        // Copy to a temporary file and move, so that an interrupted build never leaves a partially written jar.
+        Path tempFile = Files.createTempFile(layerDir, fileName, ".tmp");
+        try {
+            Files.copy(jarPath, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, layerJar, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return layerJar;
+    }
+
+    private static String getContentHash(Path jarPath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(jarPath), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest()).substring(0, LAYER_JAR_HASH_LENGTH);
+    }
+
+    private void addLayerJarEntries(JarLibrary jarLibrary, HashMap<String, JarLibrary> copiedEntries)
+            throws IOException {
+        try (ZipFile zipFile = new ZipFile(jarLibrary.path().toFile())) {
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (entryName.startsWith("META-INF/") || entryName.equals("module-info.class")) {
+                    continue;
+                }
+                if (isCopiedEntry(entryName, copiedEntries)) {
+                    addConflictedJars(jarLibrary, copiedEntries, entryName);
+                    continue;
+                }
+                copiedEntries.put(entryName, jarLibrary);
+            }
+        }
+    }
+
+    private static void deleteStaleLayerJars(Path layerDir, Set<Path> layerJars) throws IOException {
+        try (Stream<Path> files = Files.list(layerDir)) {
+            for (Path file : files.toList()) {
+                if (!layerJars.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
     private Path emitTestExecutable(Path executableFilePath, HashSet<JarLibrary> jarDependencies,
                           Path testSuiteJsonPath, String jsonCopyPath, List<String> excludedClasses,
                           String classPathTextCopyPath) {
@@ -832,6 +1010,7 @@ public class JBallerinaBackend extends CompilerBackend {
      */
     public enum OutputType {
         EXEC("exec"),
+        LAYERED_EXEC("layered_exec"),
         BALA("bala"),
         GRAAL_EXEC("graal_exec"),
         TEST("test")
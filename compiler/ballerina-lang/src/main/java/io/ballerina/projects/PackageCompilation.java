@@ -44,6 +44,8 @@ import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.REMOTE_MANAGEMENT;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_ANALYSIS;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_CODEGEN;
 
 /**
  * Compilation at package level by resolving all the dependencies.
@@ -90,6 +92,8 @@ public class PackageCompilation {
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
         options.put(REMOTE_MANAGEMENT, Boolean.toString(compilationOptions.remoteManagement()));
+        options.put(PARALLEL_ANALYSIS, Boolean.toString(compilationOptions.parallelAnalysis()));
+        options.put(PARALLEL_CODEGEN, Boolean.toString(compilationOptions.parallelCodeGen()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext, CompilationOptions compilationOptions) {
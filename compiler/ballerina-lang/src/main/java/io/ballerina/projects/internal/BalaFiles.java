@@ -243,6 +243,11 @@ public final class BalaFiles {
     }
 
     public static DependencyManifest createDependencyManifest(Path balaPath) {
+        return BalaMetadataCache.get(metadataFile(balaPath, DEPENDENCY_GRAPH_JSON), DEPENDENCY_GRAPH_JSON,
+                () -> loadDependencyManifest(balaPath));
+    }
+
+    private static DependencyManifest loadDependencyManifest(Path balaPath) {
         if (balaPath.toFile().isDirectory()) {
             return createDependencyManifestFromBalaDir(balaPath);
         } else {
@@ -251,6 +256,11 @@ public final class BalaFiles {
     }
 
     public static DependencyGraphResult createPackageDependencyGraph(Path balaPath) {
+        return BalaMetadataCache.get(metadataFile(balaPath, DEPENDENCY_GRAPH_JSON),
+                DependencyGraphResult.class.getSimpleName(), () -> loadPackageDependencyGraph(balaPath));
+    }
+
+    private static DependencyGraphResult loadPackageDependencyGraph(Path balaPath) {
         DependencyGraphResult dependencyGraphResult;
         if (balaPath.toFile().isDirectory()) {
             Path dependencyGraphJsonPath = balaPath.resolve(DEPENDENCY_GRAPH_JSON);
@@ -597,6 +607,10 @@ public final class BalaFiles {
     }
 
     public static PackageJson readPkgJson(Path packageJsonPath) {
+        return BalaMetadataCache.get(packageJsonPath, PACKAGE_JSON, () -> loadPkgJson(packageJsonPath));
+    }
+
+    private static PackageJson loadPkgJson(Path packageJsonPath) {
         PackageJson packageJson;
         try (BufferedReader bufferedReader = Files.newBufferedReader(packageJsonPath)) {
             packageJson = gson.fromJson(bufferedReader, PackageJson.class);
@@ -736,6 +750,11 @@ public final class BalaFiles {
      * @return a PackageJson instance
      */
     public static PackageJson readPackageJson(Path balaPath) {
+        return BalaMetadataCache.get(metadataFile(balaPath, PACKAGE_JSON), PACKAGE_JSON,
+                () -> loadPackageJson(balaPath));
+    }
+
+    private static PackageJson loadPackageJson(Path balaPath) {
         PackageJson packageJson;
         if (balaPath.toFile().isDirectory()) {
             Path packageJsonPath = balaPath.resolve(PACKAGE_JSON);
@@ -759,6 +778,10 @@ public final class BalaFiles {
     }
 
     public static BalaJson readBalaJson(Path balaPath) {
+        return BalaMetadataCache.get(metadataFile(balaPath, BALA_JSON), BALA_JSON, () -> loadBalaJson(balaPath));
+    }
+
+    private static BalaJson loadBalaJson(Path balaPath) {
         BalaJson balaJson;
         if (balaPath.toFile().isDirectory()) {
             Path balaJsonPath = balaPath.resolve(BALA_JSON);
@@ -793,6 +816,14 @@ public final class BalaFiles {
         return balaJson;
     }
 
+    /**
+     * Returns the file which should be used to detect modifications of the given metadata entry of a bala. For
+     * extracted balas, it is the metadata file itself and for bala files, it is the bala file.
+     */
+    private static Path metadataFile(Path balaPath, String entryName) {
+        return balaPath.toFile().isDirectory() ? balaPath.resolve(entryName) : balaPath;
+    }
+
     private static URI getZipURI(Path balaPath) {
         return URI.create("jar:" + balaPath.toAbsolutePath().toUri());
     }
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.projects.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A process-wide cache of the metadata files (package.json, bala.json, dependency-graph.json) parsed from balas.
+ * <p>
+ * During package resolution, the same bala metadata is read several times (e.g. to check the compatibility of each
+ * available version, to build the dependency graph, to list the modules and to load the package). Entries are keyed
+ * by the file which holds the metadata (the bala file, or the metadata file in an extracted bala) and are invalidated
+ * when the last modified time or the size of that file changes.
+ * <p>
+ * Cached values are shared, hence they must not be modified by the callers.
+ *
+ * @since 2201.12.0
+ */
+final class BalaMetadataCache {
+
+    private static final int MAX_ENTRIES = 8192;
+    private static final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    private BalaMetadataCache() {
+    }
+
+    /**
+     * Returns the cached value for the given metadata entry of the given file, loading it if it is not cached or
+     * the file has been modified since it was cached.
+     *
+     * @param file      the file which contains the metadata
+     * @param entryName name of the metadata entry
+     * @param loader    loads the metadata from the file
+     * @param <T>       metadata type
+     * @return the metadata value
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T get(Path file, String entryName, Supplier<T> loader) {
+        Path absFilePath = file.toAbsolutePath().normalize();
+        FileStamp stamp = FileStamp.of(absFilePath);
+        if (stamp == null) {
+            return loader.get();
+        }
+
+        CacheKey key = new CacheKey(absFilePath, entryName);
+        CacheEntry entry = entries.get(key);
+        if (entry != null && entry.stamp().equals(stamp)) {
+            return (T) entry.value();
+        }
+
+        T value = loader.get();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        entries.put(key, new CacheEntry(stamp, value));
+        return value;
+    }
+
+    private record CacheKey(Path file, String entryName) {
+    }
+
+    private record CacheEntry(FileStamp stamp, Object value) {
+    }
+
+    private record FileStamp(long lastModifiedTime, long size) {
+
+        static FileStamp of(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -218,6 +218,10 @@ public class CompilerPhaseRunner {
         if (compilerPhase.compareTo(nextPhase) < 0) {
             return true;
         }
+        // The compilation has been cancelled, e.g. by the language server.
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
         return (checkNextPhase(nextPhase) && pkgNode.getErrorCount() > 0);
     }
 
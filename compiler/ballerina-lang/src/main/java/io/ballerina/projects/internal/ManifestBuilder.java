@@ -918,6 +918,10 @@ public class ManifestBuilder {
                 BuildOptions.OptionName.SHOW_DEPENDENCY_DIAGNOSTICS.toString());
         Boolean optimizeDependencyCompilation = getBooleanFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.OPTIMIZE_DEPENDENCY_COMPILATION.toString());
+        Boolean classDataSharing = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.CLASS_DATA_SHARING.toString());
+        Boolean layered = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.LAYERED.toString());
 
         buildOptionsBuilder
                 .setOffline(offline)
@@ -934,7 +938,9 @@ public class ManifestBuilder {
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setRemoteManagement(remoteManagement)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
-                .setOptimizeDependencyCompilation(optimizeDependencyCompilation);
+                .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setClassDataSharing(classDataSharing)
+                .setLayered(layered);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir);
@@ -205,20 +205,48 @@ public class DefaultPackageResolver implements PackageResolver {
             return Collections.emptyList();
         }
 
+        // 1) Load the packages from the cache
+        Map<PackageDescriptor, Optional<Package>> resolvedPackages = new HashMap<>();
+        List<ResolutionRequest> unresolvedRequests = new ArrayList<>();
+        for (ResolutionRequest request : requests) {
+            PackageDescriptor pkgDesc = request.packageDescriptor();
+            if (resolvedPackages.containsKey(pkgDesc)) {
+                continue;
+            }
+            Optional<Package> resolvedPackage = loadFromCache(request);
+            if (resolvedPackage.isPresent()) {
+                resolvedPackages.put(pkgDesc, resolvedPackage);
+            } else {
+                resolvedPackages.put(pkgDesc, Optional.empty());
+                unresolvedRequests.add(request);
+            }
+        }
+
+        // 2) If not try to resolve from local, dist and central repositories. Packages do not depend on each other
+        // at this stage, hence they are loaded concurrently from the repositories on the file system. Pulling from
+        // remote repositories reports progress, therefore those are done afterwards, one at a time in the request
+        // order. The package cache is not thread-safe, therefore the loaded packages are cached in the request order.
+        Stream<ResolutionRequest> unresolvedStream = unresolvedRequests.size() > 1 ?
+                unresolvedRequests.parallelStream() : unresolvedRequests.stream();
+        List<Optional<Package>> loadedPackages = unresolvedStream
+                .map(request -> resolveFromFileSystemRepository(request, options))
+                .toList();
+        for (int i = 0; i < unresolvedRequests.size(); i++) {
+            ResolutionRequest request = unresolvedRequests.get(i);
+            Optional<Package> loadedPackage = loadedPackages.get(i);
+            if (loadedPackage.isEmpty()) {
+                loadedPackage = resolveFromRemoteRepository(request, options);
+            }
+            loadedPackage.ifPresent(packageCache::cache);
+            resolvedPackages.put(request.packageDescriptor(), loadedPackage);
+        }
+
         return requests.stream()
-                .map(request -> resolvePackage(request, options))
+                .map(request -> createResponse(request, resolvedPackages.get(request.packageDescriptor())))
                 .toList();
     }
 
-    private ResolutionResponse resolvePackage(ResolutionRequest resolutionReq, ResolutionOptions options) {
-        // 1) Load the package from the cache
-        Optional<Package> resolvedPackage = loadFromCache(resolutionReq);
-        if (resolvedPackage.isEmpty()) {
-            // 2) If not try to resolve from local, dist and central repositories
-            resolvedPackage = resolveFromRepository(resolutionReq, options);
-            resolvedPackage.ifPresent(packageCache::cache);
-        }
-
+    private ResolutionResponse createResponse(ResolutionRequest resolutionReq, Optional<Package> resolvedPackage) {
         ResolutionStatus resolutionStatus = resolvedPackage.isPresent() ?
                 ResolutionStatus.RESOLVED :
                 ResolutionStatus.UNRESOLVED;
@@ -230,7 +258,8 @@ public class DefaultPackageResolver implements PackageResolver {
         return packageCache.getPackage(pkgDesc.org(), pkgDesc.name(), pkgDesc.version());
     }
 
-    private Optional<Package> resolveFromRepository(ResolutionRequest resolutionReq, ResolutionOptions options) {
+    private Optional<Package> resolveFromFileSystemRepository(ResolutionRequest resolutionReq,
+                                                              ResolutionOptions options) {
         PackageDescriptor pkgDesc = resolutionReq.packageDescriptor();
 
         // 1) Try to load from the distribution repo, if the requested package is a built-in package.
@@ -240,12 +269,7 @@ public class DefaultPackageResolver implements PackageResolver {
 
         // 2) Try to load from the local repo, if it is requested from the local repo.
         if (pkgDesc.repository().isPresent()) {
-            String repository = pkgDesc.repository().get();
-            if (!ProjectConstants.LOCAL_REPOSITORY_NAME.equals(repository) && customRepos.containsKey(repository)) {
-                return customRepos.get(repository).getPackage(resolutionReq, options);
-            }
-
-            if (!ProjectConstants.LOCAL_REPOSITORY_NAME.equals(repository)) {
+            if (!ProjectConstants.LOCAL_REPOSITORY_NAME.equals(pkgDesc.repository().get())) {
                 return Optional.empty();
             }
             return localRepo.getPackage(resolutionReq, options);
@@ -253,13 +277,26 @@ public class DefaultPackageResolver implements PackageResolver {
 
         // 3) Try to load from the dist repo
         // TODO update this route only ballerina/* and Ballerinax/* stuff to dist repo
-        Optional<Package> resolvedPackage = distributionRepo.getPackage(resolutionReq, options);
+        return distributionRepo.getPackage(resolutionReq, options);
+    }
 
-        // 4) Load from the central repo as the last attempt
-        if (resolvedPackage.isEmpty()) {
-            resolvedPackage = centralRepo.getPackage(resolutionReq, options);
+    private Optional<Package> resolveFromRemoteRepository(ResolutionRequest resolutionReq,
+                                                          ResolutionOptions options) {
+        PackageDescriptor pkgDesc = resolutionReq.packageDescriptor();
+        if (pkgDesc.isBuiltInPackage()) {
+            return Optional.empty();
+        }
+
+        // 1) Try to load from a custom repo, if it is requested from one.
+        if (pkgDesc.repository().isPresent()) {
+            String repository = pkgDesc.repository().get();
+            if (!ProjectConstants.LOCAL_REPOSITORY_NAME.equals(repository) && customRepos.containsKey(repository)) {
+                return customRepos.get(repository).getPackage(resolutionReq, options);
+            }
+            return Optional.empty();
         }
 
-        return resolvedPackage;
+        // 2) Load from the central repo as the last attempt
+        return centralRepo.getPackage(resolutionReq, options);
     }
 }
@@ -301,7 +301,8 @@ public class FileSystemRepository extends AbstractPackageRepository {
                                                       PackageVersion version) {
         Path balaPath = getPackagePath(org.toString(), name.toString(), version.toString());
         BalaFiles.DependencyGraphResult dependencyGraphResult = BalaFiles.createPackageDependencyGraph(balaPath);
-        return dependencyGraphResult.moduleDependencies().keySet();
+        // The dependency graph is shared through the bala metadata cache, hence a copy is returned.
+        return List.copyOf(dependencyGraphResult.moduleDependencies().keySet());
     }
 
     protected Path getPackagePath(String org, String name, String version) {
@@ -64,6 +64,8 @@ public enum CompilerOptionName {
 
     ENABLE_CACHE("enableCache"),
     REMOTE_MANAGEMENT("remoteManagement"),
+    PARALLEL_ANALYSIS("parallelAnalysis"),
+    PARALLEL_CODEGEN("parallelCodeGen"),
 
     /**
      * We've introduced this temporary option to support old-project structure and the new package structure.
@@ -126,16 +126,17 @@ import org.wso2.ballerinalang.compiler.util.ImmutableTypeCloner;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
-import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -208,24 +209,24 @@ public class BIRPackageSymbolEnter {
     }
 
     public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
-
-        // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
-        byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
-                packageBinaryContent, 8, packageBinaryContent.length);
-        pkgSymbol.birPackageFile = new CompiledBinaryFile.BIRPackageFile(modifiedPkgBinaryContent);
+        // The binary content is not copied and it is not retained once the symbols are defined. Constant pool
+        // entries are read directly from it, as and when they are required.
+        BPackageSymbol pkgSymbol = definePackage(packageId, packageBinaryContent,
+                new ByteArrayInputStream(packageBinaryContent));
         SymbolEnv builtinEnv = this.symTable.pkgEnvMap.get(symTable.langAnnotationModuleSymbol);
         SymbolEnv pkgEnv = SymbolEnv.createPkgEnv(null, pkgSymbol.scope, builtinEnv);
         this.symTable.pkgEnvMap.put(pkgSymbol, pkgEnv);
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent,
+                                         InputStream programFileInStream) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            this.env.binaryContent = packageBinaryContent;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -261,10 +262,10 @@ public class BIRPackageSymbolEnter {
 
         PackageCPEntry pkgCpEntry = (PackageCPEntry) this.env.constantPool[pkgCpIndex];
 
-        String orgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String moduleName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.moduleNameCPIndex]).value;
-        String pkgVersion = ((StringCPEntry) this.env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String moduleName = getStringCPEntryValue(pkgCpEntry.moduleNameCPIndex);
+        String pkgVersion = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
 
         PackageID pkgId = createPackageID(orgName, pkgName, moduleName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
@@ -350,6 +351,8 @@ public class BIRPackageSymbolEnter {
         int constantPoolSize = dataInStream.readInt();
         CPEntry[] constantPool = new CPEntry[constantPoolSize];
         this.env.constantPool = constantPool;
+        this.env.unparsedCPEntryOffsets = new int[constantPoolSize];
+        this.env.unparsedCPEntryLengths = new int[constantPoolSize];
         for (int i = 0; i < constantPoolSize; i++) {
             byte cpTag = dataInStream.readByte();
             CPEntry.Type cpEntryType = CPEntry.Type.values()[cpTag - 1];
@@ -370,22 +373,21 @@ public class BIRPackageSymbolEnter {
                 return new CPEntry.BooleanCPEntry(dataInStream.readBoolean());
             case CP_ENTRY_STRING:
                 int length = dataInStream.readInt();
-                String strValue = null;
 
                 // If the length of the bytes is -1, that means no UTF value has been written.
                 // i.e: string value represented by the UTF should be null.
-                // Therefore we read the UTF value only if the length >= 0.
-                if (length >= 0) {
-                    byte[] bytes = new byte[length];
-                    dataInStream.read(bytes, 0, length);
-                    strValue = new String(bytes);
+                if (length < 0) {
+                    return new CPEntry.StringCPEntry(null);
                 }
-                return new CPEntry.StringCPEntry(strValue);
+                // Most of the strings (e.g. documentation of the symbols which are never looked up) are not used
+                // during the compilation of the dependent modules. Hence, they are decoded on their first use.
+                skipUnparsedCPEntry(dataInStream, i, length);
+                return null;
             case CP_ENTRY_PACKAGE:
                 return new CPEntry.PackageCPEntry(dataInStream.readInt(), dataInStream.readInt(),
                         dataInStream.readInt(), dataInStream.readInt());
             case CP_ENTRY_SHAPE:
-                env.unparsedBTypeCPs.put(i, readByteArray(dataInStream));
+                skipUnparsedCPEntry(dataInStream, i, dataInStream.readInt());
                 return null;
             case CP_ENTRY_BYTE:
                 return new CPEntry.ByteCPEntry(dataInStream.readInt());
@@ -395,11 +397,18 @@ public class BIRPackageSymbolEnter {
         }
     }
 
-    private byte[] readByteArray(DataInputStream dataInStream) throws IOException {
-        int length = dataInStream.readInt();
-        byte[] bytes = new byte[length];
-        dataInStream.readFully(bytes);
-        return bytes;
+    private void skipUnparsedCPEntry(DataInputStream dataInStream, int cpIndex, int length) throws IOException {
+        // The input stream is backed by the binary content, hence the remaining byte count gives the offset.
+        this.env.unparsedCPEntryOffsets[cpIndex] = this.env.binaryContent.length - dataInStream.available();
+        this.env.unparsedCPEntryLengths[cpIndex] = length;
+        if (dataInStream.skipBytes(length) != length) {
+            throw new EOFException("unexpected end of the constant pool entry at index " + cpIndex);
+        }
+    }
+
+    private DataInputStream getUnparsedCPEntryStream(int cpIndex) {
+        return new DataInputStream(new ByteArrayInputStream(this.env.binaryContent,
+                this.env.unparsedCPEntryOffsets[cpIndex], this.env.unparsedCPEntryLengths[cpIndex]));
     }
 
     private void defineSymbols(DataInputStream dataInStream,
@@ -659,39 +668,50 @@ public class BIRPackageSymbolEnter {
         tsymbol.returnType = invokableType.retType;
     }
 
-    private void defineMarkDownDocAttachment(BSymbol symbol, byte[] docBytes) throws IOException {
-        DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(docBytes));
-        boolean docPresent = dataInStream.readBoolean();
+    private void defineMarkDownDocAttachment(BSymbol symbol, byte[] docBytes) {
+        // The first byte tells whether the symbol is documented. The documentation itself is decoded only when it is
+        // looked up, since it is not needed to compile the modules which depend on this one.
+        boolean docPresent = docBytes[0] != 0;
         if (!docPresent) {
             return;
         }
+        BIRPackageSymbolEnv symbolEnv = this.env;
+        symbol.setLazyMarkdownDocAttachment(() -> readMarkdownDocAttachment(symbolEnv, docBytes));
+    }
 
-        int descCPIndex = dataInStream.readInt();
-        int retDescCPIndex = dataInStream.readInt();
-        int paramLength = dataInStream.readInt();
-        MarkdownDocAttachment markdownDocAttachment = new MarkdownDocAttachment(paramLength);
-
-        markdownDocAttachment.description = descCPIndex >= 0 ? getStringCPEntryValue(descCPIndex) : null;
-        markdownDocAttachment.returnValueDescription
-                = retDescCPIndex >= 0 ? getStringCPEntryValue(retDescCPIndex) : null;
-        readAndSetParamDocumentation(dataInStream, markdownDocAttachment.parameters, paramLength);
-
-        int deprecatedDescCPIndex = dataInStream.readInt();
-        int deprecatedParamLength = dataInStream.readInt();
-        markdownDocAttachment.deprecatedDocumentation = deprecatedDescCPIndex >= 0
-                ? getStringCPEntryValue(deprecatedDescCPIndex) : null;
-        readAndSetParamDocumentation(dataInStream, markdownDocAttachment.deprecatedParams, deprecatedParamLength);
-
-        symbol.markdownDocumentation = markdownDocAttachment;
+    private static MarkdownDocAttachment readMarkdownDocAttachment(BIRPackageSymbolEnv env, byte[] docBytes) {
+        DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(docBytes, 1, docBytes.length - 1));
+        try {
+            int descCPIndex = dataInStream.readInt();
+            int retDescCPIndex = dataInStream.readInt();
+            int paramLength = dataInStream.readInt();
+            MarkdownDocAttachment markdownDocAttachment = new MarkdownDocAttachment(paramLength);
+
+            markdownDocAttachment.description = descCPIndex >= 0 ? getStringCPEntryValue(env, descCPIndex) : null;
+            markdownDocAttachment.returnValueDescription
+                    = retDescCPIndex >= 0 ? getStringCPEntryValue(env, retDescCPIndex) : null;
+            readAndSetParamDocumentation(env, dataInStream, markdownDocAttachment.parameters, paramLength);
+
+            int deprecatedDescCPIndex = dataInStream.readInt();
+            int deprecatedParamLength = dataInStream.readInt();
+            markdownDocAttachment.deprecatedDocumentation = deprecatedDescCPIndex >= 0
+                    ? getStringCPEntryValue(env, deprecatedDescCPIndex) : null;
+            readAndSetParamDocumentation(env, dataInStream, markdownDocAttachment.deprecatedParams,
+                    deprecatedParamLength);
+            return markdownDocAttachment;
+        } catch (IOException e) {
+            throw new RuntimeException("failed to read Markdown Documentation", e);
+        }
     }
 
-    private void readAndSetParamDocumentation(DataInputStream inputStream, List<MarkdownDocAttachment.Parameter> params,
-                                              int nParams) throws IOException {
+    private static void readAndSetParamDocumentation(BIRPackageSymbolEnv env, DataInputStream inputStream,
+                                                     List<MarkdownDocAttachment.Parameter> params, int nParams)
+            throws IOException {
         for (int i = 0; i < nParams; i++) {
             int nameCPIndex = inputStream.readInt();
             int paramDescCPIndex = inputStream.readInt();
-            String name = nameCPIndex >= 0 ? getStringCPEntryValue(nameCPIndex) : null;
-            String description = paramDescCPIndex >= 0 ? getStringCPEntryValue(paramDescCPIndex) : null;
+            String name = nameCPIndex >= 0 ? getStringCPEntryValue(env, nameCPIndex) : null;
+            String description = paramDescCPIndex >= 0 ? getStringCPEntryValue(env, paramDescCPIndex) : null;
             MarkdownDocAttachment.Parameter parameter = new MarkdownDocAttachment.Parameter(name, description);
             params.add(parameter);
         }
@@ -708,8 +728,7 @@ public class BIRPackageSymbolEnter {
             }
         }
         if (type == null) {
-            byte[] e = env.unparsedBTypeCPs.get(typeCpIndex);
-            type = new BIRTypeReader(new DataInputStream(new ByteArrayInputStream(e))).readType(typeCpIndex);
+            type = new BIRTypeReader(getUnparsedCPEntryStream(typeCpIndex)).readType(typeCpIndex);
             addShapeCP(type, typeCpIndex);
         }
         return type;
@@ -1111,13 +1130,21 @@ public class BIRPackageSymbolEnter {
 
     // private utility methods
     private String getStringCPEntryValue(DataInputStream dataInStream) throws IOException {
-        int pkgNameCPIndex = dataInStream.readInt();
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[pkgNameCPIndex];
-        return stringCPEntry.value;
+        return getStringCPEntryValue(dataInStream.readInt());
     }
 
     private String getStringCPEntryValue(int cpIndex) {
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[cpIndex];
+        return getStringCPEntryValue(this.env, cpIndex);
+    }
+
+    private static String getStringCPEntryValue(BIRPackageSymbolEnv env, int cpIndex) {
+        StringCPEntry stringCPEntry = (StringCPEntry) env.constantPool[cpIndex];
+        if (stringCPEntry == null) {
+            stringCPEntry = new StringCPEntry(new String(env.binaryContent,
+                    env.unparsedCPEntryOffsets[cpIndex], env.unparsedCPEntryLengths[cpIndex],
+                    StandardCharsets.UTF_8));
+            env.constantPool[cpIndex] = stringCPEntry;
+        }
         return stringCPEntry.value;
     }
 
@@ -1157,7 +1184,9 @@ public class BIRPackageSymbolEnter {
      */
     private static class BIRPackageSymbolEnv {
         PackageID requestedPackageId;
-        Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+        byte[] binaryContent;
+        int[] unparsedCPEntryOffsets;
+        int[] unparsedCPEntryLengths;
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
@@ -2173,10 +2202,10 @@ public class BIRPackageSymbolEnter {
 
     private PackageID getPackageId(int pkgCPIndex) {
         PackageCPEntry pkgCpEntry = (PackageCPEntry) env.constantPool[pkgCPIndex];
-        String orgName = ((StringCPEntry) env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String moduleName = ((StringCPEntry) env.constantPool[pkgCpEntry.moduleNameCPIndex]).value;
-        String version = ((StringCPEntry) env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String moduleName = getStringCPEntryValue(pkgCpEntry.moduleNameCPIndex);
+        String version = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
         return new PackageID(Names.fromString(orgName), Names.fromString(pkgName),
                 Names.fromString(moduleName), Names.fromString(version), null);
     }
@@ -411,7 +411,7 @@ public class BIRGen extends BLangNodeVisitor {
         this.env.enclPkg.typeDefs.add(typeDef);
         typeDef.index = this.env.enclPkg.typeDefs.size() - 1;
 
-        typeDef.setMarkdownDocAttachment(symbol.markdownDocumentation);
+        typeDef.setMarkdownDocAttachment(symbol.getMarkdownDocAttachment());
 
         if (astTypeDefinition.typeNode.getKind() == NodeKind.RECORD_TYPE ||
                 astTypeDefinition.typeNode.getKind() == NodeKind.OBJECT_TYPE) {
@@ -442,7 +442,7 @@ public class BIRGen extends BLangNodeVisitor {
                 );
             }
 
-            birFunc.setMarkdownDocAttachment(funcSymbol.markdownDocumentation);
+            birFunc.setMarkdownDocAttachment(funcSymbol.getMarkdownDocAttachment());
 
             int defaultableParamsCount = 0;
             birFunc.argsCount = funcSymbol.params.size() + defaultableParamsCount +
@@ -484,7 +484,7 @@ public class BIRGen extends BLangNodeVisitor {
         this.env.enclPkg.typeDefs.add(typeDef);
         typeDef.index = this.env.enclPkg.typeDefs.size() - 1;
 
-        typeDef.setMarkdownDocAttachment(classDefinition.symbol.markdownDocumentation);
+        typeDef.setMarkdownDocAttachment(classDefinition.symbol.getMarkdownDocAttachment());
 
         for (BLangType typeRef : classDefinition.typeRefs) {
             typeDef.referencedTypes.add(typeRef.getBType());
@@ -503,7 +503,7 @@ public class BIRGen extends BLangNodeVisitor {
                 birFunc.receiver = getSelf(funcSymbol.receiverSymbol);
             }
 
-            birFunc.setMarkdownDocAttachment(funcSymbol.markdownDocumentation);
+            birFunc.setMarkdownDocAttachment(funcSymbol.getMarkdownDocAttachment());
 
             int defaultableParamsCount = 0;
             birFunc.argsCount = funcSymbol.params.size() + defaultableParamsCount +
@@ -531,7 +531,7 @@ public class BIRGen extends BLangNodeVisitor {
                 new BIRNode.BIRServiceDeclaration(attachPoint, attachPointLiteral, symbol.getListenerTypes(),
                         symbol.name, symbol.getAssociatedClassSymbol().name, symbol.type,
                         symbol.origin, symbol.flags, symbol.pos);
-        serviceDecl.setMarkdownDocAttachment(symbol.markdownDocumentation);
+        serviceDecl.setMarkdownDocAttachment(symbol.getMarkdownDocAttachment());
         this.env.enclPkg.serviceDecls.add(serviceDecl);
     }
 
@@ -550,7 +550,7 @@ public class BIRGen extends BLangNodeVisitor {
                                                   type, constantValue, constantSymbol.origin.toBIROrigin());
         birConstant.constValue = constantValue;
 
-        birConstant.setMarkdownDocAttachment(astConstant.symbol.markdownDocumentation);
+        birConstant.setMarkdownDocAttachment(astConstant.symbol.getMarkdownDocAttachment());
         birConstant.annotAttachments.addAll(getBIRAnnotAttachments(constantSymbol.getAnnotations()));
 
         // Add the constant to the package.
@@ -599,7 +599,7 @@ public class BIRGen extends BLangNodeVisitor {
             birFunc.receiver = getSelf(astFunc.receiver.symbol);
         }
 
-        birFunc.setMarkdownDocAttachment(astFunc.symbol.markdownDocumentation);
+        birFunc.setMarkdownDocAttachment(astFunc.symbol.getMarkdownDocAttachment());
 
         //create channelDetails array
         int i = 0;
@@ -803,7 +803,7 @@ public class BIRGen extends BLangNodeVisitor {
                                                  annSymbol.attachedType == null ? symTable.trueType :
                                                          annSymbol.attachedType, annSymbol.origin.toBIROrigin());
         birAnn.packageID = annSymbol.pkgID;
-        birAnn.setMarkdownDocAttachment(annSymbol.markdownDocumentation);
+        birAnn.setMarkdownDocAttachment(annSymbol.getMarkdownDocAttachment());
         birAnn.annotAttachments.addAll(getBIRAnnotAttachments(annSymbol.getAnnotations()));
         return birAnn;
     }
@@ -1115,7 +1115,7 @@ public class BIRGen extends BLangNodeVisitor {
                                                                   Names.fromString(originalName), VarScope.GLOBAL,
                                                                   VarKind.GLOBAL, varNode.name.value,
                                                                   varNode.symbol.origin.toBIROrigin());
-        birVarDcl.setMarkdownDocAttachment(varNode.symbol.markdownDocumentation);
+        birVarDcl.setMarkdownDocAttachment(varNode.symbol.getMarkdownDocAttachment());
         birVarDcl.annotAttachments.addAll(getBIRAnnotAttachments(varNode.symbol.getAnnotations()));
 
         this.env.enclPkg.globalVars.add(birVarDcl);
@@ -18,19 +18,118 @@
 
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class Writer for generating ballerina classes.
  * <p>
+ * A class writer created with {@link #GENERATE_FRAMES} writes the stack map frames generated by a {@link FrameTracker}
+ * while the methods are visited, instead of computing them from the written code. If the frames of any method cannot
+ * be generated, the class is read back and rewritten with {@link ClassWriter#COMPUTE_FRAMES}. The methods are wrapped
+ * by this class visitor, as {@link ClassWriter#visitMethod} cannot be overridden.
+ * <p>
  * since 1.2.0
  */
-public class BallerinaClassWriter extends ClassWriter {
+public class BallerinaClassWriter extends ClassVisitor {
+
+    /**
+     * Flag to generate the stack map frames of the methods while they are visited.
+     */
+    public static final int GENERATE_FRAMES = 1 << 8;
 
     private static final String OBJECT_CLASS = "java/lang/Object";
+    private static final int MAX_CACHED_SUPER_CLASSES = 1 << 14;
+    // The classes are always resolved using the class loader of this class, hence the results can be shared.
+    private static final Map<String, String> commonSuperClasses = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> interfaces = new ConcurrentHashMap<>();
+
+    private final Writer writer;
+    private final boolean generateFrames;
+    private String className;
+    private boolean computeFramesOnWrite;
 
     public BallerinaClassWriter(int flags) {
-        super(flags);
+        this(new Writer((flags & GENERATE_FRAMES) != 0 ? 0 : flags), (flags & GENERATE_FRAMES) != 0);
+    }
+
+    private BallerinaClassWriter(Writer writer, boolean generateFrames) {
+        super(Opcodes.ASM9, writer);
+        this.writer = writer;
+        this.generateFrames = generateFrames;
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName,
+                      String[] interfaces) {
+        super.visit(version, access, name, signature, superName, interfaces);
+        this.className = name;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                     String[] exceptions) {
+        MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+        if (!generateFrames || computeFramesOnWrite) {
+            return mv;
+        }
+        return new FrameTracker(this, className, access, name, descriptor, mv);
+    }
+
+    public byte[] toByteArray() {
+        byte[] bytes = writer.toByteArray();
+        if (!computeFramesOnWrite) {
+            return bytes;
+        }
+        ClassWriter cw = new Writer(ClassWriter.COMPUTE_FRAMES);
+        new ClassReader(bytes).accept(cw, ClassReader.SKIP_FRAMES);
+        return cw.toByteArray();
+    }
+
+    /**
+     * Marks the class to be rewritten with computed frames, as the frames of a method could not be generated.
+     */
+    void computeFramesOnWrite() {
+        this.computeFramesOnWrite = true;
+    }
+
+    /**
+     * Returns whether a value of the given type can be assigned to the given type, as checked by the verifier. A
+     * class which is not found is only assignable to itself and {@link Object}.
+     */
+    boolean isAssignableFrom(String type, String valueType) {
+        if (type.equals(valueType) || OBJECT_CLASS.equals(type)) {
+            return true;
+        }
+        if (type.charAt(0) == '[' || valueType.charAt(0) == '[') {
+            return false;
+        }
+        // The verifier treats an interface type as Object.
+        return isInterface(type) || type.equals(getCommonSuperClass(type, valueType));
+    }
+
+    private static boolean isInterface(String type) {
+        Boolean isInterface = interfaces.get(type);
+        if (isInterface != null) {
+            return isInterface;
+        }
+        try {
+            isInterface = Class.forName(type.replace('/', '.'), false, BallerinaClassWriter.class.getClassLoader())
+                    .isInterface();
+        } catch (Exception | LinkageError e) {
+            isInterface = false;
+        }
+        if (interfaces.size() >= MAX_CACHED_SUPER_CLASSES) {
+            interfaces.clear();
+        }
+        interfaces.put(type, isInterface);
+        return isInterface;
     }
 
     /**
@@ -38,10 +137,23 @@ public class BallerinaClassWriter extends ClassWriter {
      * not found, assume its a generated or to-be generated class and return
      * {@link Object} as the super type.
      */
-    @Override
-    protected String getCommonSuperClass(String type1, String type2) {
+    static String getCommonSuperClass(String type1, String type2) {
+        String key = type1 + ';' + type2;
+        String commonSuperClass = commonSuperClasses.get(key);
+        if (commonSuperClass != null) {
+            return commonSuperClass;
+        }
+        commonSuperClass = resolveCommonSuperClass(type1, type2);
+        if (commonSuperClasses.size() >= MAX_CACHED_SUPER_CLASSES) {
+            commonSuperClasses.clear();
+        }
+        commonSuperClasses.put(key, commonSuperClass);
+        return commonSuperClass;
+    }
+
+    private static String resolveCommonSuperClass(String type1, String type2) {
 
-        ClassLoader classLoader = getClassLoader();
+        ClassLoader classLoader = BallerinaClassWriter.class.getClassLoader();
         Class<?> class1;
 
         try {
@@ -71,4 +183,19 @@ public class BallerinaClassWriter extends ClassWriter {
 
         return class1.getName().replace('.', '/');
     }
+
+    /**
+     * Class writer which resolves the common super classes using the class loader of the compiler.
+     */
+    private static class Writer extends ClassWriter {
+
+        Writer(int flags) {
+            super(flags);
+        }
+
+        @Override
+        protected String getCommonSuperClass(String type1, String type2) {
+            return BallerinaClassWriter.getCommonSuperClass(type1, type2);
+        }
+    }
 }
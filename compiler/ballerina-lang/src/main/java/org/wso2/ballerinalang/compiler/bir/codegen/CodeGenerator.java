@@ -17,6 +17,7 @@
  */
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.BIRGenUtils;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -26,6 +27,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
 import java.util.HashMap;
 
@@ -41,6 +43,7 @@ public class CodeGenerator {
     private final PackageCache packageCache;
     private final BLangDiagnosticLog dlog;
     private final Types types;
+    private final CompilerOptions options;
 
     private CodeGenerator(CompilerContext compilerContext) {
         compilerContext.put(CODE_GEN, this);
@@ -48,6 +51,7 @@ public class CodeGenerator {
         this.packageCache = PackageCache.getInstance(compilerContext);
         this.dlog = BLangDiagnosticLog.getInstance(compilerContext);
         this.types = Types.getInstance(compilerContext);
+        this.options = CompilerOptions.getInstance(compilerContext);
     }
 
     public static CodeGenerator getInstance(CompilerContext context) {
@@ -77,7 +81,7 @@ public class CodeGenerator {
 
         dlog.setCurrentPackageId(packageSymbol.pkgID);
         final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog, types,
-                isRemoteMgtEnabled);
+                isRemoteMgtEnabled, isParallelCodeGen());
 
         //Rewrite identifier names with encoding special characters
         HashMap<String, String> originalIdentifierMap = JvmDesugarPhase.encodeModuleIdentifiers(packageSymbol.bir);
@@ -90,6 +94,10 @@ public class CodeGenerator {
         return compiledJarFile;
     }
 
+    private boolean isParallelCodeGen() {
+        return Boolean.parseBoolean(options.get(CompilerOptionName.PARALLEL_CODEGEN));
+    }
+
     private static void cleanUpBirPackage(BPackageSymbol packageSymbol) {
         packageSymbol.birPackageFile = null;
         BIRNode.BIRPackage bir = packageSymbol.bir;
@@ -33,6 +33,10 @@ public class CompiledJarFile {
         this.jarEntries = new JarEntries(mainClassName);
     }
 
+    public CompiledJarFile(String mainClassName, boolean concurrent) {
+        this.jarEntries = new JarEntries(mainClassName, concurrent);
+    }
+
     public ByteArrayOutputStream toByteArrayStream() throws IOException {
         return jarEntries.getByteArrayOutputStream();
     }
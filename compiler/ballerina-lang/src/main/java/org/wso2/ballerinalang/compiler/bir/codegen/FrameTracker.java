@@ -0,0 +1,957 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.THROWABLE;
+
+/**
+ * Method visitor which generates the stack map frames of a method while its instructions are visited.
+ * <p>
+ * The types of the values are tracked as the instructions are visited, and a frame is written before an instruction
+ * which is the target of a jump, the start of an exception handler or the start of a BIR basic block. The frame of a
+ * basic block is made of the types of the local variables declared by the code generator, which hold their declared
+ * types from the start of the function, hence it is known without merging the types of the jumps into the block.
+ * A local variable which is not declared is only kept in a frame if all the jumps to it agree on its type.
+ * <p>
+ * If the frames of a method cannot be generated this way, for example as it has a backward jump to an instruction
+ * without a frame, the class writer is told to compute the frames of the class once it is written.
+ *
+ * @since 2201.12.0
+ */
+public class FrameTracker extends MethodVisitor {
+
+    private static final Object[] EMPTY_TYPES = new Object[0];
+    private static final int MAX_CACHED_DESCRIPTORS = 1 << 14;
+    // The frame types of the descriptors, which are shared by the methods of all the classes being generated.
+    private static final Map<String, Object> fieldTypes = new ConcurrentHashMap<>();
+    private static final Map<String, MethodType> methodTypes = new ConcurrentHashMap<>();
+
+    private final BallerinaClassWriter classWriter;
+    private final String owner;
+    // The types of the local variables and the operand stack, where a long or a double takes two slots.
+    private Object[] locals;
+    private int numLocals;
+    private Object[] stack = new Object[8];
+    private int stackSize;
+    private boolean reachable = true;
+    private int maxLocals;
+    private int maxStack;
+    // The local variables of the last frame written, as they are written in the frame.
+    private Object[] frameLocals;
+    // The declared types of the local variables, where a long or a double takes two slots as in the tracked locals.
+    private Object[] declaredTypes = EMPTY_TYPES;
+    // The number of labels visited before each local variable was declared.
+    private int[] declaredAt = new int[0];
+    private int visitedLabelCount;
+    private final Map<Label, TypeState> jumpStates = new HashMap<>();
+    private final Map<Label, VisitedLabel> visitedLabels = new HashMap<>();
+    private final Map<Label, List<ExceptionHandler>> exceptionHandlers = new HashMap<>();
+    // The types of the uninitialized objects, by the labels of the instructions which created them.
+    private final Map<Label, String> uninitializedTypes = new HashMap<>();
+    private final List<Label> pendingLabels = new ArrayList<>();
+    // A label at the offset of the next instruction, if one has been visited.
+    private Label currentLabel;
+    private boolean pendingBasicBlock;
+    private boolean pendingLoop;
+    private boolean failed;
+
+    FrameTracker(BallerinaClassWriter classWriter, String owner, int access, String name, String descriptor,
+                 MethodVisitor methodVisitor) {
+        super(Opcodes.ASM9, methodVisitor);
+        this.classWriter = classWriter;
+        this.owner = owner;
+        this.locals = new Object[Math.max(getMethodType(descriptor).argumentSlots + 1, 8)];
+        boolean isConstructor = JVM_INIT_METHOD.equals(name);
+        if ((access & Opcodes.ACC_STATIC) == 0) {
+            locals[numLocals++] = isConstructor ? Opcodes.UNINITIALIZED_THIS : owner;
+        }
+        for (Type argumentType : Type.getArgumentTypes(descriptor)) {
+            Object type = getFieldType(argumentType.getDescriptor());
+            locals[numLocals++] = type;
+            if (isWide(type)) {
+                locals[numLocals++] = Opcodes.TOP;
+            }
+        }
+        this.maxLocals = numLocals;
+        this.frameLocals = toFrameTypes(locals, numLocals);
+        // The arguments are declared by the method descriptor, other than the uninitialized this of a constructor.
+        for (int index = isConstructor ? 1 : 0; index < numLocals; index++) {
+            declare(index, locals[index]);
+        }
+    }
+
+    /**
+     * Declares the type of a local variable which has been initialized. The local variable holds a value of the
+     * declared type in every instruction visited after this, hence the declared type is used in the frames.
+     *
+     * @param index      index of the local variable
+     * @param descriptor type descriptor of the local variable
+     */
+    public void declareLocalVariable(int index, String descriptor) {
+        if (failed) {
+            return;
+        }
+        Object type = getFieldType(descriptor);
+        if (!reachable || !isAssignable(type, getLocal(index))) {
+            fail();
+            return;
+        }
+        declare(index, type);
+        if (isWide(type)) {
+            declare(index + 1, Opcodes.TOP);
+        }
+    }
+
+    /**
+     * Visits the label of a BIR basic block. The basic block starts with an empty operand stack and the declared
+     * local variables, which are the types of the frame of the block.
+     *
+     * @param label label of the basic block
+     */
+    public void visitBasicBlockLabel(Label label) {
+        visitLabel(label);
+        pendingBasicBlock = true;
+    }
+
+    /**
+     * Visits the label of a loop, which is the target of a later backward jump. A frame is written at the label from
+     * the types of the values at it, which the backward jumps have to agree with.
+     *
+     * @param label label of the loop
+     */
+    public void visitLoopLabel(Label label) {
+        visitLabel(label);
+        pendingLoop = true;
+    }
+
+    @Override
+    public void visitLabel(Label label) {
+        super.visitLabel(label);
+        if (!failed) {
+            pendingLabels.add(label);
+        }
+    }
+
+    @Override
+    public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+        super.visitTryCatchBlock(start, end, handler, type);
+        if (failed) {
+            return;
+        }
+        if (visitedLabels.containsKey(handler)) {
+            fail();
+            return;
+        }
+        exceptionHandlers.computeIfAbsent(handler, label -> new ArrayList<>())
+                .add(new ExceptionHandler(start, type == null ? THROWABLE : type));
+    }
+
+    @Override
+    public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+        // The frames are generated by this visitor.
+        fail();
+    }
+
+    @Override
+    public void visitInsn(int opcode) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitInsn(opcode);
+        if (!failed) {
+            execute(opcode);
+        }
+    }
+
+    @Override
+    public void visitIntInsn(int opcode, int operand) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitIntInsn(opcode, operand);
+        if (failed) {
+            return;
+        }
+        if (opcode != Opcodes.NEWARRAY) {
+            push(Opcodes.INTEGER);
+            return;
+        }
+        popPush(1, switch (operand) {
+            case Opcodes.T_BOOLEAN -> "[Z";
+            case Opcodes.T_CHAR -> "[C";
+            case Opcodes.T_FLOAT -> "[F";
+            case Opcodes.T_DOUBLE -> "[D";
+            case Opcodes.T_BYTE -> "[B";
+            case Opcodes.T_SHORT -> "[S";
+            case Opcodes.T_INT -> "[I";
+            default -> "[J";
+        });
+    }
+
+    @Override
+    public void visitVarInsn(int opcode, int varIndex) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitVarInsn(opcode, varIndex);
+        if (failed) {
+            return;
+        }
+        switch (opcode) {
+            case Opcodes.ILOAD -> load(varIndex, Opcodes.INTEGER);
+            case Opcodes.LLOAD -> load(varIndex, Opcodes.LONG);
+            case Opcodes.FLOAD -> load(varIndex, Opcodes.FLOAT);
+            case Opcodes.DLOAD -> load(varIndex, Opcodes.DOUBLE);
+            case Opcodes.ALOAD -> load(varIndex, null);
+            case Opcodes.ISTORE -> store(varIndex, Opcodes.INTEGER);
+            case Opcodes.LSTORE -> store(varIndex, Opcodes.LONG);
+            case Opcodes.FSTORE -> store(varIndex, Opcodes.FLOAT);
+            case Opcodes.DSTORE -> store(varIndex, Opcodes.DOUBLE);
+            case Opcodes.ASTORE -> store(varIndex, null);
+            default -> fail();
+        }
+    }
+
+    @Override
+    public void visitTypeInsn(int opcode, String type) {
+        if (skipInstruction()) {
+            return;
+        }
+        if (opcode == Opcodes.NEW && !failed) {
+            // An uninitialized object is typed by the label of the instruction which created it.
+            Label label = currentLabel;
+            if (label == null) {
+                label = new Label();
+                super.visitLabel(label);
+            }
+            super.visitTypeInsn(opcode, type);
+            uninitializedTypes.put(label, type);
+            push(label);
+            return;
+        }
+        super.visitTypeInsn(opcode, type);
+        if (failed) {
+            return;
+        }
+        switch (opcode) {
+            case Opcodes.ANEWARRAY -> popPush(1, type.charAt(0) == '[' ? "[" + type : "[L" + type + ";");
+            case Opcodes.CHECKCAST -> popPush(1, type);
+            case Opcodes.INSTANCEOF -> popPush(1, Opcodes.INTEGER);
+            default -> fail();
+        }
+    }
+
+    @Override
+    public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitFieldInsn(opcode, owner, name, descriptor);
+        if (failed) {
+            return;
+        }
+        Object type = getFieldType(descriptor);
+        int size = isWide(type) ? 2 : 1;
+        switch (opcode) {
+            case Opcodes.GETSTATIC -> push(type);
+            case Opcodes.PUTSTATIC -> pop(size);
+            case Opcodes.GETFIELD -> popPush(1, type);
+            default -> pop(size + 1);
+        }
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+        if (failed) {
+            return;
+        }
+        MethodType methodType = getMethodType(descriptor);
+        pop(methodType.argumentSlots);
+        if (opcode != Opcodes.INVOKESTATIC) {
+            Object receiver = pop();
+            if (opcode == Opcodes.INVOKESPECIAL && JVM_INIT_METHOD.equals(name)) {
+                initialize(receiver);
+            }
+        }
+        if (methodType.returnType != null && !failed) {
+            push(methodType.returnType);
+        }
+    }
+
+    @Override
+    public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                                       Object... bootstrapMethodArguments) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+        if (failed) {
+            return;
+        }
+        MethodType methodType = getMethodType(descriptor);
+        pop(methodType.argumentSlots);
+        if (methodType.returnType != null && !failed) {
+            push(methodType.returnType);
+        }
+    }
+
+    @Override
+    public void visitJumpInsn(int opcode, Label label) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitJumpInsn(opcode, label);
+        if (failed) {
+            return;
+        }
+        switch (opcode) {
+            case Opcodes.GOTO -> {
+                addJump(label, currentState());
+                reachable = false;
+            }
+            case Opcodes.IFEQ, Opcodes.IFNE, Opcodes.IFLT, Opcodes.IFGE, Opcodes.IFGT, Opcodes.IFLE, Opcodes.IFNULL,
+                 Opcodes.IFNONNULL -> {
+                pop(1);
+                addJump(label, currentState());
+            }
+            case Opcodes.IF_ICMPEQ, Opcodes.IF_ICMPNE, Opcodes.IF_ICMPLT, Opcodes.IF_ICMPGE, Opcodes.IF_ICMPGT,
+                 Opcodes.IF_ICMPLE, Opcodes.IF_ACMPEQ, Opcodes.IF_ACMPNE -> {
+                pop(2);
+                addJump(label, currentState());
+            }
+            default -> fail();
+        }
+    }
+
+    @Override
+    public void visitLdcInsn(Object value) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitLdcInsn(value);
+        if (failed) {
+            return;
+        }
+        // The class writer writes the constants of the primitive wrappers as int constants.
+        if (value instanceof Integer || value instanceof Boolean || value instanceof Character ||
+                value instanceof Byte || value instanceof Short) {
+            push(Opcodes.INTEGER);
+        } else if (value instanceof Long) {
+            push(Opcodes.LONG);
+        } else if (value instanceof Float) {
+            push(Opcodes.FLOAT);
+        } else if (value instanceof Double) {
+            push(Opcodes.DOUBLE);
+        } else if (value instanceof String) {
+            push("java/lang/String");
+        } else if (value instanceof Type type) {
+            push(type.getSort() == Type.METHOD ? "java/lang/invoke/MethodType" : "java/lang/Class");
+        } else if (value instanceof Handle) {
+            push("java/lang/invoke/MethodHandle");
+        } else if (value instanceof ConstantDynamic constantDynamic) {
+            push(getFieldType(constantDynamic.getDescriptor()));
+        } else {
+            fail();
+        }
+    }
+
+    @Override
+    public void visitIincInsn(int varIndex, int increment) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitIincInsn(varIndex, increment);
+        if (!failed && getLocal(varIndex) != Opcodes.INTEGER) {
+            fail();
+        }
+    }
+
+    @Override
+    public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitTableSwitchInsn(min, max, dflt, labels);
+        if (!failed) {
+            addSwitchJumps(dflt, labels);
+        }
+    }
+
+    @Override
+    public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitLookupSwitchInsn(dflt, keys, labels);
+        if (!failed) {
+            addSwitchJumps(dflt, labels);
+        }
+    }
+
+    @Override
+    public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+        if (skipInstruction()) {
+            return;
+        }
+        super.visitMultiANewArrayInsn(descriptor, numDimensions);
+        if (!failed) {
+            popPush(numDimensions, descriptor);
+        }
+    }
+
+    @Override
+    public void visitMaxs(int maxStack, int maxLocals) {
+        if (!failed && !jumpStates.isEmpty()) {
+            // A jump to a label which was never visited.
+            fail();
+        }
+        super.visitMaxs(Math.max(this.maxStack, maxStack), Math.max(this.maxLocals, maxLocals));
+    }
+
+    /**
+     * Writes the frame of the labels visited since the last instruction, if the next instruction needs one.
+     *
+     * @return whether the next instruction is unreachable, and is to be skipped
+     */
+    private boolean skipInstruction() {
+        if (failed) {
+            return false;
+        }
+        currentLabel = null;
+        if (!pendingLabels.isEmpty()) {
+            visitPendingLabels();
+            if (failed) {
+                return false;
+            }
+        }
+        // No label has been visited since the last unconditional jump, hence nothing can jump to this instruction.
+        return !reachable;
+    }
+
+    private void visitPendingLabels() {
+        TypeState state = reachable ? currentState() : null;
+        boolean needsFrame = state == null || pendingLoop;
+        pendingLoop = false;
+        for (Label label : pendingLabels) {
+            TypeState jumpState = jumpStates.remove(label);
+            if (jumpState != null) {
+                state = state == null ? jumpState : merge(state, jumpState);
+                needsFrame = true;
+            }
+            List<ExceptionHandler> handlers = exceptionHandlers.remove(label);
+            if (handlers != null) {
+                for (ExceptionHandler handler : handlers) {
+                    TypeState handlerState = getHandlerState(handler);
+                    state = state == null ? handlerState : merge(state, handlerState);
+                }
+                needsFrame = true;
+            }
+            if (failed) {
+                return;
+            }
+        }
+        if (pendingBasicBlock) {
+            TypeState blockState = new TypeState(declaredTypes.clone(), EMPTY_TYPES);
+            if (state != null && !isAssignable(blockState, state)) {
+                fail();
+                return;
+            }
+            state = blockState;
+            needsFrame = true;
+            pendingBasicBlock = false;
+        }
+        if (state == null) {
+            // Nothing has jumped to the labels so far, as in the code after the terminator of a trapped basic block.
+            // The frame is made of the declared local variables, which a later backward jump has to agree with.
+            state = new TypeState(declaredTypes.clone(), EMPTY_TYPES);
+        }
+        if (needsFrame) {
+            writeFrame(state);
+        }
+        VisitedLabel visitedLabel = new VisitedLabel(visitedLabelCount++, needsFrame ? state : null);
+        for (Label label : pendingLabels) {
+            visitedLabels.put(label, visitedLabel);
+        }
+        currentLabel = pendingLabels.get(0);
+        pendingLabels.clear();
+    }
+
+    private void addJump(Label label, TypeState state) {
+        if (failed) {
+            return;
+        }
+        VisitedLabel visitedLabel = visitedLabels.get(label);
+        if (visitedLabel != null) {
+            // A backward jump, which has to agree with the frame written at the label.
+            if (visitedLabel.state == null || !isAssignable(visitedLabel.state, state)) {
+                fail();
+            }
+            return;
+        }
+        jumpStates.merge(label, state, this::merge);
+    }
+
+    private void addSwitchJumps(Label dflt, Label[] labels) {
+        pop(1);
+        TypeState state = currentState();
+        addJump(dflt, state);
+        for (Label label : labels) {
+            addJump(label, state);
+        }
+        reachable = false;
+    }
+
+    private TypeState getHandlerState(ExceptionHandler handler) {
+        VisitedLabel start = visitedLabels.get(handler.start);
+        int labelCount = start != null ? start.index : visitedLabelCount;
+        Object[] handlerLocals = new Object[declaredTypes.length];
+        for (int i = 0; i < declaredTypes.length; i++) {
+            handlerLocals[i] = declaredAt[i] <= labelCount ? declaredTypes[i] : Opcodes.TOP;
+        }
+        return new TypeState(handlerLocals, new Object[]{handler.type});
+    }
+
+    private void execute(int opcode) {
+        switch (opcode) {
+            case Opcodes.NOP -> {
+            }
+            case Opcodes.ACONST_NULL -> push(Opcodes.NULL);
+            case Opcodes.ICONST_M1, Opcodes.ICONST_0, Opcodes.ICONST_1, Opcodes.ICONST_2, Opcodes.ICONST_3,
+                 Opcodes.ICONST_4, Opcodes.ICONST_5 -> push(Opcodes.INTEGER);
+            case Opcodes.LCONST_0, Opcodes.LCONST_1 -> push(Opcodes.LONG);
+            case Opcodes.FCONST_0, Opcodes.FCONST_1, Opcodes.FCONST_2 -> push(Opcodes.FLOAT);
+            case Opcodes.DCONST_0, Opcodes.DCONST_1 -> push(Opcodes.DOUBLE);
+            case Opcodes.IALOAD, Opcodes.BALOAD, Opcodes.CALOAD, Opcodes.SALOAD -> popPush(2, Opcodes.INTEGER);
+            case Opcodes.LALOAD -> popPush(2, Opcodes.LONG);
+            case Opcodes.FALOAD -> popPush(2, Opcodes.FLOAT);
+            case Opcodes.DALOAD -> popPush(2, Opcodes.DOUBLE);
+            case Opcodes.AALOAD -> {
+                pop(1);
+                if (pop() instanceof String arrayType && arrayType.charAt(0) == '[') {
+                    push(getFieldType(arrayType.substring(1)));
+                } else {
+                    fail();
+                }
+            }
+            case Opcodes.IASTORE, Opcodes.BASTORE, Opcodes.CASTORE, Opcodes.SASTORE, Opcodes.FASTORE,
+                 Opcodes.AASTORE -> pop(3);
+            case Opcodes.LASTORE, Opcodes.DASTORE -> pop(4);
+            case Opcodes.POP, Opcodes.MONITORENTER, Opcodes.MONITOREXIT -> pop(1);
+            case Opcodes.POP2 -> pop(2);
+            case Opcodes.DUP -> dup(1, 0);
+            case Opcodes.DUP_X1 -> dup(1, 1);
+            case Opcodes.DUP_X2 -> dup(1, 2);
+            case Opcodes.DUP2 -> dup(2, 0);
+            case Opcodes.DUP2_X1 -> dup(2, 1);
+            case Opcodes.DUP2_X2 -> dup(2, 2);
+            case Opcodes.SWAP -> {
+                if (stackSize < 2) {
+                    fail();
+                    return;
+                }
+                Object value = stack[stackSize - 1];
+                stack[stackSize - 1] = stack[stackSize - 2];
+                stack[stackSize - 2] = value;
+            }
+            case Opcodes.IADD, Opcodes.ISUB, Opcodes.IMUL, Opcodes.IDIV, Opcodes.IREM, Opcodes.ISHL, Opcodes.ISHR,
+                 Opcodes.IUSHR, Opcodes.IAND, Opcodes.IOR, Opcodes.IXOR, Opcodes.FCMPL, Opcodes.FCMPG ->
+                    popPush(2, Opcodes.INTEGER);
+            case Opcodes.LADD, Opcodes.LSUB, Opcodes.LMUL, Opcodes.LDIV, Opcodes.LREM, Opcodes.LAND, Opcodes.LOR,
+                 Opcodes.LXOR -> popPush(4, Opcodes.LONG);
+            case Opcodes.LSHL, Opcodes.LSHR, Opcodes.LUSHR -> popPush(3, Opcodes.LONG);
+            case Opcodes.FADD, Opcodes.FSUB, Opcodes.FMUL, Opcodes.FDIV, Opcodes.FREM -> popPush(2, Opcodes.FLOAT);
+            case Opcodes.DADD, Opcodes.DSUB, Opcodes.DMUL, Opcodes.DDIV, Opcodes.DREM -> popPush(4, Opcodes.DOUBLE);
+            case Opcodes.INEG, Opcodes.I2B, Opcodes.I2C, Opcodes.I2S, Opcodes.F2I, Opcodes.ARRAYLENGTH ->
+                    popPush(1, Opcodes.INTEGER);
+            case Opcodes.L2I, Opcodes.D2I -> popPush(2, Opcodes.INTEGER);
+            case Opcodes.LCMP, Opcodes.DCMPL, Opcodes.DCMPG -> popPush(4, Opcodes.INTEGER);
+            case Opcodes.I2L, Opcodes.F2L -> popPush(1, Opcodes.LONG);
+            case Opcodes.LNEG, Opcodes.D2L -> popPush(2, Opcodes.LONG);
+            case Opcodes.FNEG, Opcodes.I2F -> popPush(1, Opcodes.FLOAT);
+            case Opcodes.L2F, Opcodes.D2F -> popPush(2, Opcodes.FLOAT);
+            case Opcodes.I2D, Opcodes.F2D -> popPush(1, Opcodes.DOUBLE);
+            case Opcodes.DNEG, Opcodes.L2D -> popPush(2, Opcodes.DOUBLE);
+            case Opcodes.IRETURN, Opcodes.LRETURN, Opcodes.FRETURN, Opcodes.DRETURN, Opcodes.ARETURN,
+                 Opcodes.RETURN, Opcodes.ATHROW -> reachable = false;
+            default -> fail();
+        }
+    }
+
+    private void load(int varIndex, Object kind) {
+        // A local variable which is not set in a frame cannot be loaded.
+        Object type = getLocal(varIndex);
+        if (kind == null ? !isReference(type) : type != kind) {
+            fail();
+            return;
+        }
+        push(type);
+    }
+
+    private void store(int varIndex, Object kind) {
+        Object type;
+        if (kind == null) {
+            type = pop();
+            if (!isReference(type)) {
+                fail();
+                return;
+            }
+        } else {
+            type = kind;
+            pop(isWide(kind) ? 2 : 1);
+        }
+        // A declared local variable only holds values of its declared type.
+        boolean isWide = isWide(type);
+        if (failed || (isDeclared(varIndex) && !isAssignable(declaredTypes[varIndex], type)) ||
+                (isWide && isDeclared(varIndex + 1)) || (varIndex > 0 && isWideDeclaration(varIndex - 1))) {
+            fail();
+            return;
+        }
+        setLocal(varIndex, type);
+        if (isWide) {
+            setLocal(varIndex + 1, Opcodes.TOP);
+        }
+        // A long or a double which is overwritten by half can no longer be loaded.
+        if (varIndex > 0 && isWide(locals[varIndex - 1])) {
+            locals[varIndex - 1] = Opcodes.TOP;
+        }
+    }
+
+    private void initialize(Object uninitializedType) {
+        Object type;
+        if (uninitializedType == Opcodes.UNINITIALIZED_THIS) {
+            type = owner;
+        } else if (uninitializedType instanceof Label label) {
+            type = uninitializedTypes.get(label);
+        } else {
+            return;
+        }
+        for (int i = 0; i < numLocals; i++) {
+            if (locals[i] == uninitializedType) {
+                locals[i] = type;
+            }
+        }
+        for (int i = 0; i < stackSize; i++) {
+            if (stack[i] == uninitializedType) {
+                stack[i] = type;
+            }
+        }
+    }
+
+    private void dup(int numSlots, int numSkippedSlots) {
+        if (stackSize < numSlots + numSkippedSlots) {
+            fail();
+            return;
+        }
+        ensureStackCapacity(stackSize + numSlots);
+        int start = stackSize - numSlots - numSkippedSlots;
+        System.arraycopy(stack, start, stack, start + numSlots, numSlots + numSkippedSlots);
+        System.arraycopy(stack, stackSize, stack, start, numSlots);
+        stackSize += numSlots;
+        maxStack = Math.max(maxStack, stackSize);
+    }
+
+    private void push(Object type) {
+        boolean isWide = isWide(type);
+        ensureStackCapacity(stackSize + 2);
+        stack[stackSize++] = type;
+        if (isWide) {
+            stack[stackSize++] = Opcodes.TOP;
+        }
+        maxStack = Math.max(maxStack, stackSize);
+    }
+
+    private Object pop() {
+        if (stackSize == 0) {
+            fail();
+            return null;
+        }
+        return stack[--stackSize];
+    }
+
+    private void pop(int numSlots) {
+        if (stackSize < numSlots) {
+            fail();
+            return;
+        }
+        stackSize -= numSlots;
+    }
+
+    private void popPush(int numSlots, Object type) {
+        pop(numSlots);
+        if (!failed) {
+            push(type);
+        }
+    }
+
+    private void ensureStackCapacity(int size) {
+        if (size > stack.length) {
+            stack = Arrays.copyOf(stack, Math.max(size, stack.length * 2));
+        }
+    }
+
+    private Object getLocal(int index) {
+        return index < numLocals ? locals[index] : Opcodes.TOP;
+    }
+
+    private void setLocal(int index, Object type) {
+        if (index >= locals.length) {
+            locals = Arrays.copyOf(locals, Math.max(index + 1, locals.length * 2));
+        }
+        if (index >= numLocals) {
+            Arrays.fill(locals, numLocals, index, Opcodes.TOP);
+            numLocals = index + 1;
+            maxLocals = Math.max(maxLocals, numLocals);
+        }
+        locals[index] = type;
+    }
+
+    private boolean isDeclared(int index) {
+        return index < declaredTypes.length && declaredTypes[index] != Opcodes.TOP;
+    }
+
+    private boolean isWideDeclaration(int index) {
+        return index < declaredTypes.length && isWide(declaredTypes[index]);
+    }
+
+    private void declare(int index, Object type) {
+        if (index >= declaredTypes.length) {
+            int length = index + 1;
+            Object[] types = Arrays.copyOf(declaredTypes, length);
+            Arrays.fill(types, declaredTypes.length, length, Opcodes.TOP);
+            declaredTypes = types;
+            declaredAt = Arrays.copyOf(declaredAt, length);
+        }
+        declaredTypes[index] = type;
+        declaredAt[index] = visitedLabelCount;
+    }
+
+    private TypeState currentState() {
+        return new TypeState(Arrays.copyOf(locals, numLocals),
+                stackSize == 0 ? EMPTY_TYPES : Arrays.copyOf(stack, stackSize));
+    }
+
+    private void writeFrame(TypeState state) {
+        Object[] newFrameLocals = toFrameTypes(state.locals, state.locals.length);
+        Object[] frameStack = toFrameTypes(state.stack, state.stack.length);
+        // Most of the frames have the declared local variables of the previous frame, which are not written again.
+        if (frameStack.length < 2 && Arrays.equals(newFrameLocals, frameLocals)) {
+            if (frameStack.length == 0) {
+                super.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+            } else {
+                super.visitFrame(Opcodes.F_SAME1, 0, null, 1, frameStack);
+            }
+        } else {
+            super.visitFrame(Opcodes.F_FULL, newFrameLocals.length, newFrameLocals, frameStack.length, frameStack);
+        }
+        frameLocals = newFrameLocals;
+        // The values after the frame have the types of the frame.
+        numLocals = state.locals.length;
+        locals = Arrays.copyOf(state.locals, Math.max(numLocals, 8));
+        stackSize = state.stack.length;
+        stack = Arrays.copyOf(state.stack, Math.max(stackSize * 2, 8));
+        maxLocals = Math.max(maxLocals, numLocals);
+        maxStack = Math.max(maxStack, stackSize);
+        reachable = true;
+    }
+
+    private TypeState merge(TypeState state1, TypeState state2) {
+        if (failed) {
+            return state1;
+        }
+        if (state1.stack.length != state2.stack.length) {
+            fail();
+            return state1;
+        }
+        Object[] mergedStack = state1.stack.clone();
+        for (int i = 0; i < mergedStack.length; i++) {
+            Object type = mergeStackTypes(state1.stack[i], state2.stack[i]);
+            if (type == null) {
+                fail();
+                return state1;
+            }
+            mergedStack[i] = type;
+        }
+        int numMergedLocals = Math.max(state1.locals.length, state2.locals.length);
+        Object[] mergedLocals = new Object[numMergedLocals];
+        for (int i = 0; i < numMergedLocals; i++) {
+            Object type1 = i < state1.locals.length ? state1.locals[i] : Opcodes.TOP;
+            Object type2 = i < state2.locals.length ? state2.locals[i] : Opcodes.TOP;
+            if (type1.equals(type2)) {
+                mergedLocals[i] = type1;
+            } else if (isDeclared(i) && isAssignable(declaredTypes[i], type1) &&
+                    isAssignable(declaredTypes[i], type2)) {
+                mergedLocals[i] = declaredTypes[i];
+            } else {
+                mergedLocals[i] = Opcodes.TOP;
+            }
+        }
+        return new TypeState(mergedLocals, mergedStack);
+    }
+
+    private static Object mergeStackTypes(Object type1, Object type2) {
+        if (type1.equals(type2)) {
+            return type1;
+        }
+        if (type1 == Opcodes.NULL && type2 instanceof String) {
+            return type2;
+        }
+        if (type2 == Opcodes.NULL && type1 instanceof String) {
+            return type1;
+        }
+        if (type1 instanceof String className1 && type2 instanceof String className2 &&
+                className1.charAt(0) != '[' && className2.charAt(0) != '[') {
+            return BallerinaClassWriter.getCommonSuperClass(className1, className2);
+        }
+        return null;
+    }
+
+    private boolean isAssignable(TypeState frame, TypeState state) {
+        if (frame.stack.length != state.stack.length) {
+            return false;
+        }
+        for (int i = 0; i < frame.stack.length; i++) {
+            if (!isAssignable(frame.stack[i], state.stack[i])) {
+                return false;
+            }
+        }
+        for (int i = 0; i < frame.locals.length; i++) {
+            if (frame.locals[i] != Opcodes.TOP &&
+                    (i >= state.locals.length || !isAssignable(frame.locals[i], state.locals[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAssignable(Object type, Object valueType) {
+        if (type.equals(valueType) || type == Opcodes.TOP) {
+            return true;
+        }
+        if (!(type instanceof String className)) {
+            return false;
+        }
+        if (valueType == Opcodes.NULL) {
+            return true;
+        }
+        return valueType instanceof String valueClassName && classWriter.isAssignableFrom(className, valueClassName);
+    }
+
+    private static boolean isReference(Object type) {
+        return type instanceof String || type instanceof Label || type == Opcodes.NULL ||
+                type == Opcodes.UNINITIALIZED_THIS;
+    }
+
+    private static boolean isWide(Object type) {
+        return type == Opcodes.LONG || type == Opcodes.DOUBLE;
+    }
+
+    private static Object getFieldType(String descriptor) {
+        Object type = fieldTypes.get(descriptor);
+        if (type != null) {
+            return type;
+        }
+        type = switch (descriptor.charAt(0)) {
+            case 'Z', 'C', 'B', 'S', 'I' -> Opcodes.INTEGER;
+            case 'F' -> Opcodes.FLOAT;
+            case 'J' -> Opcodes.LONG;
+            case 'D' -> Opcodes.DOUBLE;
+            case '[' -> descriptor;
+            default -> descriptor.substring(1, descriptor.length() - 1);
+        };
+        if (fieldTypes.size() >= MAX_CACHED_DESCRIPTORS) {
+            fieldTypes.clear();
+        }
+        fieldTypes.put(descriptor, type);
+        return type;
+    }
+
+    private static MethodType getMethodType(String descriptor) {
+        MethodType methodType = methodTypes.get(descriptor);
+        if (methodType != null) {
+            return methodType;
+        }
+        // The size of the arguments includes the receiver, which is popped separately.
+        int argumentSlots = (Type.getArgumentsAndReturnSizes(descriptor) >> 2) - 1;
+        String returnDescriptor = descriptor.substring(descriptor.lastIndexOf(')') + 1);
+        methodType = new MethodType(argumentSlots,
+                returnDescriptor.charAt(0) == 'V' ? null : getFieldType(returnDescriptor));
+        if (methodTypes.size() >= MAX_CACHED_DESCRIPTORS) {
+            methodTypes.clear();
+        }
+        methodTypes.put(descriptor, methodType);
+        return methodType;
+    }
+
+    private static Object[] toFrameTypes(Object[] types, int length) {
+        // A long or a double takes a single element in a frame, and the unused local variables at the end are left.
+        int numTypes = length;
+        while (numTypes > 0 && types[numTypes - 1] == Opcodes.TOP && (numTypes < 2 || !isWide(types[numTypes - 2]))) {
+            numTypes--;
+        }
+        if (numTypes == 0) {
+            return EMPTY_TYPES;
+        }
+        Object[] frameTypes = new Object[numTypes];
+        int numFrameTypes = 0;
+        for (int i = 0; i < numTypes; i++) {
+            Object type = types[i];
+            frameTypes[numFrameTypes++] = type;
+            if (isWide(type)) {
+                i++;
+            }
+        }
+        return numFrameTypes == numTypes ? frameTypes : Arrays.copyOf(frameTypes, numFrameTypes);
+    }
+
+    private void fail() {
+        failed = true;
+        reachable = false;
+        pendingLabels.clear();
+        classWriter.computeFramesOnWrite();
+    }
+
+    private record TypeState(Object[] locals, Object[] stack) {
+    }
+
+    private record VisitedLabel(int index, TypeState state) {
+    }
+
+    private record ExceptionHandler(Label start, String type) {
+    }
+
+    private record MethodType(int argumentSlots, Object returnType) {
+    }
+}
@@ -20,10 +20,18 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import io.ballerina.projects.ProjectException;
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
+import org.ballerinalang.compiler.BLangCompilerException;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
@@ -35,10 +43,31 @@ import java.util.jar.Manifest;
  * @since 2201.10.0
  */
 public class JarEntries {
+
+    // Bounds the number of class writers kept in memory while their classes are being written.
+    private static final int MAX_PENDING_ENTRIES = 256;
+
     private final ByteArrayOutputStream byteArrayOutputStream;
     private final JarOutputStream entries;
+    private final boolean concurrent;
+    private final Deque<PendingEntry> pendingEntries = new ArrayDeque<>();
 
     protected JarEntries(String mainClassName) {
+        this(mainClassName, false);
+    }
+
+    /**
+     * Creates the jar entries of a module.
+     * <p>
+     * If the entries are concurrent, the class files are written on the common fork-join pool, once their class
+     * writers are visited. The entries are still added to the jar in the order they are put, hence the jar content
+     * is the same as when the class files are written sequentially.
+     *
+     * @param mainClassName main class of the jar
+     * @param concurrent    whether the class files are written concurrently
+     */
+    protected JarEntries(String mainClassName, boolean concurrent) {
+        this.concurrent = concurrent;
         this.byteArrayOutputStream = new ByteArrayOutputStream();
         try {
             entries = new JarOutputStream(this.byteArrayOutputStream, getManifest(mainClassName));
@@ -56,6 +85,85 @@ public class JarEntries {
     }
 
     public void put(String key, byte[] value) {
+        if (pendingEntries.isEmpty()) {
+            write(key, value);
+            return;
+        }
+        pendingEntries.add(new PendingEntry(key, CompletableFuture.completedFuture(value), JarEntries::rethrow));
+    }
+
+    /**
+     * Put the class file written by the given class writer. The class writer must not be visited afterwards.
+     *
+     * @param key name of the class file
+     * @param cw  class writer of the class
+     */
+    public void putClass(String key, BallerinaClassWriter cw) {
+        putClass(key, cw, JarEntries::rethrow);
+    }
+
+    /**
+     * Put the class file written by the given class writer. The class writer must not be visited afterwards.
+     *
+     * @param key          name of the class file
+     * @param cw           class writer of the class
+     * @param errorHandler returns the content of the class file, if the class writer fails. This is called on the
+     *                     thread which puts the entries.
+     */
+    public void putClass(String key, BallerinaClassWriter cw, Function<Throwable, byte[]> errorHandler) {
+        if (!concurrent) {
+            byte[] bytes;
+            try {
+                bytes = cw.toByteArray();
+            } catch (Throwable e) {
+                bytes = errorHandler.apply(e);
+            }
+            put(key, bytes);
+            return;
+        }
+
+        pendingEntries.add(new PendingEntry(key, ForkJoinPool.commonPool().submit(cw::toByteArray), errorHandler));
+        // Write the entries which are ready, waiting for the oldest one if too many are pending.
+        while (!pendingEntries.isEmpty() &&
+                (pendingEntries.peek().value.isDone() || pendingEntries.size() > MAX_PENDING_ENTRIES)) {
+            writePendingEntry();
+        }
+    }
+
+    /**
+     * Write all the pending entries to the jar.
+     */
+    public void flush() {
+        while (!pendingEntries.isEmpty()) {
+            writePendingEntry();
+        }
+    }
+
+    private void writePendingEntry() {
+        PendingEntry pendingEntry = pendingEntries.remove();
+        byte[] bytes;
+        try {
+            bytes = pendingEntry.value.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BLangCompilerException("interrupted while generating '" + pendingEntry.key + "'", e);
+        } catch (ExecutionException e) {
+            bytes = pendingEntry.errorHandler.apply(e.getCause());
+        }
+        write(pendingEntry.key, bytes);
+    }
+
+    private static byte[] rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        throw new BLangCompilerException(e.getMessage(), e);
+    }
+
+    private void write(String key, byte[] value) {
         JarEntry entry = new JarEntry(key);
         try {
             entries.putNextEntry(entry);
@@ -67,6 +175,7 @@ public class JarEntries {
     }
 
     public void putResourceEntries(Map<String, byte[]> resources) {
+        flush();
         try {
             for (Map.Entry<String, byte[]> entry : resources.entrySet()) {
                 JarArchiveEntry e = new JarArchiveEntry(entry.getKey());
@@ -80,7 +189,11 @@ public class JarEntries {
     }
 
     protected ByteArrayOutputStream getByteArrayOutputStream() throws IOException {
+        flush();
         entries.close();
         return byteArrayOutputStream;
     }
+
+    private record PendingEntry(String key, Future<byte[]> value, Function<Throwable, byte[]> errorHandler) {
+    }
 }
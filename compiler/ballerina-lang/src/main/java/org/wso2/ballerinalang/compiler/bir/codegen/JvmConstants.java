@@ -53,6 +53,7 @@ public final class JvmConstants {
     public static final String B_STRING_VALUE = "io/ballerina/runtime/api/values/BString";
     public static final String NON_BMP_STRING_VALUE = "io/ballerina/runtime/internal/values/NonBmpStringValue";
     public static final String BMP_STRING_VALUE = "io/ballerina/runtime/internal/values/BmpStringValue";
+    public static final String B_STRING_INTERN_TABLE = "io/ballerina/runtime/internal/values/BStringInternTable";
     public static final String LONG_VALUE = "java/lang/Long";
     public static final String BYTE_VALUE = "java/lang/Byte";
     public static final String SHORT_VALUE = "java/lang/Short";
@@ -179,6 +180,7 @@ public final class JvmConstants {
     public static final String TEST_ARGUMENTS = "io/ballerina/runtime/internal/testable/TestArguments";
     public static final String TEST_CONFIG_ARGS = "io/ballerina/runtime/internal/testable/TestConfigArguments";
     public static final String TYPE_ID_SET = "io/ballerina/runtime/internal/types/BTypeIdSet";
+    public static final String LAZY_TYPE_CREATOR = "io/ballerina/runtime/internal/types/LazyTypeCreator";
 
     // other jvm-specific classes
     public static final String BAL_RUNTIME = "io/ballerina/runtime/internal/BalRuntime";
@@ -253,6 +255,7 @@ public final class JvmConstants {
     public static final String SET_DETAIL_TYPE_METHOD = "setDetailType";
     public static final String SET_TYPEID_SET_METHOD = "setTypeIdSet";
     public static final String TRAP_ERROR_METHOD = "trapError";
+    public static final String INTERN_METHOD = "intern";
 
     // future related constants
     public static final String GET = "get";
@@ -288,6 +291,7 @@ public final class JvmConstants {
     public static final String MODULE_CONSTANT_CLASS_NAME = "constants/$_module_constants";
     public static final String CONSTANTS_CLASS_NAME = "constants/$_constants";
     public static final String MODULE_TYPES_CLASS_NAME = "types/$_types";
+    public static final String MODULE_TYPE_CREATOR_CLASS_NAME = "types/$_type_creator";
     public static final String MODULE_RECORD_TYPES_CLASS_NAME = "types/$_record_types";
     public static final String MODULE_OBJECT_TYPES_CLASS_NAME = "types/$_object_types";
     public static final String MODULE_ERROR_TYPES_CLASS_NAME = "types/$_error_types";
@@ -359,6 +363,12 @@ public final class JvmConstants {
     public static final String CREATE_TYPES_METHOD = "$createTypes";
     public static final String CREATE_TYPE_CONSTANTS_METHOD = "$createTypeConstants";
     public static final String CREATE_TYPE_INSTANCES_METHOD = "$createTypeInstances";
+    public static final String POPULATE_TYPES_METHOD = "$populateTypes";
+    public static final String TYPE_CREATOR_VAR_NAME = "$typeCreator";
+    public static final String LAZY_TYPE_GETTER_PREFIX = "$get";
+    public static final String GET_TYPE_BY_INDEX_METHOD = "getType";
+    public static final String CREATE_TYPE_METHOD = "createType";
+    public static final String POPULATE_TYPE_METHOD = "populateType";
     public static final String GLOBAL_LOCK_NAME = "lock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String BAL_RUNTIME_VAR_NAME = "$balRuntime";
@@ -366,6 +376,7 @@ public final class JvmConstants {
     public static final String WORKER_CHANNEL_MAP_VAR_NAME = "$channelMap";
     public static final String SEND_WORKER_CHANNEL_NAMES_VAR_NAME = "$sendWorkerChannelNames";
     public static final String RECEIVE_WORKER_CHANNEL_NAMES_VAR_NAME = "$receiveWorkerChannelNames";
+    public static final String WORKER_PANIC_VAR_NAME = "$workerPanic";
     public static final String WORKER_CHANNEL_NAMES_MAP = "$channelNamesMap";
     public static final String WORKER_CHANNELS_ADD_METHOD = "addWorkerChannels";
     public static final String WORKER_CHANNELS_COMPLETE_METHOD = "completedWorkerChannels";
@@ -436,6 +447,9 @@ public final class JvmConstants {
     public static final String GET_UNBOXED_FLOAT_VALUE = "getUnboxedFloatValue";
     public static final String GET_STRING_VALUE = "getStringValue";
     public static final String GET_UNBOXED_BOOLEAN_VALUE = "getUnboxedBooleanValue";
+    public static final String PUT_UNBOXED_INT_VALUE = "putUnboxedIntValue";
+    public static final String PUT_UNBOXED_FLOAT_VALUE = "putUnboxedFloatValue";
+    public static final String PUT_UNBOXED_BOOLEAN_VALUE = "putUnboxedBooleanValue";
     // visibility flags
     public static final int BAL_OPTIONAL = 4096;
 
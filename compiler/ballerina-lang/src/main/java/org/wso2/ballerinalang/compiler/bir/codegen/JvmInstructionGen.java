@@ -172,6 +172,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MATH_UTIL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_SELF_INSTANCE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_TYPE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PUT_UNBOXED_BOOLEAN_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PUT_UNBOXED_FLOAT_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PUT_UNBOXED_INT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.REG_EXP_FACTORY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SHORT_VALUE;
@@ -223,7 +226,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MAP_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRING_AT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRING_FROM_ARRAY;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC_OF_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_MAP_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_TABLE_STORE;
@@ -247,6 +249,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_S
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_RETURN_UNBOXED_BOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_RETURN_UNBOXED_DOUBLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_RETURN_UNBOXED_LONG;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_UNBOXED_BOOLEAN_RETURN_VOID;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_UNBOXED_DOUBLE_RETURN_VOID;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_UNBOXED_LONG_RETURN_VOID;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PROCESS_FP_ANNOTATIONS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PROCESS_OBJ_CTR_ANNOTATIONS;
@@ -1260,16 +1265,27 @@ public class JvmInstructionGen {
     }
 
     void generateMapStoreIns(BIRNonTerminator.FieldAccess mapStoreIns) {
+        BType varRefType = JvmCodeGenUtil.getImpliedType(mapStoreIns.lhsOp.variableDcl.type);
+        BType valueType = mapStoreIns.rhsOp.variableDcl.type;
+        // Basic type values are stored in record fields without boxing, unless the field needs to be validated.
+        boolean unboxedRecordStore = varRefType.tag == TypeTags.RECORD && !mapStoreIns.onInitialization &&
+                isUnboxedRecordFieldType(JvmCodeGenUtil.getImpliedType(valueType));
+
         // visit map_ref
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
-        BType varRefType = JvmCodeGenUtil.getImpliedType(mapStoreIns.lhsOp.variableDcl.type);
+        if (unboxedRecordStore) {
+            this.mv.visitTypeInsn(CHECKCAST, MAP_VALUE_IMPL);
+        }
 
         // visit key_expr
         this.loadVar(mapStoreIns.keyOp.variableDcl);
 
         // visit value_expr
-        BType valueType = mapStoreIns.rhsOp.variableDcl.type;
         this.loadVar(mapStoreIns.rhsOp.variableDcl);
+        if (unboxedRecordStore) {
+            generateUnboxedRecordStore(JvmCodeGenUtil.getImpliedType(valueType));
+            return;
+        }
         jvmCastGen.addBoxInsn(this.mv, valueType);
 
         if (varRefType.tag == TypeTags.JSON) {
@@ -1284,6 +1300,21 @@ public class JvmInstructionGen {
         }
     }
 
+    private static boolean isUnboxedRecordFieldType(BType valueType) {
+        return valueType.tag == TypeTags.INT || valueType.tag == TypeTags.FLOAT || valueType.tag == TypeTags.BOOLEAN;
+    }
+
+    private void generateUnboxedRecordStore(BType valueType) {
+        switch (valueType.tag) {
+            case TypeTags.INT -> this.mv.visitMethodInsn(INVOKEVIRTUAL, MAP_VALUE_IMPL, PUT_UNBOXED_INT_VALUE,
+                    PASS_B_STRING_UNBOXED_LONG_RETURN_VOID, false);
+            case TypeTags.FLOAT -> this.mv.visitMethodInsn(INVOKEVIRTUAL, MAP_VALUE_IMPL, PUT_UNBOXED_FLOAT_VALUE,
+                    PASS_B_STRING_UNBOXED_DOUBLE_RETURN_VOID, false);
+            default -> this.mv.visitMethodInsn(INVOKEVIRTUAL, MAP_VALUE_IMPL, PUT_UNBOXED_BOOLEAN_VALUE,
+                    PASS_B_STRING_UNBOXED_BOOLEAN_RETURN_VOID, false);
+        }
+    }
+
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
@@ -1439,10 +1470,7 @@ public class JvmInstructionGen {
 
     private void visitNewRecordArray(BType type) {
         BType elementType = JvmCodeGenUtil.getImpliedType(type);
-        String typeOwner = JvmCodeGenUtil.getPackageName(type.tsymbol.pkgID) + MODULE_INIT_CLASS_NAME;
-        String typedescFieldName =
-                jvmTypeGen.getTypedescFieldName(toNameString(elementType));
-        this.mv.visitFieldInsn(GETSTATIC, typeOwner, typedescFieldName, "L" + TYPEDESC_VALUE + ";");
+        jvmTypeGen.loadLazyTypedesc(this.mv, type.tsymbol.pkgID, toNameString(elementType));
         this.mv.visitMethodInsn(INVOKESPECIAL, ARRAY_VALUE_IMPL, JVM_INIT_METHOD,
                 INIT_ARRAY_WITH_INITIAL_VALUES, false);
     }
@@ -2003,10 +2031,7 @@ public class JvmInstructionGen {
         List<BIROperand> closureVars = newTypeDesc.closureVars;
         if (isNonReferredRecord(newTypeDesc.type)) {
             BType type = JvmCodeGenUtil.getImpliedType(newTypeDesc.type);
-            PackageID packageID = type.tsymbol.pkgID;
-            String typeOwner = JvmCodeGenUtil.getPackageName(packageID) + MODULE_INIT_CLASS_NAME;
-            String fieldName = jvmTypeGen.getTypedescFieldName(toNameString(type));
-            mv.visitFieldInsn(GETSTATIC, typeOwner, fieldName, GET_TYPEDESC);
+            jvmTypeGen.loadLazyTypedesc(mv, type.tsymbol.pkgID, toNameString(type));
         } else {
             generateNewTypedescCreate(newTypeDesc.type, closureVars, newTypeDesc.annotations);
         }
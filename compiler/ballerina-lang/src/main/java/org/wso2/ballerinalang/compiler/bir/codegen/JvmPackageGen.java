@@ -25,7 +25,6 @@ import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.objectweb.asm.ClassTooLargeException;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodTooLargeException;
 import org.objectweb.asm.MethodVisitor;
@@ -79,7 +78,6 @@ import java.util.Objects;
 import java.util.Set;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
@@ -93,6 +91,7 @@ import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.NAME_HASH_COMPARATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.isExternFunc;
@@ -149,10 +148,11 @@ public class JvmPackageGen {
     private final BLangDiagnosticLog dlog;
     private final Types types;
     private final boolean isRemoteMgtEnabled;
+    private final boolean isParallelCodeGen;
     private final Env typeEnv;
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog, Types types,
-                  boolean isRemoteMgtEnabled) {
+                  boolean isRemoteMgtEnabled, boolean isParallelCodeGen) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
         this.symbolTable = symbolTable;
@@ -160,6 +160,7 @@ public class JvmPackageGen {
         this.dlog = dlog;
         this.types = types;
         this.isRemoteMgtEnabled = isRemoteMgtEnabled;
+        this.isParallelCodeGen = isParallelCodeGen;
         methodGen = new MethodGen(this, types);
         initMethodGen = new InitMethodGen(symbolTable);
         configMethodGen = new ConfigMethodGen();
@@ -225,7 +226,7 @@ public class JvmPackageGen {
                 moduleId.name.value.equals(ENCODED_JAVA_MODULE);
     }
 
-    private static void generatePackageVariable(BIRGlobalVariableDcl globalVar, ClassWriter cw) {
+    private static void generatePackageVariable(BIRGlobalVariableDcl globalVar, BallerinaClassWriter cw) {
         String varName = globalVar.name.value;
         BType bType = globalVar.type;
         String descriptor = JvmCodeGenUtil.getFieldTypeSignature(bType);
@@ -233,13 +234,13 @@ public class JvmPackageGen {
         fv.visitEnd();
     }
 
-    private static void generateLockStoreVariable(ClassWriter cw) {
+    private static void generateLockStoreVariable(BallerinaClassWriter cw) {
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, LOCK_STORE_VAR_NAME, GET_LOCK_STORE, null, null);
         fv.visitEnd();
     }
 
-    private static void generateStaticInitializer(ClassWriter cw, String className, BIRPackage birPackage,
+    private static void generateStaticInitializer(BallerinaClassWriter cw, String className, BIRPackage birPackage,
                                                   boolean isInitClass, boolean serviceEPAvailable,
                                                   JvmConstantsGen jvmConstantsGen) {
         if (!isInitClass) {
@@ -272,8 +273,8 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
     }
 
-    private static void setServiceEPAvailableField(ClassWriter cw, MethodVisitor mv, boolean serviceEPAvailable,
-                                                   String initClass) {
+    private static void setServiceEPAvailableField(BallerinaClassWriter cw, MethodVisitor mv,
+                                                   boolean serviceEPAvailable, String initClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, SERVICE_EP_AVAILABLE, "Z", null, null);
         fv.visitEnd();
 
@@ -285,7 +286,7 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, initClass, SERVICE_EP_AVAILABLE, "Z");
     }
 
-    private static void setModuleStatusField(ClassWriter cw, MethodVisitor mv, String initClass) {
+    private static void setModuleStatusField(BallerinaClassWriter cw, MethodVisitor mv, String initClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, MODULE_START_ATTEMPTED, "Z", null, null);
         fv.visitEnd();
 
@@ -308,8 +309,9 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, initClass, NO_OF_DEPENDANT_MODULES, "I");
     }
 
-    private static void setCurrentModuleField(ClassWriter cw, MethodVisitor mv, JvmConstantsGen jvmConstantsGen,
-                                              PackageID packageID, String moduleInitClass) {
+    private static void setCurrentModuleField(BallerinaClassWriter cw, MethodVisitor mv,
+                                              JvmConstantsGen jvmConstantsGen, PackageID packageID,
+                                              String moduleInitClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, CURRENT_MODULE_VAR_NAME, GET_MODULE, null, null);
         fv.visitEnd();
         String varName = jvmConstantsGen.getModuleConstantVar(packageID);
@@ -364,7 +366,7 @@ public class JvmPackageGen {
                                        boolean serviceEPAvailable, BIRFunction mainFunc, BIRFunction testExecuteFunc,
                                        AsyncDataCollector asyncDataCollector, Set<PackageID> immediateImports) {
         jvmClassMapping.forEach((moduleClass, javaClass) -> {
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
             asyncDataCollector.setCurrentSourceFileName(javaClass.sourceFileName);
             asyncDataCollector.setCurrentSourceFileWithoutExt(javaClass.cleanedBalFileName);
             boolean isInitClass = Objects.equals(moduleClass, moduleInitClass);
@@ -410,8 +412,7 @@ public class JvmPackageGen {
             generateStaticInitializer(cw, moduleClass, module, isInitClass, serviceEPAvailable,
                     jvmConstantsGen);
             cw.visitEnd();
-            byte[] bytes = getBytes(cw, module);
-            jarEntries.put(moduleClass + CLASS_FILE_SUFFIX, bytes);
+            putClass(jarEntries, moduleClass, cw, module);
         });
     }
 
@@ -600,12 +601,22 @@ public class JvmPackageGen {
         return birFuncWrapperOrError;
     }
 
-    public byte[] getBytes(ClassWriter cw, BIRNode node) {
-        byte[] result;
-        try {
-            return cw.toByteArray();
-        } catch (MethodTooLargeException e) {
-            String funcName = e.getMethodName();
+    /**
+     * Put the class written by the given class writer to the jar entries. The class file may be written
+     * concurrently, hence the class writer must not be visited afterwards.
+     *
+     * @param jarEntries jar entries of the module
+     * @param className  name of the class
+     * @param cw         class writer of the class
+     * @param node       BIR node the class is generated for
+     */
+    public void putClass(JarEntries jarEntries, String className, BallerinaClassWriter cw, BIRNode node) {
+        jarEntries.putClass(className + CLASS_FILE_SUFFIX, cw, e -> handleClassWriterError(e, node));
+    }
+
+    private byte[] handleClassWriterError(Throwable e, BIRNode node) {
+        if (e instanceof MethodTooLargeException methodTooLargeException) {
+            String funcName = methodTooLargeException.getMethodName();
             BIRFunction func = findFunction(node, funcName);
             if (func != null && func.pos != null) {
                 dlog.error(func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
@@ -614,15 +625,14 @@ public class JvmPackageGen {
                 dlog.error(node.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
                         Utils.decodeIdentifier(funcName));
             }
-            result = new byte[0];
-        } catch (ClassTooLargeException e) {
+            return new byte[0];
+        }
+        if (e instanceof ClassTooLargeException classTooLargeException) {
             dlog.error(node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
-                    Utils.decodeIdentifier(e.getClassName()));
-            result = new byte[0];
-        } catch (Throwable e) {
-            throw new BLangCompilerException(e.getMessage(), e);
+                    Utils.decodeIdentifier(classTooLargeException.getClassName()));
+            return new byte[0];
         }
-        return result;
+        throw new BLangCompilerException(e.getMessage(), e);
     }
 
     private void clearPackageGenInfo() {
@@ -686,7 +696,7 @@ public class JvmPackageGen {
         Map<String, JavaClass> jvmClassMapping = generateClassNameLinking(module, moduleInitClass, true);
 
         CompiledJarFile compiledJarFile = new CompiledJarFile(getModuleLevelClassName(module.packageID,
-                MODULE_INIT_CLASS_NAME, "."));
+                MODULE_INIT_CLASS_NAME, "."), isParallelCodeGen);
         // use a ByteArrayOutputStream to store class byte values
         final JarEntries jarEntries = compiledJarFile.jarEntries;
         // desugar parameter initialization
@@ -739,6 +749,8 @@ public class JvmPackageGen {
         jvmMethodsSplitter.generateMethods(jarEntries, jvmCastGen, sortedFunctions);
         jvmConstantsGen.generateConstants(jarEntries);
         lambdaGen.generateLambdaClasses(asyncDataCollector, jarEntries);
+        // report the errors of the classes written concurrently, while this module is the current one
+        jarEntries.flush();
 
         // clear class name mappings
         clearPackageGenInfo();
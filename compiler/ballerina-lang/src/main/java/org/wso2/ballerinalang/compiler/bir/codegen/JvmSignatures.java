@@ -62,6 +62,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INTERSECT
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_THREAD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JSON_TYPE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LAZY_TYPE_CREATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
@@ -242,6 +243,7 @@ public final class JvmSignatures {
     public static final String GET_HANDLE_VALUE = "L" + HANDLE_VALUE + ";";
     public static final String GET_JBOOLEAN_TYPE = "Z";
     public static final String GET_JSTRING = "()L" + STRING_VALUE + ";";
+    public static final String GET_LAZY_TYPE_CREATOR = "L" + LAZY_TYPE_CREATOR + ";";
     public static final String GET_LOCK_STORE = "L" + LOCK_STORE + ";";
     public static final String GET_MAIN_ARGS = "()[L" + OBJECT + ";";
     public static final String GET_MAP_ARRAY = "[L" + MAP_VALUE + ";";
@@ -269,6 +271,7 @@ public final class JvmSignatures {
             ";)L" + CONFIG_DETAILS + ";";
     public static final String GET_TUPLE_TYPE_IMPL = "L" + TUPLE_TYPE_IMPL + ";";
     public static final String GET_TYPE = "L" + TYPE + ";";
+    public static final String GET_TYPE_BY_INDEX = "(I)L" + TYPE + ";";
     public static final String GET_TYPE_REF_TYPE_IMPL = "L" + TYPE_REF_TYPE_IMPL + ";";
     public static final String GET_TYPEDESC = "L" + TYPEDESC_VALUE + ";";
     public static final String GET_TYPEDESC_OF_OBJECT = "(L" + OBJECT + ";)L" + TYPEDESC_VALUE + ";";
@@ -345,10 +348,14 @@ public final class JvmSignatures {
     public static final String INSTANTIATE_WITH_INITIAL_VALUES = "(L" + STRAND_CLASS + ";[L" + B_INITIAL_VALUE_ENTRY +
             ";)L" + OBJECT + ";";
     public static final String INT_VALUE_OF_METHOD = "(I)L" + INT_VALUE + ";";
+    public static final String INTERN_B_STRING = "(L" + B_STRING_VALUE + ";)L" + B_STRING_VALUE + ";";
     public static final String INTI_VARIABLE_KEY = "(L" + MODULE + ";L" + STRING_VALUE + ";L" + TYPE + ";L" +
             STRING_VALUE + ";Z)V";
     public static final String JSON_GET_ELEMENT = "(L" + OBJECT + ";L" + B_STRING_VALUE + ";)L" + OBJECT + ";";
     public static final String JSON_SET_ELEMENT = "(L" + OBJECT + ";L" + STRING_VALUE + ";L" + OBJECT + ";)V";
+    public static final String LAZY_TYPE_CREATOR_INIT = "(I)V";
+    public static final String LAZY_TYPE_GETTER = "()L" + TYPE + ";";
+    public static final String LAZY_TYPEDESC_GETTER = "()L" + TYPEDESC_VALUE + ";";
     public static final String LINKED_HASH_SET_OP = "(L" + LINKED_HASH_SET + ";)V";
     public static final String LOAD_ANY_TYPE = "L" + ANY_TYPE + ";";
     public static final String LOAD_ANYDATA_TYPE = "L" + ANYDATA_TYPE + ";";
@@ -397,6 +404,12 @@ public final class JvmSignatures {
     public static final String PASS_B_STRING_RETURN_UNBOXED_BOOLEAN = "(L" + B_STRING_VALUE + ";)Z";
     public static final String PASS_B_STRING_RETURN_UNBOXED_DOUBLE = "(L" + B_STRING_VALUE + ";)D";
     public static final String PASS_B_STRING_RETURN_UNBOXED_LONG = "(L" + B_STRING_VALUE + ";)J";
+    public static final String PASS_B_STRING_UNBOXED_BOOLEAN_RETURN_UNBOXED_BOOLEAN = "(L" + B_STRING_VALUE + ";Z)Z";
+    public static final String PASS_B_STRING_UNBOXED_BOOLEAN_RETURN_VOID = "(L" + B_STRING_VALUE + ";Z)V";
+    public static final String PASS_B_STRING_UNBOXED_DOUBLE_RETURN_UNBOXED_BOOLEAN = "(L" + B_STRING_VALUE + ";D)Z";
+    public static final String PASS_B_STRING_UNBOXED_DOUBLE_RETURN_VOID = "(L" + B_STRING_VALUE + ";D)V";
+    public static final String PASS_B_STRING_UNBOXED_LONG_RETURN_UNBOXED_BOOLEAN = "(L" + B_STRING_VALUE + ";J)Z";
+    public static final String PASS_B_STRING_UNBOXED_LONG_RETURN_VOID = "(L" + B_STRING_VALUE + ";J)V";
     public static final String PASS_OBJECT_ARRAY_RETURN_OBJECT = "([L" + OBJECT + ";)L" + OBJECT + ";";
     public static final String PASS_OBJECT_RETURN_OBJECT = "(L" + OBJECT + ";)L" + OBJECT + ";";
     public static final String PASS_OBJECT_RETURN_SAME_TYPE = "(L" + OBJECT + ";)TV;";
@@ -405,6 +418,7 @@ public final class JvmSignatures {
     public static final String POPULATE_ATTACHED_FUNCTION = "([L" + METHOD_TYPE_IMPL + ";)V";
     public static final String POPULATE_CONFIG_DATA = "(L" + BAL_RUNTIME + ";)[L" + VARIABLE_KEY + ";";
     public static final String POPULATE_INITIAL_VALUES = "([L" + B_MAPPING_INITIAL_VALUE_ENTRY + ";)V";
+    public static final String POPULATE_TYPE_BY_INDEX = "(I)V";
     public static final String PROCESS_ANNOTATIONS = "(L" + MAP_VALUE + ";L" + TYPE + ";)V";
     public static final String PROCESS_FP_ANNOTATIONS =
             "(L" + FUNCTION_POINTER + ";L" + MAP_VALUE + ";L" + STRING_VALUE + ";)V";
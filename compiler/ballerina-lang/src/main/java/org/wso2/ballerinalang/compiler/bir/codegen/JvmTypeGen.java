@@ -32,7 +32,6 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.types.SelectivelyImmutableReferenceType;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
@@ -121,6 +120,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_FUNCT
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INTERSECTION_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LAZY_TYPE_GETTER_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_TYPE_IMPL;
@@ -131,6 +131,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_FU
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_OBJECTS_CREATOR_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_RECORDS_CREATOR_CLASS_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PARAMETERIZED_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PREDEFINED_TYPES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET;
@@ -184,6 +185,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_TAB
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_WITH_BOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_WITH_STRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INT_VALUE_OF_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LAZY_TYPEDESC_GETTER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LAZY_TYPE_GETTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LOAD_ANYDATA_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LOAD_ANY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LOAD_BOOLEAN_TYPE;
@@ -247,7 +250,7 @@ public class JvmTypeGen {
      * @param cw       class writer
      * @param typeDefs array of type definitions
      */
-    void generateUserDefinedTypeFields(ClassWriter cw, List<BIRTypeDefinition> typeDefs) {
+    void generateUserDefinedTypeFields(BallerinaClassWriter cw, List<BIRTypeDefinition> typeDefs) {
         // create the type
         for (BIRTypeDefinition typeDef : typeDefs) {
             BType bType = typeDef.type;
@@ -262,13 +265,13 @@ public class JvmTypeGen {
         }
     }
 
-    private void generateTypeField(ClassWriter cw, String name) {
+    private void generateTypeField(BallerinaClassWriter cw, String name) {
         String fieldName = getTypeFieldName(name);
         FieldVisitor fv = cw.visitField(ACC_STATIC + ACC_PUBLIC, fieldName, GET_TYPE, null, null);
         fv.visitEnd();
     }
 
-    private void generateTypedescField(ClassWriter cw, String name) {
+    private void generateTypedescField(BallerinaClassWriter cw, String name) {
         String typedescFieldName = getTypedescFieldName(name);
         FieldVisitor fvTypeDesc = cw.visitField(ACC_STATIC + ACC_PUBLIC, typedescFieldName, GET_TYPEDESC, null, null);
         fvTypeDesc.visitEnd();
@@ -278,11 +281,11 @@ public class JvmTypeGen {
     //              getType() generation methods
     // -------------------------------------------------------
 
-    void generateGetTypeMethod(ClassWriter cw, String moduleClass) {
+    void generateGetTypeMethod(BallerinaClassWriter cw, String moduleClass) {
         generateGetAnonTypeMethod(cw, moduleClass);
         generateGetFunctionTypeMethod(cw);
     }
-    void generateGetAnonTypeMethod(ClassWriter cw,  String moduleClass) {
+    void generateGetAnonTypeMethod(BallerinaClassWriter cw,  String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, GET_ANON_TYPE_METHOD,
                 JvmSignatures.GET_ANON_TYPE, null, null);
         mv.visitCode();
@@ -294,7 +297,7 @@ public class JvmTypeGen {
         mv.visitEnd();
     }
 
-    void generateGetFunctionTypeMethod(ClassWriter cw) {
+    void generateGetFunctionTypeMethod(BallerinaClassWriter cw) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, GET_FUNCTION_TYPE_METHOD, GET_FUNCTION_TYPE_FOR_STRING, null,
                 null);
         mv.visitCode();
@@ -310,14 +313,14 @@ public class JvmTypeGen {
     //              Runtime value creation methods
     // -------------------------------------------------------
 
-    void generateValueCreatorMethods(ClassWriter cw, String moduleClass) {
+    void generateValueCreatorMethods(BallerinaClassWriter cw, String moduleClass) {
         generateRecordValueCreateMethod(cw, moduleClass);
         generateObjectValueCreateMethod(cw, moduleClass);
         generateErrorValueCreateMethod(cw, moduleClass);
         generateFunctionCallMethod(cw, moduleClass);
     }
 
-    private void generateRecordValueCreateMethod(ClassWriter cw, String moduleClass) {
+    private void generateRecordValueCreateMethod(BallerinaClassWriter cw, String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_RECORD_VALUE,
                 CREATE_RECORD,
                 CREATE_RECORD_WITH_MAP, null);
@@ -329,7 +332,7 @@ public class JvmTypeGen {
         mv.visitEnd();
     }
 
-    private void generateObjectValueCreateMethod(ClassWriter cw, String moduleClass) {
+    private void generateObjectValueCreateMethod(BallerinaClassWriter cw, String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_OBJECT_VALUE, CREATE_OBJECT, null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 1);
@@ -341,7 +344,7 @@ public class JvmTypeGen {
         mv.visitEnd();
     }
 
-    private void generateErrorValueCreateMethod(ClassWriter cw, String moduleClass) {
+    private void generateErrorValueCreateMethod(BallerinaClassWriter cw, String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_ERROR_VALUE,
                 CREATE_ERROR, null,
                 null);
@@ -356,7 +359,7 @@ public class JvmTypeGen {
         mv.visitEnd();
     }
 
-    private void generateFunctionCallMethod(ClassWriter cw, String moduleClass) {
+    private void generateFunctionCallMethod(BallerinaClassWriter cw, String moduleClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CALL_FUNCTION, FUNCTION_CALL, null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 1);
@@ -693,9 +696,7 @@ public class JvmTypeGen {
         if (Symbols.isFlagOn(errorType.getFlags(), Flags.ANONYMOUS)) {
             jvmConstantsGen.generateGetBErrorType(mv, jvmConstantsGen.getTypeConstantsVar(errorType, symbolTable));
         } else {
-            String typeOwner = JvmCodeGenUtil.getPackageName(pkgID) + MODULE_INIT_CLASS_NAME;
-            String fieldName = getTypeFieldName(toNameString(errorType));
-            mv.visitFieldInsn(GETSTATIC, typeOwner, fieldName, GET_TYPE);
+            loadLazyType(mv, pkgID, getTypeFieldName(toNameString(errorType)));
         }
     }
 
@@ -718,7 +719,7 @@ public class JvmTypeGen {
         }
     }
 
-    public void createUnionMembersArray(ClassWriter cw, MethodVisitor methodVisitor, Set<BType> members,
+    public void createUnionMembersArray(BallerinaClassWriter cw, MethodVisitor methodVisitor, Set<BType> members,
                                         String className, String name) {
         generateCreateNewArray(methodVisitor, members);
         int arrayIndex = 1;
@@ -849,10 +850,46 @@ public class JvmTypeGen {
             mv.visitLdcInsn("Package: " + typeOwner + ", TypeName: " + fieldName + ", Shape: " + shape);
             mv.visitMethodInsn(INVOKEVIRTUAL, typeOwner, GET_ANON_TYPE_METHOD, JvmSignatures.GET_ANON_TYPE, false);
         } else {
-            mv.visitFieldInsn(GETSTATIC, typeOwner, fieldName, GET_TYPE);
+            loadLazyType(mv, pkgID, fieldName);
         }
     }
 
+    /**
+     * Load a user defined type instance to the top of the stack, creating it if it is not created yet.
+     *
+     * @param mv        method visitor
+     * @param pkgID     package ID of the module which defines the type
+     * @param fieldName name of the field that holds the type instance
+     */
+    public static void loadLazyType(MethodVisitor mv, PackageID pkgID, String fieldName) {
+        String typesClass = JvmCodeGenUtil.getModuleLevelClassName(pkgID, MODULE_TYPES_CLASS_NAME);
+        mv.visitMethodInsn(INVOKESTATIC, typesClass, getLazyGetterName(fieldName), LAZY_TYPE_GETTER, false);
+    }
+
+    /**
+     * Load the typedesc of a record type to the top of the stack, creating the record type if it is not created yet.
+     *
+     * @param mv       method visitor
+     * @param pkgID    package ID of the module which defines the record type
+     * @param typeName name of the record type
+     */
+    public void loadLazyTypedesc(MethodVisitor mv, PackageID pkgID, String typeName) {
+        String typesClass = JvmCodeGenUtil.getModuleLevelClassName(pkgID, MODULE_TYPES_CLASS_NAME);
+        mv.visitMethodInsn(INVOKESTATIC, typesClass, getLazyGetterName(getTypedescFieldName(typeName)),
+                LAZY_TYPEDESC_GETTER, false);
+    }
+
+    /**
+     * Return the name of the method that returns the value of a given type or typedesc field, creating the type if
+     * it is not created yet.
+     *
+     * @param fieldName name of the type or typedesc field
+     * @return name of the getter method
+     */
+    public static String getLazyGetterName(String fieldName) {
+        return LAZY_TYPE_GETTER_PREFIX + fieldName;
+    }
+
     /**
      * Return the name of the field that holds the instance of a given type.
      *
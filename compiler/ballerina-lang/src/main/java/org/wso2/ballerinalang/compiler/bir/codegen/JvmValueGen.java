@@ -19,7 +19,6 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import io.ballerina.types.Env;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
@@ -47,7 +46,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.List;
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
@@ -70,12 +68,12 @@ import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.SWAP;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ABSTRACT_OBJECT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INSTANTIATE_FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
@@ -201,20 +199,19 @@ public class JvmValueGen {
                         asyncDataCollector, jarEntries);
             } else if (bType.tag == TypeTags.RECORD) {
                 BRecordType recordType = (BRecordType) bType;
-                byte[] bytes = this.createRecordValueClass(recordType, className, optionalTypeDef, jvmTypeGen);
-                jarEntries.put(className + CLASS_FILE_SUFFIX, bytes);
+                this.createRecordValueClass(recordType, className, optionalTypeDef, jvmTypeGen, jarEntries);
                 String typedescClass = getTypeDescClassName(packageName, optionalTypeDef.internalName.value);
-                bytes = this.createRecordTypeDescClass(recordType, typedescClass, optionalTypeDef, jvmTypeGen);
-                jarEntries.put(typedescClass + CLASS_FILE_SUFFIX, bytes);
+                this.createRecordTypeDescClass(recordType, typedescClass, optionalTypeDef, jvmTypeGen, jarEntries);
             }
         });
     }
 
 
-    private byte[] createRecordTypeDescClass(BRecordType recordType, String className,
-                                             BIRNode.BIRTypeDefinition typeDef, JvmTypeGen jvmTypeGen) {
+    private void createRecordTypeDescClass(BRecordType recordType, String className,
+                                           BIRNode.BIRTypeDefinition typeDef, JvmTypeGen jvmTypeGen,
+                                           JarEntries jarEntries) {
 
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         } else {
@@ -231,10 +228,10 @@ public class JvmValueGen {
         this.createInstantiateMethodWithInitialValues(cw, recordType, typeDef, className);
 
         cw.visitEnd();
-        return jvmPackageGen.getBytes(cw, typeDef);
+        jvmPackageGen.putClass(jarEntries, className, cw, typeDef);
     }
 
-    private void createInstantiateMethod(ClassWriter cw, BRecordType recordType, JvmTypeGen jvmTypeGen,
+    private void createInstantiateMethod(BallerinaClassWriter cw, BRecordType recordType, JvmTypeGen jvmTypeGen,
                                          String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INSTANTIATE_FUNCTION, INSTANTIATE, null, null);
         mv.visitCode();
@@ -246,7 +243,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createInstantiateMethodWithInitialValues(ClassWriter cw, BRecordType recordType,
+    private void createInstantiateMethodWithInitialValues(BallerinaClassWriter cw, BRecordType recordType,
                                          BIRNode.BIRTypeDefinition typeDef, String typeClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INSTANTIATE_FUNCTION, INSTANTIATE_WITH_INITIAL_VALUES,
                 null, null);
@@ -295,9 +292,9 @@ public class JvmValueGen {
         return getTypeValueClassName(JvmCodeGenUtil.getPackageName(packageID), typeName);
     }
 
-    private byte[] createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
-                                          JvmTypeGen jvmTypeGen) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+    private void createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
+                                        JvmTypeGen jvmTypeGen, JarEntries jarEntries) {
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         } else {
@@ -323,11 +320,10 @@ public class JvmValueGen {
         this.createRecordConstructor(cw, INIT_TYPEDESC, className);
         this.createRecordConstructor(cw, TYPE_PARAMETER, className);
         cw.visitEnd();
-
-        return jvmPackageGen.getBytes(cw, typeDef);
+        jvmPackageGen.putClass(jarEntries, className, cw, typeDef);
     }
 
-    private void createTypeDescConstructor(ClassWriter cw, String className) {
+    private void createTypeDescConstructor(BallerinaClassWriter cw, String className) {
 
         String descriptor = TYPE_DESC_CONSTRUCTOR;
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, descriptor, null, null);
@@ -347,7 +343,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createTypeDescConstructorWithAnnotations(ClassWriter cw, String name) {
+    private void createTypeDescConstructorWithAnnotations(BallerinaClassWriter cw, String name) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, TYPE_DESC_CONSTRUCTOR_WITH_ANNOTATIONS, null,
                 null);
         mv.visitCode();
@@ -372,7 +368,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordConstructor(ClassWriter cw, String argumentClass, String className) {
+    private void createRecordConstructor(BallerinaClassWriter cw, String argumentClass, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, argumentClass, null, null);
         mv.visitCode();
 
@@ -387,7 +383,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordFields(ClassWriter cw, Map<String, BField> fields) {
+    private void createRecordFields(BallerinaClassWriter cw, Map<String, BField> fields) {
         for (BField field : fields.values()) {
             if (field == null) {
                 continue;
@@ -405,7 +401,7 @@ public class JvmValueGen {
     }
 
 
-    private void createGetSizeMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createGetSizeMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "size", "()I", null, null);
         mv.visitCode();
@@ -439,7 +435,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordPopulateInitialValuesMethod(ClassWriter cw, String className) {
+    private void createRecordPopulateInitialValuesMethod(BallerinaClassWriter cw, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, POPULATE_INITIAL_VALUES_METHOD,
                                           POPULATE_INITIAL_VALUES, null, null);
         mv.visitCode();
@@ -455,7 +451,7 @@ public class JvmValueGen {
     private void createObjectValueClasses(BObjectType objectType, String className, BIRNode.BIRTypeDefinition typeDef,
                                           JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector,
                                           JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         cw.visitSource(typeDef.pos.lineRange().fileName(), null);
 
         SymbolTable symbolTable = jvmPackageGen.symbolTable;
@@ -481,10 +477,10 @@ public class JvmValueGen {
         jvmObjectGen.createAndSplitSetMethod(cw, fields, className, jvmCastGen);
         jvmObjectGen.createAndSplitSetOnInitializationMethod(cw, fields, className);
         cw.visitEnd();
-        jarEntries.put(className + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(cw, typeDef));
+        jvmPackageGen.putClass(jarEntries, className, cw, typeDef);
     }
 
-    private void createObjectFields(ClassWriter cw, Map<String, BField> fields) {
+    private void createObjectFields(BallerinaClassWriter cw, Map<String, BField> fields) {
         for (BField field : fields.values()) {
             if (field == null) {
                 continue;
@@ -494,7 +490,7 @@ public class JvmValueGen {
         }
     }
 
-    private void createObjectMethods(ClassWriter cw, List<BIRFunction> attachedFuncs, String moduleClassName,
+    private void createObjectMethods(BallerinaClassWriter cw, List<BIRFunction> attachedFuncs, String moduleClassName,
                                      BObjectType currentObjectType, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                      JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector) {
         for (BIRNode.BIRFunction func : attachedFuncs) {
@@ -503,7 +499,7 @@ public class JvmValueGen {
         }
     }
 
-    private void createObjectMethodsWithSplitClasses(ClassWriter cw, List<BIRFunction> attachedFuncs,
+    private void createObjectMethodsWithSplitClasses(BallerinaClassWriter cw, List<BIRFunction> attachedFuncs,
                                                      String moduleClassName, BObjectType currentObjectType,
                                                      JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                                      JvmConstantsGen jvmConstantsGen,
@@ -511,7 +507,7 @@ public class JvmValueGen {
                                                      BIRNode.BIRTypeDefinition typeDef,
                                                      JarEntries jarEntries) {
         int splitClassNum = 1;
-        ClassWriter splitCW = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter splitCW = new BallerinaClassWriter(GENERATE_FRAMES);
         splitCW.visitSource(typeDef.pos.lineRange().fileName(), null);
         String splitClassName = moduleClassName + SPLIT_CLASS_SUFFIX + splitClassNum;
         splitCW.visit(V21, ACC_PUBLIC + ACC_SUPER, splitClassName, null, OBJECT, null);
@@ -531,10 +527,9 @@ public class JvmValueGen {
             methodCountPerSplitClass++;
             if (methodCountPerSplitClass == MAX_METHOD_COUNT_PER_BALLERINA_OBJECT) {
                 splitCW.visitEnd();
-                byte[] splitBytes = jvmPackageGen.getBytes(splitCW, typeDef);
-                jarEntries.put(splitClassName + CLASS_FILE_SUFFIX, splitBytes);
+                jvmPackageGen.putClass(jarEntries, splitClassName, splitCW, typeDef);
                 splitClassNum++;
-                splitCW = new BallerinaClassWriter(COMPUTE_FRAMES);
+                splitCW = new BallerinaClassWriter(GENERATE_FRAMES);
                 splitCW.visitSource(typeDef.pos.lineRange().fileName(), null);
                 splitClassName = moduleClassName + SPLIT_CLASS_SUFFIX + splitClassNum;
                 splitCW.visit(V21, ACC_PUBLIC + ACC_SUPER, splitClassName, null, OBJECT, null);
@@ -544,12 +539,11 @@ public class JvmValueGen {
         }
         if (methodCountPerSplitClass != 0) {
             splitCW.visitEnd();
-            byte[] splitBytes = jvmPackageGen.getBytes(splitCW, typeDef);
-            jarEntries.put(splitClassName + CLASS_FILE_SUFFIX, splitBytes);
+            jvmPackageGen.putClass(jarEntries, splitClassName, splitCW, typeDef);
         }
     }
 
-    private void createObjectInit(ClassWriter cw) {
+    private void createObjectInit(BallerinaClassWriter cw) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, OBJECT_TYPE_IMPL_INIT, null,
                 null);
@@ -566,7 +560,7 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordClearMethod(ClassWriter cw, String className) {
+    private void createRecordClearMethod(BallerinaClassWriter cw, String className) {
         // throw an UnsupportedOperationException, since clear is not supported by for records.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "clear", VOID_METHOD_DESC, null, null);
         mv.visitCode();
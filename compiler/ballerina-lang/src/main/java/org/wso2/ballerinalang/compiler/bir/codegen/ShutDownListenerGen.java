@@ -18,11 +18,9 @@
 
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
@@ -33,6 +31,7 @@ import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_RUNTIME_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_STOP_METHOD;
@@ -52,7 +51,7 @@ public class ShutDownListenerGen {
 
     void generateShutdownSignalListener(String initClass, JarEntries jarEntries) {
         String innerClassName = initClass + "$SignalListener";
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         cw.visit(V21, ACC_SUPER, innerClassName, null, JAVA_THREAD, null);
         FieldVisitor fv = cw.visitField(ACC_PRIVATE, BAL_RUNTIME_VAR_NAME, GET_BAL_RUNTIME, null, null);
         fv.visitEnd();
@@ -64,10 +63,10 @@ public class ShutDownListenerGen {
         genRunMethod(initClass, innerClassName, cw);
 
         cw.visitEnd();
-        jarEntries.put(innerClassName + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(innerClassName + CLASS_FILE_SUFFIX, cw);
     }
 
-    private void genConstructor(String innerClassName, ClassWriter cw) {
+    private void genConstructor(String innerClassName, BallerinaClassWriter cw) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, INIT_SIGNAL_LISTENER, null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 0);
@@ -80,7 +79,7 @@ public class ShutDownListenerGen {
         mv.visitEnd();
     }
 
-    private void genRunMethod(String initClass, String innerClassName, ClassWriter cw) {
+    private void genRunMethod(String initClass, String innerClassName, BallerinaClassWriter cw) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "run", VOID_METHOD_DESC, null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 0);
@@ -21,9 +21,10 @@ package org.wso2.ballerinalang.compiler.bir.codegen.interop;
 import io.ballerina.types.Env;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
+import org.wso2.ballerinalang.compiler.bir.codegen.FrameTracker;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmErrorGen;
@@ -131,9 +132,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRI
  */
 public final class InteropMethodGen {
 
-    static void genJFieldForInteropField(JFieldBIRFunction birFunc, ClassWriter classWriter, PackageID birModule,
-                                         JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
-                                         JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector,
+    static void genJFieldForInteropField(JFieldBIRFunction birFunc, BallerinaClassWriter classWriter,
+                                         PackageID birModule, JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen,
+                                         JvmCastGen jvmCastGen, JvmConstantsGen jvmConstantsGen,
+                                         AsyncDataCollector asyncDataCollector,
                                          Types types) {
 
         BIRVarToJVMIndexMap indexMap = new BIRVarToJVMIndexMap();
@@ -562,7 +564,11 @@ public final class InteropMethodGen {
         mv.visitVarInsn(ISTORE, indexVarIndex);
         Label l1 = new Label();
         Label l2 = new Label();
-        mv.visitLabel(l1);
+        if (mv instanceof FrameTracker frameTracker) {
+            frameTracker.visitLoopLabel(l1);
+        } else {
+            mv.visitLabel(l1);
+        }
 
         // if index >= varArgsLen, then jump to end
         mv.visitVarInsn(ILOAD, indexVarIndex);
@@ -22,7 +22,6 @@ import io.ballerina.identifier.Utils;
 import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
@@ -41,7 +40,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.List;
 import java.util.Set;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
@@ -63,6 +61,7 @@ import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURATION_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURE_INIT;
@@ -98,7 +97,7 @@ public class ConfigMethodGen {
                                      JvmConstantsGen jvmConstantsGen, TypeHashVisitor typeHashVisitor,
                                      JarEntries jarEntries, SymbolTable symbolTable) {
         innerClassName = JvmCodeGenUtil.getModuleLevelClassName(pkg.packageID, CONFIGURATION_CLASS_NAME);
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         cw.visit(V21, ACC_PUBLIC | ACC_SUPER, innerClassName, null, OBJECT, null);
         generateStaticFields(cw, innerClassName);
         MethodVisitor mv = cw.visitMethod(ACC_PRIVATE, JVM_INIT_METHOD, VOID_METHOD_DESC, null, null);
@@ -114,10 +113,10 @@ public class ConfigMethodGen {
         populateConfigDataMethod(cw, moduleInitClass, pkg, new JvmTypeGen(jvmConstantsGen, pkg.packageID,
                 typeHashVisitor, symbolTable));
         cw.visitEnd();
-        jarEntries.put(innerClassName + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(innerClassName + CLASS_FILE_SUFFIX, cw);
     }
 
-    private void generateStaticFields(ClassWriter cw, String innerClassName) {
+    private void generateStaticFields(BallerinaClassWriter cw, String innerClassName) {
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, CONFIGURE_INIT_ATTEMPTED, GET_JBOOLEAN_TYPE,
                 null, null);
@@ -129,7 +128,7 @@ public class ConfigMethodGen {
         mv.visitEnd();
     }
 
-    private void generateConfigInit(ClassWriter cw, Set<PackageID> imprtMods, PackageID packageID,
+    private void generateConfigInit(BallerinaClassWriter cw, Set<PackageID> imprtMods, PackageID packageID,
                                     String innerClassName) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, CONFIGURE_INIT, INIT_CONFIG, null, null);
         mv.visitCode();
@@ -176,7 +175,7 @@ public class ConfigMethodGen {
         mv.visitMethodInsn(INVOKESTATIC, configClass, CONFIGURE_INIT, INIT_CONFIG, false);
     }
 
-    private void populateConfigDataMethod(ClassWriter cw, String moduleClass,
+    private void populateConfigDataMethod(BallerinaClassWriter cw, String moduleClass,
                                           BIRNode.BIRPackage module, JvmTypeGen jvmTypeGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, POPULATE_CONFIG_DATA_METHOD,
                 POPULATE_CONFIG_DATA, null, null);
@@ -21,7 +21,6 @@ package org.wso2.ballerinalang.compiler.bir.codegen.methodgen;
 import io.ballerina.identifier.Utils;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -54,7 +53,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AALOAD;
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
@@ -73,6 +71,7 @@ import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CALL_FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
@@ -113,7 +112,7 @@ public class LambdaGen {
         for (Map.Entry<String, LambdaClass> entry : lambdaClasses.entrySet()) {
             String lambdaClassName = entry.getKey();
             LambdaClass lambdaClass = entry.getValue();
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
             cw.visitSource(lambdaClass.sourceFileName, null);
             generateConstantsClassInit(cw, lambdaClassName);
             List<LambdaFunction> lambdaList = lambdaClass.lambdaFunctionList;
@@ -122,11 +121,11 @@ public class LambdaGen {
                         recordDefaultValueLambda.lambdaName, lambdaClassName);
             }
             cw.visitEnd();
-            jarEntries.put(lambdaClassName + CLASS_FILE_SUFFIX, cw.toByteArray());
+            jarEntries.putClass(lambdaClassName + CLASS_FILE_SUFFIX, cw);
         }
     }
 
-    private void generateConstantsClassInit(ClassWriter cw, String lambdaClassName) {
+    private void generateConstantsClassInit(BallerinaClassWriter cw, String lambdaClassName) {
         cw.visit(V21, ACC_PUBLIC | ACC_SUPER, lambdaClassName, null, JvmConstants.OBJECT, null);
         MethodVisitor methodVisitor =
                 cw.visitMethod(ACC_PRIVATE, JvmConstants.JVM_INIT_METHOD, VOID_METHOD_DESC, null, null);
@@ -142,7 +141,8 @@ public class LambdaGen {
         genMethodReturn(methodVisitor);
     }
 
-    private void generateLambdaMethod(BIRInstruction ins, ClassWriter cw, String lambdaName, String className) {
+    private void generateLambdaMethod(BIRInstruction ins, BallerinaClassWriter cw, String lambdaName,
+                                      String className) {
         LambdaDetails lambdaDetails = getLambdaDetails(ins);
         boolean isSamePkg = JvmCodeGenUtil.isSameModule(module.packageID, lambdaDetails.packageID);
         MethodVisitor mv = getMethodVisitorAndLoadFirst(cw, lambdaName, lambdaDetails, ins, isSamePkg);
@@ -312,8 +312,9 @@ public class LambdaGen {
         }
     }
 
-    private MethodVisitor getMethodVisitorAndLoadFirst(ClassWriter cw, String lambdaName, LambdaDetails lambdaDetails,
-                                                       BIRInstruction ins, boolean isSamePkg) {
+    private MethodVisitor getMethodVisitorAndLoadFirst(BallerinaClassWriter cw, String lambdaName,
+                                                       LambdaDetails lambdaDetails, BIRInstruction ins,
+                                                       boolean isSamePkg) {
         String closureMapsDesc = getMapValueDesc(lambdaDetails.closureMapsCount);
         MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC + ACC_STATIC, lambdaName,
                 "(" + closureMapsDesc + "[L" + OBJECT + ";)L" + OBJECT + ";", null, null);
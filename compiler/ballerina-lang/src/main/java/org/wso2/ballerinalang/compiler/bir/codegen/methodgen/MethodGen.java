@@ -22,10 +22,11 @@ import io.ballerina.identifier.Utils;
 import io.ballerina.types.Env;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
+import org.wso2.ballerinalang.compiler.bir.codegen.FrameTracker;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants;
@@ -81,7 +82,6 @@ import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.FSTORE;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
-import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.IADD;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
@@ -117,6 +117,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_CH
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_CHANNELS_COMPLETE_WITH_PANIC_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_CHANNEL_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_CHANNEL_MAP_VAR_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_PANIC_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BDECIMAL;
@@ -157,7 +158,7 @@ public class MethodGen {
         this.typeEnv = types.typeEnv();
     }
 
-    public void generateMethod(BIRFunction birFunc, ClassWriter cw, BIRPackage birModule, BType attachedType,
+    public void generateMethod(BIRFunction birFunc, BallerinaClassWriter cw, BIRPackage birModule, BType attachedType,
                                String moduleClassName, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector) {
         if (JvmCodeGenUtil.isExternFunc(birFunc)) {
@@ -170,7 +171,7 @@ public class MethodGen {
         }
     }
 
-    public void genJMethodWithBObjectMethodCall(BIRFunction func, ClassWriter cw, BIRPackage module,
+    public void genJMethodWithBObjectMethodCall(BIRFunction func, BallerinaClassWriter cw, BIRPackage module,
                                                 JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                                 JvmConstantsGen jvmConstantsGen, String moduleClassName,
                                                 AsyncDataCollector asyncDataCollector,
@@ -224,7 +225,7 @@ public class MethodGen {
         }
     }
 
-    public void genJMethodForBFunc(BIRFunction func, ClassWriter cw, BIRPackage module,
+    public void genJMethodForBFunc(BIRFunction func, BallerinaClassWriter cw, BIRPackage module,
                                    JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                    JvmConstantsGen jvmConstantsGen, String moduleClassName,
                                    BType attachedType, AsyncDataCollector asyncDataCollector,
@@ -272,6 +273,8 @@ public class MethodGen {
                 channelMapVarIndex, localVarOffset);
         int receiveWorkerChannelNamesVar = getReceiveWorkerChannelNamesVarIndex(func, indexMap, mv,
                 receiveWorkerChannels, channelMapVarIndex, localVarOffset);
+        declareLocalVars(mv, func, indexMap, channelMapVarIndex, sendWorkerChannelNamesVar,
+                receiveWorkerChannelNamesVar);
         LabelGenerator labelGen = new LabelGenerator();
 
         // handle module start and init specific logic
@@ -291,7 +294,7 @@ public class MethodGen {
                 localVarOffset, module, attachedType, sendWorkerChannelNamesVar, receiveWorkerChannelNamesVar);
         termGen.genReturnTerm(returnVarRefIndex, func, channelMapVarIndex, sendWorkerChannelNamesVar,
                 receiveWorkerChannelNamesVar, localVarOffset);
-        handleWorkerPanic(func, mv, tryLabel, catchLabel, handleThrowableLabel, channelMapVarIndex,
+        handleWorkerPanic(func, mv, indexMap, tryLabel, catchLabel, handleThrowableLabel, channelMapVarIndex,
                 sendWorkerChannelNamesVar, receiveWorkerChannelNamesVar, localVarOffset);
         Label methodEndLabel = new Label();
         mv.visitLabel(methodEndLabel);
@@ -373,6 +376,28 @@ public class MethodGen {
         return returnVarRefIndex;
     }
 
+    private static void declareLocalVars(MethodVisitor mv, BIRFunction func, BIRVarToJVMIndexMap indexMap,
+                                         int channelMapVarIndex, int sendWorkerChannelNamesVar,
+                                         int receiveWorkerChannelNamesVar) {
+        if (!(mv instanceof FrameTracker frameTracker)) {
+            return;
+        }
+        // The local variables hold values of their types from here on, which gives the frames of the basic blocks.
+        for (BIRVariableDcl localVar : func.localVars) {
+            if (localVar.kind != VarKind.ARG) {
+                frameTracker.declareLocalVariable(indexMap.get(localVar.name.value),
+                        JvmCodeGenUtil.getFieldTypeSignature(localVar.type));
+            }
+        }
+        if (channelMapVarIndex != -1) {
+            frameTracker.declareLocalVariable(channelMapVarIndex, "L" + WORKER_CHANNEL_MAP + ";");
+        }
+        if (sendWorkerChannelNamesVar != -1) {
+            frameTracker.declareLocalVariable(sendWorkerChannelNamesVar, "[L" + STRING_VALUE + ";");
+            frameTracker.declareLocalVariable(receiveWorkerChannelNamesVar, "[L" + STRING_VALUE + ";");
+        }
+    }
+
     private int getWorkerChannelMapVarIndex(BIRFunction func, BIRVarToJVMIndexMap indexMap, MethodVisitor mv) {
         if (!func.hasWorkers) {
             return -1;
@@ -529,7 +554,11 @@ public class MethodGen {
             BIRBasicBlock bb = func.basicBlocks.get(i);
             // create jvm label
             Label bbLabel = labelGen.getLabel(funcName + bb.id.value);
-            mv.visitLabel(bbLabel);
+            if (mv instanceof FrameTracker frameTracker) {
+                frameTracker.visitBasicBlockLabel(bbLabel);
+            } else {
+                mv.visitLabel(bbLabel);
+            }
 
             // generate instructions
             lastScope = JvmCodeGenUtil.getLastScopeFromBBInsGen(mv, labelGen, instGen, localVarOffset, funcName, bb,
@@ -556,28 +585,27 @@ public class MethodGen {
         mv.visitLabel(tryLabel);
     }
 
-    private static void handleWorkerPanic(BIRFunction func, MethodVisitor mv, Label tryLabel, Label catchLabel,
-                                          Label handleThrowableLabel, int channelMapVarIndex,
-                                          int sendWorkerChannelNamesVar, int receiveWorkerChannelNamesVar,
-                                          int localVarOffset) {
+    private void handleWorkerPanic(BIRFunction func, MethodVisitor mv, BIRVarToJVMIndexMap indexMap, Label tryLabel,
+                                   Label catchLabel, Label handleThrowableLabel, int channelMapVarIndex,
+                                   int sendWorkerChannelNamesVar, int receiveWorkerChannelNamesVar,
+                                   int localVarOffset) {
         if (func.workerChannels.length == 0) {
             return;
         }
         mv.visitTryCatchBlock(tryLabel, catchLabel, handleThrowableLabel, THROWABLE);
         mv.visitLabel(catchLabel);
-        Label label3 = new Label();
-        mv.visitJumpInsn(GOTO, label3);
         mv.visitLabel(handleThrowableLabel);
-        mv.visitVarInsn(ASTORE, 2);
+        // The throwable is kept in a local variable of its own, as the other local variables keep their types.
+        int throwableVarIndex = indexMap.addIfNotExists(WORKER_PANIC_VAR_NAME, symbolTable.anyType);
+        mv.visitVarInsn(ASTORE, throwableVarIndex);
         JvmCodeGenUtil.loadWorkerChannelMap(mv, func, channelMapVarIndex, localVarOffset);
-        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, throwableVarIndex);
         mv.visitVarInsn(ALOAD, sendWorkerChannelNamesVar);
         mv.visitVarInsn(ALOAD, receiveWorkerChannelNamesVar);
         mv.visitMethodInsn(INVOKESTATIC, WORKER_UTILS, WORKER_CHANNELS_COMPLETE_WITH_PANIC_METHOD,
                 WORKER_CHANNELS_COMPLETE_WITH_PANIC, false);
-        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, throwableVarIndex);
         mv.visitInsn(ATHROW);
-        mv.visitLabel(label3);
     }
 
     private void processTerminator(MethodVisitor mv, BIRFunction func, BIRPackage module, String funcName,
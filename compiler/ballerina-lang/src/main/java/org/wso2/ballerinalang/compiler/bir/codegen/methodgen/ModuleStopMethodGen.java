@@ -19,10 +19,10 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.methodgen;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
@@ -72,7 +72,7 @@ public class ModuleStopMethodGen {
         this.jvmTypeGen = jvmTypeGen;
     }
 
-    public void generateExecutionStopMethod(ClassWriter cw, String initClass, BIRNode.BIRPackage module,
+    public void generateExecutionStopMethod(BallerinaClassWriter cw, String initClass, BIRNode.BIRPackage module,
                                             AsyncDataCollector asyncDataCollector, Set<PackageID> immediateImports) {
         MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC + ACC_STATIC, MODULE_STOP_METHOD,
                 MODULE_STOP, null, null);
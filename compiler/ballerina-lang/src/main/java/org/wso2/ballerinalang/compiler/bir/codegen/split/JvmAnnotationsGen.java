@@ -19,7 +19,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
@@ -35,7 +34,6 @@ import org.wso2.ballerinalang.util.Flags;
 
 import java.util.List;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
@@ -43,11 +41,11 @@ import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATION_MAP_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATION_UTILS;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANNOTATIONS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
@@ -73,15 +71,14 @@ public class JvmAnnotationsGen {
     }
 
     public void generateAnnotationsClass(JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, annotationsClass, null, OBJECT, null);
         generateProcessAnnotationsMethod(cw, module.typeDefs, module.packageID);
         cw.visitEnd();
-        byte[] bytes = jvmPackageGen.getBytes(cw, module);
-        jarEntries.put(annotationsClass + CLASS_FILE_SUFFIX, bytes);
+        jvmPackageGen.putClass(jarEntries, annotationsClass, cw, module);
     }
 
-    private void generateProcessAnnotationsMethod(ClassWriter cw, List<BIRNode.BIRTypeDefinition> typeDefs,
+    private void generateProcessAnnotationsMethod(BallerinaClassWriter cw, List<BIRNode.BIRTypeDefinition> typeDefs,
                                                   PackageID packageID) {
         int annotationsCount = generateAnnotationsLoad(cw, typeDefs, packageID, jvmTypeGen);
         MethodVisitor mv =
@@ -95,7 +92,7 @@ public class JvmAnnotationsGen {
         mv.visitEnd();
     }
 
-    private int generateAnnotationsLoad(ClassWriter cw, List<BIRNode.BIRTypeDefinition> typeDefs,
+    private int generateAnnotationsLoad(BallerinaClassWriter cw, List<BIRNode.BIRTypeDefinition> typeDefs,
                                         PackageID packageID, JvmTypeGen jvmTypeGen) {
         int methodCount = 0;
         MethodVisitor mv;
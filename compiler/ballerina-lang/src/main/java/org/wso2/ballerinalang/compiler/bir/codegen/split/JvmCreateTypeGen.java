@@ -19,7 +19,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen.split;
 
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.types.SelectivelyImmutableReferenceType;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
@@ -58,7 +58,6 @@ import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,11 +66,13 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import static io.ballerina.identifier.Utils.decodeIdentifier;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.DUP;
@@ -79,6 +80,7 @@ import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IDIV;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
@@ -90,6 +92,7 @@ import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.createDefaultCase;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ADD_METHOD;
@@ -103,36 +106,51 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_TYPEREF
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_TYPEREF_TYPE_POPULATE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_UNION_TYPE_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_UNION_TYPE_POPULATE_METHOD;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_TYPES_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_TYPE_CONSTANTS_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_TYPE_INSTANCES_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_TYPE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FIELD_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_ANON_TYPE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_FUNCTION_TYPE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_TYPE_BY_INDEX_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_STATIC_INIT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LAZY_TYPE_CREATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_FIELDS_PER_SPLIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_TYPES_PER_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANON_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_FUNCTION_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_TYPES_CLASS_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_TYPE_CREATOR_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_METHOD_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_TYPES_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_TYPE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET_IMMUTABLE_TYPE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_CREATOR_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_ID_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VISIT_MAX_SAFE_MARGIN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ADD_TYPE_ID;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ANY_TO_JBOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FUNCTION_TYPE_FOR_STRING;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_LAZY_TYPE_CREATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPE_BY_INDEX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_FIELD_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LAZY_TYPEDESC_GETTER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LAZY_TYPE_CREATOR_INIT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LAZY_TYPE_GETTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.MAP_PUT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.POPULATE_TYPE_BY_INDEX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_IMMUTABLE_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getLazyGetterName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeFieldName;
 
 /**
@@ -156,7 +174,8 @@ public class JvmCreateTypeGen {
     private final String typesClass;
     private final String anonTypesClass;
     private final String functionTypesClass;
-    private final ClassWriter typesCw;
+    private final String typeCreatorClass;
+    private final BallerinaClassWriter typesCw;
 
     public JvmCreateTypeGen(JvmTypeGen jvmTypeGen, JvmConstantsGen jvmConstantsGen, PackageID packageID,
                             TypeHashVisitor typeHashVisitor) {
@@ -165,6 +184,7 @@ public class JvmCreateTypeGen {
         this.typesClass = getModuleLevelClassName(packageID, MODULE_TYPES_CLASS_NAME);
         this.anonTypesClass = getModuleLevelClassName(packageID, MODULE_ANON_TYPES_CLASS_NAME);
         this.functionTypesClass = getModuleLevelClassName(packageID, MODULE_FUNCTION_TYPES_CLASS_NAME);
+        this.typeCreatorClass = getModuleLevelClassName(packageID, MODULE_TYPE_CREATOR_CLASS_NAME);
         this.jvmRecordTypeGen = new JvmRecordTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID);
         this.jvmObjectTypeGen = new JvmObjectTypeGen(this, typesClass, jvmTypeGen, jvmConstantsGen, packageID);
         this.jvmErrorTypeGen = new JvmErrorTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID);
@@ -172,7 +192,7 @@ public class JvmCreateTypeGen {
         this.jvmTupleTypeGen = new JvmTupleTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID);
         this.jvmArrayTypeGen = new JvmArrayTypeGen(jvmTypeGen);
         this.jvmRefTypeGen = new JvmRefTypeGen(jvmTypeGen, jvmConstantsGen);
-        this.typesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.typesCw = new BallerinaClassWriter(GENERATE_FRAMES);
         this.typeHashVisitor =  typeHashVisitor;
         this.typeDefHashComparator = new TypeDefHashComparator(typeHashVisitor);
         this.typesCw.visit(V21, ACC_PUBLIC + ACC_SUPER, typesClass, null, OBJECT, null);
@@ -181,17 +201,20 @@ public class JvmCreateTypeGen {
     public void generateTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                   JarEntries jarEntries,
                                   String moduleInitClass, SymbolTable symbolTable) {
-        generateCreateTypesMethod(typesCw, module.typeDefs, moduleInitClass, symbolTable);
+        List<BIRTypeDefinition> typeDefs = getGeneratedTypeDefs(module.typeDefs);
+        generateCreateTypesMethod(typesCw, moduleInitClass);
+        generateLazyTypeGetters(typesCw, typeDefs, moduleInitClass);
+        generateTypeCreatorClass(jvmPackageGen, module, jarEntries, typeDefs, moduleInitClass, symbolTable);
         typesCw.visitEnd();
         jvmRecordTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmObjectTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmErrorTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmUnionTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmTupleTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
-        jarEntries.put(typesClass + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(typesCw, module));
+        jvmPackageGen.putClass(jarEntries, typesClass, typesCw, module);
     }
 
-    void createTypeConstants(ClassWriter cw, String moduleInitClass) {
+    void createTypeConstants(BallerinaClassWriter cw, String moduleInitClass) {
         MethodVisitor mv =
                 cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPE_CONSTANTS_METHOD, VOID_METHOD_DESC, null, null);
         mv.visitCode();
@@ -221,120 +244,237 @@ public class JvmCreateTypeGen {
         mv.visitEnd();
     }
 
-    void generateCreateTypesMethod(ClassWriter cw, List<BIRTypeDefinition> typeDefs,
-                                   String moduleInitClass, SymbolTable symbolTable) {
+    void generateCreateTypesMethod(BallerinaClassWriter cw, String moduleInitClass) {
         createTypeConstants(cw, moduleInitClass);
-        createTypesInstance(cw, typeDefs, moduleInitClass);
-        Map<String, String> populateTypeFuncNames = populateTypes(cw, typeDefs, moduleInitClass, symbolTable);
 
+        // The type definitions are created lazily, hence only the type constants are created eagerly.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPES_METHOD, VOID_METHOD_DESC, null, null);
         mv.visitCode();
-
-        // Invoke create-type-instances method
-        mv.visitMethodInsn(INVOKESTATIC, typesClass, CREATE_TYPE_INSTANCES_METHOD, VOID_METHOD_DESC, false);
-
-        // Invoke create-type-constants method
         mv.visitMethodInsn(INVOKESTATIC, typesClass, CREATE_TYPE_CONSTANTS_METHOD, VOID_METHOD_DESC, false);
-
-        // Invoke the populate-type functions
-        for (Map.Entry<String, String> entry : populateTypeFuncNames.entrySet()) {
-            String funcName = entry.getKey();
-            String typeClassName = entry.getValue();
-            mv.visitMethodInsn(INVOKESTATIC, typeClassName, funcName, VOID_METHOD_DESC, false);
-        }
         mv.visitInsn(RETURN);
         JvmCodeGenUtil.visitMaxStackForMethod(mv, CREATE_TYPES_METHOD, moduleInitClass);
         mv.visitEnd();
     }
 
-    private void createTypesInstance(ClassWriter cw, List<BIRTypeDefinition> typeDefs, String moduleInitClass) {
-        int instanceSplits = createTypesInstanceSplits(cw, typeDefs, moduleInitClass);
-        MethodVisitor mv =
-                cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPE_INSTANCES_METHOD, VOID_METHOD_DESC, null, null);
-        mv.visitCode();
-        for (int i = 0; i < instanceSplits; i++) {
-            mv.visitMethodInsn(INVOKESTATIC, typesClass, CREATE_TYPE_INSTANCES_METHOD + i, VOID_METHOD_DESC, false);
+    private static List<BIRTypeDefinition> getGeneratedTypeDefs(List<BIRTypeDefinition> typeDefs) {
+        List<BIRTypeDefinition> generatedTypeDefs = new ArrayList<>();
+        for (BIRTypeDefinition typeDef : typeDefs) {
+            if (!JvmCodeGenUtil.needNoTypeGeneration(typeDef.type.tag)) {
+                generatedTypeDefs.add(typeDef);
+            }
         }
+        return generatedTypeDefs;
+    }
+
+    /**
+     * Generate the methods which return the type definitions, creating them on first use. The index of a type
+     * definition in the given list is its index in the lazy type creator.
+     *
+     * @param cw             class writer of the types class
+     * @param typeDefs       type definitions which need type generation
+     * @param typeOwnerClass class which holds the type fields
+     */
+    private void generateLazyTypeGetters(BallerinaClassWriter cw, List<BIRTypeDefinition> typeDefs,
+                                         String typeOwnerClass) {
+        FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_FINAL, TYPE_CREATOR_VAR_NAME,
+                GET_LAZY_TYPE_CREATOR, null, null);
+        fv.visitEnd();
+
+        MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, typeCreatorClass);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, typeCreatorClass, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        mv.visitFieldInsn(PUTSTATIC, typesClass, TYPE_CREATOR_VAR_NAME, GET_LAZY_TYPE_CREATOR);
         mv.visitInsn(RETURN);
-        JvmCodeGenUtil.visitMaxStackForMethod(mv, CREATE_TYPE_INSTANCES_METHOD, moduleInitClass);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, JVM_STATIC_INIT_METHOD, typesClass);
         mv.visitEnd();
+
+        for (int i = 0; i < typeDefs.size(); i++) {
+            BIRTypeDefinition typeDef = typeDefs.get(i);
+            String name = typeDef.internalName.value;
+            String getterName = getLazyGetterName(getTypeFieldName(name));
+            mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, getterName, LAZY_TYPE_GETTER, null, null);
+            mv.visitCode();
+            mv.visitFieldInsn(GETSTATIC, typesClass, TYPE_CREATOR_VAR_NAME, GET_LAZY_TYPE_CREATOR);
+            mv.visitLdcInsn(i);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LAZY_TYPE_CREATOR, GET_TYPE_BY_INDEX_METHOD, GET_TYPE_BY_INDEX, false);
+            mv.visitInsn(ARETURN);
+            JvmCodeGenUtil.visitMaxStackForMethod(mv, getterName, typesClass);
+            mv.visitEnd();
+
+            if (typeDef.type.tag != TypeTags.RECORD) {
+                continue;
+            }
+            // The typedesc of a record type is created along with the type.
+            String typedescFieldName = jvmTypeGen.getTypedescFieldName(name);
+            String typedescGetterName = getLazyGetterName(typedescFieldName);
+            mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, typedescGetterName, LAZY_TYPEDESC_GETTER, null, null);
+            mv.visitCode();
+            mv.visitMethodInsn(INVOKESTATIC, typesClass, getterName, LAZY_TYPE_GETTER, false);
+            mv.visitInsn(POP);
+            mv.visitFieldInsn(GETSTATIC, typeOwnerClass, typedescFieldName, GET_TYPEDESC);
+            mv.visitInsn(ARETURN);
+            JvmCodeGenUtil.visitMaxStackForMethod(mv, typedescGetterName, typesClass);
+            mv.visitEnd();
+        }
     }
 
-    private int createTypesInstanceSplits(ClassWriter cw, List<BIRTypeDefinition> typeDefs, String typeOwnerClass) {
+    private void generateTypeCreatorClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
+                                          JarEntries jarEntries, List<BIRTypeDefinition> typeDefs,
+                                          String typeOwnerClass, SymbolTable symbolTable) {
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
+        cw.visit(V21, ACC_PUBLIC + ACC_SUPER, typeCreatorClass, null, LAZY_TYPE_CREATOR, null);
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, VOID_METHOD_DESC, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitLdcInsn(typeDefs.size());
+        mv.visitMethodInsn(INVOKESPECIAL, LAZY_TYPE_CREATOR, JVM_INIT_METHOD, LAZY_TYPE_CREATOR_INIT, false);
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, JVM_INIT_METHOD, typeCreatorClass);
+        mv.visitEnd();
+
+        int splitCount = (typeDefs.size() + MAX_TYPES_PER_METHOD - 1) / MAX_TYPES_PER_METHOD;
+        generateTypeCreatorMethod(cw, CREATE_TYPE_METHOD, GET_TYPE_BY_INDEX, CREATE_TYPE_INSTANCES_METHOD,
+                splitCount);
+        generateTypeCreatorMethod(cw, POPULATE_TYPE_METHOD, POPULATE_TYPE_BY_INDEX, POPULATE_TYPES_METHOD,
+                splitCount);
+        createTypeInstanceSplits(cw, typeDefs, typeOwnerClass);
+        List<String> populateTypeClasses = populateTypes(typesCw, typeDefs, typeOwnerClass, symbolTable);
+        populateTypeSplits(cw, typeDefs, populateTypeClasses);
 
-        if (typeDefs.isEmpty()) {
-            return 0;
+        cw.visitEnd();
+        jvmPackageGen.putClass(jarEntries, typeCreatorClass, cw, module);
+    }
+
+    /**
+     * Generate an implementation of a {@code LazyTypeCreator} method, which delegates to the split method that
+     * handles the given type index.
+     */
+    private void generateTypeCreatorMethod(BallerinaClassWriter cw, String methodName, String methodDesc,
+                                           String splitMethodPrefix, int splitCount) {
+        boolean returnsType = methodDesc.equals(GET_TYPE_BY_INDEX);
+        MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, methodName, methodDesc, null, null);
+        mv.visitCode();
+        Label defaultCaseLabel = new Label();
+        if (splitCount > 0) {
+            Label[] labels = createLabels(splitCount);
+            mv.visitVarInsn(ILOAD, 1);
+            mv.visitLdcInsn(MAX_TYPES_PER_METHOD);
+            mv.visitInsn(IDIV);
+            mv.visitTableSwitchInsn(0, splitCount - 1, defaultCaseLabel, labels);
+            for (int i = 0; i < splitCount; i++) {
+                mv.visitLabel(labels[i]);
+                mv.visitVarInsn(ILOAD, 1);
+                mv.visitMethodInsn(INVOKESTATIC, typeCreatorClass, splitMethodPrefix + i, methodDesc, false);
+                mv.visitInsn(returnsType ? ARETURN : RETURN);
+            }
         }
-        MethodVisitor mv = null;
-        int bTypesCount = 0;
-        int methodCount = 0;
+        mv.visitLabel(defaultCaseLabel);
+        if (returnsType) {
+            mv.visitInsn(ACONST_NULL);
+            mv.visitInsn(ARETURN);
+        } else {
+            mv.visitInsn(RETURN);
+        }
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, methodName, typeCreatorClass);
+        mv.visitEnd();
+    }
 
-        // Create the type
-        for (BIRTypeDefinition optionalTypeDef : typeDefs) {
-            String name = optionalTypeDef.internalName.value;
-            BType bType = optionalTypeDef.type;
-            int bTypeTag = bType.tag;
-            if (JvmCodeGenUtil.needNoTypeGeneration(bTypeTag)) {
-                continue;
-            } else {
-                if (bTypesCount % MAX_TYPES_PER_METHOD == 0) {
-                    mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPE_INSTANCES_METHOD + methodCount++,
-                            VOID_METHOD_DESC,
-                            null, null);
-                    mv.visitCode();
+    private void createTypeInstanceSplits(BallerinaClassWriter cw, List<BIRTypeDefinition> typeDefs,
+                                          String typeOwnerClass) {
+        for (int from = 0; from < typeDefs.size(); from += MAX_TYPES_PER_METHOD) {
+            int to = Math.min(from + MAX_TYPES_PER_METHOD, typeDefs.size());
+            String methodName = CREATE_TYPE_INSTANCES_METHOD + from / MAX_TYPES_PER_METHOD;
+            MethodVisitor mv = cw.visitMethod(ACC_PRIVATE + ACC_STATIC, methodName, GET_TYPE_BY_INDEX, null, null);
+            mv.visitCode();
+            Label defaultCaseLabel = new Label();
+            Label[] labels = createLabels(to - from);
+            mv.visitVarInsn(ILOAD, 0);
+            mv.visitTableSwitchInsn(from, to - 1, defaultCaseLabel, labels);
+            for (int i = from; i < to; i++) {
+                mv.visitLabel(labels[i - from]);
+                BIRTypeDefinition typeDef = typeDefs.get(i);
+                String name = typeDef.internalName.value;
+                BType bType = typeDef.type;
+                switch (bType.tag) {
+                    case TypeTags.RECORD ->
+                            jvmRecordTypeGen.createRecordType(mv, (BRecordType) bType, typeOwnerClass, name);
+                    case TypeTags.OBJECT -> jvmObjectTypeGen.createObjectType(mv, (BObjectType) bType);
+                    case TypeTags.ERROR ->
+                            jvmErrorTypeGen.createErrorType(mv, (BErrorType) bType, bType.tsymbol.name.value);
+                    case TypeTags.TUPLE -> jvmTupleTypeGen.createTupleType(mv, (BTupleType) bType);
+                    default -> jvmUnionTypeGen.createUnionType(mv, (BUnionType) bType);
                 }
+                // The type field is read by the populate method of the type.
+                mv.visitInsn(DUP);
+                mv.visitFieldInsn(PUTSTATIC, typeOwnerClass, getTypeFieldName(name), GET_TYPE);
+                mv.visitInsn(ARETURN);
             }
-            switch (bTypeTag) {
-                case TypeTags.RECORD ->
-                        jvmRecordTypeGen.createRecordType(mv, (BRecordType) bType, typeOwnerClass, name);
-                case TypeTags.OBJECT -> jvmObjectTypeGen.createObjectType(mv, (BObjectType) bType);
-                case TypeTags.ERROR ->
-                        jvmErrorTypeGen.createErrorType(mv, (BErrorType) bType, bType.tsymbol.name.value);
-                case TypeTags.TUPLE -> jvmTupleTypeGen.createTupleType(mv, (BTupleType) bType);
-                default -> jvmUnionTypeGen.createUnionType(mv, (BUnionType) bType);
-            }
+            mv.visitLabel(defaultCaseLabel);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitInsn(ARETURN);
+            JvmCodeGenUtil.visitMaxStackForMethod(mv, methodName, typeCreatorClass);
+            mv.visitEnd();
+        }
+    }
 
-            mv.visitFieldInsn(PUTSTATIC, typeOwnerClass, getTypeFieldName(name), GET_TYPE);
-            bTypesCount++;
-            if (bTypesCount % MAX_TYPES_PER_METHOD == 0) {
+    private void populateTypeSplits(BallerinaClassWriter cw, List<BIRTypeDefinition> typeDefs,
+                                    List<String> populateTypeClasses) {
+        for (int from = 0; from < typeDefs.size(); from += MAX_TYPES_PER_METHOD) {
+            int to = Math.min(from + MAX_TYPES_PER_METHOD, typeDefs.size());
+            String methodName = POPULATE_TYPES_METHOD + from / MAX_TYPES_PER_METHOD;
+            MethodVisitor mv = cw.visitMethod(ACC_PRIVATE + ACC_STATIC, methodName, POPULATE_TYPE_BY_INDEX, null,
+                    null);
+            mv.visitCode();
+            Label defaultCaseLabel = new Label();
+            Label[] labels = createLabels(to - from);
+            mv.visitVarInsn(ILOAD, 0);
+            mv.visitTableSwitchInsn(from, to - 1, defaultCaseLabel, labels);
+            for (int i = from; i < to; i++) {
+                mv.visitLabel(labels[i - from]);
+                String populateMethodName =
+                        POPULATE_METHOD_PREFIX + getTypeFieldName(typeDefs.get(i).internalName.value);
+                mv.visitMethodInsn(INVOKESTATIC, populateTypeClasses.get(i), populateMethodName, VOID_METHOD_DESC,
+                        false);
                 mv.visitInsn(RETURN);
-                JvmCodeGenUtil.visitMaxStackForMethod(mv, CREATE_TYPE_INSTANCES_METHOD, typeOwnerClass);
-                mv.visitEnd();
             }
-        }
-        if (methodCount != 0 && bTypesCount % MAX_TYPES_PER_METHOD != 0) {
+            mv.visitLabel(defaultCaseLabel);
             mv.visitInsn(RETURN);
-            JvmCodeGenUtil.visitMaxStackForMethod(mv, CREATE_TYPE_INSTANCES_METHOD, typeOwnerClass);
+            JvmCodeGenUtil.visitMaxStackForMethod(mv, methodName, typeCreatorClass);
             mv.visitEnd();
         }
+    }
 
-        return methodCount;
+    private static Label[] createLabels(int count) {
+        Label[] labels = new Label[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = new Label();
+        }
+        return labels;
     }
 
-    private Map<String, String> populateTypes(ClassWriter cw, List<BIRTypeDefinition> typeDefs, String typeOwnerClass,
-                                              SymbolTable symbolTable) {
+    private List<String> populateTypes(BallerinaClassWriter cw, List<BIRTypeDefinition> typeDefs, String typeOwnerClass,
+                                       SymbolTable symbolTable) {
 
-        Map<String, String> funcTypeClassMap = new HashMap<>();
+        List<String> populateTypeClasses = new ArrayList<>(typeDefs.size());
         String fieldName;
         for (BIRTypeDefinition optionalTypeDef : typeDefs) {
             BType bType = optionalTypeDef.type;
             int bTypeTag = bType.tag;
-            if (JvmCodeGenUtil.needNoTypeGeneration(bTypeTag)) {
-                continue;
-            }
-
             fieldName = getTypeFieldName(optionalTypeDef.internalName.value);
             String methodName = POPULATE_METHOD_PREFIX + fieldName;
             MethodVisitor mv;
             switch (bTypeTag) {
                 case TypeTags.RECORD -> {
-                    funcTypeClassMap.put(methodName, jvmRecordTypeGen.recordTypesClass);
+                    populateTypeClasses.add(jvmRecordTypeGen.recordTypesClass);
                     mv = createPopulateTypeMethod(jvmRecordTypeGen.recordTypesCw, methodName, typeOwnerClass,
                             fieldName);
                     jvmRecordTypeGen.populateRecord(mv, methodName, (BRecordType) bType, symbolTable);
                 }
                 case TypeTags.OBJECT -> {
-                    funcTypeClassMap.put(methodName, jvmObjectTypeGen.objectTypesClass);
+                    populateTypeClasses.add(jvmObjectTypeGen.objectTypesClass);
                     mv = createPopulateTypeMethod(jvmObjectTypeGen.objectTypesCw, methodName,
                             typeOwnerClass, fieldName);
                     jvmObjectTypeGen.populateObject(cw, mv, methodName, symbolTable, fieldName, (BObjectType) bType,
@@ -342,17 +482,17 @@ public class JvmCreateTypeGen {
                 }
                 case TypeTags.ERROR -> {
                     // populate detail field
-                    funcTypeClassMap.put(methodName, jvmErrorTypeGen.errorTypesClass);
+                    populateTypeClasses.add(jvmErrorTypeGen.errorTypesClass);
                     mv = createPopulateTypeMethod(jvmErrorTypeGen.errorTypesCw, methodName, typeOwnerClass, fieldName);
                     jvmErrorTypeGen.populateError(mv, (BErrorType) bType);
                 }
                 case TypeTags.TUPLE -> {
-                    funcTypeClassMap.put(methodName, jvmTupleTypeGen.tupleTypesClass);
+                    populateTypeClasses.add(jvmTupleTypeGen.tupleTypesClass);
                     mv = createPopulateTypeMethod(jvmTupleTypeGen.tupleTypesCw, methodName, typeOwnerClass, fieldName);
                     jvmTupleTypeGen.populateTuple(mv, (BTupleType) bType, symbolTable);
                 }
                 default -> {
-                    funcTypeClassMap.put(methodName, jvmUnionTypeGen.unionTypesClass);
+                    populateTypeClasses.add(jvmUnionTypeGen.unionTypesClass);
                     mv = createPopulateTypeMethod(jvmUnionTypeGen.unionTypesCw, methodName, typeOwnerClass, fieldName);
                     jvmUnionTypeGen.populateUnion(cw, mv, (BUnionType) bType, typesClass, fieldName, symbolTable);
                 }
@@ -363,10 +503,10 @@ public class JvmCreateTypeGen {
             mv.visitEnd();
         }
 
-        return funcTypeClassMap;
+        return populateTypeClasses;
     }
 
-    private MethodVisitor createPopulateTypeMethod(ClassWriter cw, String methodName, String typeOwnerClass,
+    private MethodVisitor createPopulateTypeMethod(BallerinaClassWriter cw, String methodName, String typeOwnerClass,
                                                    String fieldName) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, methodName, VOID_METHOD_DESC, null, null);
         mv.visitCode();
@@ -492,17 +632,15 @@ public class JvmCreateTypeGen {
     // -------------------------------------------------------
 
     public void generateAnonTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
-                                      String moduleInitClass, JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+                                      JarEntries jarEntries) {
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, anonTypesClass, null, OBJECT, null);
-        generateGetAnonTypeMainMethod(cw, module.typeDefs, moduleInitClass);
+        generateGetAnonTypeMainMethod(cw, module.typeDefs);
         cw.visitEnd();
-        byte[] bytes = jvmPackageGen.getBytes(cw, module);
-        jarEntries.put(anonTypesClass + CLASS_FILE_SUFFIX, bytes);
+        jvmPackageGen.putClass(jarEntries, anonTypesClass, cw, module);
     }
 
-    private void generateGetAnonTypeMainMethod(ClassWriter cw, List<BIRTypeDefinition> typeDefinitions,
-                                               String moduleInitClass) {
+    private void generateGetAnonTypeMainMethod(BallerinaClassWriter cw, List<BIRTypeDefinition> typeDefinitions) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, GET_ANON_TYPE_METHOD,
                 JvmSignatures.GET_ANON_TYPE, null, null);
         mv.visitCode();
@@ -523,14 +661,13 @@ public class JvmCreateTypeGen {
             mv.visitMethodInsn(INVOKESTATIC, anonTypesClass, GET_ANON_TYPE_METHOD + 0,
                     JvmSignatures.GET_ANON_TYPE, false);
             mv.visitInsn(ARETURN);
-            generateGetAnonTypeSplitMethods(cw, anonTypeHashSwitch, moduleInitClass);
+            generateGetAnonTypeSplitMethods(cw, anonTypeHashSwitch);
         }
         JvmCodeGenUtil.visitMaxStackForMethod(mv, GET_ANON_TYPE_METHOD, anonTypesClass);
         mv.visitEnd();
     }
 
-    void generateGetAnonTypeSplitMethods(ClassWriter cw,  AnonTypeHashInfo anonTypeHashSwitch,
-                                        String typeOwnerClass) {
+    void generateGetAnonTypeSplitMethods(BallerinaClassWriter cw,  AnonTypeHashInfo anonTypeHashSwitch) {
 
         int bTypesCount = 0;
         int methodCount = 0;
@@ -561,7 +698,7 @@ public class JvmCreateTypeGen {
             String fieldName = labelEntry.getKey();
             Label targetLabel = labelEntry.getValue();
             mv.visitLabel(targetLabel);
-            mv.visitFieldInsn(GETSTATIC, typeOwnerClass, fieldName, JvmSignatures.GET_TYPE);
+            mv.visitMethodInsn(INVOKESTATIC, typesClass, getLazyGetterName(fieldName), LAZY_TYPE_GETTER, false);
             mv.visitInsn(ARETURN);
             i++;
             bTypesCount++;
@@ -649,15 +786,14 @@ public class JvmCreateTypeGen {
     // -------------------------------------------------------
     public void generateFunctionTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                           JarEntries jarEntries, List<BIRNode.BIRFunction> sortedFunctions) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, functionTypesClass, null, OBJECT, null);
         generateGetFunctionTypeMainMethod(cw, sortedFunctions);
         cw.visitEnd();
-        byte[] bytes = jvmPackageGen.getBytes(cw, module);
-        jarEntries.put(functionTypesClass + ".class", bytes);
+        jvmPackageGen.putClass(jarEntries, functionTypesClass, cw, module);
     }
 
-    private void generateGetFunctionTypeMainMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions) {
+    private void generateGetFunctionTypeMainMethod(BallerinaClassWriter cw, List<BIRNode.BIRFunction> functions) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, GET_FUNCTION_TYPE_METHOD,
                 GET_FUNCTION_TYPE_FOR_STRING, null, null);
         mv.visitCode();
@@ -675,7 +811,7 @@ public class JvmCreateTypeGen {
         mv.visitEnd();
     }
 
-    void generateGetFunctionTypeSplitMethods(ClassWriter cw, List<BIRNode.BIRFunction> functions) {
+    void generateGetFunctionTypeSplitMethods(BallerinaClassWriter cw, List<BIRNode.BIRFunction> functions) {
 
         int bTypesCount = 0;
         int methodCount = 0;
@@ -733,7 +869,8 @@ public class JvmCreateTypeGen {
         }
     }
 
-    public void splitAddFields(ClassWriter cw, String typeClassName, String methodName, Map<String, BField> fields) {
+    public void splitAddFields(BallerinaClassWriter cw, String typeClassName, String methodName,
+                               Map<String, BField> fields) {
         int fieldMapIndex = 0;
         MethodVisitor mv = null;
         int methodCount = 0;
@@ -58,9 +58,9 @@ public class JvmMethodsSplitter {
         jvmCreateTypeGen.generateRefTypeConstants(module.typeDefs, jvmPackageGen.symbolTable);
         jvmCreateTypeGen.generateTypeClass(jvmPackageGen, module, jarEntries, moduleInitClass,
                 jvmPackageGen.symbolTable);
-        jvmValueCreatorGen.generateValueCreatorClasses(jvmPackageGen, module, moduleInitClass, jarEntries,
-                jvmPackageGen.symbolTable, jvmCastGen, sortedFunctions);
-        jvmCreateTypeGen.generateAnonTypeClass(jvmPackageGen, module, moduleInitClass, jarEntries);
+        jvmValueCreatorGen.generateValueCreatorClasses(jvmPackageGen, module, jarEntries, jvmPackageGen.symbolTable,
+                jvmCastGen, sortedFunctions);
+        jvmCreateTypeGen.generateAnonTypeClass(jvmPackageGen, module, jarEntries);
         jvmCreateTypeGen.generateFunctionTypeClass(jvmPackageGen, module, jarEntries, sortedFunctions);
         jvmAnnotationsGen.generateAnnotationsClass(jarEntries);
     }
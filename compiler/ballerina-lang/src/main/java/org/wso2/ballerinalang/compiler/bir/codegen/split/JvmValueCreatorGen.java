@@ -62,8 +62,7 @@ public class JvmValueCreatorGen {
     }
 
     public void generateValueCreatorClasses(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
-                                            String moduleInitClass, JarEntries jarEntries,
-                                            SymbolTable symbolTable, JvmCastGen jvmCastGen,
+                                            JarEntries jarEntries, SymbolTable symbolTable, JvmCastGen jvmCastGen,
                                             List<BIRNode.BIRFunction> sortedFunctions) {
 
         // due to structural type same name can appear twice, need to remove duplicates
@@ -84,8 +83,7 @@ public class JvmValueCreatorGen {
         ArrayList<BIRTypeDefinition> recordTypeDefList = new ArrayList<>(recordTypeDefSet);
 
         jvmRecordCreatorGen.generateRecordsClass(jvmPackageGen, module, jarEntries, recordTypeDefList);
-        jvmObjectCreatorGen.generateObjectsClass(jvmPackageGen, module, moduleInitClass, jarEntries,
-                objectTypeDefList, symbolTable);
+        jvmObjectCreatorGen.generateObjectsClass(jvmPackageGen, module, jarEntries, objectTypeDefList, symbolTable);
         jvmErrorCreatorGen.generateErrorsClass(jvmPackageGen, module, jarEntries, errorTypeDefList, symbolTable);
         jvmFunctionCallsCreatorsGen.generateFunctionCallsClass(jvmPackageGen, module, jarEntries, jvmCastGen,
                 sortedFunctions);
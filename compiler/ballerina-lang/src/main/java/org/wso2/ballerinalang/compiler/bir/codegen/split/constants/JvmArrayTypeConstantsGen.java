@@ -19,7 +19,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -38,11 +37,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_ARRAY_TYPE_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_ARRAY_TYPE_POPULATE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
@@ -61,7 +60,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.split.constants.JvmCon
 public class JvmArrayTypeConstantsGen {
 
     private final String arrayConstantsClass;
-    private final ClassWriter cw;
+    private final BallerinaClassWriter cw;
     private MethodVisitor mv;
     private final Map<BArrayType, String> arrayTypeVarMap;
     private JvmArrayTypeGen jvmArrayTypeGen;
@@ -74,7 +73,7 @@ public class JvmArrayTypeConstantsGen {
     public JvmArrayTypeConstantsGen(PackageID packageID, BTypeHashComparator bTypeHashComparator, Types types) {
         this.arrayConstantsClass =
                 JvmCodeGenUtil.getModuleLevelClassName(packageID, JvmConstants.ARRAY_TYPE_CONSTANT_CLASS_NAME);
-        cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        cw = new BallerinaClassWriter(GENERATE_FRAMES);
         generateConstantsClassInit(cw, arrayConstantsClass);
         mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, B_ARRAY_TYPE_INIT_METHOD, VOID_METHOD_DESC, null, null);
         this.arrayTypeVarMap = new TreeMap<>(bTypeHashComparator);
@@ -155,7 +154,7 @@ public class JvmArrayTypeConstantsGen {
         genMethodReturn(mv);
         visitArrayTypeConstPopulateInitMethods();
         cw.visitEnd();
-        jarEntries.put(arrayConstantsClass + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(arrayConstantsClass + CLASS_FILE_SUFFIX, cw);
     }
 
     public String getArrayTypeConstantClass() {
@@ -19,7 +19,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
@@ -33,7 +32,6 @@ import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ALOAD;
@@ -50,11 +48,14 @@ import static org.objectweb.asm.Opcodes.NEWARRAY;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.T_INT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_INIT_METHOD_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_INTERN_TABLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VAR_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_SURROGATE_ARRAY_METHOD_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INTERN_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_STATIC_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LARGE_STRING_VAR_PREFIX;
@@ -67,6 +68,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BSTR
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_NON_BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_WITH_STRING;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INTERN_B_STRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STRING_BUILDER_APPEND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.TO_STRING_RETURN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
@@ -116,17 +118,17 @@ public class JvmBStringConstantsGen {
     }
 
     private void generateSurrogatesClass(JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         generateConstantsClassInit(cw, surrogatesMethodsClass);
 
         // Create methods to return int array to pass when creating non-Bmp string values.
         highSurrogatesMap.forEach((key, value) -> generateGetHighSurrogateArrayMethod(cw, key, value));
 
         cw.visitEnd();
-        jarEntries.put(surrogatesMethodsClass + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(surrogatesMethodsClass + CLASS_FILE_SUFFIX, cw);
     }
 
-    private void generateGetHighSurrogateArrayMethod(ClassWriter cw, String varName, int[] values) {
+    private void generateGetHighSurrogateArrayMethod(BallerinaClassWriter cw, String varName, int[] values) {
         List<String> splitMethodNames = generateSplitGetSurrogateArrayMethod(cw, varName, values);
         String highSurrogateMethodName = getHighSurrogateMethodName(varName);
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, highSurrogateMethodName, "()[I", null, null);
@@ -144,7 +146,7 @@ public class JvmBStringConstantsGen {
         mv.visitEnd();
     }
 
-    private List<String> generateSplitGetSurrogateArrayMethod(ClassWriter cw, String varName, int[] values) {
+    private List<String> generateSplitGetSurrogateArrayMethod(BallerinaClassWriter cw, String varName, int[] values) {
         List<String> methods = new ArrayList<>();
         MethodVisitor mv = null;
         int indexCount = 0;
@@ -178,7 +180,7 @@ public class JvmBStringConstantsGen {
         return methods;
     }
 
-    private void visitStringField(ClassWriter cw, Map<String, String> varList) {
+    private void visitStringField(BallerinaClassWriter cw, Map<String, String> varList) {
         FieldVisitor fv;
         for (String varName : varList.keySet()) {
             fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, varName, GET_STRING, null, null);
@@ -228,7 +230,7 @@ public class JvmBStringConstantsGen {
         return splitStrings;
     }
 
-    private void visitBStringField(ClassWriter cw, String varName) {
+    private void visitBStringField(BallerinaClassWriter cw, String varName) {
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, varName, GET_BSTRING, null, null);
         fv.visitEnd();
@@ -236,7 +238,7 @@ public class JvmBStringConstantsGen {
 
     private void generateBStringInitMethodClasses(Map<String, Map<String, String>> stringVarMap,
                                                   JarEntries jarEntries) {
-        ClassWriter cw = null;
+        BallerinaClassWriter cw = null;
         MethodVisitor mv = null;
         String constantClassName = null;
         int bStringCount = 0;
@@ -249,7 +251,7 @@ public class JvmBStringConstantsGen {
             constantClassName = stringConstantsClass + UNDERSCORE + classIndex;
 
             if (bStringCount % MAX_STRINGS_PER_METHOD == 0) {
-                cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+                cw = new BallerinaClassWriter(GENERATE_FRAMES);
                 generateConstantsClassInit(cw, constantClassName);
                 mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, B_STRING_INIT_METHOD_PREFIX, VOID_METHOD_DESC, null, null);
             }
@@ -273,7 +275,7 @@ public class JvmBStringConstantsGen {
                 genMethodReturn(mv);
                 generateStaticClassInitializer(cw, constantClassName);
                 cw.visitEnd();
-                jarEntries.put(constantClassName + CLASS_FILE_SUFFIX, cw.toByteArray());
+                jarEntries.putClass(constantClassName + CLASS_FILE_SUFFIX, cw);
             }
         }
 
@@ -281,7 +283,7 @@ public class JvmBStringConstantsGen {
             genMethodReturn(mv);
             generateStaticClassInitializer(cw, constantClassName);
             cw.visitEnd();
-            jarEntries.put(constantClassName + CLASS_FILE_SUFFIX, cw.toByteArray());
+            jarEntries.putClass(constantClassName + CLASS_FILE_SUFFIX, cw);
         }
     }
 
@@ -306,6 +308,7 @@ public class JvmBStringConstantsGen {
             generateAppendStringConstants(mv, stringChunks, constantClassName);
             mv.visitMethodInsn(INVOKESPECIAL, BMP_STRING_VALUE, JVM_INIT_METHOD, INIT_WITH_STRING, false);
         }
+        genInternBString(mv);
         mv.visitFieldInsn(PUTSTATIC, constantClassName, bStringVarName, GET_BSTRING);
     }
 
@@ -331,7 +334,7 @@ public class JvmBStringConstantsGen {
         }
     }
 
-    private void generateStaticClassInitializer(ClassWriter cw, String className) {
+    private void generateStaticClassInitializer(BallerinaClassWriter cw, String className) {
         MethodVisitor mv =
                 cw.visitMethod(ACC_PUBLIC + ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
         mv.visitMethodInsn(INVOKESTATIC, className, B_STRING_INIT_METHOD_PREFIX, VOID_METHOD_DESC, false);
@@ -344,6 +347,7 @@ public class JvmBStringConstantsGen {
         mv.visitLdcInsn(val);
         mv.visitMethodInsn(INVOKESPECIAL, BMP_STRING_VALUE, JVM_INIT_METHOD,
                 INIT_WITH_STRING, false);
+        genInternBString(mv);
         mv.visitFieldInsn(PUTSTATIC, constantClassName, varName, GET_BSTRING);
     }
 
@@ -353,9 +357,15 @@ public class JvmBStringConstantsGen {
         mv.visitLdcInsn(val);
         mv.visitMethodInsn(INVOKESTATIC, surrogatesMethodsClass, getHighSurrogateMethodName(varName), "()[I", false);
         mv.visitMethodInsn(INVOKESPECIAL, NON_BMP_STRING_VALUE, JVM_INIT_METHOD, INIT_NON_BMP_STRING_VALUE, false);
+        genInternBString(mv);
         mv.visitFieldInsn(PUTSTATIC, constantClassName, varName, GET_BSTRING);
     }
 
+    private void genInternBString(MethodVisitor mv) {
+        // The constants are shared across the modules, so that the mapping keys can be matched by identity.
+        mv.visitMethodInsn(INVOKESTATIC, B_STRING_INTERN_TABLE, INTERN_METHOD, INTERN_B_STRING, false);
+    }
+
     public String getStringConstantsClass() {
         return stringConstantsClass;
     }
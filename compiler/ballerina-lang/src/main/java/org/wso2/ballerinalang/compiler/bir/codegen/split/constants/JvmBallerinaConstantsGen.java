@@ -18,7 +18,6 @@
 
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
@@ -26,11 +25,11 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONSTANTS_CLASS_NAME;
@@ -66,17 +65,17 @@ public class JvmBallerinaConstantsGen {
             return;
         }
 
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         generateConstantsClassInit(cw, constantClass);
         // Create multiple module constant init methods based on module count.
         generateConstantsInits(cw);
         // Create static initializer which will call previously generated module init methods.
         generateConstantInitPublicMethod(cw);
         cw.visitEnd();
-        jarEntries.put(constantClass + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(constantClass + CLASS_FILE_SUFFIX, cw);
     }
 
-    private void generateConstantsInits(ClassWriter cw) {
+    private void generateConstantsInits(BallerinaClassWriter cw) {
         MethodVisitor mv = null;
         int moduleCount = 0;
         int methodCount = 0;
@@ -101,7 +100,7 @@ public class JvmBallerinaConstantsGen {
         }
     }
 
-    private void generateConstantInitPublicMethod(ClassWriter cw) {
+    private void generateConstantInitPublicMethod(BallerinaClassWriter cw) {
         MethodVisitor mv =
                 cw.visitMethod(ACC_STATIC + ACC_PUBLIC, CONSTANT_INIT_METHOD_PREFIX, VOID_METHOD_DESC, null, null);
         mv.visitMethodInsn(INVOKESTATIC, constantClass, CONSTANT_INIT_METHOD_PREFIX + 0, VOID_METHOD_DESC, false);
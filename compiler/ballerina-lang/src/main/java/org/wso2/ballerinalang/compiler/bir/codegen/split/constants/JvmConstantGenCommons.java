@@ -18,8 +18,8 @@
 
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants;
 
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
@@ -41,7 +41,7 @@ public final class JvmConstantGenCommons {
     private JvmConstantGenCommons() {
     }
 
-    public static void generateConstantsClassInit(ClassWriter cw, String constantsClass) {
+    public static void generateConstantsClassInit(BallerinaClassWriter cw, String constantsClass) {
         cw.visit(V21, ACC_PUBLIC | ACC_SUPER, constantsClass, null, JvmConstants.OBJECT, null);
         MethodVisitor methodVisitor =
                 cw.visitMethod(ACC_PRIVATE, JvmConstants.JVM_INIT_METHOD, VOID_METHOD_DESC, null, null);
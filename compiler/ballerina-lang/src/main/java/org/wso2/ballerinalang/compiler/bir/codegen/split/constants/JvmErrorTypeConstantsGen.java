@@ -19,7 +19,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -36,11 +35,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_ERROR_TYPE_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_ERROR_TYPE_POPULATE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
@@ -61,7 +60,7 @@ public class JvmErrorTypeConstantsGen {
 
     private final String errorVarConstantsClass;
     private JvmErrorTypeGen jvmErrorTypeGen;
-    private final ClassWriter cw;
+    private final BallerinaClassWriter cw;
     private MethodVisitor mv;
     private final Map<BErrorType, String> errorTypeVarMap;
     private final List<String> funcNames = new ArrayList<>();
@@ -72,7 +71,7 @@ public class JvmErrorTypeConstantsGen {
     public JvmErrorTypeConstantsGen(PackageID packageID, BTypeHashComparator bTypeHashComparator) {
         errorVarConstantsClass = JvmCodeGenUtil.getModuleLevelClassName(packageID,
                 JvmConstants.ERROR_TYPE_CONSTANT_CLASS_NAME);
-        cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        cw = new BallerinaClassWriter(GENERATE_FRAMES);
         generateConstantsClassInit(cw, errorVarConstantsClass);
         mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, B_ERROR_TYPE_INIT_METHOD, VOID_METHOD_DESC, null, null);
         errorTypeVarMap = new TreeMap<>(bTypeHashComparator);
@@ -156,7 +155,7 @@ public class JvmErrorTypeConstantsGen {
         genMethodReturn(mv);
         visitErrorTypePopulateInitMethod();
         cw.visitEnd();
-        jarEntries.put(errorVarConstantsClass + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(errorVarConstantsClass + CLASS_FILE_SUFFIX, cw);
     }
 
     public String getErrorTypeConstantClass() {
@@ -19,7 +19,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -32,7 +31,6 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 
 import java.util.List;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
@@ -43,6 +41,7 @@ import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_8;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_FUNCTION_TYPE_INIT_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_TYPE_CONSTANT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_TYPE_VAR_PREFIX;
@@ -71,7 +70,7 @@ public class JvmFunctionTypeConstantsGen {
     }
 
     public void generateClass(JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         cw.visit(V1_8, ACC_PUBLIC | ACC_SUPER, functionTypeConstantClass, null, OBJECT, null);
 
         MethodVisitor mv = cw.visitMethod(ACC_PRIVATE, JVM_INIT_METHOD, "()V", null, null);
@@ -86,17 +85,17 @@ public class JvmFunctionTypeConstantsGen {
         generateFunctionTypeInits(cw);
         generateStaticInitializer(cw);
         cw.visitEnd();
-        jarEntries.put(functionTypeConstantClass + ".class", cw.toByteArray());
+        jarEntries.putClass(functionTypeConstantClass + ".class", cw);
     }
 
-    private void visitFunctionTypeFields(ClassWriter cw, String functionName) {
+    private void visitFunctionTypeFields(BallerinaClassWriter cw, String functionName) {
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, getFunctionTypeVar(functionName),
                 JvmSignatures.GET_FUNCTION_TYPE, null, null);
         fv.visitEnd();
     }
 
-    private void generateFunctionTypeInits(ClassWriter cw) {
+    private void generateFunctionTypeInits(BallerinaClassWriter cw) {
         MethodVisitor mv = null;
         int functionTypeCount = 0;
         int methodCount = 0;
@@ -123,7 +122,7 @@ public class JvmFunctionTypeConstantsGen {
         }
     }
 
-    private void generateStaticInitializer(ClassWriter cw) {
+    private void generateStaticInitializer(BallerinaClassWriter cw) {
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, "()V", null, null);
         int methodIndex = (functions.size() - 1) / MAX_FUNCTION_TYPE_FIELDS_PER_SPLIT_METHOD;
         for (int i = 0; i <= methodIndex; i++) {
@@ -20,7 +20,6 @@ package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
 import io.ballerina.identifier.Utils;
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -34,7 +33,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.DUP;
@@ -44,6 +42,7 @@ import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.RETURN;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
@@ -85,7 +84,7 @@ public class JvmModuleConstantsGen {
         if (moduleVarMap.isEmpty()) {
             return;
         }
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         generateConstantsClassInit(cw, moduleConstantClass);
 
         moduleVarMap.values().forEach(moduleVar -> visitModuleField(cw, moduleVar));
@@ -94,17 +93,17 @@ public class JvmModuleConstantsGen {
         // Create static initializer which will call previously generated module init methods.
         generateStaticInitializer(cw);
         cw.visitEnd();
-        jarEntries.put(moduleConstantClass + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(moduleConstantClass + CLASS_FILE_SUFFIX, cw);
     }
 
-    private void visitModuleField(ClassWriter cw, String varName) {
+    private void visitModuleField(BallerinaClassWriter cw, String varName) {
 
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, varName, GET_MODULE, null, null);
         fv.visitEnd();
     }
 
-    private void generateModuleInits(ClassWriter cw) {
+    private void generateModuleInits(BallerinaClassWriter cw) {
         MethodVisitor mv = null;
         int moduleCount = 0;
         int methodCount = 0;
@@ -145,7 +144,7 @@ public class JvmModuleConstantsGen {
         }
     }
 
-    private void generateStaticInitializer(ClassWriter cw) {
+    private void generateStaticInitializer(BallerinaClassWriter cw) {
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
         mv.visitMethodInsn(INVOKESTATIC, moduleConstantClass, MODULE_INIT_METHOD_PREFIX + 0, VOID_METHOD_DESC, false);
         genMethodReturn(mv);
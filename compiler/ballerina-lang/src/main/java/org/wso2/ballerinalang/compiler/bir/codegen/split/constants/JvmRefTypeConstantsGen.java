@@ -19,7 +19,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -36,11 +35,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_TYPEREF_TYPE_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_TYPEREF_TYPE_POPULATE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
@@ -60,7 +59,7 @@ public class JvmRefTypeConstantsGen {
 
     private final String typeRefVarConstantsClass;
     private JvmRefTypeGen jvmRefTypeGen;
-    private final ClassWriter cw;
+    private final BallerinaClassWriter cw;
     private MethodVisitor mv;
     private final Map<BTypeReferenceType, String> typeRefVarMap;
     private final List<String> funcNames = new ArrayList<>();
@@ -70,7 +69,7 @@ public class JvmRefTypeConstantsGen {
     public JvmRefTypeConstantsGen(PackageID packageID, BTypeHashComparator bTypeHashComparator) {
         typeRefVarConstantsClass = JvmCodeGenUtil.getModuleLevelClassName(packageID,
                 JvmConstants.TYPEREF_TYPE_CONSTANT_CLASS_NAME);
-        cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        cw = new BallerinaClassWriter(GENERATE_FRAMES);
         generateConstantsClassInit(cw, typeRefVarConstantsClass);
         mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, B_TYPEREF_TYPE_INIT_METHOD, VOID_METHOD_DESC, null, null);
         typeRefVarMap = new TreeMap<>(bTypeHashComparator);
@@ -153,7 +152,7 @@ public class JvmRefTypeConstantsGen {
         genMethodReturn(mv);
         visitRefTypePopulateInitMethod();
         cw.visitEnd();
-        jarEntries.put(typeRefVarConstantsClass + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(typeRefVarConstantsClass + CLASS_FILE_SUFFIX, cw);
     }
 
     public String getRefTypeConstantsClass() {
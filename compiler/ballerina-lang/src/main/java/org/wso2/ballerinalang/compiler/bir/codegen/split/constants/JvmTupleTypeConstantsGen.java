@@ -19,7 +19,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -40,11 +39,11 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.TreeMap;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_TUPLE_TYPE_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_TUPLE_TYPE_POPULATE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
@@ -64,7 +63,7 @@ public class JvmTupleTypeConstantsGen {
 
     private final String tupleVarConstantsClass;
     private final Map<BTupleType, String> tupleTypeVarMap;
-    private final ClassWriter cw;
+    private final BallerinaClassWriter cw;
     private MethodVisitor mv;
     private JvmTupleTypeGen jvmTupleTypeGen;
     private final List<String> funcNames = new ArrayList<>();
@@ -76,7 +75,7 @@ public class JvmTupleTypeConstantsGen {
     public JvmTupleTypeConstantsGen(PackageID packageID, BTypeHashComparator bTypeHashComparator) {
         tupleVarConstantsClass = JvmCodeGenUtil.getModuleLevelClassName(packageID,
                 JvmConstants.TUPLE_TYPE_CONSTANT_CLASS_NAME);
-        cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        cw = new BallerinaClassWriter(GENERATE_FRAMES);
         generateConstantsClassInit(cw, tupleVarConstantsClass);
         mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, B_TUPLE_TYPE_INIT_METHOD, VOID_METHOD_DESC, null, null);
         tupleTypeVarMap = new TreeMap<>(bTypeHashComparator);
@@ -172,7 +171,7 @@ public class JvmTupleTypeConstantsGen {
         genMethodReturn(mv);
         visitTupleTypeConstPopulateInitMethods();
         cw.visitEnd();
-        jarEntries.put(tupleVarConstantsClass + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(tupleVarConstantsClass + CLASS_FILE_SUFFIX, cw);
     }
 
     public String getTupleTypeConstantsClass() {
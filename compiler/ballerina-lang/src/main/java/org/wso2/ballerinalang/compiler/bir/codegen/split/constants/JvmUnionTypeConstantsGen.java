@@ -19,7 +19,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -40,11 +39,11 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.TreeMap;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_UNION_TYPE_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_UNION_TYPE_POPULATE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
@@ -64,7 +63,7 @@ public class JvmUnionTypeConstantsGen {
 
     private final String unionVarConstantsClass;
     private final Map<BUnionType, String> unionTypeVarMap;
-    private final ClassWriter cw;
+    private final BallerinaClassWriter cw;
     private MethodVisitor mv;
     private JvmUnionTypeGen jvmUnionTypeGen;
     private final List<String> funcNames = new ArrayList<>();
@@ -79,7 +78,7 @@ public class JvmUnionTypeConstantsGen {
     public JvmUnionTypeConstantsGen(PackageID packageID, BTypeHashComparator bTypeHashComparator) {
         unionVarConstantsClass = JvmCodeGenUtil.getModuleLevelClassName(packageID,
                 JvmConstants.UNION_TYPE_CONSTANT_CLASS_NAME);
-        cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        cw = new BallerinaClassWriter(GENERATE_FRAMES);
         generateConstantsClassInit(cw, unionVarConstantsClass);
         mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, B_UNION_TYPE_INIT_METHOD, VOID_METHOD_DESC, null, null);
         unionTypeVarMap = new TreeMap<>(bTypeHashComparator);
@@ -171,7 +170,7 @@ public class JvmUnionTypeConstantsGen {
         genMethodReturn(mv);
         visitUnionTypePopulateInitMethods();
         cw.visitEnd();
-        jarEntries.put(unionVarConstantsClass + CLASS_FILE_SUFFIX, cw.toByteArray());
+        jarEntries.putClass(unionVarConstantsClass + CLASS_FILE_SUFFIX, cw);
     }
 
     public String getUnionTypeConstantClass() {
@@ -18,7 +18,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.creators;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
@@ -34,7 +33,6 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
@@ -45,10 +43,10 @@ import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.NAME_HASH_COMPARATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.createDefaultCase;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_ERROR_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
@@ -77,16 +75,15 @@ public class JvmErrorCreatorGen {
     public void generateErrorsClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                     JarEntries jarEntries,
                                     List<BIRNode.BIRTypeDefinition> errorTypeDefList, SymbolTable symbolTable) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, errorsClass, null, OBJECT, null);
         generateCreateErrorMethods(cw, errorTypeDefList, errorsClass, symbolTable);
         cw.visitEnd();
-        byte[] bytes = jvmPackageGen.getBytes(cw, module);
-        jarEntries.put(errorsClass + CLASS_FILE_SUFFIX, bytes);
+        jvmPackageGen.putClass(jarEntries, errorsClass, cw, module);
     }
 
 
-    private void generateCreateErrorMethods(ClassWriter cw, List<BIRNode.BIRTypeDefinition> errorTypeDefList,
+    private void generateCreateErrorMethods(BallerinaClassWriter cw, List<BIRNode.BIRTypeDefinition> errorTypeDefList,
                                             String typeOwnerClass, SymbolTable symbolTable) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_ERROR_VALUE,
                 CREATE_ERROR, null, null);
@@ -107,7 +104,8 @@ public class JvmErrorCreatorGen {
         mv.visitEnd();
     }
 
-    private void generateCreateErrorMethodSplits(ClassWriter cw, List<BIRNode.BIRTypeDefinition> errorTypeDefList,
+    private void generateCreateErrorMethodSplits(BallerinaClassWriter cw,
+                                                 List<BIRNode.BIRTypeDefinition> errorTypeDefList,
                                                  String typeOwnerClass, SymbolTable symbolTable) {
         int bTypesCount = 0;
         int methodCount = 0;
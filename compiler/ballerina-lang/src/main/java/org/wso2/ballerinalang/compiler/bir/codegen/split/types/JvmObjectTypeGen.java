@@ -18,7 +18,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.types;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
@@ -45,7 +44,6 @@ import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.identifier.Utils.decodeIdentifier;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
@@ -64,9 +62,9 @@ import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLIENT_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
@@ -108,7 +106,7 @@ public class JvmObjectTypeGen {
 
     public final String objectTypesClass;
     private final String typesClass;
-    public final ClassWriter objectTypesCw;
+    public final BallerinaClassWriter objectTypesCw;
     private final JvmCreateTypeGen jvmCreateTypeGen;
     private final JvmTypeGen jvmTypeGen;
     private final JvmConstantsGen jvmConstantsGen;
@@ -121,13 +119,13 @@ public class JvmObjectTypeGen {
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.objectTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.objectTypesCw = new BallerinaClassWriter(GENERATE_FRAMES);
         this.objectTypesCw.visit(V21, ACC_PUBLIC + ACC_SUPER, objectTypesClass, null, OBJECT, null);
     }
 
     public void visitEnd(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module, JarEntries jarEntries) {
         objectTypesCw.visitEnd();
-        jarEntries.put(objectTypesClass + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(objectTypesCw, module));
+        jvmPackageGen.putClass(jarEntries, objectTypesClass, objectTypesCw, module);
     }
 
     /**
@@ -160,7 +158,7 @@ public class JvmObjectTypeGen {
                 INIT_OBJECT, false);
     }
 
-    public void populateObject(ClassWriter cw, MethodVisitor mv, String methodName, SymbolTable symbolTable,
+    public void populateObject(BallerinaClassWriter cw, MethodVisitor mv, String methodName, SymbolTable symbolTable,
                                String fieldName,
                                BObjectType bType, BIRVarToJVMIndexMap indexMap) {
         mv.visitTypeInsn(CHECKCAST, OBJECT_TYPE_IMPL);
@@ -196,7 +194,7 @@ public class JvmObjectTypeGen {
      * @param attachedFunctions attached functions to be added
      * @param objType           object type to be used to create attached functions
      */
-    private void addObjectAttachedFunctions(ClassWriter cw, MethodVisitor mv, String fieldName,
+    private void addObjectAttachedFunctions(BallerinaClassWriter cw, MethodVisitor mv, String fieldName,
                                             List<BAttachedFunction> attachedFunctions, BObjectType objType,
                                             SymbolTable symbolTable) {
         // Create the attached function array
@@ -215,7 +213,7 @@ public class JvmObjectTypeGen {
         mv.visitMethodInsn(INVOKEVIRTUAL, OBJECT_TYPE_IMPL, "setMethods", SET_METHODS, false);
     }
 
-    private int splitObjectAttachedFunctions(ClassWriter cw, String methodName,
+    private int splitObjectAttachedFunctions(BallerinaClassWriter cw, String methodName,
                                              List<BAttachedFunction> attachedFunctions,
                                              BObjectType objType, SymbolTable symbolTable) {
         int fTypeCount = 0;
@@ -293,7 +291,7 @@ public class JvmObjectTypeGen {
         }
     }
 
-    private void addResourceMethods(ClassWriter cw, MethodVisitor mv, String fieldName,
+    private void addResourceMethods(BallerinaClassWriter cw, MethodVisitor mv, String fieldName,
                                     List<BAttachedFunction> attachedFunctions, BObjectType objType,
                                     SymbolTable symbolTable) {
         if (!Symbols.isService(objType.tsymbol) && !Symbols.isClient(objType.tsymbol)) {
@@ -322,8 +320,9 @@ public class JvmObjectTypeGen {
                 false);
     }
 
-    private int splitResourceMethods(ClassWriter cw, String methodName, List<BAttachedFunction> attachedFunctions,
-                                     BObjectType objType, SymbolTable symbolTable) {
+    private int splitResourceMethods(BallerinaClassWriter cw, String methodName,
+                                     List<BAttachedFunction> attachedFunctions, BObjectType objType,
+                                     SymbolTable symbolTable) {
         int resourcesCount = 0;
         int methodCount = 0;
         MethodVisitor mv = null;
@@ -18,7 +18,6 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.types;
 
 import org.ballerinalang.model.elements.PackageID;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
@@ -31,7 +30,6 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -42,8 +40,8 @@ import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_UNION_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
@@ -62,7 +60,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_TYPE
 public class JvmUnionTypeGen {
 
     public final String unionTypesClass;
-    public final ClassWriter unionTypesCw;
+    public final BallerinaClassWriter unionTypesCw;
     private final JvmCreateTypeGen jvmCreateTypeGen;
     private final JvmTypeGen jvmTypeGen;
     private final  JvmConstantsGen jvmConstantsGen;
@@ -73,13 +71,13 @@ public class JvmUnionTypeGen {
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.unionTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.unionTypesCw = new BallerinaClassWriter(GENERATE_FRAMES);
         this.unionTypesCw.visit(V21, ACC_PUBLIC + ACC_SUPER, unionTypesClass, null, OBJECT, null);
     }
 
     public void visitEnd(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module, JarEntries jarEntries) {
         unionTypesCw.visitEnd();
-        jarEntries.put(unionTypesClass + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(unionTypesCw, module));
+        jvmPackageGen.putClass(jarEntries, unionTypesClass, unionTypesCw, module);
     }
 
 
@@ -119,8 +117,8 @@ public class JvmUnionTypeGen {
         }
     }
 
-    public void populateUnion(ClassWriter cw, MethodVisitor mv, BUnionType bType, String className, String name,
-                              SymbolTable symbolTable) {
+    public void populateUnion(BallerinaClassWriter cw, MethodVisitor mv, BUnionType bType, String className,
+                              String name, SymbolTable symbolTable) {
         mv.visitTypeInsn(CHECKCAST, UNION_TYPE_IMPL);
         mv.visitInsn(DUP);
         mv.visitInsn(DUP);
@@ -136,7 +134,7 @@ public class JvmUnionTypeGen {
      * @param mv        method visitor
      * @param unionType unionType
      */
-    private void addUnionMembers(ClassWriter cw, MethodVisitor mv, BUnionType unionType, String className,
+    private void addUnionMembers(BallerinaClassWriter cw, MethodVisitor mv, BUnionType unionType, String className,
                                  String name) {
         jvmTypeGen.createUnionMembersArray(cw, mv, unionType.getMemberTypes(), className, name);
         mv.visitMethodInsn(INVOKEVIRTUAL, UNION_TYPE_IMPL, SET_MEMBERS_METHOD,
@@ -19,9 +19,9 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.values;
 
 import org.ballerinalang.compiler.BLangCompilerException;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.FieldNameHashComparator;
@@ -85,8 +85,8 @@ public class JvmObjectGen {
 
     static final FieldNameHashComparator FIELD_NAME_HASH_COMPARATOR = new FieldNameHashComparator();
 
-    public void createAndSplitCallMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions, String objClassName,
-                                         JvmCastGen jvmCastGen) {
+    public void createAndSplitCallMethod(BallerinaClassWriter cw, List<BIRNode.BIRFunction> functions,
+                                         String objClassName, JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
         MethodVisitor mv = null;
@@ -201,7 +201,7 @@ public class JvmObjectGen {
                 Symbols.isFlagOn(func.parameters.getFirst().type.getFlags(), Flags.SERVICE);
     }
 
-    public void createAndSplitGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitGetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get", PASS_B_STRING_RETURN_OBJECT,
                 PASS_OBJECT_RETURN_SAME_TYPE, null);
@@ -229,7 +229,7 @@ public class JvmObjectGen {
         mv.visitEnd();
     }
 
-    private void splitObjectGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitObjectGetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                       JvmCastGen jvmCastGen) {
 
         int bTypesCount = 0;
@@ -293,7 +293,7 @@ public class JvmObjectGen {
         }
     }
 
-    public void createAndSplitSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitSetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "set", SET_VALUE,
@@ -324,7 +324,7 @@ public class JvmObjectGen {
         mv.visitEnd();
     }
 
-    public void createAndSplitSetOnInitializationMethod(ClassWriter cw, Map<String, BField> fields,
+    public void createAndSplitSetOnInitializationMethod(BallerinaClassWriter cw, Map<String, BField> fields,
                                                         String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "setOnInitialization",
                 SET_VALUE, null, null);
@@ -359,7 +359,7 @@ public class JvmObjectGen {
         mv.visitEnd();
     }
 
-    private void splitObjectSplitMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitObjectSplitMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -19,18 +19,21 @@
 package org.wso2.ballerinalang.compiler.bir.codegen.split.values;
 
 import org.ballerinalang.model.types.TypeKind;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.FieldNameHashComparator;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypeReferenceType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -47,6 +50,7 @@ import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DLOAD;
 import static org.objectweb.asm.Opcodes.DRETURN;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.GETFIELD;
@@ -54,11 +58,13 @@ import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.LLOAD;
 import static org.objectweb.asm.Opcodes.LRETURN;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
@@ -99,6 +105,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_S
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_RETURN_UNBOXED_BOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_RETURN_UNBOXED_DOUBLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_RETURN_UNBOXED_LONG;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_UNBOXED_BOOLEAN_RETURN_UNBOXED_BOOLEAN;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_UNBOXED_DOUBLE_RETURN_UNBOXED_BOOLEAN;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_B_STRING_UNBOXED_LONG_RETURN_UNBOXED_BOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_SAME_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RECORD_GET;
@@ -133,7 +142,7 @@ public class JvmRecordGen {
         this.floatType = symbolTable.floatType;
     }
 
-    public void createAndSplitGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitGetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get", PASS_OBJECT_RETURN_OBJECT,
                 PASS_OBJECT_RETURN_SAME_TYPE, null);
@@ -175,9 +184,16 @@ public class JvmRecordGen {
                 PASS_B_STRING_RETURN_UNBOXED_DOUBLE, false, null);
         createBasicTypeGetMethod(cw, fields, className, jvmCastGen, TypeKind.INT, "getUnboxedIntValue",
                 PASS_B_STRING_RETURN_UNBOXED_LONG, false, null);
+
+        createBasicTypeSetMethod(cw, fields, className, TypeTags.BOOLEAN, "setBooleanField",
+                PASS_B_STRING_UNBOXED_BOOLEAN_RETURN_UNBOXED_BOOLEAN);
+        createBasicTypeSetMethod(cw, fields, className, TypeTags.FLOAT, "setFloatField",
+                PASS_B_STRING_UNBOXED_DOUBLE_RETURN_UNBOXED_BOOLEAN);
+        createBasicTypeSetMethod(cw, fields, className, TypeTags.INT, "setIntField",
+                PASS_B_STRING_UNBOXED_LONG_RETURN_UNBOXED_BOOLEAN);
     }
 
-    private void splitGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitGetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                 JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -265,7 +281,7 @@ public class JvmRecordGen {
         mv.visitInsn(ARETURN);
     }
 
-    public void createAndSplitSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitSetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "putValue", MAP_PUT, "(TK;TV;)TV;", null);
         mv.visitCode();
@@ -294,7 +310,7 @@ public class JvmRecordGen {
         splitSetMethod(cw, fields, className, jvmCastGen);
     }
 
-    private void splitSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitSetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                 JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -388,7 +404,7 @@ public class JvmRecordGen {
         mv.visitInsn(ARETURN);
     }
 
-    public void createAndSplitEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitEntrySetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                              JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "entrySet", RECORD_SET, RECORD_SET_MAP_ENTRY, null);
         mv.visitCode();
@@ -418,7 +434,7 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
-    private void splitEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitEntrySetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                      JvmCastGen jvmCastGen) {
 
         int selfRegIndex = 0;
@@ -483,7 +499,7 @@ public class JvmRecordGen {
         }
     }
 
-    public void createAndSplitContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    public void createAndSplitContainsKeyMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "containsKey", ANY_TO_JBOOLEAN, null, null);
         mv.visitCode();
         int selfIndex = 0;
@@ -509,7 +525,7 @@ public class JvmRecordGen {
         splitContainsKeyMethod(cw, fields, className);
     }
 
-    private void splitContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void splitContainsKeyMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className) {
 
         int bTypesCount = 0;
         int methodCount = 0;
@@ -590,7 +606,7 @@ public class JvmRecordGen {
         mv.visitInsn(IRETURN);
     }
 
-    public void createAndSplitGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitGetValuesMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                               JvmCastGen jvmCastGen) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "values", MAP_VALUES, MAP_VALUES_WITH_COLLECTION, null);
@@ -620,7 +636,7 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
-    private void splitGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitGetValuesMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                       JvmCastGen jvmCastGen) {
         int selfRegIndex = 0;
         int valuesVarIndex = 1;
@@ -673,7 +689,7 @@ public class JvmRecordGen {
         }
     }
 
-    public void createAndSplitRemoveMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    public void createAndSplitRemoveMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                            JvmCastGen jvmCastGen) {
         // throw an UnsupportedOperationException, since remove is not supported by for records.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "remove", PASS_OBJECT_RETURN_OBJECT,
@@ -704,7 +720,7 @@ public class JvmRecordGen {
         splitRemoveMethod(cw, fields, className, jvmCastGen);
     }
 
-    private void splitRemoveMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void splitRemoveMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                    JvmCastGen jvmCastGen) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -802,7 +818,7 @@ public class JvmRecordGen {
         mv.visitInsn(ARETURN);
     }
 
-    public void createAndSplitGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    public void createAndSplitGetKeysMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getKeys", RECORD_GET_KEYS, "()[TK;", null);
         mv.visitCode();
         int selfIndex = 0;
@@ -836,7 +852,7 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
-    private void splitGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void splitGetKeysMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className) {
 
         int selfRegIndex = 0;
         int keysVarIndex = 1;
@@ -898,7 +914,7 @@ public class JvmRecordGen {
         };
     }
 
-    private void createBasicTypeGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void createBasicTypeGetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
                                           JvmCastGen jvmCastGen, TypeKind basicType, String methodName,
                                           String methodDesc, boolean boxed, String boxedTypeDesc) {
         List<BField> sortedFields = getSortedFields(fields, basicType);
@@ -966,6 +982,73 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
+    /**
+     * Generates a method which sets a mutable field of the given basic type without boxing the value. Stores to any
+     * other key return false, so that the caller falls back to the boxed store with the usual type checks.
+     */
+    private void createBasicTypeSetMethod(BallerinaClassWriter cw, Map<String, BField> fields, String className,
+                                          int typeTag, String methodName, String methodDesc) {
+        List<BField> sortedFields = new ArrayList<>();
+        for (BField field : fields.values()) {
+            if (sortedFields.size() >= MAX_FIELDS_PER_SPLIT_METHOD) {
+                // Rest will fall through the default case
+                break;
+            }
+            // Fields of subtypes such as `int:Signed8` need a range check, hence only the exact types are set here.
+            if (field.type.tag != typeTag || Symbols.isFlagOn(field.symbol.flags, Flags.READONLY)) {
+                continue;
+            }
+            sortedFields.add(field);
+        }
+        if (sortedFields.isEmpty()) {
+            return;
+        }
+        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
+
+        MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, methodName, methodDesc, null, null);
+        mv.visitCode();
+
+        final int selfRegister = 0;
+        final int fieldNameBStringReg = 1;
+        final int valueReg = 2;
+        final int fieldNameStringReg = typeTag == TypeTags.BOOLEAN ? 3 : 4;
+        final int loadIns = switch (typeTag) {
+            case TypeTags.INT -> LLOAD;
+            case TypeTags.FLOAT -> DLOAD;
+            default -> ILOAD;
+        };
+
+        castToJavaString(mv, fieldNameBStringReg, fieldNameStringReg);
+        Label defaultCaseLabel = new Label();
+        List<Label> labels = JvmCreateTypeGen.createLabelsForSwitch(mv, fieldNameStringReg, sortedFields,
+                0, sortedFields.size(), defaultCaseLabel);
+        List<Label> targetLabels = JvmCreateTypeGen.createLabelsForEqualCheck(mv, fieldNameStringReg, sortedFields,
+                0, sortedFields.size(), labels, defaultCaseLabel);
+        for (int i = 0; i < sortedFields.size(); i++) {
+            BField field = sortedFields.get(i);
+            mv.visitLabel(targetLabels.get(i));
+            String fieldName = field.name.value;
+
+            mv.visitVarInsn(ALOAD, selfRegister);
+            mv.visitVarInsn(loadIns, valueReg);
+            mv.visitFieldInsn(PUTFIELD, className, fieldName, getTypeDesc(field.type));
+            if (isOptionalRecordField(field)) {
+                mv.visitVarInsn(ALOAD, selfRegister);
+                mv.visitInsn(ICONST_1);
+                mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
+                        getTypeDesc(booleanType));
+            }
+            mv.visitInsn(ICONST_1);
+            mv.visitInsn(IRETURN);
+        }
+        // Rest fields and the fields which need validations are set through the boxed store
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitInsn(ICONST_0);
+        mv.visitInsn(IRETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, methodName, className);
+        mv.visitEnd();
+    }
+
     private List<BField> getSortedFields(Map<String, BField> fields, TypeKind basicType) {
         List<BField> sortedFields = new ArrayList<>();
         for (BField field: fields.values()) {
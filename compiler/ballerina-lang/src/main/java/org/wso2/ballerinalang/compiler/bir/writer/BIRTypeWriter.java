@@ -227,7 +227,7 @@ public class BIRTypeWriter extends TypeVisitor {
         for (BVarSymbol symbol : invokableTypeSymbol.params) {
             buff.writeInt(addStringCPEntry(symbol.name.value));
             buff.writeLong(symbol.flags);
-            writeMarkdownDocAttachment(buff, symbol.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, symbol.getMarkdownDocAttachment());
             writeTypeCpIndex(symbol.type);
         }
 
@@ -237,7 +237,7 @@ public class BIRTypeWriter extends TypeVisitor {
         if (restParamExists) {
             buff.writeInt(addStringCPEntry(restParam.name.value));
             buff.writeLong(restParam.flags);
-            writeMarkdownDocAttachment(buff, restParam.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, restParam.getMarkdownDocAttachment());
             writeTypeCpIndex(restParam.type);
         }
 
@@ -258,7 +258,7 @@ public class BIRTypeWriter extends TypeVisitor {
         for (BVarSymbol symbol : invokableSymbol.params) {
             buff.writeInt(addStringCPEntry(symbol.name.value));
             buff.writeLong(symbol.flags);
-            writeMarkdownDocAttachment(buff, symbol.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, symbol.getMarkdownDocAttachment());
             writeTypeCpIndex(symbol.type);
         }
     }
@@ -429,7 +429,7 @@ public class BIRTypeWriter extends TypeVisitor {
             BSymbol symbol = field.symbol;
             buff.writeInt(addStringCPEntry(symbol.name.value));
             buff.writeLong(symbol.flags);
-            writeMarkdownDocAttachment(buff, field.symbol.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, field.symbol.getMarkdownDocAttachment());
             writeTypeCpIndex(field.type);
             BIRWriterUtils.writeAnnotAttachments(cp, buff,
                     getBIRAnnotAttachments(field.symbol.getAnnotations()));
@@ -466,7 +466,7 @@ public class BIRTypeWriter extends TypeVisitor {
             // TODO add position
             buff.writeLong(field.symbol.flags);
             buff.writeBoolean(field.symbol.isDefaultable);
-            writeMarkdownDocAttachment(buff, field.symbol.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, field.symbol.getMarkdownDocAttachment());
             writeTypeCpIndex(field.type);
         }
         List<BAttachedFunction> attachedFuncs;
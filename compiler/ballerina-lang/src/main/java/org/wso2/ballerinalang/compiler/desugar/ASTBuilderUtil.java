@@ -857,7 +857,7 @@ public final class ASTBuilderUtil {
         dupFuncSymbol.params = new ArrayList<>(invokableSymbol.params);
         dupFuncSymbol.tainted = invokableSymbol.tainted;
         dupFuncSymbol.closure = invokableSymbol.closure;
-        dupFuncSymbol.markdownDocumentation = invokableSymbol.markdownDocumentation;
+        dupFuncSymbol.copyMarkdownDocAttachment(invokableSymbol);
         dupFuncSymbol.scope = invokableSymbol.scope;
         dupFuncSymbol.tag = invokableSymbol.tag;
         dupFuncSymbol.schedulerPolicy = invokableSymbol.schedulerPolicy;
@@ -921,7 +921,7 @@ public final class ASTBuilderUtil {
         dupFuncSymbol.tainted = invokableSymbol.tainted;
         dupFuncSymbol.closure = invokableSymbol.closure;
         dupFuncSymbol.tag = invokableSymbol.tag;
-        dupFuncSymbol.markdownDocumentation = invokableSymbol.markdownDocumentation;
+        dupFuncSymbol.copyMarkdownDocAttachment(invokableSymbol);
 
         BInvokableType prevFuncType = (BInvokableType) invokableSymbol.type;
         BType newFuncType = new BInvokableType(typeEnv, List.copyOf(prevFuncType.paramTypes),
@@ -936,7 +936,7 @@ public final class ASTBuilderUtil {
                                                    paramSymbol.type, owner, paramSymbol.pos, paramSymbol.origin);
         newParamSymbol.tainted = paramSymbol.tainted;
         newParamSymbol.isDefaultable = paramSymbol.isDefaultable;
-        newParamSymbol.markdownDocumentation = paramSymbol.markdownDocumentation;
+        newParamSymbol.copyMarkdownDocAttachment(paramSymbol);
         return newParamSymbol;
     }
 
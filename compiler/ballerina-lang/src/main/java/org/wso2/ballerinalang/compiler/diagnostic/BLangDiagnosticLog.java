@@ -69,6 +69,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     private final SymbolFactory symbolFactory;
     private PackageID currentPackageId;
     private boolean isMute = false;
+    private final ThreadLocal<DeferredLog> deferredLog = new ThreadLocal<>();
 
     private BLangDiagnosticLog(CompilerContext context) {
         context.put(DIAGNOSTIC_LOG_KEY, this);
@@ -144,6 +145,10 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @return Number of errors logged.
      */
     public int errorCount() {
+        DeferredLog deferred = this.deferredLog.get();
+        if (deferred != null) {
+            return deferred.errorCount;
+        }
         return this.errorCount;
     }
 
@@ -153,6 +158,11 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param errorCount Error count
      */
     public void setErrorCount(int errorCount) {
+        DeferredLog deferred = this.deferredLog.get();
+        if (deferred != null) {
+            deferred.errorCount = errorCount;
+            return;
+        }
         this.errorCount = errorCount;
     }
 
@@ -160,7 +170,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * Reset error count.
      */
     public void resetErrorCount() {
-        this.errorCount = 0;
+        setErrorCount(0);
     }
 
     /**
@@ -168,14 +178,37 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * However it will continue to keep track of the number of errors.
      */
     public void mute() {
-        this.isMute = true;
+        setMute(true);
     }
 
     /**
      * Unmute the logger. This will start reporting the diagnostic.
      */
     public void unmute() {
-        this.isMute = false;
+        setMute(false);
+    }
+
+    /**
+     * Defer the diagnostics logged by the current thread, until they are reported using
+     * {@link DeferredLog#report()}. The error count and the muting of the logger are confined to the current thread
+     * until {@link #stopDeferring()} is called.
+     * <p>
+     * This allows analyzing the nodes of a module concurrently, while reporting the diagnostics on the compiler
+     * thread in a deterministic order.
+     *
+     * @return the log which collects the diagnostics of the current thread
+     */
+    public DeferredLog startDeferring() {
+        DeferredLog deferred = new DeferredLog(this.currentPackageId);
+        this.deferredLog.set(deferred);
+        return deferred;
+    }
+
+    /**
+     * Stop deferring the diagnostics logged by the current thread.
+     */
+    public void stopDeferring() {
+        this.deferredLog.remove();
     }
 
     @Override
@@ -205,6 +238,12 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param diagnostic the diagnostic to be logged
      */
     public void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+        DeferredLog deferred = this.deferredLog.get();
+        if (deferred != null) {
+            deferred.defer(diagnostic.diagnosticInfo().severity(), () -> logDiagnostic(pkgId, diagnostic));
+            return;
+        }
+
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
@@ -212,6 +251,15 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         storeDiagnosticInModule(pkgId, diagnostic);
     }
 
+    private void setMute(boolean isMute) {
+        DeferredLog deferred = this.deferredLog.get();
+        if (deferred != null) {
+            deferred.isMute = isMute;
+            return;
+        }
+        this.isMute = isMute;
+    }
+
     // private helper methods
 
     private String formatMessage(String prefix, DiagnosticCode code, Object[] args) {
@@ -232,6 +280,13 @@ public class BLangDiagnosticLog implements DiagnosticLog {
 
     private void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode, Location location,
                                   String msg, DiagnosticSeverity severity, Object[] args) {
+        DeferredLog deferred = this.deferredLog.get();
+        if (deferred != null) {
+            PackageID pkgId = packageID != null ? packageID : deferred.packageID;
+            deferred.defer(severity, () -> reportDiagnostic(pkgId, diagnosticCode, location, msg, severity, args));
+            return;
+        }
+
         if (severity == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
@@ -288,4 +343,40 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         BLangPackage pkgNode = this.packageCache.get(pkgId);
         pkgNode.addDiagnostic(diagnostic);
     }
+
+    /**
+     * Diagnostics logged by a thread, which are yet to be reported.
+     *
+     * @since 2201.12.0
+     */
+    public class DeferredLog {
+
+        private final PackageID packageID;
+        private final List<Runnable> diagnostics = new ArrayList<>();
+        private int errorCount = 0;
+        private boolean isMute = false;
+
+        private DeferredLog(PackageID packageID) {
+            this.packageID = packageID;
+        }
+
+        private void defer(DiagnosticSeverity severity, Runnable diagnostic) {
+            if (severity == DiagnosticSeverity.ERROR) {
+                this.errorCount++;
+            }
+
+            if (this.isMute) {
+                return;
+            }
+            this.diagnostics.add(diagnostic);
+        }
+
+        /**
+         * Report the deferred diagnostics in the order they were logged. This has to be called after the thread
+         * which logged them has stopped deferring.
+         */
+        public void report() {
+            this.diagnostics.forEach(Runnable::run);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import io.ballerina.types.Core;
 import io.ballerina.types.PredefinedType;
 import io.ballerina.types.SemType;
 import io.ballerina.types.Value;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.elements.PackageID;
@@ -252,6 +253,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUserDefinedType;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Constants;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -273,6 +275,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -296,6 +301,8 @@ public class CodeAnalyzer extends SimpleBLangNodeAnalyzer<CodeAnalyzer.AnalyzerD
 
     private static final CompilerContext.Key<CodeAnalyzer> CODE_ANALYZER_KEY = new CompilerContext.Key<>();
     private static final String NO_MESSAGE_ERROR_TYPE = "NoMessage";
+    // Analyzing only a few functions concurrently costs more than it saves.
+    private static final int MIN_CONCURRENTLY_ANALYZED_FUNCTIONS = 4;
 
     private final SymbolResolver symResolver;
     private final SymbolTable symTable;
@@ -304,6 +311,7 @@ public class CodeAnalyzer extends SimpleBLangNodeAnalyzer<CodeAnalyzer.AnalyzerD
     private final TypeChecker typeChecker;
     private final Names names;
     private final ReachabilityAnalyzer reachabilityAnalyzer;
+    private final CompilerOptions options;
 
     public static CodeAnalyzer getInstance(CompilerContext context) {
         CodeAnalyzer codeGenerator = context.get(CODE_ANALYZER_KEY);
@@ -322,6 +330,7 @@ public class CodeAnalyzer extends SimpleBLangNodeAnalyzer<CodeAnalyzer.AnalyzerD
         this.names = Names.getInstance(context);
         this.symResolver = SymbolResolver.getInstance(context);
         this.reachabilityAnalyzer = ReachabilityAnalyzer.getInstance(context);
+        this.options = CompilerOptions.getInstance(context);
     }
 
     public BLangPackage analyze(BLangPackage pkgNode) {
@@ -349,15 +358,92 @@ public class CodeAnalyzer extends SimpleBLangNodeAnalyzer<CodeAnalyzer.AnalyzerD
 
     private void analyzeTopLevelNodes(BLangPackage pkgNode, AnalyzerData data) {
         List<TopLevelNode> topLevelNodes = pkgNode.topLevelNodes;
+        boolean isParallel = Boolean.parseBoolean(options.get(CompilerOptionName.PARALLEL_ANALYSIS));
+        List<BLangFunction> functions = new ArrayList<>();
 
         // topLevelNodes are modified while iterating over them
         // noinspection ForLoopReplaceableByForEach
         for (int i = 0; i < topLevelNodes.size(); i++) {
-            analyzeNode((BLangNode) topLevelNodes.get(i), data);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            BLangNode node = (BLangNode) topLevelNodes.get(i);
+            if (isParallel && node.getKind() == NodeKind.FUNCTION && canAnalyzeConcurrently((BLangFunction) node)) {
+                functions.add((BLangFunction) node);
+                continue;
+            }
+            analyzeNode(node, data);
+        }
+
+        if (functions.size() < MIN_CONCURRENTLY_ANALYZED_FUNCTIONS) {
+            functions.forEach(function -> analyzeNode(function, data));
+        } else if (!analyzeConcurrently(functions, pkgNode, data.env)) {
+            return;
         }
         pkgNode.completedPhases.add(CompilerPhase.CODE_ANALYZE);
     }
 
+    /**
+     * Analyze the given top level functions concurrently. Each function is analyzed with its own analyzer data, and
+     * the diagnostics are reported in the order of the functions once all of them are analyzed.
+     *
+     * @param functions top level functions to be analyzed
+     * @param pkgNode   package of the functions
+     * @param pkgEnv    environment of the package
+     * @return false if the analysis was interrupted
+     */
+    private boolean analyzeConcurrently(List<BLangFunction> functions, BLangPackage pkgNode, SymbolEnv pkgEnv) {
+        List<Future<BLangDiagnosticLog.DeferredLog>> futures = new ArrayList<>(functions.size());
+        for (BLangFunction function : functions) {
+            futures.add(ForkJoinPool.commonPool().submit(() -> analyzeFunction(function, pkgNode, pkgEnv)));
+        }
+
+        List<BLangDiagnosticLog.DeferredLog> deferredLogs = new ArrayList<>(futures.size());
+        try {
+            for (Future<BLangDiagnosticLog.DeferredLog> future : futures) {
+                deferredLogs.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(false));
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        deferredLogs.forEach(BLangDiagnosticLog.DeferredLog::report);
+        return true;
+    }
+
+    private BLangDiagnosticLog.DeferredLog analyzeFunction(BLangFunction funcNode, BLangPackage pkgNode,
+                                                           SymbolEnv pkgEnv) {
+        BLangDiagnosticLog.DeferredLog deferredLog = dlog.startDeferring();
+        try {
+            AnalyzerData data = new AnalyzerData();
+            data.parent = pkgNode;
+            data.env = pkgEnv;
+            analyzeNode(funcNode, data);
+        } finally {
+            dlog.stopDeferring();
+        }
+        return deferredLog;
+    }
+
+    private boolean canAnalyzeConcurrently(BLangFunction funcNode) {
+        if (funcNode.flagSet.contains(Flag.LAMBDA)) {
+            return false;
+        }
+        TypeCheckedNodeFinder finder = new TypeCheckedNodeFinder();
+        finder.visitNode(funcNode, null);
+        return !finder.found;
+    }
+
     @Override
     public void analyzeNode(BLangNode node, AnalyzerData data) {
         SymbolEnv prevEnv = data.env;
@@ -4369,6 +4455,28 @@ public class CodeAnalyzer extends SimpleBLangNodeAnalyzer<CodeAnalyzer.AnalyzerD
     /**
      * @since 2.0.0
      */
+    /**
+     * Finds the nodes which are type checked again during the code analysis. Since the type checker is not
+     * thread-safe, the functions containing them are analyzed on the compiler thread.
+     */
+    private static class TypeCheckedNodeFinder extends SimpleBLangNodeAnalyzer<Void> {
+
+        private boolean found = false;
+
+        @Override
+        public void analyzeNode(BLangNode node, Void data) {
+            NodeKind kind = node.getKind();
+            if (kind == NodeKind.FAIL || kind == NodeKind.WORKER_RECEIVE) {
+                this.found = true;
+            }
+        }
+
+        @Override
+        public void visit(BLangPackage node, Void data) {
+            // Only the functions are looked into.
+        }
+    }
+
     public static class AnalyzerData {
         SymbolEnv env;
         BLangNode parent;
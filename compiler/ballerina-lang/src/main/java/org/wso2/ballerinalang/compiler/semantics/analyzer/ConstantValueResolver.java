@@ -799,7 +799,7 @@ public class ConstantValueResolver extends BLangNodeVisitor {
         typeDefinitionSymbol.type = type;
         recordSymbol.type = type;
         recordSymbol.typeDefinitionSymbol = typeDefinitionSymbol;
-        recordSymbol.markdownDocumentation = new MarkdownDocAttachment(0);
+        recordSymbol.setMarkdownDocAttachment(new MarkdownDocAttachment(0));
 
         BLangRecordTypeNode recordTypeNode = TypeDefBuilderHelper.createRecordTypeNode(new ArrayList<>(), type,
                 pos);
@@ -840,7 +840,7 @@ public class SymbolEnter extends BLangNodeVisitor {
                                                          getOrigin(className, flags), classDefinition.isServiceDecl);
         tSymbol.originalName = classOrigName;
         tSymbol.scope = new Scope(tSymbol);
-        tSymbol.markdownDocumentation = getMarkdownDocAttachment(classDefinition.markdownDocumentationAttachment);
+        tSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(classDefinition.markdownDocumentationAttachment));
 
 
         long typeFlags = 0;
@@ -913,8 +913,8 @@ public class SymbolEnter extends BLangNodeVisitor {
                                                                             env.enclPkg.symbol.pkgID, null,
                                                                             env.scope.owner, annotationNode.name.pos,
                                                                             getOrigin(annotName));
-        annotationSymbol.markdownDocumentation =
-                getMarkdownDocAttachment(annotationNode.markdownDocumentationAttachment);
+        annotationSymbol.setMarkdownDocAttachment(
+                getMarkdownDocAttachment(annotationNode.markdownDocumentationAttachment));
         if (isDeprecated(annotationNode.annAttachments)) {
             annotationSymbol.flags |= Flags.DEPRECATED;
         }
@@ -1543,10 +1543,11 @@ public class SymbolEnter extends BLangNodeVisitor {
         BSymbol typeDefSymbol = Symbols.createTypeDefinitionSymbol(Flags.asMask(typeDefinition.flagSet),
                 names.fromIdNode(typeDefinition.name), env.enclPkg.packageID, definedType, env.scope.owner,
                 typeDefinition.name.pos, getOrigin(typeDefinition.name.value));
-        typeDefSymbol.markdownDocumentation = getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment);
+        typeDefSymbol.setMarkdownDocAttachment(
+                getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment));
         BTypeSymbol typeSymbol = new BTypeSymbol(SymTag.TYPE_REF, typeDefSymbol.flags, typeDefSymbol.name,
                 typeDefSymbol.pkgID, typeDefSymbol.type, typeDefSymbol.owner, typeDefSymbol.pos, typeDefSymbol.origin);
-        typeSymbol.markdownDocumentation = typeDefSymbol.markdownDocumentation;
+        typeSymbol.copyMarkdownDocAttachment(typeDefSymbol);
         ((BTypeDefinitionSymbol) typeDefSymbol).referenceType = new BTypeReferenceType(definedType, typeSymbol,
                 typeDefSymbol.type.getFlags());
 
@@ -1558,7 +1559,7 @@ public class SymbolEnter extends BLangNodeVisitor {
             definedType.tsymbol.originalName = names.originalNameFromIdNode(typeDefinition.name);
             definedType.tsymbol.flags |= typeDefSymbol.flags;
 
-            definedType.tsymbol.markdownDocumentation = typeDefSymbol.markdownDocumentation;
+            definedType.tsymbol.copyMarkdownDocAttachment(typeDefSymbol);
             definedType.tsymbol.pkgID = env.enclPkg.packageID;
             if (definedType.tsymbol.tag == SymTag.ERROR) {
                 definedType.tsymbol.owner = env.scope.owner;
@@ -1739,7 +1740,7 @@ public class SymbolEnter extends BLangNodeVisitor {
         enumSymbol.originalName = names.fromIdNode(typeDefinition.name);
         enumSymbol.flags |= Flags.asMask(typeDefinition.flagSet);
 
-        enumSymbol.markdownDocumentation = getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment);
+        enumSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment));
         enumSymbol.pkgID = env.enclPkg.packageID;
         return enumSymbol;
     }
@@ -2010,7 +2011,7 @@ public class SymbolEnter extends BLangNodeVisitor {
                 env.enclPkg.symbol.pkgID, null, env.scope.owner,
                 funcNode.hasBody(), funcNode.name.pos, SOURCE);
         funcSymbol.source = funcNode.pos.lineRange().fileName();
-        funcSymbol.markdownDocumentation = getMarkdownDocAttachment(funcNode.markdownDocumentationAttachment);
+        funcSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(funcNode.markdownDocumentationAttachment));
         SymbolEnv invokableEnv = SymbolEnv.createFunctionEnv(funcNode, funcSymbol.scope, env);
         defineInvokableSymbol(funcNode, funcSymbol, invokableEnv);
         funcNode.setBType(funcSymbol.type);
@@ -2050,7 +2051,7 @@ public class SymbolEnter extends BLangNodeVisitor {
                                                                    funcNode.hasBody(), symbolPos,
                                                                    getOrigin(funcNode.name.value));
         funcSymbol.source = funcNode.pos.lineRange().fileName();
-        funcSymbol.markdownDocumentation = getMarkdownDocAttachment(funcNode.markdownDocumentationAttachment);
+        funcSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(funcNode.markdownDocumentationAttachment));
         SymbolEnv invokableEnv;
         NodeKind previousNodeKind = env.node.getKind();
         if (previousNodeKind == NodeKind.CLASS_DEFN) {
@@ -2177,7 +2178,7 @@ public class SymbolEnter extends BLangNodeVisitor {
         } else if (constant.typeNode != null) {
             constantSymbol.type = constantSymbol.literalType = staticType;
         }
-        constantSymbol.markdownDocumentation = getMarkdownDocAttachment(constant.markdownDocumentationAttachment);
+        constantSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(constant.markdownDocumentationAttachment));
         if (isDeprecated(constant.annAttachments)) {
             constantSymbol.flags |= Flags.DEPRECATED;
         }
@@ -2235,7 +2236,7 @@ public class SymbolEnter extends BLangNodeVisitor {
             varSymbol.state = DiagnosticState.UNKNOWN_TYPE;
         }
 
-        varSymbol.markdownDocumentation = getMarkdownDocAttachment(varNode.markdownDocumentationAttachment);
+        varSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(varNode.markdownDocumentationAttachment));
         varNode.symbol = varSymbol;
         if (varNode.symbol.type.tsymbol != null && Symbols.isFlagOn(varNode.symbol.type.tsymbol.flags, Flags.CLIENT)) {
             varSymbol.tag = SymTag.ENDPOINT;
@@ -3574,20 +3575,20 @@ public class SymbolEnter extends BLangNodeVisitor {
      */
     public boolean isValidAnnotationType(BType type) {
         SemType t = type.semType();
-        if (SemTypes.isSubtype(types.semTypeCtx, t, symTable.trueType.semType())) {
+        if (SemTypes.isSubtype(types.typeCtx(), t, symTable.trueType.semType())) {
             return true;
         }
 
-        SemType cloneable = Core.createCloneable(types.semTypeCtx);
+        SemType cloneable = Core.createCloneable(types.typeCtx());
         if (SemTypes.isSubtypeSimple(t, PredefinedType.MAPPING)) {
-            return SemTypes.isSubtype(types.semTypeCtx, t, cloneable);
+            return SemTypes.isSubtype(types.typeCtx(), t, cloneable);
         }
 
         if (SemTypes.isSubtypeSimple(t, PredefinedType.LIST)) {
             // Using projection to get T from T[]
-            SemType memberTy = Core.listMemberTypeInnerVal(types.semTypeCtx, t, PredefinedType.INT);
+            SemType memberTy = Core.listMemberTypeInnerVal(types.typeCtx(), t, PredefinedType.INT);
             if (SemTypes.isSubtypeSimple(memberTy, PredefinedType.MAPPING)) {
-                return SemTypes.isSubtype(types.semTypeCtx, memberTy, cloneable);
+                return SemTypes.isSubtype(types.typeCtx(), memberTy, cloneable);
             }
         }
 
@@ -1046,7 +1046,7 @@ public class SymbolResolver extends BLangNodeTransformer<SymbolResolver.Analyzer
                 continue;
             }
             BUnionType type = (BUnionType) Types.getImpliedType(entry.symbol.type);
-            symTable.anydataType = new BAnydataType(types.semTypeCtx, type);
+            symTable.anydataType = new BAnydataType(types.typeCtx(), type);
             Optional<BIntersectionType> immutableType = Types.getImmutableType(symTable, PackageID.ANNOTATIONS, type);
             if (immutableType.isPresent()) {
                 Types.addImmutableType(symTable, PackageID.ANNOTATIONS, symTable.anydataType, immutableType.get());
@@ -1071,7 +1071,7 @@ public class SymbolResolver extends BLangNodeTransformer<SymbolResolver.Analyzer
                 continue;
             }
             BUnionType type = (BUnionType) Types.getImpliedType(entry.symbol.type);
-            symTable.jsonType = new BJSONType(types.semTypeCtx, type);
+            symTable.jsonType = new BJSONType(types.typeCtx(), type);
             Optional<BIntersectionType> immutableType = Types.getImmutableType(symTable, PackageID.ANNOTATIONS,
                                                                                type);
             if (immutableType.isPresent()) {
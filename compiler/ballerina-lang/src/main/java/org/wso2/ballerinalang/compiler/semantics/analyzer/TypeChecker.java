@@ -1034,7 +1034,7 @@ public class TypeChecker extends SimpleBLangNodeAnalyzer<TypeChecker.AnalyzerDat
         List<SemNamedType> newValueSpace = new ArrayList<>();
         for (BFiniteType finiteType : finiteTypeMembers) {
             for (SemNamedType semNamedType : finiteType.valueSpace) {
-                if (SemTypes.isSubtype(types.semTypeCtx, semNamedType.semType(), matchType.semType())) {
+                if (SemTypes.isSubtype(types.typeCtx(), semNamedType.semType(), matchType.semType())) {
                     newValueSpace.add(semNamedType);
                 }
             }
@@ -3662,7 +3662,7 @@ public class TypeChecker extends SimpleBLangNodeAnalyzer<TypeChecker.AnalyzerDat
         if (expr.getKind() == NodeKind.FIELD_BASED_ACCESS_EXPR && hasLaxOriginalType((BLangFieldBasedAccess) expr)
                 && exprType.tag == TypeTags.UNION) {
             SemType s = exprType.semType();
-            return SemTypes.containsType(types.semTypeCtx, s, PredefinedType.XML_ELEMENT);
+            return SemTypes.containsType(types.typeCtx(), s, PredefinedType.XML_ELEMENT);
         }
 
         return false;
@@ -6347,7 +6347,7 @@ public class TypeChecker extends SimpleBLangNodeAnalyzer<TypeChecker.AnalyzerDat
     }
 
     private boolean containsAnyType(BType bType) {
-        return SemTypeHelper.containsType(types.semTypeCtx, bType, PredefinedType.ANY);
+        return SemTypeHelper.containsType(types.typeCtx(), bType, PredefinedType.ANY);
     }
 
     private BType getCompatibleRawTemplateType(BType bType, Location pos) {
@@ -8654,7 +8654,7 @@ public class TypeChecker extends SimpleBLangNodeAnalyzer<TypeChecker.AnalyzerDat
                 return ((BMapType) exprType).constraint;
             case TypeTags.UNION:
                 BUnionType unionType = (BUnionType) exprType;
-                if (types.isSameType(Core.createJson(types.semTypeCtx), unionType.semType())) {
+                if (types.isSameType(Core.createJson(types.typeCtx()), unionType.semType())) {
                     return symTable.jsonType;
                 }
                 LinkedHashSet<BType> memberTypes = new LinkedHashSet<>();
@@ -8739,7 +8739,7 @@ public class TypeChecker extends SimpleBLangNodeAnalyzer<TypeChecker.AnalyzerDat
     private boolean accessCouldResultInError(BType bType) {
         SemType s = bType.semType();
         return SemTypes.containsBasicType(s, PredefinedType.XML) ||
-                SemTypes.containsType(types.semTypeCtx, s, Core.createJson(types.semTypeCtx));
+                SemTypes.containsType(types.typeCtx(), s, Core.createJson(types.typeCtx()));
     }
 
     private BType checkIndexAccessExpr(BLangIndexBasedAccess indexBasedAccessExpr, AnalyzerData data) {
@@ -8994,7 +8994,7 @@ public class TypeChecker extends SimpleBLangNodeAnalyzer<TypeChecker.AnalyzerDat
                 SemType allowedInts = PredefinedType.basicSubtype(BasicTypeCode.BT_INT,
                         IntSubtype.createSingleRangeSubtype(0, maxIndexValue));
 
-                if (Core.isEmpty(types.semTypeCtx, SemTypes.intersect(t, allowedInts))) {
+                if (Core.isEmpty(types.typeCtx(), SemTypes.intersect(t, allowedInts))) {
                     return symTable.semanticError;
                 }
                 actualType = arrayType.eType;
@@ -367,8 +367,8 @@ public class TypeResolver {
                 symEnter.getOrigin(className, flags), classDefinition.isServiceDecl);
         tSymbol.originalName = classOrigName;
         tSymbol.scope = new Scope(tSymbol);
-        tSymbol.markdownDocumentation =
-                symEnter.getMarkdownDocAttachment(classDefinition.markdownDocumentationAttachment);
+        tSymbol.setMarkdownDocAttachment(
+                symEnter.getMarkdownDocAttachment(classDefinition.markdownDocumentationAttachment));
 
         long typeFlags = 0;
 
@@ -1796,11 +1796,11 @@ public class TypeResolver {
         BSymbol typeDefSymbol = Symbols.createTypeDefinitionSymbol(Flags.asMask(typeDefinition.flagSet),
                 names.fromIdNode(typeDefinition.name), env.enclPkg.packageID, resolvedType, env.scope.owner,
                 typeDefinition.name.pos, symEnter.getOrigin(typeDefinition.name.value));
-        typeDefSymbol.markdownDocumentation =
-                symEnter.getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment);
+        typeDefSymbol.setMarkdownDocAttachment(
+                symEnter.getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment));
         BTypeSymbol typeSymbol = new BTypeSymbol(SymTag.TYPE_REF, typeDefSymbol.flags, typeDefSymbol.name,
                 typeDefSymbol.pkgID, typeDefSymbol.type, typeDefSymbol.owner, typeDefSymbol.pos, typeDefSymbol.origin);
-        typeSymbol.markdownDocumentation = typeDefSymbol.markdownDocumentation;
+        typeSymbol.copyMarkdownDocAttachment(typeDefSymbol);
         ((BTypeDefinitionSymbol) typeDefSymbol).referenceType = new BTypeReferenceType(resolvedType, typeSymbol,
                 typeDefSymbol.type.getFlags());
 
@@ -1815,7 +1815,7 @@ public class TypeResolver {
             resolvedType.tsymbol.originalName = names.originalNameFromIdNode(typeDefinition.name);
             resolvedType.tsymbol.flags |= typeDefSymbol.flags;
 
-            resolvedType.tsymbol.markdownDocumentation = typeDefSymbol.markdownDocumentation;
+            resolvedType.tsymbol.copyMarkdownDocAttachment(typeDefSymbol);
             resolvedType.tsymbol.pkgID = env.enclPkg.packageID;
             if (resolvedType.tsymbol.tag == SymTag.ERROR) {
                 resolvedType.tsymbol.owner = env.scope.owner;
@@ -1905,8 +1905,8 @@ public class TypeResolver {
         enumSymbol.originalName = names.fromIdNode(typeDefinition.name);
         enumSymbol.flags |= Flags.asMask(typeDefinition.flagSet);
 
-        enumSymbol.markdownDocumentation =
-                symEnter.getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment);
+        enumSymbol.setMarkdownDocAttachment(
+                symEnter.getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment));
         enumSymbol.pkgID = env.enclPkg.packageID;
         return enumSymbol;
     }
@@ -2058,8 +2058,8 @@ public class TypeResolver {
             constantSymbol.type.tsymbol.flags |= typeDef.symbol.flags;
         }
 
-        constantSymbol.markdownDocumentation =
-                symEnter.getMarkdownDocAttachment(constant.markdownDocumentationAttachment);
+        constantSymbol.setMarkdownDocAttachment(
+                symEnter.getMarkdownDocAttachment(constant.markdownDocumentationAttachment));
         if (symEnter.isDeprecated(constant.annAttachments)) {
             constantSymbol.flags |= Flags.DEPRECATED;
         }
@@ -182,7 +182,7 @@ public class Types {
     private int finiteTypeCount = 0;
     private final BLangAnonymousModelHelper anonymousModelHelper;
     private SymbolEnv env;
-    protected final Context semTypeCtx;
+    private final Env typeEnv;
 
     private static final String BASE_16 = "base16";
 
@@ -213,7 +213,7 @@ public class Types {
     public Types(CompilerContext context, Env typeEnv) {
         context.put(TYPES_KEY, this);
 
-        this.semTypeCtx = Context.from(typeEnv);
+        this.typeEnv = typeEnv;
         this.symTable = SymbolTable.getInstance(context);
         this.symResolver = SymbolResolver.getInstance(context);
         this.dlog = BLangDiagnosticLog.getInstance(context);
@@ -347,13 +347,13 @@ public class Types {
      * @return true if t is lax
      */
     private boolean isLaxType(SemType t) {
-        SemType json = Core.createJson(semTypeCtx);
-        if (SemTypes.isSameType(semTypeCtx, t, json) ||
-                SemTypes.isSameType(semTypeCtx, t, SemTypes.intersect(json, PredefinedType.VAL_READONLY))) {
+        SemType json = Core.createJson(typeCtx());
+        if (SemTypes.isSameType(typeCtx(), t, json) ||
+                SemTypes.isSameType(typeCtx(), t, SemTypes.intersect(json, PredefinedType.VAL_READONLY))) {
             return true;
         }
 
-        Optional<List<MappingAtomicType>> optMatList = Core.mappingAtomicTypesInUnion(semTypeCtx, t);
+        Optional<List<MappingAtomicType>> optMatList = Core.mappingAtomicTypesInUnion(typeCtx(), t);
         if (optMatList.isEmpty()) {
             return false;
         }
@@ -405,11 +405,11 @@ public class Types {
     }
 
     public boolean isSameType(SemType source, SemType target) {
-        return SemTypes.isSameType(semTypeCtx, source, target);
+        return SemTypes.isSameType(typeCtx(), source, target);
     }
 
     public SemType anydata() {
-        return Core.createAnydata(semTypeCtx);
+        return Core.createAnydata(typeCtx());
     }
 
     public boolean isAnydata(SemType t) {
@@ -680,11 +680,11 @@ public class Types {
     }
 
     private boolean containsAnyType(BType type) {
-        return SemTypeHelper.containsType(semTypeCtx, type, PredefinedType.ANY);
+        return SemTypeHelper.containsType(typeCtx(), type, PredefinedType.ANY);
     }
 
     private boolean containsAnyDataType(BType type) {
-        return SemTypeHelper.containsType(semTypeCtx, type, Core.createAnydata(semTypeCtx));
+        return SemTypeHelper.containsType(typeCtx(), type, Core.createAnydata(typeCtx()));
     }
 
     BType mergeTypes(BType typeFirst, BType typeSecond) {
@@ -809,11 +809,11 @@ public class Types {
     }
 
     public boolean isSubtype(SemType t1, SemType t2) {
-        return SemTypes.isSubtype(semTypeCtx, t1, t2);
+        return SemTypes.isSubtype(typeCtx(), t1, t2);
     }
 
     public boolean isSubtype(BType t1, SemType t2) {
-        return SemTypeHelper.isSubtype(semTypeCtx, t1, t2);
+        return SemTypeHelper.isSubtype(typeCtx(), t1, t2);
     }
 
     BField getTableConstraintField(BType constraintType, String fieldName) {
@@ -1705,7 +1705,7 @@ public class Types {
             return false;
         }
 
-        return !Core.isEmpty(semTypeCtx, SemTypes.intersect(sourceType.semType(), PredefinedType.NUMBER));
+        return !Core.isEmpty(typeCtx(), SemTypes.intersect(sourceType.semType(), PredefinedType.NUMBER));
     }
 
     public boolean isAllErrorMembers(BUnionType actualType) {
@@ -2012,7 +2012,7 @@ public class Types {
         List<SemNamedType> newValueSpace = new ArrayList<>(bFiniteType.valueSpace.length);
 
         for (SemNamedType semNamedType : bFiniteType.valueSpace) {
-            if (SemTypes.isSubtype(semTypeCtx, semNamedType.semType(), targetType.semType())) {
+            if (SemTypes.isSubtype(typeCtx(), semNamedType.semType(), targetType.semType())) {
                 newValueSpace.add(semNamedType);
             }
         }
@@ -2072,7 +2072,7 @@ public class Types {
 
     boolean validEqualityIntersectionExists(BType lhsType, BType rhsType) {
         SemType intersect = Core.intersect(lhsType.semType(), rhsType.semType());
-        if (Core.isEmpty(semTypeCtx, intersect)) {
+        if (Core.isEmpty(typeCtx(), intersect)) {
             return false;
         }
 
@@ -2494,7 +2494,7 @@ public class Types {
     }
 
     public boolean intersectionExists(SemType t1, SemType t2) {
-        return !Core.isEmpty(semTypeCtx, Core.intersect(t1, t2));
+        return !Core.isEmpty(typeCtx(), Core.intersect(t1, t2));
     }
 
     public BType getTypeIntersection(IntersectionContext intersectionContext, BType lhsType, BType rhsType,
@@ -3168,7 +3168,7 @@ public class Types {
 
         List<SemNamedType> newValueSpace = new ArrayList<>();
         for (SemNamedType semNamedType : originalType.valueSpace) {
-            if (!SemTypes.isSubtype(semTypeCtx, semNamedType.semType(), removeSemType)) {
+            if (!SemTypes.isSubtype(typeCtx(), semNamedType.semType(), removeSemType)) {
                 newValueSpace.add(semNamedType);
             }
         }
@@ -3639,6 +3639,11 @@ public class Types {
         if (b != null) {
             return b;
         }
+        b = cx.env.memo().comparableMemo.get(semPair);
+        if (b != null) {
+            cx.comparableMemo.put(semPair, b);
+            return b;
+        }
 
         ListMemberTypes lmTypes1 = Core.listAllMemberTypesInner(cx, t1);
         ListMemberTypes lmTypes2 = Core.listAllMemberTypesInner(cx, t2);
@@ -3672,10 +3677,12 @@ public class Types {
             if (!comparable(lmTypes1.semTypes().get(Math.toIntExact(i1)),
                     lmTypes2.semTypes().get(Math.toIntExact(i2)))) {
                 cx.comparableMemo.put(semPair, false);
+                cx.env.memo().comparableMemo.put(semPair, false);
                 return false;
             }
         }
         cx.comparableMemo.put(semPair, true);
+        cx.env.memo().comparableMemo.put(semPair, true);
         return true;
     }
 
@@ -3723,8 +3730,8 @@ public class Types {
     }
 
     public boolean isSubTypeOfReadOnlyOrIsolatedObjectUnion(BType bType) {
-        return SemTypes.isSubtype(semTypeCtx, bType.semType(),
-                SemTypes.union(PredefinedType.VAL_READONLY, createIsolatedObject(semTypeCtx)));
+        return SemTypes.isSubtype(typeCtx(), bType.semType(),
+                SemTypes.union(PredefinedType.VAL_READONLY, createIsolatedObject(typeCtx())));
     }
 
     private boolean isImmutable(BType type) {
@@ -3763,7 +3770,7 @@ public class Types {
     public boolean isFixedLengthList(BType type) {
         // Using int:MIN_VALUE to project the rest type.
         // This checks the type of effectively infinite list member, which should be the rest type.
-        SemType rest = Core.listMemberTypeInnerVal(semTypeCtx, type.semType(),
+        SemType rest = Core.listMemberTypeInnerVal(typeCtx(), type.semType(),
                 IntSubtype.intConst(Long.MAX_VALUE));
         return Core.isNever(rest);
     }
@@ -3841,7 +3848,7 @@ public class Types {
     boolean isSameSingletonType(BFiniteType type1, BFiniteType type2) {
         SemType t1 = type1.semType();
         SemType t2 = type2.semType();
-        return SemTypes.isSameType(semTypeCtx, t1, t2);
+        return SemTypes.isSameType(typeCtx(), t1, t2);
     }
 
     public static void addImmutableType(SymbolTable symTable, PackageID packageId,
@@ -4016,7 +4023,7 @@ public class Types {
         }
 
         private boolean isServiceObject(BType bType) {
-            return types.isSubtype(bType, createServiceObject(semTypeCtx));
+            return types.isSubtype(bType, createServiceObject(typeCtx()));
         }
     }
 
@@ -4453,10 +4460,15 @@ public class Types {
     // Maybe it is a better idea to directly make Env accessible via the CompilerContext but that means SemType module
     //  will have a dependency on compiler
     public Env typeEnv() {
-        return semTypeCtx.env;
+        return typeEnv;
     }
 
+    /**
+     * Returns the semtype context of the current thread, as the contexts are not thread-safe.
+     *
+     * @return semtype context
+     */
     public Context typeCtx() {
-        return semTypeCtx;
+        return Context.from(typeEnv);
     }
 }
@@ -32,6 +32,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * @since 0.94
@@ -48,7 +49,8 @@ public class BSymbol implements Symbol {
     public BSymbol owner;
     public boolean tainted;
     public boolean closure;
-    public MarkdownDocAttachment markdownDocumentation;
+    private MarkdownDocAttachment markdownDocumentation;
+    private volatile Supplier<MarkdownDocAttachment> markdownDocumentationLoader;
     public Location pos;
     public SymbolOrigin origin;
 
@@ -86,9 +88,41 @@ public class BSymbol implements Symbol {
     }
 
     public MarkdownDocAttachment getMarkdownDocAttachment() {
+        Supplier<MarkdownDocAttachment> loader = markdownDocumentationLoader;
+        if (loader != null) {
+            markdownDocumentation = loader.get();
+            markdownDocumentationLoader = null;
+        }
         return markdownDocumentation;
     }
 
+    public void setMarkdownDocAttachment(MarkdownDocAttachment markdownDocumentation) {
+        this.markdownDocumentation = markdownDocumentation;
+        this.markdownDocumentationLoader = null;
+    }
+
+    /**
+     * Sets the documentation of the symbol to be loaded on first access. Used for symbols loaded from BIR, where the
+     * documentation of most symbols is never looked up.
+     *
+     * @param loader loads the documentation of the symbol
+     */
+    public void setLazyMarkdownDocAttachment(Supplier<MarkdownDocAttachment> loader) {
+        this.markdownDocumentation = null;
+        this.markdownDocumentationLoader = loader;
+    }
+
+    /**
+     * Copies the documentation of the given symbol without loading it, if it is not loaded yet.
+     *
+     * @param symbol symbol to copy the documentation from
+     */
+    public void copyMarkdownDocAttachment(BSymbol symbol) {
+        Supplier<MarkdownDocAttachment> loader = symbol.markdownDocumentationLoader;
+        this.markdownDocumentation = loader == null ? symbol.markdownDocumentation : null;
+        this.markdownDocumentationLoader = loader;
+    }
+
     @Override
     public Name getName() {
         return name;
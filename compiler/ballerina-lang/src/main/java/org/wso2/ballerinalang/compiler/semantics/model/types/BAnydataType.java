@@ -102,7 +102,7 @@ public class BAnydataType extends BUnionType {
 
     @Override
     public SemType semType() {
-        SemType anydata = Core.createAnydata(typeCtx);
+        SemType anydata = Core.createAnydata(Context.from(typeCtx.env));
         if (!nullable) {
             anydata = Core.diff(anydata, PredefinedType.NIL);
         }
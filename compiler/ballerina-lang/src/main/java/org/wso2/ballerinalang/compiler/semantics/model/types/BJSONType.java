@@ -94,7 +94,7 @@ public class BJSONType extends BUnionType {
 
     @Override
     public SemType semType() {
-        SemType json = Core.createJson(typeCtx);
+        SemType json = Core.createJson(Context.from(typeCtx.env));
         // TODO: refer to https://github.com/ballerina-platform/ballerina-lang/issues/43343#issuecomment-2485247172
 //        if (!nullable) {
 //            json = Core.diff(json, PredefinedType.NIL);
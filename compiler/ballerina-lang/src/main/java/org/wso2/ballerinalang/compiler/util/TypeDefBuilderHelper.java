@@ -381,7 +381,7 @@ public final class TypeDefBuilderHelper {
         typeDefinitionSymbol.type = type;
         recordSymbol.type = type;
         recordSymbol.typeDefinitionSymbol = typeDefinitionSymbol;
-        recordSymbol.markdownDocumentation = new MarkdownDocAttachment(0);
+        recordSymbol.setMarkdownDocAttachment(new MarkdownDocAttachment(0));
 
         BLangRecordTypeNode recordTypeNode = TypeDefBuilderHelper.createRecordTypeNode(new ArrayList<>(), type,
                 pos);
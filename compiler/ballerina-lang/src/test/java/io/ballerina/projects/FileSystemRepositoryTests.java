@@ -21,6 +21,8 @@ package io.ballerina.projects;
 import io.ballerina.projects.environment.Environment;
 import io.ballerina.projects.environment.ResolutionOptions;
 import io.ballerina.projects.environment.ResolutionRequest;
+import io.ballerina.projects.internal.BalaFiles;
+import io.ballerina.projects.internal.model.PackageJson;
 import io.ballerina.projects.internal.repositories.FileSystemRepository;
 import org.testng.Assert;
 import org.testng.annotations.BeforeSuite;
@@ -76,4 +78,26 @@ public class FileSystemRepositoryTests {
         Assert.assertTrue(versions.contains(PackageVersion.from("0.1.5")));
     }
 
+    @Test
+    public void testBalaMetadataIsReused() {
+        Path balaPath = TEST_REPO.resolve("bala").resolve("hevayo").resolve("package_d").resolve("0.1.0")
+                .resolve("java11");
+        PackageJson packageJson = BalaFiles.readPackageJson(balaPath);
+        Assert.assertEquals(packageJson.getBallerinaVersion(), "slalpha2");
+        Assert.assertSame(BalaFiles.readPackageJson(balaPath), packageJson);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testGetModulesReturnsUnmodifiableCollection() {
+        FileSystemRepository customRepository = new MockFileSystemRepository(new Environment() {
+            @Override
+            public <T> T getService(Class<T> clazz) {
+                return null;
+            }
+        }, RESOURCE_DIRECTORY.resolve("custom-repo-resources").resolve("local-custom-repo"));
+        Collection<ModuleDescriptor> modules = customRepository.getModules(PackageOrg.from("luheerathan"),
+                PackageName.from("packA"), PackageVersion.from("0.1.0"));
+        Assert.assertFalse(modules.isEmpty());
+        modules.clear();
+    }
 }
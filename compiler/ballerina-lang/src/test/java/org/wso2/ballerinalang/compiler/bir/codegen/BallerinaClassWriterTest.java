@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_M1;
+import static org.objectweb.asm.Opcodes.IF_ICMPGE;
+import static org.objectweb.asm.Opcodes.IF_ICMPLE;
+import static org.objectweb.asm.Opcodes.IFLE;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.GENERATE_FRAMES;
+
+/**
+ * Tests for the {@link BallerinaClassWriter} class.
+ *
+ * @since 2201.12.0
+ */
+public class BallerinaClassWriterTest {
+
+    @Test
+    public void testStraightLineClass() throws Exception {
+        BallerinaClassWriter cw = createClass("StraightLine");
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, "get", "()Ljava/lang/Object;", null, null);
+        mv.visitCode();
+        mv.visitLdcInsn("value");
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+
+        Method method = loadClass("StraightLine", cw.toByteArray()).getMethod("get");
+        Assert.assertEquals(method.invoke(null), "value");
+    }
+
+    @Test
+    public void testBranchedClass() throws Exception {
+        BallerinaClassWriter cw = createClass("Branched");
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, "max", "(II)I", null, null);
+        mv.visitCode();
+        Label secondLabel = new Label();
+        mv.visitVarInsn(ILOAD, 0);
+        mv.visitVarInsn(ILOAD, 1);
+        mv.visitJumpInsn(IF_ICMPLE, secondLabel);
+        mv.visitVarInsn(ILOAD, 0);
+        mv.visitInsn(IRETURN);
+        mv.visitLabel(secondLabel);
+        mv.visitVarInsn(ILOAD, 1);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+
+        // The class is rejected by the verifier if the stack map frames have not been generated.
+        Method method = loadClass("Branched", cw.toByteArray()).getMethod("max", int.class, int.class);
+        Assert.assertEquals(method.invoke(null, 3, 5), 5);
+        Assert.assertEquals(method.invoke(null, 7, 5), 7);
+    }
+
+    @Test
+    public void testBasicBlockFrames() throws Exception {
+        BallerinaClassWriter cw = createClass("BasicBlocks");
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, "last", "(I)Ljava/lang/Object;", null, null);
+        FrameTracker frameTracker = (FrameTracker) mv;
+        mv.visitCode();
+        mv.visitInsn(ACONST_NULL);
+        mv.visitVarInsn(ASTORE, 1);
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ISTORE, 2);
+        frameTracker.declareLocalVariable(1, "Ljava/lang/Object;");
+        frameTracker.declareLocalVariable(2, "I");
+        Label conditionBB = new Label();
+        Label bodyBB = new Label();
+        Label returnBB = new Label();
+        frameTracker.visitBasicBlockLabel(conditionBB);
+        mv.visitVarInsn(ILOAD, 2);
+        mv.visitVarInsn(ILOAD, 0);
+        mv.visitJumpInsn(IF_ICMPGE, returnBB);
+        mv.visitJumpInsn(GOTO, bodyBB);
+        frameTracker.visitBasicBlockLabel(bodyBB);
+        mv.visitVarInsn(ILOAD, 2);
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "toString", "(I)Ljava/lang/String;", false);
+        mv.visitVarInsn(ASTORE, 1);
+        mv.visitIincInsn(2, 1);
+        mv.visitJumpInsn(GOTO, conditionBB);
+        frameTracker.visitBasicBlockLabel(returnBB);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+
+        byte[] bytes = cw.toByteArray();
+        Method method = loadClass("BasicBlocks", bytes).getMethod("last", int.class);
+        Assert.assertEquals(method.invoke(null, 3), "2");
+        Assert.assertNull(method.invoke(null, 0));
+        // The frames of the basic blocks have the declared types, where computed frames would have merged types.
+        List<Object> frameLocals = getFrameLocals(bytes, "last");
+        Assert.assertEquals(frameLocals.size(), 3);
+        for (Object locals : frameLocals) {
+            Assert.assertEquals(locals, List.of(Opcodes.INTEGER, "java/lang/Object", Opcodes.INTEGER));
+        }
+    }
+
+    @Test
+    public void testExceptionHandlerVisitedAfterRange() throws Exception {
+        BallerinaClassWriter cw = createClass("Handler");
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, "parse", "(Ljava/lang/String;)I", null, null);
+        mv.visitCode();
+        Label startLabel = new Label();
+        Label endLabel = new Label();
+        Label handlerLabel = new Label();
+        mv.visitLabel(startLabel);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "parseInt", "(Ljava/lang/String;)I", false);
+        mv.visitInsn(IRETURN);
+        mv.visitLabel(endLabel);
+        // The exception handler is visited after its range, as it is by the trap of a basic block.
+        mv.visitTryCatchBlock(startLabel, endLabel, handlerLabel, "java/lang/NumberFormatException");
+        mv.visitLabel(handlerLabel);
+        mv.visitVarInsn(ASTORE, 1);
+        mv.visitInsn(ICONST_M1);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+
+        Method method = loadClass("Handler", cw.toByteArray()).getMethod("parse", String.class);
+        Assert.assertEquals(method.invoke(null, "12"), 12);
+        Assert.assertEquals(method.invoke(null, "x"), -1);
+    }
+
+    @Test
+    public void testComputedFramesForBackwardJump() throws Exception {
+        BallerinaClassWriter cw = createClass("BackwardJump");
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, "sum", "(I)I", null, null);
+        mv.visitCode();
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ISTORE, 1);
+        Label loopLabel = new Label();
+        Label endLabel = new Label();
+        // A backward jump to a label without a frame, hence the frames of the class are computed once written.
+        mv.visitLabel(loopLabel);
+        mv.visitVarInsn(ILOAD, 0);
+        mv.visitJumpInsn(IFLE, endLabel);
+        mv.visitIincInsn(1, 2);
+        mv.visitIincInsn(0, -1);
+        mv.visitJumpInsn(GOTO, loopLabel);
+        mv.visitLabel(endLabel);
+        mv.visitVarInsn(ILOAD, 1);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+
+        Method method = loadClass("BackwardJump", cw.toByteArray()).getMethod("sum", int.class);
+        Assert.assertEquals(method.invoke(null, 4), 8);
+    }
+
+    private static BallerinaClassWriter createClass(String className) {
+        BallerinaClassWriter cw = new BallerinaClassWriter(GENERATE_FRAMES);
+        cw.visit(V21, ACC_PUBLIC, className, null, "java/lang/Object", null);
+        return cw;
+    }
+
+    private static List<Object> getFrameLocals(byte[] bytes, String methodName) {
+        List<Object> frameLocals = new ArrayList<>();
+        new ClassReader(bytes).accept(new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                             String[] exceptions) {
+                if (!name.equals(methodName)) {
+                    return null;
+                }
+                return new MethodVisitor(Opcodes.ASM9) {
+                    @Override
+                    public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+                        frameLocals.add(Arrays.asList(Arrays.copyOf(local, numLocal)));
+                    }
+                };
+            }
+        }, ClassReader.EXPAND_FRAMES);
+        return frameLocals;
+    }
+
+    private static Class<?> loadClass(String className, byte[] bytes) {
+        return new ClassLoader(BallerinaClassWriterTest.class.getClassLoader()) {
+            Class<?> define() {
+                return defineClass(className, bytes, 0, bytes.length);
+            }
+        }.define();
+    }
+}
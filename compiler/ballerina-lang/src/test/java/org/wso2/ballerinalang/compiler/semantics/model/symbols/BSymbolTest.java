@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.semantics.model.symbols;
+
+import org.ballerinalang.model.elements.MarkdownDocAttachment;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the lazily loaded documentation of {@link BSymbol}.
+ *
+ * @since 2201.12.0
+ */
+public class BSymbolTest {
+
+    @Test
+    public void testLazyDocAttachmentLoadedOnFirstAccess() {
+        AtomicInteger loadCount = new AtomicInteger();
+        MarkdownDocAttachment doc = new MarkdownDocAttachment(0);
+        BSymbol symbol = createSymbol("foo");
+        symbol.setLazyMarkdownDocAttachment(() -> {
+            loadCount.incrementAndGet();
+            return doc;
+        });
+        Assert.assertEquals(loadCount.get(), 0);
+
+        Assert.assertSame(symbol.getMarkdownDocAttachment(), doc);
+        Assert.assertSame(symbol.getMarkdownDocAttachment(), doc);
+        Assert.assertEquals(loadCount.get(), 1);
+    }
+
+    @Test
+    public void testCopyDoesNotLoadDocAttachment() {
+        AtomicInteger loadCount = new AtomicInteger();
+        MarkdownDocAttachment doc = new MarkdownDocAttachment(0);
+        BSymbol original = createSymbol("foo");
+        original.setLazyMarkdownDocAttachment(() -> {
+            loadCount.incrementAndGet();
+            return doc;
+        });
+        BSymbol duplicate = createSymbol("bar");
+        duplicate.copyMarkdownDocAttachment(original);
+        Assert.assertEquals(loadCount.get(), 0);
+
+        Assert.assertSame(duplicate.getMarkdownDocAttachment(), doc);
+        Assert.assertSame(original.getMarkdownDocAttachment(), doc);
+
+        BSymbol copyOfLoaded = createSymbol("baz");
+        copyOfLoaded.copyMarkdownDocAttachment(original);
+        Assert.assertSame(copyOfLoaded.getMarkdownDocAttachment(), doc);
+        Assert.assertEquals(loadCount.get(), 2);
+    }
+
+    @Test
+    public void testSetDocAttachmentReplacesLazyDocAttachment() {
+        BSymbol symbol = createSymbol("foo");
+        symbol.setLazyMarkdownDocAttachment(() -> {
+            throw new AssertionError("documentation must not be loaded");
+        });
+        MarkdownDocAttachment doc = new MarkdownDocAttachment(0);
+        symbol.setMarkdownDocAttachment(doc);
+        Assert.assertSame(symbol.getMarkdownDocAttachment(), doc);
+    }
+
+    private static BSymbol createSymbol(String name) {
+        return new BSymbol(0, 0, new Name(name), null, null, null, null, SymbolOrigin.COMPILED_SOURCE);
+    }
+}
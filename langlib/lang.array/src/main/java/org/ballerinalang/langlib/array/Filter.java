@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 import org.ballerinalang.langlib.array.utils.ArrayUtils;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
@@ -47,9 +48,10 @@ public final class Filter {
         };
         int size = arr.size();
         int index = 0;
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
             Object value = arr.get(i);
-            boolean isFiltered = (boolean) func.call(env.getRuntime(), value);
+            boolean isFiltered = (boolean) callSite.call(value);
              if (isFiltered) {
                  newArr.add(index++, value);
              }
@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessFunction;
@@ -40,8 +41,9 @@ public class ForEach {
         int size = arr.size();
         Type arrType = arr.getType();
         GetFunction getFn = getElementAccessFunction(arrType, "forEach()");
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            func.call(env.getRuntime(), getFn.get(arr, i));
+            callSite.call(getFn.get(arr, i));
         }
     }
 }
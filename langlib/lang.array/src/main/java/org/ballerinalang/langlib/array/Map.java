@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
@@ -53,8 +54,9 @@ public final class Map {
             case TypeTags.TUPLE_TAG -> BArray::getRefValue;
             default -> throw createOpNotSupportedError(arrType, "map()");
         };
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            retArr.add(i, func.call(env.getRuntime(), getFn.get(arr, i)));
+            retArr.add(i, callSite.call(getFn.get(arr, i)));
         }
         return retArr;
     }
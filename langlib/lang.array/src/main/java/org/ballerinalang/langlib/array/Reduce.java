@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessFunction;
@@ -40,8 +41,9 @@ public final class Reduce {
         Type arrType = arr.getType();
         int size = arr.size();
         GetFunction getFn = getElementAccessFunction(arrType, "reduce()");
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            initial = func.call(env.getRuntime(), initial, getFn.get(arr, i));
+            initial = callSite.call(initial, getFn.get(arr, i));
         }
         return initial;
     }
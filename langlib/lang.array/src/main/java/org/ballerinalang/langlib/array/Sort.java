@@ -22,13 +22,22 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 import io.ballerina.runtime.internal.utils.ValueComparisonUtils;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
@@ -42,78 +51,302 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public final class Sort {
 
+    private static final String ASCENDING = "ascending";
+    // Smaller ranges are merge sorted in the current thread.
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    private static final int BYTE_VALUE_COUNT = 256;
+
+    private static final Comparator<Object> INT_COMPARATOR = (lhs, rhs) -> Long.compare((Long) lhs, (Long) rhs);
+    private static final Comparator<Object> STRING_COMPARATOR = (lhs, rhs) ->
+            ValueComparisonUtils.codePointCompare(((BString) lhs).getValue(), ((BString) rhs).getValue());
+    private static final Comparator<Object> DECIMAL_COMPARATOR = (lhs, rhs) ->
+            ((DecimalValue) lhs).compareTo((DecimalValue) rhs);
+
     private Sort() {
     }
 
     public static BArray sort(Environment env, BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer function = (BFunctionPointer) func;
+        String sortDirection = direction.toString();
+        boolean ascending = ASCENDING.equals(sortDirection);
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        if (function == null) {
+            BArray sortedArray = sortBasicTypeArray(arr, ascending);
+            if (sortedArray != null) {
+                return sortedArray;
+            }
+        }
 
+        int size = arr.size();
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+        Object[] keys = values;
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(env.getRuntime(), arr.get(i));
-                sortArr[i][1] = arr.get(i);
-            }
-        } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            // The keys are computed once per member, rather than per comparison.
+            keys = new Object[size];
+            FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), function);
+            for (int i = 0; i < size; i++) {
+                keys[i] = callSite.call(values[i]);
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+        MergeSorter sorter = new MergeSorter(keys, keys == values ? null : values,
+                getKeyComparator(keys, sortDirection), ascending);
+        if (size >= PARALLEL_SORT_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new MergeSortTask(sorter, 0, size - 1));
+            if (sorter.error != null) {
+                throw sorter.error;
+            }
+        } else {
+            sorter.sort(0, size - 1);
+        }
 
         BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+        for (int k = 0; k < size; k++) {
+            sortedArray.add(k, values[k]);
+        }
+        return sortedArray;
+    }
 
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+    /**
+     * Sorts the arrays of int, byte, float, string and decimal values without boxing them or comparing them as
+     * values of any type. Since these values are totally ordered, except for NaN, the result is the same as that of
+     * a stable sort.
+     *
+     * @return the sorted array, or null if the array is not of one of these types
+     */
+    private static BArray sortBasicTypeArray(BArray arr, boolean ascending) {
+        Type elementType = arr.getElementType();
+        int size = arr.size();
+        switch (elementType.getTag()) {
+            case TypeTags.INT_TAG:
+                long[] intValues = arr.getIntArray();
+                Arrays.parallelSort(intValues);
+                if (!ascending) {
+                    reverse(intValues);
+                }
+                return ValueCreator.createArrayValue(intValues);
+            case TypeTags.BYTE_TAG:
+                return ValueCreator.createArrayValue(sortBytes(arr.getByteArray(), ascending));
+            case TypeTags.FLOAT_TAG:
+                double[] floatValues = arr.getFloatArray();
+                sortFloats(floatValues, ascending);
+                return ValueCreator.createArrayValue(floatValues);
+            case TypeTags.STRING_TAG:
+                BString[] stringValues = new BString[size];
+                for (int i = 0; i < size; i++) {
+                    stringValues[i] = arr.getBString(i);
+                }
+                Arrays.parallelSort(stringValues, ascending ? STRING_COMPARATOR : STRING_COMPARATOR.reversed());
+                return ValueCreator.createArrayValue(stringValues);
+            case TypeTags.DECIMAL_TAG:
+                Object[] decimalValues = new Object[size];
+                for (int i = 0; i < size; i++) {
+                    decimalValues[i] = arr.get(i);
+                }
+                Arrays.parallelSort(decimalValues, ascending ? DECIMAL_COMPARATOR : DECIMAL_COMPARATOR.reversed());
+                return ValueCreator.createArrayValue(decimalValues, TypeCreator.createArrayType(elementType));
+            default:
+                return null;
         }
+    }
 
-        return sortedArray;
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
     }
 
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
-        if (hi <= lo) {
-            return;
+    private static byte[] sortBytes(byte[] values, boolean ascending) {
+        // Byte values are unsigned, hence they cannot be sorted as Java bytes.
+        int[] counts = new int[BYTE_VALUE_COUNT];
+        for (byte value : values) {
+            counts[value & 0xFF]++;
+        }
+        int index = 0;
+        for (int i = 0; i < BYTE_VALUE_COUNT; i++) {
+            int value = ascending ? i : BYTE_VALUE_COUNT - 1 - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
         }
+        return values;
+    }
 
-        int mid = lo + (hi - lo) / 2;
+    /**
+     * Sorts float values, placing NaN values last in both directions. Since -0.0 and +0.0 are equal, and NaN values
+     * are unordered, they are kept in their original order.
+     */
+    private static void sortFloats(double[] values, boolean ascending) {
+        int zeroCount = 0;
+        int nanCount = 0;
+        for (double value : values) {
+            if (value == 0) {
+                zeroCount++;
+            } else if (Double.isNaN(value)) {
+                nanCount++;
+            }
+        }
+        double[] zeros = new double[zeroCount];
+        double[] nans = new double[nanCount];
+        zeroCount = 0;
+        nanCount = 0;
+        for (double value : values) {
+            if (value == 0) {
+                zeros[zeroCount++] = value;
+            } else if (Double.isNaN(value)) {
+                nans[nanCount++] = value;
+            }
+        }
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        // NaN values are sorted to the end.
+        Arrays.parallelSort(values);
+        int orderedCount = values.length - nanCount;
+        if (!ascending) {
+            for (int i = 0, j = orderedCount - 1; i < j; i++, j--) {
+                double value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+        if (zeroCount > 0) {
+            int firstZero = 0;
+            while (values[firstZero] != 0) {
+                firstZero++;
+            }
+            System.arraycopy(zeros, 0, values, firstZero, zeroCount);
+        }
+        System.arraycopy(nans, 0, values, orderedCount, nanCount);
+    }
 
-        merge(input, aux, lo, mid, hi, direction);
+    private static Comparator<Object> getKeyComparator(Object[] keys, String direction) {
+        Comparator<Object> comparator = keys.length == 0 ? null : getBasicTypeComparator(keys[0]);
+        for (Object key : keys) {
+            if (comparator == null || getBasicTypeComparator(key) != comparator) {
+                return getValueComparator(direction);
+            }
+        }
+        return comparator;
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
+    private static Comparator<Object> getBasicTypeComparator(Object key) {
+        if (key instanceof Long) {
+            return INT_COMPARATOR;
         }
+        if (key instanceof BString) {
+            return STRING_COMPARATOR;
+        }
+        if (key instanceof DecimalValue) {
+            return DECIMAL_COMPARATOR;
+        }
+        return null;
+    }
 
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
+    private static Comparator<Object> getValueComparator(String direction) {
+        return (lhs, rhs) -> {
             try {
+                return ValueComparisonUtils.compareValues(lhs, rhs, direction);
+            } catch (BError error) {
+                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                        (BMap<BString, Object>) error.getDetails());
+            }
+        };
+    }
+
+    /**
+     * Stable top-down merge sort of the keys, and the values in the same order, if the values are not the keys.
+     * <p>
+     * Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
+     */
+    private static final class MergeSorter {
+
+        private final Object[] keys;
+        private final Object[] values;
+        private final Object[] auxKeys;
+        private final Object[] auxValues;
+        private final Comparator<Object> comparator;
+        private final boolean ascending;
+        private volatile BError error;
+
+        MergeSorter(Object[] keys, Object[] values, Comparator<Object> comparator, boolean ascending) {
+            this.keys = keys;
+            this.values = values;
+            this.auxKeys = new Object[keys.length];
+            this.auxValues = values == null ? null : new Object[values.length];
+            this.comparator = comparator;
+            this.ascending = ascending;
+        }
+
+        void sort(int lo, int hi) {
+            if (hi <= lo) {
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            sort(lo, mid);
+            sort(mid + 1, hi);
+            merge(lo, mid, hi);
+        }
+
+        void merge(int lo, int mid, int hi) {
+            System.arraycopy(keys, lo, auxKeys, lo, hi + 1 - lo);
+            if (values != null) {
+                System.arraycopy(values, lo, auxValues, lo, hi + 1 - lo);
+            }
+
+            for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
+                int index;
                 if (i > mid) {
                     index = j++;
                 } else if (j > hi) {
                     index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
+                } else if (ascending ? comparator.compare(auxKeys[j], auxKeys[i]) < 0 :
+                        comparator.compare(auxKeys[i], auxKeys[j]) < 0) {
                     index = j++;
                 } else {
                     index = i++;
                 }
-                input[k] = aux[index];
+                keys[k] = auxKeys[index];
+                if (values != null) {
+                    values[k] = auxValues[index];
+                }
+            }
+        }
+    }
 
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap<BString, Object>) error.getDetails());
+    /**
+     * Sorts the halves of a range in parallel, splitting the range at the same points as the sequential sort.
+     */
+    private static final class MergeSortTask extends RecursiveAction {
+
+        private final transient MergeSorter sorter;
+        private final int lo;
+        private final int hi;
+
+        MergeSortTask(MergeSorter sorter, int lo, int hi) {
+            this.sorter = sorter;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                if (hi - lo < PARALLEL_SORT_THRESHOLD) {
+                    sorter.sort(lo, hi);
+                    return;
+                }
+                int mid = lo + (hi - lo) / 2;
+                invokeAll(new MergeSortTask(sorter, lo, mid), new MergeSortTask(sorter, mid + 1, hi));
+                if (sorter.error == null) {
+                    sorter.merge(lo, mid, hi);
+                }
+            } catch (BError e) {
+                // Rethrown in the strand which sorts the array.
+                sorter.error = e;
             }
         }
     }
@@ -29,6 +29,7 @@ import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 import org.ballerinalang.langlib.map.util.MapLibUtils;
 
 import static io.ballerina.runtime.internal.utils.MapUtils.createOpNotSupportedError;
@@ -56,9 +57,10 @@ public final class Filter {
         BMap<BString, Object> newMap = ValueCreator.createMapValue(TypeCreator.createMapType(constraint));
         int size = m.size();
         Object[] keys = m.getKeys();
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
             Object key = keys[i];
-            boolean isFiltered = (boolean) func.call(env.getRuntime(), m.get(keys[i]));
+            boolean isFiltered = (boolean) callSite.call(m.get(keys[i]));
             if (isFiltered) {
                 Object value = m.get(key);
                 newMap.put((BString) key, value);
@@ -21,6 +21,7 @@ package org.ballerinalang.langlib.map;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -38,8 +39,9 @@ public final class ForEach {
         int size = m.size();
         AtomicInteger index = new AtomicInteger(-1);
         Object[] keys = m.getKeys();
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            func.call(env.getRuntime(), m.get(keys[index.incrementAndGet()]));
+            callSite.call(m.get(keys[index.incrementAndGet()]));
         }
     }
 }
@@ -27,6 +27,7 @@ import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 
 /**
  * Native implementation of lang.map:map(map&lt;Type&gt;, function).
@@ -45,8 +46,9 @@ public class Map {
         BMap<BString, Object> newMap = ValueCreator.createMapValue(newMapType);
         int size = m.size();
         BString[] keys = m.getKeys();
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            newMap.put(keys[i], func.call(env.getRuntime(), m.get(keys[i])));
+            newMap.put(keys[i], callSite.call(m.get(keys[i])));
         }
         return newMap;
     }
@@ -21,6 +21,7 @@ package org.ballerinalang.langlib.map;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 
 /**
  * Native implementation of lang.map:reduce(map&lt;Type&gt;, function, Type1).
@@ -32,8 +33,9 @@ public final class Reduce {
     public static Object reduce(Environment env, BMap<?, ?> m, BFunctionPointer func, Object initial) {
         int size = m.values().size();
         Object[] keys = m.getKeys();
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            initial = func.call(env.getRuntime(), initial, m.get(keys[i]));
+            initial = callSite.call(initial, m.get(keys[i]));
         }
         return initial;
     }
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 
 /**
  * Native implementation of lang.table:filter(table&lt;Type&gt;, function).
@@ -43,10 +44,11 @@ public final class Filter {
                         tableType.getFieldNames(), false));
         int size = tbl.size();
         Object[] keys = tbl.getKeys();
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
             Object key = keys[i];
             Object value = tbl.get(key);
-            boolean isFiltered = (boolean) func.call(env.getRuntime(), value);
+            boolean isFiltered = (boolean) callSite.call(value);
             if (isFiltered) {
                 newTable.put(key, value);
             }
@@ -21,6 +21,7 @@ package org.ballerinalang.langlib.table;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 
 /**
  * Native implementation of lang.table:forEach(table&lt;Type&gt;, function).
@@ -35,8 +36,9 @@ public final class Foreach {
     public static void forEach(Environment env, BTable<?, ?> tbl, BFunctionPointer func) {
         int size = tbl.size();
         Object[] values = tbl.values().toArray();
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            func.call(env.getRuntime(), values[i]);
+            callSite.call(values[i]);
         }
     }
 }
@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 
 /**
  * Native implementation of lang.table:map(table&lt;Type&gt;, function).
@@ -48,8 +49,9 @@ public final class Map {
         BTable<Object, Object> newTable = (BTable<Object, Object>) ValueCreator.createTableValue(newTableType);
         int size = tbl.size();
         Object[] tableValues = tbl.values().toArray();
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            newTable.add(func.call(env.getRuntime(), tableValues[i]));
+            newTable.add(callSite.call(tableValues[i]));
         }
         return newTable;
     }
@@ -21,6 +21,7 @@ package org.ballerinalang.langlib.table;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.scheduling.FunctionPointerCallSite;
 
 /**
  * Native implementation of lang.table:reduce(table&lt;Type&gt;, function).
@@ -36,8 +37,9 @@ public final class Reduce {
     public static Object reduce(Environment env, BTable<?, ?> tbl, BFunctionPointer func, Object initial) {
         int size = tbl.values().size();
         Object[] values = tbl.values().toArray();
+        FunctionPointerCallSite callSite = FunctionPointerCallSite.of(env.getRuntime(), func);
         for (int i = 0; i < size; i++) {
-            initial = func.call(env.getRuntime(), initial, values[i]);
+            initial = callSite.call(initial, values[i]);
         }
         return initial;
     }
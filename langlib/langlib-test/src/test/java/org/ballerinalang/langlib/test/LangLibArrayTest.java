@@ -563,6 +563,8 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
+                "testNestedIterableOps",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
                 "testTupleReverse",
@@ -580,6 +582,7 @@ public class LangLibArrayTest {
                 "testArrayReverseEquality",
                 "testPushAfterSliceOnTuple",
                 "testUnshiftLargeValues",
+                "testArrayAsQueue",
                 "testSome1",
                 "testSome2",
                 "testSome3",
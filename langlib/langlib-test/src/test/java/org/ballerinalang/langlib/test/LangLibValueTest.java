@@ -117,6 +117,11 @@ public class LangLibValueTest {
         BRunUtil.invoke(compileResult, "testToJsonStringForNonJsonTypes");
     }
 
+    @Test
+    public void testToJsonStringWithEscapedAndNonAsciiValues() {
+        BRunUtil.invoke(compileResult, "testToJsonStringWithEscapedAndNonAsciiValues");
+    }
+
     @Test
     public void testToStringOnCycles() {
         BRunUtil.invoke(compileResult, "testToStringOnCycles");
@@ -386,7 +391,8 @@ public class LangLibValueTest {
                 "testCloneWithTypeTableToAnydata", "testUnionNestedTypeConversionErrors",
                 "testCloneWithTypeToUnionOfTypeReference", "testCloneWithTypeToTableNegative",
                 "testCloneWithTypeRecordDefaultValues", "testCloneWithTypeToRecordWithIntersectingUnionMembers",
-                "testCloneWithTypeToRecordWithSpecialChars"
+                "testCloneWithTypeToRecordWithSpecialChars", "testCloneWithTypeToNestedRecordsRepeatedly",
+                "testCloneWithTypeOfValueReferringToItselfTwice"
         };
     }
 
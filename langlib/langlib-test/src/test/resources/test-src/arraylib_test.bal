@@ -1575,6 +1575,69 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSort11() {
+    float[] floats = [2.5, float:NaN, -0.0, 1.0, 0.0, -1.0, -0.0, float:NaN];
+    float[] sortedFloats = floats.sort();
+    assertValueEquality("[-1.0,-0.0,0.0,-0.0,1.0,2.5,NaN,NaN]", sortedFloats.toString());
+    sortedFloats = floats.sort(array:DESCENDING);
+    assertValueEquality("[2.5,1.0,-0.0,0.0,-0.0,-1.0,NaN,NaN]", sortedFloats.toString());
+
+    byte[] bytes = [200, 3, 255, 0, 128, 3];
+    assertValueEquality([0, 3, 3, 128, 200, 255], bytes.sort());
+    assertValueEquality([255, 200, 128, 3, 3, 0], bytes.sort(array:DESCENDING));
+
+    string[] strings = ["b", "\u{1F600}", "\u{FF21}", "a", "ab", ""];
+    assertValueEquality(["", "a", "ab", "b", "\u{FF21}", "\u{1F600}"], strings.sort());
+    assertValueEquality(["\u{1F600}", "\u{FF21}", "b", "ab", "a", ""], strings.sort(array:DESCENDING));
+
+    decimal[] decimals = [1.10, -2, 0, 1.1, 3.5];
+    decimal[] sortedDecimals = decimals.sort(array:DESCENDING);
+    assertValueEquality([3.5d, 1.10d, 1.1d, 0d, -2d], sortedDecimals);
+
+    int[] ints = [];
+    int[] positions = [];
+    foreach int i in 0 ..< 20000 {
+        int value = (i * 7919) % 20000;
+        ints.push(value);
+        positions[value] = i;
+    }
+    int[] sortedInts = ints.sort(array:DESCENDING);
+    int[] sortedByKey = ints.sort(array:ASCENDING, (i) => i % 10);
+    foreach int i in 0 ..< 20000 {
+        assertValueEquality(19999 - i, sortedInts[i]);
+    }
+    foreach int i in 1 ..< 20000 {
+        int previous = sortedByKey[i - 1];
+        int current = sortedByKey[i];
+        assertTrue(previous % 10 < current % 10 ||
+            (previous % 10 == current % 10 && positions[previous] < positions[current]));
+    }
+}
+
+function testNestedIterableOps() {
+    int[] arr = [1, 2, 3, 4, 5];
+    function (int) returns int square = x => x * x;
+    int[][] nested = arr.'map(function(int x) returns int[] {
+        return arr.slice(0, x).'map(square);
+    });
+    assertValueEquality([[1], [1, 4], [1, 4, 9], [1, 4, 9, 16], [1, 4, 9, 16, 25]], nested);
+
+    int[] evens = [];
+    foreach int i in 0 ..< 10000 {
+        evens.push(i * 2);
+    }
+    int sum = evens.filter(x => x % 4 == 0).'map(x => x / 2).reduce(function(int acc, int x) returns int {
+        return acc + arr.filter(y => y == x % 6).length() + x;
+    }, 0);
+    assertValueEquality(24998333, sum);
+
+    int count = 0;
+    evens.forEach(function(int x) {
+        count += x % 3 == 0 ? 1 : 0;
+    });
+    assertValueEquality(3334, count);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2, "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -1701,6 +1764,50 @@ function testUnshiftLargeValues() {
     assertValueEquality(0, list[399]);
 }
 
+function testArrayAsQueue() {
+    int[] ints = [];
+    string[] strings = [];
+    record {int id;}[] records = [];
+    foreach int i in 0 ..< 1000 {
+        ints.push(i);
+        strings.push(i.toString());
+        records.push({id: i});
+        if i % 3 == 0 {
+            assertValueEquality(i / 3, ints.shift());
+            assertValueEquality((i / 3).toString(), strings.shift());
+            assertValueEquality({id: i / 3}, records.shift());
+        }
+    }
+    assertValueEquality(666, ints.length());
+    assertValueEquality(334, ints[0]);
+    assertValueEquality("999", strings[665]);
+    assertValueEquality({id: 500}, records[166]);
+    assertValueEquality([334, 335, 336], ints.slice(0, 3));
+    assertValueEquality(["997", "998", "999"], strings.slice(663));
+
+    ints.unshift(331, 332, 333);
+    strings.unshift("333");
+    assertValueEquality(669, ints.length());
+    assertValueEquality([331, 332, 333, 334], ints.slice(0, 4));
+    assertValueEquality(999, ints.pop());
+    assertValueEquality("333", strings.shift());
+    assertValueEquality(500, ints.remove(169));
+    assertValueEquality(501, ints[169]);
+
+    int sum = 0;
+    foreach int i in ints {
+        sum += i;
+    }
+    assertValueEquality(443386, sum);
+
+    int[] frozen = ints.cloneReadOnly();
+    assertValueEquality(ints, frozen);
+    assertValueEquality(331, frozen[0]);
+    ints.setLength(2);
+    assertValueEquality([331, 332], ints);
+    assertValueEquality("[331,332]", ints.toString());
+}
+
 function func1(int i) returns boolean {
     return i > 2;
 }
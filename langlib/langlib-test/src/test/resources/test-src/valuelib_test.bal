@@ -132,6 +132,45 @@ function testToJsonStringForNonJsonTypes() {
     assert(result["anAnyData"], "10.23");
 }
 
+type Reading record {
+    string 'type;
+    int value;
+    float ratio;
+    decimal amount;
+    byte flags;
+    string note?;
+    table<record {int id;}> entries;
+};
+
+function testToJsonStringWithEscapedAndNonAsciiValues() {
+    Reading reading = {
+        'type: "ශ්‍රී \"lanka\"",
+        value: -9223372036854775807 - 1,
+        ratio: 0.5,
+        amount: 12.5,
+        flags: 255,
+        entries: table [{id: 1}, {id: 2}],
+        "tab\tkey": "\u{1F600}/x",
+        "path": "a/b"
+    };
+    assert(reading.toJsonString(), "{\"type\":\"ශ්‍රී \\\"lanka\\\"\", \"value\":-9223372036854775808, " +
+            "\"ratio\":0.5, \"amount\":12.5, \"flags\":255, \"entries\":[{\"id\":1}, {\"id\":2}], " +
+            "\"tab\\tkey\":\"\u{1F600}/x\", \"path\":\"a/b\"}");
+
+    Reading[] readings = [
+        reading,
+        {'type: "", value: 0, ratio: -1.0, amount: 0, flags: 0, note: "", entries: table []}
+    ];
+    assert(readings.toJsonString(), "[" + reading.toJsonString() + ", {\"type\":\"\", \"value\":0, " +
+            "\"ratio\":-1.0, \"amount\":0, \"flags\":0, \"note\":\"\", \"entries\":[]}]");
+
+    anydata[] cyclic = [1];
+    cyclic.push({"values": cyclic});
+    string|error result = trap cyclic.toJsonString();
+    assert(result is error, true);
+    assert((<error>result).message(), "{ballerina/lang.value}CyclicValueReferenceError");
+}
+
 function testFromJsonString() returns map<json|error> {
     string aNil = "()";
     string aNull = "null";
@@ -4997,6 +5036,72 @@ function testCloneWithTypeToRecordWithSpecialChars() {
     assertEquality(cb.DFH\-COMMAREA?.BROKER\-MESSAGE\-AREA.toString(), string `{"MI-HDR-VERSION":"2","MI-HDR-MSGID":"3238763233323598798798712321187612","MI-HDR-LOGGINGID":"Z5118761-Z"}`);
 }
 
+type EmployeeAddress record {
+    string city;
+    int? zip;
+};
+
+type Employee record {|
+    string name;
+    float salary;
+    EmployeeAddress[] addresses;
+    map<boolean> flags;
+    Employee? manager = ();
+|};
+
+function testCloneWithTypeToNestedRecordsRepeatedly() {
+    json j = {
+        name: "Anne",
+        salary: 1000,
+        addresses: [{city: "Colombo", zip: ()}, {city: "Kandy", zip: 20000}],
+        flags: {active: true},
+        manager: {name: "Bob", salary: 2000.5, addresses: [], flags: {}}
+    };
+    foreach int i in 0 ..< 3 {
+        Employee e = checkpanic j.cloneWithType();
+        assertEquality(1000.0, e.salary);
+        assertEquality((), e.addresses[0].zip);
+        assertEquality(20000, e.addresses[1].zip);
+        assertEquality(true, e.flags["active"]);
+        Employee? manager = e.manager;
+        assertTrue(manager is Employee);
+        assertEquality(2000.5, (<Employee>manager).salary);
+        assertEquality(0, (<Employee>manager).addresses.length());
+    }
+
+    json k = {name: "Anne", salary: 1000, addresses: [{city: "Colombo"}], flags: {}};
+    Employee|error res = k.cloneWithType();
+    assertTrue(res is error);
+    error err = <error>res;
+    var message = err.detail()["message"];
+    string messageString = message is error ? message.toString() : message.toString();
+    assertEquality("{ballerina/lang.value}ConversionError", err.message());
+    assertEquality("'map<json>' value cannot be converted to 'Employee': " +
+        "\n\t\tmissing required field 'addresses[0].zip' of type 'int?' in record 'EmployeeAddress'", messageString);
+}
+
+type TreeNode record {|
+    int id;
+    TreeNode? left = ();
+    TreeNode? right = ();
+|};
+
+function testCloneWithTypeOfValueReferringToItselfTwice() {
+    map<anydata> node = {id: 1};
+    node["left"] = node;
+    node["right"] = node;
+    TreeNode|error res = node.cloneWithType();
+    assertTrue(res is error);
+    error err = <error>res;
+    assertEquality("{ballerina/lang.value}CyclicValueReferenceError", err.message());
+
+    map<anydata> leaf = {id: 2};
+    map<anydata> root = {id: 1, left: leaf, right: leaf};
+    TreeNode tree = checkpanic root.cloneWithType();
+    assertEquality(2, (<TreeNode>tree.left).id);
+    assertEquality(2, (<TreeNode>tree.right).id);
+}
+
 type AssertionError distinct error;
 
 const ASSERTION_ERROR_REASON = "AssertionError";
@@ -26,6 +26,7 @@ import org.ballerinalang.debugadapter.breakpoint.BalBreakpoint;
 import org.ballerinalang.debugadapter.breakpoint.LogMessage;
 import org.ballerinalang.debugadapter.breakpoint.TemplateLogMessage;
 import org.ballerinalang.debugadapter.evaluation.BExpressionValue;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache;
 import org.ballerinalang.debugadapter.evaluation.DebugExpressionEvaluator;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
 import org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind;
@@ -68,6 +69,7 @@ public class BreakpointProcessor {
     private final ExecutionContext context;
     private final JDIEventProcessor jdiEventProcessor;
     private final Map<String, LinkedHashMap<Integer, BalBreakpoint>> userBreakpoints = new ConcurrentHashMap<>();
+    private final CompiledExpressionCache expressionCache = new CompiledExpressionCache();
     private static final Logger LOGGER = LoggerFactory.getLogger(BreakpointProcessor.class);
 
     public BreakpointProcessor(ExecutionContext context, JDIEventProcessor jdiEventProcessor) {
@@ -88,6 +90,9 @@ public class BreakpointProcessor {
      */
     public void addSourceBreakpoints(String qualifiedClassName, LinkedHashMap<Integer, BalBreakpoint> breakpoints) {
         userBreakpoints.put(qualifiedClassName, breakpoints);
+        // Breakpoint updates are usually followed by source changes, hence the compiled breakpoint conditions and
+        // logpoint expressions are discarded to be recompiled on their next hit.
+        expressionCache.clear();
     }
 
     /**
@@ -386,7 +391,7 @@ public class BreakpointProcessor {
 
         SuspendedContext ctx = new SuspendedContext(context, thread, validFrames.get(0).getJStackFrame());
         EvaluationContext evaluationContext = new EvaluationContext(ctx);
-        DebugExpressionEvaluator evaluator = new DebugExpressionEvaluator(evaluationContext);
+        DebugExpressionEvaluator evaluator = new DebugExpressionEvaluator(evaluationContext, expressionCache);
         evaluator.setExpression(expression);
         BExpressionValue evaluationResult = evaluator.evaluate();
 
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.debugadapter.evaluation;
+
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.BinaryExpressionNode;
+import io.ballerina.compiler.syntax.tree.BracedExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.ballerinalang.debugadapter.SuspendedContext;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the parsed and import-resolved form of breakpoint conditions and logpoint expressions, against their
+ * breakpoint location. Conditional breakpoints and logpoints are evaluated on every hit, and re-parsing and
+ * re-resolving the same expression each time makes breakpoints inside hot loops unusably slow.
+ * <p>
+ * A cached entry is bound to the syntax tree of the source document at the time of compilation and is discarded as
+ * soon as the source document changes.
+ *
+ * @since 2201.12.0
+ */
+public class CompiledExpressionCache {
+
+    private final Map<CacheKey, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached compilation result for the given expression at the current debug hit location, if it is
+     * still valid for the current source document.
+     *
+     * @param context    suspended context of the debug hit
+     * @param expression user expression
+     * @return the cached compilation result, if available
+     */
+    public Optional<CompiledExpression> get(SuspendedContext context, String expression) {
+        Optional<CacheKey> key = createKey(context, expression);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CompiledExpression compiledExpression = compiledExpressions.get(key.get());
+        if (compiledExpression == null) {
+            return Optional.empty();
+        }
+        // Source has been changed since the expression was compiled.
+        if (context.getDocument() == null || compiledExpression.syntaxTree() != context.getDocument().syntaxTree()) {
+            compiledExpressions.remove(key.get());
+            return Optional.empty();
+        }
+        return Optional.of(compiledExpression);
+    }
+
+    /**
+     * Adds the compilation result of the given expression at the current debug hit location, to the cache.
+     *
+     * @param context            suspended context of the debug hit
+     * @param expression         user expression
+     * @param compiledExpression compilation result
+     */
+    public void put(SuspendedContext context, String expression, CompiledExpression compiledExpression) {
+        createKey(context, expression).ifPresent(key -> compiledExpressions.put(key, compiledExpression));
+    }
+
+    /**
+     * Removes all the cached expressions.
+     */
+    public void clear() {
+        compiledExpressions.clear();
+    }
+
+    private static Optional<CacheKey> createKey(SuspendedContext context, String expression) {
+        Optional<Path> sourcePath = context.getBreakPointSourcePath(context.getProject());
+        if (sourcePath.isEmpty() || context.getLineNumber() < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new CacheKey(sourcePath.get(), context.getLineNumber(), expression.trim()));
+    }
+
+    private record CacheKey(Path sourcePath, int lineNumber, String expression) {
+    }
+
+    /**
+     * Holds the parsed (and identifier encoded) expression along with the imports resolved for its source.
+     *
+     * @param syntaxTree       syntax tree of the source document, against which the expression was compiled
+     * @param expressionNode   parsed expression node
+     * @param resolvedImports  imports visible at the breakpoint location
+     * @param localComparison  pre-analyzed form of the expression, if it is a simple comparison on a local variable
+     */
+    public record CompiledExpression(SyntaxTree syntaxTree, ExpressionNode expressionNode,
+                                     Map<String, BImport> resolvedImports, LocalComparison localComparison) {
+
+        public Optional<LocalComparison> getLocalComparison() {
+            return Optional.ofNullable(localComparison);
+        }
+    }
+
+    /**
+     * Represents a comparison between a local variable and an {@code int} or {@code boolean} literal (e.g. {@code i >
+     * 100}, {@code isValid == false}), which can be evaluated by fetching a single local variable value from the
+     * remote VM, without invoking any runtime methods.
+     *
+     * @param variableName encoded name of the local variable
+     * @param operator     comparison operator, normalized so that the variable is always on the LHS
+     * @param literal      literal value, which is either a {@link Long} or a {@link Boolean}
+     */
+    public record LocalComparison(String variableName, SyntaxKind operator, Object literal) {
+
+        /**
+         * Analyzes the given expression and returns its local comparison form, if applicable.
+         *
+         * @param expression parsed expression (with encoded identifiers)
+         * @return local comparison form of the expression, if applicable
+         */
+        public static Optional<LocalComparison> from(ExpressionNode expression) {
+            Node expr = unwrapBraces(expression);
+            if (expr.kind() != SyntaxKind.BINARY_EXPRESSION) {
+                return Optional.empty();
+            }
+
+            BinaryExpressionNode binaryExpr = (BinaryExpressionNode) expr;
+            SyntaxKind operator = binaryExpr.operator().kind();
+            if (flip(operator) == null) {
+                return Optional.empty();
+            }
+            Node lhs = unwrapBraces(binaryExpr.lhsExpr());
+            Node rhs = unwrapBraces(binaryExpr.rhsExpr());
+            if (lhs.kind() != SyntaxKind.SIMPLE_NAME_REFERENCE) {
+                // Normalizes literal-first comparisons (e.g. `10 < i`) into variable-first comparisons.
+                Node temp = lhs;
+                lhs = rhs;
+                rhs = temp;
+                operator = flip(operator);
+            }
+            if (lhs.kind() != SyntaxKind.SIMPLE_NAME_REFERENCE) {
+                return Optional.empty();
+            }
+
+            Optional<Object> literal = parseLiteral(rhs);
+            if (literal.isEmpty()) {
+                return Optional.empty();
+            }
+            // Only equality checks are supported for boolean operands.
+            if (literal.get() instanceof Boolean && operator != SyntaxKind.DOUBLE_EQUAL_TOKEN
+                    && operator != SyntaxKind.NOT_EQUAL_TOKEN) {
+                return Optional.empty();
+            }
+
+            String variableName = ((SimpleNameReferenceNode) lhs).name().text().trim();
+            return Optional.of(new LocalComparison(variableName, operator, literal.get()));
+        }
+
+        /**
+         * Evaluates the comparison against the given local variable value.
+         *
+         * @param value local variable value ({@link Long} or {@link Boolean})
+         * @return the comparison result, or empty if the value type does not match with the literal type
+         */
+        public Optional<Boolean> test(Object value) {
+            if (value instanceof Long longValue && literal instanceof Long longLiteral) {
+                int result = Long.compare(longValue, longLiteral);
+                return Optional.of(switch (operator) {
+                    case LT_TOKEN -> result < 0;
+                    case LT_EQUAL_TOKEN -> result <= 0;
+                    case GT_TOKEN -> result > 0;
+                    case GT_EQUAL_TOKEN -> result >= 0;
+                    case DOUBLE_EQUAL_TOKEN -> result == 0;
+                    default -> result != 0;
+                });
+            } else if (value instanceof Boolean && literal instanceof Boolean) {
+                boolean isEqual = Objects.equals(value, literal);
+                return Optional.of(operator == SyntaxKind.DOUBLE_EQUAL_TOKEN == isEqual);
+            }
+            return Optional.empty();
+        }
+
+        private static Node unwrapBraces(Node expression) {
+            while (expression.kind() == SyntaxKind.BRACED_EXPRESSION) {
+                expression = ((BracedExpressionNode) expression).expression();
+            }
+            return expression;
+        }
+
+        private static SyntaxKind flip(SyntaxKind operator) {
+            return switch (operator) {
+                case LT_TOKEN -> SyntaxKind.GT_TOKEN;
+                case LT_EQUAL_TOKEN -> SyntaxKind.GT_EQUAL_TOKEN;
+                case GT_TOKEN -> SyntaxKind.LT_TOKEN;
+                case GT_EQUAL_TOKEN -> SyntaxKind.LT_EQUAL_TOKEN;
+                case DOUBLE_EQUAL_TOKEN, NOT_EQUAL_TOKEN -> operator;
+                default -> null;
+            };
+        }
+
+        private static Optional<Object> parseLiteral(Node expression) {
+            if (expression.kind() != SyntaxKind.NUMERIC_LITERAL && expression.kind() != SyntaxKind.BOOLEAN_LITERAL) {
+                return Optional.empty();
+            }
+
+            BasicLiteralNode literalNode = (BasicLiteralNode) expression;
+            String literalText = literalNode.literalToken().text().trim();
+            try {
+                return switch (literalNode.literalToken().kind()) {
+                    case DECIMAL_INTEGER_LITERAL_TOKEN -> Optional.of(Long.parseLong(literalText));
+                    case HEX_INTEGER_LITERAL_TOKEN -> Optional.of(Long.parseLong(literalText.substring(2), 16));
+                    case TRUE_KEYWORD, FALSE_KEYWORD -> Optional.of(Boolean.parseBoolean(literalText));
+                    default -> Optional.empty();
+                };
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
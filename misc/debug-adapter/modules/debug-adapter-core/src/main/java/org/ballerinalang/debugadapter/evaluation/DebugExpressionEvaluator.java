@@ -16,12 +16,21 @@
 
 package org.ballerinalang.debugadapter.evaluation;
 
+import com.sun.jdi.BooleanValue;
+import com.sun.jdi.LongValue;
+import com.sun.jdi.Value;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import org.ballerinalang.debugadapter.EvaluationContext;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache.CompiledExpression;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache.LocalComparison;
 import org.ballerinalang.debugadapter.evaluation.engine.Evaluator;
+import org.ballerinalang.debugadapter.evaluation.utils.VMUtils;
 import org.ballerinalang.debugadapter.evaluation.validator.SerialExpressionValidator;
+import org.ballerinalang.debugadapter.jdi.JdiProxyException;
+import org.ballerinalang.debugadapter.jdi.LocalVariableProxyImpl;
 
 import java.util.Map;
+import java.util.Optional;
 
 import static org.ballerinalang.debugadapter.evaluation.EvaluationException.createEvaluationException;
 
@@ -33,11 +42,24 @@ import static org.ballerinalang.debugadapter.evaluation.EvaluationException.crea
 public class DebugExpressionEvaluator extends Evaluator {
 
     private final EvaluationContext evaluationContext;
+    private final CompiledExpressionCache expressionCache;
     private String expression;
 
     public DebugExpressionEvaluator(EvaluationContext context) {
+        this(context, null);
+    }
+
+    /**
+     * Creates an expression evaluator which reuses the compilation results of the previous evaluations of the same
+     * expression at the same source location, via the given cache.
+     *
+     * @param context         evaluation context
+     * @param expressionCache compiled expression cache
+     */
+    public DebugExpressionEvaluator(EvaluationContext context, CompiledExpressionCache expressionCache) {
         super(context);
         this.evaluationContext = context;
+        this.expressionCache = expressionCache;
     }
 
     public void setExpression(String expression) {
@@ -50,22 +72,21 @@ public class DebugExpressionEvaluator extends Evaluator {
     @Override
     public BExpressionValue evaluate() throws EvaluationException {
         try {
-            // Parses the given string expression.
-            SerialExpressionValidator expressionValidator = new SerialExpressionValidator();
-            ExpressionNode parsedExpression = expressionValidator.validateAndParse(expression);
-
-            EvaluationImportResolver importResolver = new EvaluationImportResolver(context);
-            Map<String, BImport> resolvedImports = importResolver.getAllImports();
-            evaluationContext.setResolvedImports(resolvedImports);
+            CompiledExpression compiledExpression = getCompiledExpression();
+            evaluationContext.setResolvedImports(compiledExpression.resolvedImports());
             evaluationContext.setExpression(expression);
-            // Validates the import prefixes (qualified name references) within the expression.
-            importResolver.detectUsedImports(parsedExpression);
 
-            // Uses `ExpressionIdentifierModifier` to modify and encode all the identifiers within the expression.
-            parsedExpression = (ExpressionNode) parsedExpression.apply(new IdentifierModifier());
+            // Simple comparisons on local variables can be evaluated without going through the evaluation engine.
+            Optional<LocalComparison> localComparison = compiledExpression.getLocalComparison();
+            if (localComparison.isPresent()) {
+                Optional<BExpressionValue> result = evaluateLocalComparison(localComparison.get());
+                if (result.isPresent()) {
+                    return result.get();
+                }
+            }
 
             EvaluatorBuilder evaluatorBuilder = new EvaluatorBuilder(evaluationContext);
-            Evaluator evaluator = evaluatorBuilder.build(parsedExpression);
+            Evaluator evaluator = evaluatorBuilder.build(compiledExpression.expressionNode());
             return evaluator.evaluate();
         } catch (EvaluationException e) {
             throw e;
@@ -73,4 +94,59 @@ public class DebugExpressionEvaluator extends Evaluator {
             throw createEvaluationException("internal error");
         }
     }
+
+    private CompiledExpression getCompiledExpression() throws Exception {
+        if (expressionCache != null) {
+            Optional<CompiledExpression> cachedExpression = expressionCache.get(context, expression);
+            if (cachedExpression.isPresent()) {
+                return cachedExpression.get();
+            }
+        }
+
+        // Parses the given string expression.
+        SerialExpressionValidator expressionValidator = new SerialExpressionValidator();
+        ExpressionNode parsedExpression = expressionValidator.validateAndParse(expression);
+
+        EvaluationImportResolver importResolver = new EvaluationImportResolver(context);
+        Map<String, BImport> resolvedImports = importResolver.getAllImports();
+        // Validates the import prefixes (qualified name references) within the expression.
+        importResolver.detectUsedImports(parsedExpression, resolvedImports);
+
+        // Uses `ExpressionIdentifierModifier` to modify and encode all the identifiers within the expression.
+        parsedExpression = (ExpressionNode) parsedExpression.apply(new IdentifierModifier());
+
+        CompiledExpression compiledExpression = new CompiledExpression(context.getDocument().syntaxTree(),
+                parsedExpression, resolvedImports, LocalComparison.from(parsedExpression).orElse(null));
+        if (expressionCache != null) {
+            expressionCache.put(context, expression, compiledExpression);
+        }
+        return compiledExpression;
+    }
+
+    /**
+     * Evaluates a comparison between a local variable and a literal, by fetching only the local variable value from
+     * the remote VM. Returns an empty result if the variable is not a local variable of the matching primitive type,
+     * in which case the expression should be evaluated using the evaluation engine.
+     */
+    private Optional<BExpressionValue> evaluateLocalComparison(LocalComparison comparison) {
+        try {
+            LocalVariableProxyImpl localVariable = context.getFrame().visibleVariableByName(comparison.variableName());
+            if (localVariable == null) {
+                return Optional.empty();
+            }
+
+            Value value = context.getFrame().getValue(localVariable);
+            Optional<Boolean> result;
+            if (value instanceof LongValue longValue) {
+                result = comparison.test(longValue.value());
+            } else if (value instanceof BooleanValue booleanValue) {
+                result = comparison.test(booleanValue.value());
+            } else {
+                result = Optional.empty();
+            }
+            return result.map(booleanResult -> VMUtils.make(context, booleanResult));
+        } catch (JdiProxyException e) {
+            return Optional.empty();
+        }
+    }
 }
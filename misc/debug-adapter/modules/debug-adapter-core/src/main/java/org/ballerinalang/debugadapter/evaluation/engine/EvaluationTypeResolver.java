@@ -31,6 +31,7 @@ import org.ballerinalang.debugadapter.evaluation.BExpressionValue;
 import org.ballerinalang.debugadapter.evaluation.BImport;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
 import org.ballerinalang.debugadapter.evaluation.IdentifierModifier;
+import org.ballerinalang.debugadapter.evaluation.engine.invokable.GeneratedStaticMethod;
 import org.ballerinalang.debugadapter.evaluation.engine.invokable.RuntimeStaticMethod;
 import org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils;
 
@@ -57,6 +58,8 @@ import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.VA
 import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.getRuntimeMethod;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_CLASS_NAME;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_TYPE_INSTANCE_PREFIX;
+import static org.ballerinalang.debugadapter.utils.PackageUtils.LAZY_TYPE_GETTER_PREFIX;
+import static org.ballerinalang.debugadapter.utils.PackageUtils.TYPES_CLASS_NAME;
 
 /**
  * Ballerina type resolver implementation for resolving ballerina runtime types using type descriptors.
@@ -165,11 +168,35 @@ public abstract class EvaluationTypeResolver<T> {
             throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
         }
 
-        Field typeField = classRef.get(0).fieldByName(INIT_TYPE_INSTANCE_PREFIX + typeName);
+        return Optional.ofNullable(getTypeInstance(classRef.get(0), typeName));
+    }
+
+    /**
+     * Returns the runtime type instance of the given module-level type definition. Types are created lazily on their
+     * first use, so the generated type getter is invoked if the type instance is not created yet.
+     *
+     * @param initClassRef module init class
+     * @param typeName     type definition name
+     * @return runtime type instance
+     * @throws EvaluationException if the type instance cannot be resolved
+     */
+    protected Value getTypeInstance(ReferenceType initClassRef, String typeName) throws EvaluationException {
+        String fieldName = INIT_TYPE_INSTANCE_PREFIX + typeName;
+        Field typeField = initClassRef.fieldByName(fieldName);
         if (typeField == null) {
             throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
         }
-        return Optional.ofNullable(classRef.get(0).getValue(typeField));
+        Value typeInstance = initClassRef.getValue(typeField);
+        if (typeInstance != null) {
+            return typeInstance;
+        }
+
+        String initClassName = initClassRef.name();
+        String typesClassName = initClassName.substring(0, initClassName.length() - INIT_CLASS_NAME.length()) +
+                TYPES_CLASS_NAME;
+        GeneratedStaticMethod typeGetter = EvaluationUtils.getGeneratedMethod(context, typesClassName,
+                LAZY_TYPE_GETTER_PREFIX + fieldName);
+        return typeGetter.invokeSafely();
     }
 
     /**
@@ -16,7 +16,6 @@
 
 package org.ballerinalang.debugadapter.evaluation.engine;
 
-import com.sun.jdi.Field;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Value;
 import io.ballerina.compiler.api.symbols.Symbol;
@@ -30,7 +29,6 @@ import java.util.Optional;
 
 import static org.ballerinalang.debugadapter.evaluation.EvaluationException.createEvaluationException;
 import static org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind.TYPE_RESOLVING_ERROR;
-import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_TYPE_INSTANCE_PREFIX;
 
 /**
  * Ballerina type resolver implementation for resolving ballerina runtime types from type name.
@@ -108,10 +106,10 @@ public class NameBasedTypeResolver extends EvaluationTypeResolver<String> {
             return Optional.empty();
         }
 
-        Field typeField = classRef.get(0).fieldByName(INIT_TYPE_INSTANCE_PREFIX + typeName);
-        if (typeField == null) {
+        try {
+            return Optional.ofNullable(getTypeInstance(classRef.get(0), typeName));
+        } catch (EvaluationException e) {
             return Optional.empty();
         }
-        return Optional.of(classRef.get(0).getValue(typeField));
     }
 }
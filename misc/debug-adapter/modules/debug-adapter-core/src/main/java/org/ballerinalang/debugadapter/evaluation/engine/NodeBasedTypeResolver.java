@@ -16,7 +16,6 @@
 
 package org.ballerinalang.debugadapter.evaluation.engine;
 
-import com.sun.jdi.Field;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Value;
 import io.ballerina.compiler.api.symbols.Symbol;
@@ -36,7 +35,6 @@ import java.util.Optional;
 
 import static org.ballerinalang.debugadapter.evaluation.EvaluationException.createEvaluationException;
 import static org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind.TYPE_RESOLVING_ERROR;
-import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_TYPE_INSTANCE_PREFIX;
 
 /**
  * Ballerina type resolver implementation for resolving ballerina runtime types from the syntax nodes.
@@ -102,11 +100,7 @@ public class NodeBasedTypeResolver extends EvaluationTypeResolver<Node> {
             throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
         }
 
-        Field typeField = classRef.get(0).fieldByName(INIT_TYPE_INSTANCE_PREFIX + typeName);
-        if (typeField == null) {
-            throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
-        }
-        return classRef.get(0).getValue(typeField);
+        return getTypeInstance(classRef.get(0), typeName);
     }
 
     private Value resolveQualifiedType(QualifiedNameReferenceNode qualifiedNameRef) throws EvaluationException {
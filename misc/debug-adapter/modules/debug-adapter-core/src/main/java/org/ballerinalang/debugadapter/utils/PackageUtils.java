@@ -59,6 +59,8 @@ public final class PackageUtils {
     public static final String BAL_TOML_FILE_NAME = "Ballerina.toml";
     public static final String INIT_CLASS_NAME = "$_init";
     public static final String INIT_TYPE_INSTANCE_PREFIX = "$type$";
+    public static final String TYPES_CLASS_NAME = "types.$_types";
+    public static final String LAZY_TYPE_GETTER_PREFIX = "$get";
     public static final String GENERATED_VAR_PREFIX = "$";
     static final String USER_MODULE_DIR = "modules";
     static final String GEN_MODULE_DIR = "generated";
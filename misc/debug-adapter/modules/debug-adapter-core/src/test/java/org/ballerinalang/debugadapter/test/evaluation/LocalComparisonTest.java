@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ballerinalang.debugadapter.test.evaluation;
+
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache.LocalComparison;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+
+/**
+ * Test cases for the local comparison fast path of conditional breakpoints.
+ */
+public class LocalComparisonTest {
+
+    @Test(dataProvider = "local-comparisons")
+    public void testLocalComparison(String expression, String variableName, SyntaxKind operator, Object literal) {
+        Optional<LocalComparison> comparison = LocalComparison.from(NodeParser.parseExpression(expression));
+        Assert.assertTrue(comparison.isPresent(), expression);
+        Assert.assertEquals(comparison.get(), new LocalComparison(variableName, operator, literal));
+    }
+
+    @DataProvider(name = "local-comparisons")
+    public Object[][] localComparisons() {
+        return new Object[][]{
+                {"i > 100", "i", SyntaxKind.GT_TOKEN, 100L},
+                {"i >= 100", "i", SyntaxKind.GT_EQUAL_TOKEN, 100L},
+                {"i < 100", "i", SyntaxKind.LT_TOKEN, 100L},
+                {"i <= 100", "i", SyntaxKind.LT_EQUAL_TOKEN, 100L},
+                {"i == 100", "i", SyntaxKind.DOUBLE_EQUAL_TOKEN, 100L},
+                {"i != 100", "i", SyntaxKind.NOT_EQUAL_TOKEN, 100L},
+                {"i == 0xFF", "i", SyntaxKind.DOUBLE_EQUAL_TOKEN, 255L},
+                {"(i) > (100)", "i", SyntaxKind.GT_TOKEN, 100L},
+                {"((i < 100))", "i", SyntaxKind.LT_TOKEN, 100L},
+                // Literal-first comparisons are normalized.
+                {"100 < i", "i", SyntaxKind.GT_TOKEN, 100L},
+                {"100 >= i", "i", SyntaxKind.LT_EQUAL_TOKEN, 100L},
+                {"100 == i", "i", SyntaxKind.DOUBLE_EQUAL_TOKEN, 100L},
+                {"isValid == false", "isValid", SyntaxKind.DOUBLE_EQUAL_TOKEN, false},
+                {"true != isValid", "isValid", SyntaxKind.NOT_EQUAL_TOKEN, true}
+        };
+    }
+
+    @Test(dataProvider = "general-expressions")
+    public void testGeneralExpression(String expression) {
+        // These expressions must be evaluated by the expression evaluator.
+        Assert.assertTrue(LocalComparison.from(NodeParser.parseExpression(expression)).isEmpty(), expression);
+    }
+
+    @DataProvider(name = "general-expressions")
+    public Object[][] generalExpressions() {
+        return new Object[][]{
+                {"i"},
+                {"i + 1 > 100"},
+                {"i > j"},
+                {"100 < 200"},
+                {"i > 1.5"},
+                {"i > 1.5f"},
+                {"i > 100d"},
+                {"name == \"London\""},
+                {"i === 100"},
+                {"i is int"},
+                {"i > 100 && i < 200"},
+                {"isValid > false"},
+                {"obj.count > 100"},
+                {"foo() == 100"},
+                {"i > 99999999999999999999"}
+        };
+    }
+
+    @Test
+    public void testIntComparison() {
+        LocalComparison comparison = new LocalComparison("i", SyntaxKind.GT_TOKEN, 100L);
+        Assert.assertEquals(comparison.test(101L), Optional.of(true));
+        Assert.assertEquals(comparison.test(100L), Optional.of(false));
+
+        Assert.assertEquals(new LocalComparison("i", SyntaxKind.GT_EQUAL_TOKEN, 100L).test(100L), Optional.of(true));
+        Assert.assertEquals(new LocalComparison("i", SyntaxKind.LT_TOKEN, 100L).test(100L), Optional.of(false));
+        Assert.assertEquals(new LocalComparison("i", SyntaxKind.LT_EQUAL_TOKEN, 100L).test(-5L), Optional.of(true));
+        Assert.assertEquals(new LocalComparison("i", SyntaxKind.DOUBLE_EQUAL_TOKEN, 100L).test(100L),
+                Optional.of(true));
+        Assert.assertEquals(new LocalComparison("i", SyntaxKind.NOT_EQUAL_TOKEN, 100L).test(100L),
+                Optional.of(false));
+    }
+
+    @Test
+    public void testBooleanComparison() {
+        LocalComparison equality = new LocalComparison("isValid", SyntaxKind.DOUBLE_EQUAL_TOKEN, false);
+        Assert.assertEquals(equality.test(false), Optional.of(true));
+        Assert.assertEquals(equality.test(true), Optional.of(false));
+
+        LocalComparison inequality = new LocalComparison("isValid", SyntaxKind.NOT_EQUAL_TOKEN, false);
+        Assert.assertEquals(inequality.test(false), Optional.of(false));
+        Assert.assertEquals(inequality.test(true), Optional.of(true));
+    }
+
+    @Test
+    public void testMismatchedValue() {
+        // A local variable of a different type falls back to the expression evaluator.
+        Assert.assertTrue(new LocalComparison("i", SyntaxKind.GT_TOKEN, 100L).test(true).isEmpty());
+        Assert.assertTrue(new LocalComparison("i", SyntaxKind.GT_TOKEN, 100L).test(100.5).isEmpty());
+        Assert.assertTrue(new LocalComparison("i", SyntaxKind.GT_TOKEN, 100L).test("100").isEmpty());
+        Assert.assertTrue(new LocalComparison("isValid", SyntaxKind.DOUBLE_EQUAL_TOKEN, true).test(1L).isEmpty());
+    }
+}
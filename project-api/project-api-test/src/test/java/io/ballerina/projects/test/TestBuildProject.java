@@ -79,6 +79,7 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -86,9 +87,12 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.projects.test.TestUtils.assertTomlFilesEquals;
 import static io.ballerina.projects.test.TestUtils.isWindows;
@@ -507,6 +511,27 @@ public class TestBuildProject extends BaseTest {
         Assert.assertFalse(project.buildOptions().testReport());
     }
 
+    @Test(description = "tests the class data sharing build option from toml and from the build options")
+    public void testClassDataSharingBuildOption() {
+        Path projectPath = tempResourceDir.resolve("projectWithBuildOptions");
+        Assert.assertTrue(loadBuildProject(projectPath).buildOptions().classDataSharing());
+
+        // The given build options take precedence over the ones in the Ballerina.toml.
+        BuildProject project = loadBuildProject(projectPath,
+                BuildOptions.builder().setClassDataSharing(false).build());
+        Assert.assertFalse(project.buildOptions().classDataSharing());
+        project = loadBuildProject(projectPath, BuildOptions.builder().setSkipTests(false).build());
+        Assert.assertTrue(project.buildOptions().classDataSharing());
+
+        BuildOptions enabled = BuildOptions.builder().setClassDataSharing(true).build();
+        BuildOptions unset = BuildOptions.builder().build();
+        Assert.assertFalse(unset.classDataSharing());
+        Assert.assertTrue(enabled.acceptTheirs(unset).classDataSharing());
+        Assert.assertTrue(unset.acceptTheirs(enabled).classDataSharing());
+        Assert.assertFalse(enabled.acceptTheirs(BuildOptions.builder().setClassDataSharing(false).build())
+                .classDataSharing());
+    }
+
     @Test(description = "tests overriding build options when editing Toml")
     public void testOverrideBuildOptionsOnTomlEdit() {
         Path projectPath = tempResourceDir.resolve("projectWithBuildOptions");
@@ -1721,6 +1746,106 @@ public class TestBuildProject extends BaseTest {
         }
     }
 
+    @Test
+    public void testLayeredExecutable() throws IOException {
+        Path projectPath = tempResourceDir.resolve("projects_for_resources_tests/package_e");
+        BuildProject buildProject = loadBuildProject(projectPath);
+        PackageCompilation compilation = buildProject.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_21);
+        Path execPath = buildProject.sourceRoot().resolve(TARGET_DIR_NAME).resolve("layered.jar");
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.LAYERED_EXEC, execPath);
+        Assert.assertTrue(emitResult.successful());
+
+        Path layersDir = execPath.resolveSibling(JBallerinaBackend.LAYERS_DIR_NAME);
+        List<Path> layerJars;
+        try (JarFile execJar = new JarFile(execPath.toString())) {
+            // The resources and the code of the current package are in the thin jar.
+            Assert.assertNotNull(execJar.getJarEntry(RESOURCE_DIR_NAME + "/asmaj-project-info.properties"));
+            Assert.assertNotNull(execJar.getManifest().getMainAttributes().getValue(Attributes.Name.MAIN_CLASS));
+            String classPath = execJar.getManifest().getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+            layerJars = Arrays.stream(classPath.split(" ")).map(execPath::resolveSibling).toList();
+        }
+        Assert.assertFalse(layerJars.isEmpty());
+        for (Path layerJar : layerJars) {
+            Assert.assertTrue(Files.isRegularFile(layerJar), layerJar.toString());
+        }
+        try (Stream<Path> runtimeLayer = Files.list(layersDir.resolve(JBallerinaBackend.RUNTIME_LAYER_NAME))) {
+            Assert.assertEquals(runtimeLayer.count(), 1);
+        }
+
+        // Unchanged layer jars are neither copied again nor renamed.
+        List<FileTime> modifiedTimes = new ArrayList<>();
+        for (Path layerJar : layerJars) {
+            modifiedTimes.add(Files.getLastModifiedTime(layerJar));
+        }
+        jBallerinaBackend.emit(JBallerinaBackend.OutputType.LAYERED_EXEC, execPath);
+        try (JarFile execJar = new JarFile(execPath.toString())) {
+            String classPath = execJar.getManifest().getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+            Assert.assertEquals(Arrays.stream(classPath.split(" ")).map(execPath::resolveSibling).toList(),
+                    layerJars);
+        }
+        for (int i = 0; i < layerJars.size(); i++) {
+            Assert.assertEquals(Files.getLastModifiedTime(layerJars.get(i)), modifiedTimes.get(i));
+        }
+    }
+
+    @Test
+    public void testParallelCodeAnalysis() {
+        Path projectPath = tempResourceDir.resolve("project_with_parallel_analysis");
+        BuildProject sequentialProject = loadBuildProject(projectPath);
+        List<String> expectedDiagnostics = sequentialProject.currentPackage().getCompilation().diagnosticResult()
+                .diagnostics().stream().map(Object::toString).toList();
+        Assert.assertTrue(expectedDiagnostics.size() > 4, expectedDiagnostics.toString());
+
+        // The diagnostics of the functions analyzed concurrently are the same and in the same order.
+        for (int i = 0; i < 5; i++) {
+            BuildProject parallelProject = loadBuildProject(projectPath,
+                    BuildOptions.builder().setParallelAnalysis(true).build());
+            Assert.assertTrue(parallelProject.buildOptions().parallelAnalysis());
+            List<String> diagnostics = parallelProject.currentPackage().getCompilation().diagnosticResult()
+                    .diagnostics().stream().map(Object::toString).toList();
+            Assert.assertEquals(diagnostics, expectedDiagnostics);
+        }
+    }
+
+    @Test
+    public void testParallelCodeGen() throws IOException {
+        Path projectPath = tempResourceDir.resolve("projects_for_resources_tests/package_e");
+        BuildProject sequentialProject = loadBuildProject(projectPath);
+        Path sequentialJar = emitExecutable(sequentialProject, "sequential.jar");
+
+        BuildProject parallelProject = loadBuildProject(projectPath,
+                BuildOptions.builder().setParallelCodeGen(true).build());
+        Assert.assertTrue(parallelProject.buildOptions().parallelCodeGen());
+        Path parallelJar = emitExecutable(parallelProject, "parallel.jar");
+
+        // The class files written concurrently are the same and in the same order.
+        try (JarFile expectedJar = new JarFile(sequentialJar.toString());
+             JarFile actualJar = new JarFile(parallelJar.toString())) {
+            List<JarEntry> expectedEntries = Collections.list(expectedJar.entries());
+            List<JarEntry> actualEntries = Collections.list(actualJar.entries());
+            Assert.assertEquals(actualEntries.stream().map(JarEntry::getName).toList(),
+                    expectedEntries.stream().map(JarEntry::getName).toList());
+            for (int i = 0; i < expectedEntries.size(); i++) {
+                try (InputStream expected = expectedJar.getInputStream(expectedEntries.get(i));
+                     InputStream actual = actualJar.getInputStream(actualEntries.get(i))) {
+                    Assert.assertEquals(actual.readAllBytes(), expected.readAllBytes(),
+                            expectedEntries.get(i).getName());
+                }
+            }
+        }
+    }
+
+    private static Path emitExecutable(BuildProject buildProject, String jarName) {
+        PackageCompilation compilation = buildProject.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_21);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Path execPath = buildProject.sourceRoot().resolve(TARGET_DIR_NAME).resolve(jarName);
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, execPath);
+        Assert.assertTrue(emitResult.successful());
+        return execPath;
+    }
+
     @Test (enabled = false)
     public void testAddResources() throws IOException {
         // 1. load the project
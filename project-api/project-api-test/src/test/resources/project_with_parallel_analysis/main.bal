@@ -0,0 +1,36 @@
+public function main() {
+    int total = sum(1, 2) + max(3, 4) + min(5, 6) + abs(-7);
+    _ = total;
+}
+
+function sum(int a, int b) returns int {
+    return a + b;
+    int c = a;
+}
+
+function max(int a, int b) returns int {
+    if a > b {
+        return a;
+    }
+}
+
+function min(int a, int b) returns int {
+    if a < b {
+        return a;
+    }
+    return b;
+    int c = b;
+}
+
+function abs(int a) returns int {
+    while true {
+        break;
+        int b = a;
+    }
+}
+
+function isPositive(int a) returns boolean {
+    if a > 0 {
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+function isNegative(int a) returns boolean {
+    return a < 0;
+    boolean b = false;
+}
+
+function isZero(int a) returns boolean {
+    if a == 0 {
+        return true;
+    }
+}
@@ -172,6 +172,7 @@ public class Common {
     }
 
     public static boolean memoSubtypeIsEmpty(Context cx, Map<Bdd, BddMemo> memoTable,
+                                             EnvMemo.Table<Bdd> envMemoTable,
                                              BddIsEmptyPredicate isEmptyPredicate, Bdd b) {
         BddMemo mm = memoTable.get(b);
         BddMemo m;
@@ -198,10 +199,17 @@ public class Common {
         } else {
             m = new BddMemo();
             memoTable.put(b, m);
+            // Final results of the previous compilations using the same env.
+            Boolean envResult = envMemoTable.get(b);
+            if (envResult != null) {
+                m.setIsEmpty(envResult);
+                return envResult;
+            }
         }
         m.isEmpty = BddMemo.MemoStatus.PROVISIONAL;
         int initStackDepth = cx.memoStack.size();
         cx.memoStack.add(m);
+        long startTime = initStackDepth == 0 ? System.nanoTime() : 0;
         boolean isEmpty = isEmptyPredicate.apply(cx, b);
         boolean isLoop = m.isEmpty == BddMemo.MemoStatus.LOOP;
         if (!isEmpty || initStackDepth == 0) {
@@ -223,6 +231,10 @@ public class Common {
             } else {
                 m.isEmpty = isEmpty ? BddMemo.MemoStatus.TRUE : BddMemo.MemoStatus.FALSE;
             }
+            envMemoTable.put(b, isEmpty);
+        }
+        if (initStackDepth == 0) {
+            cx.env.memo().recordEmptinessCheck(System.nanoTime() - startTime);
         }
         return isEmpty;
     }
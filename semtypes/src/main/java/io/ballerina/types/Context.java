@@ -38,7 +38,9 @@ public final class Context {
     // Contains all BddMemo entries with isEmpty == PROVISIONAL
     final List<BddMemo> memoStack = new ArrayList<>();
 
-    private static volatile Context instance;
+    // A context is confined to a thread, since its memo tables are not thread-safe. The final results of the
+    // checks are shared between the threads through the memo of the env.
+    private static final ThreadLocal<Context> instance = new ThreadLocal<>();
 
     SemType anydataMemo;
     SemType jsonMemo;
@@ -51,19 +53,12 @@ public final class Context {
     }
 
     public static Context from(Env env) {
-        if (instance == null) {
-            synchronized (Context.class) {
-                if (instance == null) {
-                    instance = new Context(env);
-                }
-            }
+        Context cx = instance.get();
+        if (cx == null || cx.env != env) {
+            cx = new Context(env);
+            instance.set(cx);
         }
-        if (instance.env == env) {
-            return instance;
-        } else {
-            instance = new Context(env);
-        }
-        return instance;
+        return cx;
     }
 
     public ListAtomicType listAtomType(Atom atom) {
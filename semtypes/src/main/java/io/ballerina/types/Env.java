@@ -42,6 +42,7 @@ public class Env {
     private final Map<AtomicType, Reference<TypeAtom>> atomTable;
 
     private final LinkedHashMap<String, SemType> types;
+    private final EnvMemo memo = new EnvMemo();
 
     public Env() {
         this.atomTable = new WeakHashMap<>();
@@ -54,6 +55,15 @@ public class Env {
         PredefinedTypeEnv.getInstance().initializeEnv(this);
     }
 
+    /**
+     * Returns the memo of the final type check results, which is shared by all the contexts of this {@code Env}.
+     *
+     * @return shared memo
+     */
+    public EnvMemo memo() {
+        return memo;
+    }
+
     public int recListAtomCount() {
         return this.recListAtoms.size();
     }
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.types;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoized results of the type checks, shared by all the contexts of an {@code Env}.
+ * <p>
+ * Unlike the memo tables of a {@link Context}, which also track the provisional results of the ongoing checks, only
+ * the final results are recorded here. Since the atoms of an {@code Env} are never redefined, these results stay valid
+ * for as long as the {@code Env} is alive. Hence, they are reused across the recompilations which share the same
+ * {@code Env}, as in the language server, where most of the checks involve the unchanged types of the dependencies.
+ * <p>
+ * The number of entries of each table is bounded by evicting the least recently used entries, so that the results
+ * of the types of the recompiled modules, which are never looked up again, do not accumulate.
+ *
+ * @since 2201.12.0
+ */
+public final class EnvMemo {
+
+    static final int DEFAULT_MAX_ENTRIES = 1 << 16;
+    private static final int SEGMENT_COUNT = 16;
+
+    public final Table<Bdd> functionMemo;
+    public final Table<Bdd> listMemo;
+    public final Table<Bdd> mappingMemo;
+    public final Table<SemTypePair> comparableMemo;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder emptinessChecks = new LongAdder();
+    private final LongAdder emptinessCheckNanos = new LongAdder();
+
+    EnvMemo() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    EnvMemo(int maxEntries) {
+        this.functionMemo = new Table<>(this, maxEntries);
+        this.listMemo = new Table<>(this, maxEntries);
+        this.mappingMemo = new Table<>(this, maxEntries);
+        this.comparableMemo = new Table<>(this, maxEntries);
+    }
+
+    void recordEmptinessCheck(long nanos) {
+        emptinessChecks.increment();
+        emptinessCheckNanos.add(nanos);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this memo.
+     *
+     * @return memo statistics
+     */
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum(),
+                functionMemo.size() + listMemo.size() + mappingMemo.size() + comparableMemo.size(),
+                emptinessChecks.sum(), emptinessCheckNanos.sum());
+    }
+
+    /**
+     * Statistics of an {@code EnvMemo}.
+     *
+     * @param hits                number of lookups which found a memoized result
+     * @param misses              number of lookups which did not find a memoized result
+     * @param entries             number of memoized results
+     * @param emptinessChecks     number of outermost emptiness checks which were not memoized
+     * @param emptinessCheckNanos total time spent in those emptiness checks, in nanoseconds
+     */
+    public record Statistics(long hits, long misses, long entries, long emptinessChecks, long emptinessCheckNanos) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits: %d, misses: %d, hit rate: %.2f%%, entries: %d, emptiness checks: %d (%d ms)",
+                    hits, misses, hitRate() * 100, entries, emptinessChecks, emptinessCheckNanos / 1_000_000);
+        }
+    }
+
+    /**
+     * A thread-safe memo table with a bounded number of entries. The entries are split into segments by their hash,
+     * so that the concurrent lookups rarely contend for the same lock.
+     *
+     * @param <K> key type
+     */
+    public static final class Table<K> {
+
+        private final EnvMemo memo;
+        private final Segment<K>[] segments;
+
+        @SuppressWarnings("unchecked")
+        private Table(EnvMemo memo, int maxEntries) {
+            this.memo = memo;
+            this.segments = new Segment[SEGMENT_COUNT];
+            int maxSegmentEntries = Math.max(1, maxEntries / SEGMENT_COUNT);
+            for (int i = 0; i < SEGMENT_COUNT; i++) {
+                segments[i] = new Segment<>(maxSegmentEntries);
+            }
+        }
+
+        /**
+         * Returns the memoized result for the given key.
+         *
+         * @param key key
+         * @return memoized result, or null if there is no memoized result
+         */
+        public Boolean get(K key) {
+            Segment<K> segment = segmentFor(key);
+            Boolean result;
+            synchronized (segment) {
+                result = segment.get(key);
+            }
+            if (result == null) {
+                memo.misses.increment();
+            } else {
+                memo.hits.increment();
+            }
+            return result;
+        }
+
+        public void put(K key, boolean result) {
+            Segment<K> segment = segmentFor(key);
+            synchronized (segment) {
+                segment.put(key, result);
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (Segment<K> segment : segments) {
+                synchronized (segment) {
+                    size += segment.size();
+                }
+            }
+            return size;
+        }
+
+        private Segment<K> segmentFor(K key) {
+            int hash = key.hashCode();
+            return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+        }
+    }
+
+    private static final class Segment<K> extends LinkedHashMap<K, Boolean> {
+
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -46,7 +46,7 @@ public class ErrorOps extends CommonOps implements BasicTypeOps {
         // does not get an empty posList, because it will interpret that
         // as `map<any|error>` rather than `readonly & map<readonly>`.
         b = bddPosMaybeEmpty(b) ? bddIntersect(b, BDD_SUBTYPE_RO) : b;
-        return memoSubtypeIsEmpty(cx, cx.mappingMemo, ErrorOps::errorBddIsEmpty, b);
+        return memoSubtypeIsEmpty(cx, cx.mappingMemo, cx.env.memo().mappingMemo, ErrorOps::errorBddIsEmpty, b);
     }
 
     private static boolean errorBddIsEmpty(Context cx, Bdd b) {
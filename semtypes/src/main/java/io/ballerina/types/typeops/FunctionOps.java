@@ -43,7 +43,7 @@ public class FunctionOps extends CommonOps implements BasicTypeOps {
 
     @Override
     public boolean isEmpty(Context cx, SubtypeData t) {
-        return memoSubtypeIsEmpty(cx, cx.functionMemo,
+        return memoSubtypeIsEmpty(cx, cx.functionMemo, cx.env.memo().functionMemo,
                 (context, bdd) -> Common.bddEvery(context, bdd, null, null, FunctionOps::functionFormulaIsEmpty),
                 (Bdd) t);
     }
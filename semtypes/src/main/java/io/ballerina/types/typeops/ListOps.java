@@ -65,7 +65,7 @@ import static io.ballerina.types.typeops.IntOps.intSubtypeOverlapRange;
 public class ListOps extends CommonOps implements BasicTypeOps {
 
     static boolean listSubtypeIsEmpty(Context cx, SubtypeData t) {
-        return memoSubtypeIsEmpty(cx, cx.listMemo,
+        return memoSubtypeIsEmpty(cx, cx.listMemo, cx.env.memo().listMemo,
                 (context, bdd) -> Common.bddEvery(context, bdd, null, null, ListOps::listFormulaIsEmpty),
                 (Bdd) t);
     }
@@ -161,7 +161,7 @@ public class MappingOps extends CommonOps implements BasicTypeOps {
     }
 
     public static boolean mappingSubtypeIsEmpty(Context cx, SubtypeData t) {
-        return memoSubtypeIsEmpty(cx, cx.mappingMemo,
+        return memoSubtypeIsEmpty(cx, cx.mappingMemo, cx.env.memo().mappingMemo,
                 (context, bdd) -> Common.bddEvery(context, bdd, null, null, MappingOps::mappingFormulaIsEmpty),
                 (Bdd) t);
     }
@@ -41,7 +41,8 @@ public final class ObjectOps extends CommonOps implements BasicTypeOps {
     }
 
     private static boolean objectSubTypeIsEmpty(Context cx, SubtypeData t) {
-        return memoSubtypeIsEmpty(cx, cx.mappingMemo, ObjectOps::objectBddIsEmpty, (Bdd) t);
+        return memoSubtypeIsEmpty(cx, cx.mappingMemo, cx.env.memo().mappingMemo, ObjectOps::objectBddIsEmpty,
+                (Bdd) t);
     }
 
     private static boolean objectBddIsEmpty(Context cx, Bdd b) {
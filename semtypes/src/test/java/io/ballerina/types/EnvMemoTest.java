@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.types;
+
+import io.ballerina.types.definition.ListDefinition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for {@link EnvMemo}.
+ *
+ * @since 2201.12.0
+ */
+public class EnvMemoTest {
+
+    @Test
+    public void testResultsReusedAcrossContexts() {
+        Env env = new Env();
+        SemType intString = new ListDefinition().tupleTypeWrapped(env, PredefinedType.INT, PredefinedType.STRING);
+        SemType intVal = new ListDefinition().tupleTypeWrapped(env, PredefinedType.INT, PredefinedType.VAL);
+        Context cx = Core.typeCheckContext(env);
+        Assert.assertTrue(Core.isSubtype(cx, intString, intVal));
+        Assert.assertFalse(Core.isSubtype(cx, intVal, intString));
+        EnvMemo.Statistics before = env.memo().statistics();
+        Assert.assertTrue(before.entries() > 0);
+        Assert.assertTrue(before.emptinessChecks() > 0);
+
+        // Results memoized in the context are dropped, as in a recompilation.
+        cx.listMemo.clear();
+        Assert.assertTrue(Core.isSubtype(cx, intString, intVal));
+        Assert.assertFalse(Core.isSubtype(cx, intVal, intString));
+        EnvMemo.Statistics after = env.memo().statistics();
+        Assert.assertTrue(after.hits() > before.hits());
+        Assert.assertEquals(after.emptinessChecks(), before.emptinessChecks());
+    }
+
+    @Test
+    public void testBoundedEntries() {
+        EnvMemo memo = new EnvMemo(64);
+        SemTypePair[] keys = new SemTypePair[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = SemTypePair.from(SemTypes.intConst(i), PredefinedType.INT);
+            memo.comparableMemo.put(keys[i], true);
+        }
+        Assert.assertTrue(memo.statistics().entries() <= 64);
+        // The most recently used entries are kept.
+        Assert.assertEquals(memo.comparableMemo.get(keys[999]), Boolean.TRUE);
+        Assert.assertNull(memo.comparableMemo.get(keys[0]));
+        Assert.assertEquals(memo.statistics().hits(), 1);
+        Assert.assertEquals(memo.statistics().misses(), 1);
+    }
+}
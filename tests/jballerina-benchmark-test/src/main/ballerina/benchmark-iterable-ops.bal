@@ -0,0 +1,49 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+isolated function getIntArray(int size) returns int[] {
+    int[] intList = [];
+    int i = 0;
+    while (i < size) {
+        intList.push(i);
+        i += 1;
+    }
+    return intList;
+}
+
+public function benchmarkArrayMapFilter(int warmupCount, int benchmarkCount) returns int {
+    int[] il = getIntArray(warmupCount);
+    int[] outputList = il.map(i => i * 2).filter(i => i % 3 == 0);
+
+    il = getIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList = il.map(i => i * 2).filter(i => i % 3 == 0);
+    return (nanoTime() - startTime);
+}
+
+isolated function toDeptPerson(Person p) returns DeptPerson {
+    return {fname: p.fname, lname: p.lname, dept: ()};
+}
+
+public function benchmarkRecordArrayMapFilter(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    DeptPerson[] outputList = pl.filter(p => p.id % 2 == 0).map(toDeptPerson);
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList = pl.filter(p => p.id % 2 == 0).map(toDeptPerson);
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,53 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const STRAND_COUNT = 1000;
+
+isolated function square(int i) returns int {
+    return i * i;
+}
+
+isolated function startAndWait() returns int {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        future<int> f = start square(i);
+        futures.push(f);
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        int|error result = wait f;
+        if result is int {
+            sum += result;
+        }
+    }
+    return sum;
+}
+
+public function benchmarkStartAndWait(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = startAndWait();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = startAndWait();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
@@ -36,6 +36,9 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStartAndWait", benchmarkStartAndWait);
+    addSingleExecFunction("benchmarkArrayMapFilter", benchmarkArrayMapFilter);
+    addSingleExecFunction("benchmarkRecordArrayMapFilter", benchmarkRecordArrayMapFilter);
 }
 
 public function registerMultiExecFunctions() {
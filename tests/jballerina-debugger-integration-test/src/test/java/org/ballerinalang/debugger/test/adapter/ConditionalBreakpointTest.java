@@ -133,6 +133,40 @@ public class ConditionalBreakpointTest extends BaseTestCase {
         Assert.assertEquals(debugHitInfo.getLeft(), debugTestRunner.testBreakpoints.get(14));
     }
 
+    @Test
+    public void testLocalComparisonConditions() throws BallerinaTestException {
+        Path filePath = debugTestRunner.testEntryFilePath;
+        // Conditions evaluated using the local variable value only
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(filePath, 51, "(x) > 5", null));
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(filePath, 52, "5 < x", null));
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(filePath, 53, "x >= 0x7", null));
+        // Conditions evaluated using the expression evaluator
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(filePath, 54, "x + 1 == 9", null));
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(filePath, 55, "x < y", null));
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(filePath, 56, "x < 10", null));
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(filePath, 57, "11 >= x", null));
+        debugTestRunner.initDebugSession(DebugUtils.DebuggeeExecutionKind.RUN);
+
+        // Tests false condition with a braced variable and true condition with a literal-first comparison
+        Pair<BallerinaTestDebugPoint, StoppedEventArguments> debugHitInfo = debugTestRunner.waitForDebugHit(25000);
+        Assert.assertEquals(debugHitInfo.getLeft(), debugTestRunner.testBreakpoints.get(1));
+
+        // Tests true condition with a hexadecimal literal
+        debugTestRunner.resumeProgram(debugHitInfo.getRight(), DebugTestRunner.DebugResumeKind.NEXT_BREAKPOINT);
+        debugHitInfo = debugTestRunner.waitForDebugHit(10000);
+        Assert.assertEquals(debugHitInfo.getLeft(), debugTestRunner.testBreakpoints.get(2));
+
+        // Tests true condition which is not a local comparison
+        debugTestRunner.resumeProgram(debugHitInfo.getRight(), DebugTestRunner.DebugResumeKind.NEXT_BREAKPOINT);
+        debugHitInfo = debugTestRunner.waitForDebugHit(10000);
+        Assert.assertEquals(debugHitInfo.getLeft(), debugTestRunner.testBreakpoints.get(3));
+
+        // Tests false conditions with two variables and with '<', and true literal-first condition with '>='
+        debugTestRunner.resumeProgram(debugHitInfo.getRight(), DebugTestRunner.DebugResumeKind.NEXT_BREAKPOINT);
+        debugHitInfo = debugTestRunner.waitForDebugHit(10000);
+        Assert.assertEquals(debugHitInfo.getLeft(), debugTestRunner.testBreakpoints.get(6));
+    }
+
     @Override
     @AfterMethod(alwaysRun = true)
     public void cleanUp() {
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.test.async;
+
+import org.ballerinalang.test.BaseTest;
+import org.ballerinalang.test.context.BMainInstance;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.ballerinalang.test.context.LogLeecher;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the limit on the number of concurrent strands.
+ *
+ * @since 2201.12.0
+ */
+public class AdmissionLimitTest extends BaseTest {
+
+    private static final String testFileLocation = Path.of("src/test/resources/async").toAbsolutePath().toString();
+    private BMainInstance bMainInstance;
+
+    @BeforeClass
+    public void setup() throws BallerinaTestException {
+        bMainInstance = new BMainInstance(balServer);
+    }
+
+    @Test
+    public void testNestedStartAndWaitWithinLimit() throws BallerinaTestException {
+        // Each strand waits on the strands it starts, hence the fan-out only completes if the waiting strands
+        // release their permits. The timeout is shorter than the time the test waits for the output, so that a
+        // deadlock fails with a rejection error instead of hanging.
+        Map<String, String> envProperties = new HashMap<>();
+        envProperties.put("BAL_MAX_CONCURRENT_STRANDS", "2");
+        envProperties.put("BAL_STRAND_ADMISSION_TIMEOUT", "10000");
+        LogLeecher isolatedLeecher = new LogLeecher("isolated fan-out leaves: 16");
+        LogLeecher nonIsolatedLeecher = new LogLeecher("non-isolated fan-out leaves: 16");
+        bMainInstance.runMain(testFileLocation + "/admission_limit.bal", new String[]{}, new String[]{},
+                envProperties, new String[]{}, new LogLeecher[]{isolatedLeecher, nonIsolatedLeecher});
+        isolatedLeecher.waitForText(30000);
+        nonIsolatedLeecher.waitForText(30000);
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.ballerinalang.test.runtime.api;
 
+import io.ballerina.runtime.api.FunctionCallSite;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.creators.ValueCreator;
@@ -44,6 +45,12 @@ public final class RuntimeAPICall {
         Object result = balRuntime.callFunction(module, "add", null, 5L, 7L);
         out.println(result);
 
+        // Calls with and without the defaultable argument, through a call site and by name.
+        FunctionCallSite callSite = balRuntime.getFunctionCallSite(module, "addWithDefault");
+        out.println("call site: " + callSite.call(null, 5L, 7L) + ", " + callSite.call(null, 5L));
+        out.println("by name: " + balRuntime.callFunction(module, "addWithDefault", null, 5L) + ", " +
+                balRuntime.callFunction(module, "addWithDefault", null, 5L, 7L));
+
         BObject person = ValueCreator.createObjectValue(module, "Person", 1001, StringUtils.fromString("John Doe"));
         result = balRuntime.callMethod(person, "getNameWithTitle", null, StringUtils.fromString("Dr. "));
         out.println(result);
@@ -0,0 +1,47 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+
+int nonIsolatedLeaves = 0;
+
+isolated function isolatedFanOut(int depth) returns int|error {
+    if depth == 0 {
+        return 1;
+    }
+    future<int|error> left = start isolatedFanOut(depth - 1);
+    future<int|error> right = start isolatedFanOut(depth - 1);
+    int leftLeaves = check wait left;
+    int rightLeaves = check wait right;
+    return leftLeaves + rightLeaves;
+}
+
+function nonIsolatedFanOut(int depth) returns error? {
+    if depth == 0 {
+        nonIsolatedLeaves += 1;
+        return;
+    }
+    future<error?> left = start nonIsolatedFanOut(depth - 1);
+    future<error?> right = start nonIsolatedFanOut(depth - 1);
+    check wait left;
+    check wait right;
+}
+
+public function main() returns error? {
+    io:println("isolated fan-out leaves: ", check isolatedFanOut(4));
+    check nonIsolatedFanOut(4);
+    io:println("non-isolated fan-out leaves: ", nonIsolatedLeaves);
+}
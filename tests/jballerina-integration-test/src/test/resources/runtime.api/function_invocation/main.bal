@@ -17,3 +17,7 @@
 public function add(int a, int b) returns int {
     return a + b;
 }
+
+public function addWithDefault(int a, int b = 10) returns int {
+    return a + b;
+}
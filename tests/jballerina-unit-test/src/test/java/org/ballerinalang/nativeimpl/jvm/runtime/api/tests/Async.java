@@ -19,6 +19,7 @@
 package org.ballerinalang.nativeimpl.jvm.runtime.api.tests;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.MethodCallSite;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.MethodType;
@@ -48,6 +49,20 @@ public final class Async {
 
     }
 
+    public static long getFieldValWithRequiredArgUsingCallSite(Environment env, BObject obj, long num) {
+        MethodCallSite callSite = env.getRuntime().getMethodCallSite((ObjectType) obj.getOriginalType(),
+                "getFieldValWithRequiredArg");
+        callSite.call(obj, new StrandMetadata(true, null), num);
+        return (long) callSite.call(obj, new StrandMetadata(true, null), num);
+    }
+
+    public static long getFieldValWithMultipleOptionalArgsUsingCallSite(Environment env, BObject obj) {
+        MethodCallSite callSite = env.getRuntime().getMethodCallSite((ObjectType) obj.getOriginalType(),
+                "getFieldValWithMultipleOptionalArgs");
+        long defaultVal = (long) callSite.call(obj, new StrandMetadata(false, null));
+        return defaultVal + (long) callSite.call(obj, new StrandMetadata(false, null), 1L);
+    }
+
     public static long getFieldValWithOptionalArgDefaultVal(Environment env, BObject obj) {
         return startNonIsolatedWorker(env, obj, "getFieldValWithOptionalArg");
     }
@@ -52,64 +52,74 @@ public class DocumentationTest {
         BPackageSymbol testOrgPackage = (BPackageSymbol) symbol.scope.lookup(new Name("test_documentation")).symbol;
         BSymbol functionSymbol = testOrgPackage.scope.lookup(new Name("open")).symbol;
 
-        Assert.assertNotNull(functionSymbol.markdownDocumentation);
-        Assert.assertEquals(functionSymbol.markdownDocumentation.description.replaceAll(CARRIAGE_RETURN_CHAR,
+        Assert.assertNotNull(functionSymbol.getMarkdownDocAttachment());
+        Assert.assertEquals(functionSymbol.getMarkdownDocAttachment().description.replaceAll(CARRIAGE_RETURN_CHAR,
                 EMPTY_STRING), """
                 Gets a access parameter value (`true` or `false`) for a given key. Please note that \
                 #foo will always be bigger than #bar.
                 Example:
                 ``SymbolEnv pkgEnv = symbolEnter.packageEnvs.get(pkgNode.symbol);``""");
-        Assert.assertEquals(functionSymbol.markdownDocumentation.parameters.size(), 1);
-        Assert.assertEquals(functionSymbol.markdownDocumentation.parameters.get(0).description
+        Assert.assertEquals(functionSymbol.getMarkdownDocAttachment().parameters.size(), 1);
+        Assert.assertEquals(functionSymbol.getMarkdownDocAttachment().parameters.get(0).description
                 .replaceAll(CARRIAGE_RETURN_CHAR, EMPTY_STRING), "read or write mode");
 
-        Assert.assertNotNull(functionSymbol.markdownDocumentation.returnValueDescription);
-        Assert.assertEquals(functionSymbol.markdownDocumentation.returnValueDescription.replaceAll
+        Assert.assertNotNull(functionSymbol.getMarkdownDocAttachment().returnValueDescription);
+        Assert.assertEquals(functionSymbol.getMarkdownDocAttachment().returnValueDescription.replaceAll
                 (CARRIAGE_RETURN_CHAR, EMPTY_STRING), "success or not");
 
         BSymbol personSymbol = testOrgPackage.scope.lookup(new Name("Person")).symbol;
-        Assert.assertNotNull(personSymbol.markdownDocumentation);
-        Assert.assertEquals(personSymbol.markdownDocumentation.description.replaceAll(CARRIAGE_RETURN_CHAR,
+        Assert.assertNotNull(personSymbol.getMarkdownDocAttachment());
+        Assert.assertEquals(personSymbol.getMarkdownDocAttachment().description.replaceAll(CARRIAGE_RETURN_CHAR,
                 EMPTY_STRING),
                 "Represents a Person type in ballerina.");
-        Assert.assertEquals(personSymbol.markdownDocumentation.parameters.size(), 1);
-        Assert.assertEquals(personSymbol.markdownDocumentation.parameters.get(0).description
+        Assert.assertEquals(personSymbol.getMarkdownDocAttachment().parameters.size(), 1);
+        Assert.assertEquals(personSymbol.getMarkdownDocAttachment().parameters.get(0).description
                 .replaceAll(CARRIAGE_RETURN_CHAR, EMPTY_STRING), "name of the person.");
 
         BSymbol personNameSymbol = personSymbol.type.tsymbol.scope.lookup(new Name("name")).symbol;
-        Assert.assertNotNull(personNameSymbol.markdownDocumentation);
-        Assert.assertNull(personNameSymbol.markdownDocumentation.description);
-        Assert.assertEquals(personNameSymbol.markdownDocumentation.parameters.size(), 0);
-        Assert.assertNull(personNameSymbol.markdownDocumentation.returnValueDescription);
+        Assert.assertNotNull(personNameSymbol.getMarkdownDocAttachment());
+        Assert.assertNull(personNameSymbol.getMarkdownDocAttachment().description);
+        Assert.assertEquals(personNameSymbol.getMarkdownDocAttachment().parameters.size(), 0);
+        Assert.assertNull(personNameSymbol.getMarkdownDocAttachment().returnValueDescription);
 
         BObjectTypeSymbol personObjSymbol = (BObjectTypeSymbol) personSymbol.type.tsymbol;
 
         BSymbol getNameFuncSymbol = personObjSymbol.scope.lookup(new Name("Person.getName")).symbol;
-        Assert.assertNotNull(getNameFuncSymbol.markdownDocumentation);
-        Assert.assertEquals(getNameFuncSymbol.markdownDocumentation.description.replaceAll
+        Assert.assertNotNull(getNameFuncSymbol.getMarkdownDocAttachment());
+        Assert.assertEquals(getNameFuncSymbol.getMarkdownDocAttachment().description.replaceAll
                 (CARRIAGE_RETURN_CHAR, EMPTY_STRING), "get the users name.");
-        Assert.assertEquals(getNameFuncSymbol.markdownDocumentation.parameters.size(), 1);
-        Assert.assertEquals(getNameFuncSymbol.markdownDocumentation.parameters.get(0).description
+        Assert.assertEquals(getNameFuncSymbol.getMarkdownDocAttachment().parameters.size(), 1);
+        Assert.assertEquals(getNameFuncSymbol.getMarkdownDocAttachment().parameters.get(0).description
                 .replaceAll(CARRIAGE_RETURN_CHAR, EMPTY_STRING), "integer value");
 
         BSymbol isMaleFuncSymbol = personObjSymbol.scope.lookup(new Name("Person.isMale")).symbol;
-        Assert.assertNotNull(isMaleFuncSymbol.markdownDocumentation);
-        Assert.assertEquals(isMaleFuncSymbol.markdownDocumentation.description.replaceAll(CARRIAGE_RETURN_CHAR,
+        Assert.assertNotNull(isMaleFuncSymbol.getMarkdownDocAttachment());
+        Assert.assertEquals(isMaleFuncSymbol.getMarkdownDocAttachment().description.replaceAll(CARRIAGE_RETURN_CHAR,
                 EMPTY_STRING), "Indicate whether this is a male or female.");
-        Assert.assertEquals(isMaleFuncSymbol.markdownDocumentation.parameters.size(), 0);
-        Assert.assertNotNull(isMaleFuncSymbol.markdownDocumentation.returnValueDescription);
-        Assert.assertEquals(isMaleFuncSymbol.markdownDocumentation.returnValueDescription
+        Assert.assertEquals(isMaleFuncSymbol.getMarkdownDocAttachment().parameters.size(), 0);
+        Assert.assertNotNull(isMaleFuncSymbol.getMarkdownDocAttachment().returnValueDescription);
+        Assert.assertEquals(isMaleFuncSymbol.getMarkdownDocAttachment().returnValueDescription
                 .replaceAll(CARRIAGE_RETURN_CHAR, EMPTY_STRING), "True if male");
     }
 
+    @Test(description = "Test doc attachments in Bala are decoded once")
+    public void testDocAttachmentBalaDecodedOnce() {
+        BPackageSymbol testOrgPackage = (BPackageSymbol) symbol.scope.lookup(new Name("test_documentation")).symbol;
+        BSymbol personSymbol = testOrgPackage.scope.lookup(new Name("Person")).symbol;
+        MarkdownDocAttachment markdownDocumentation = personSymbol.getMarkdownDocAttachment();
+        Assert.assertNotNull(markdownDocumentation);
+        Assert.assertSame(personSymbol.getMarkdownDocAttachment(), markdownDocumentation);
+        Assert.assertSame(personSymbol.type.tsymbol.getMarkdownDocAttachment(), markdownDocumentation);
+    }
+
     @Test(description = "Test doc attachments in annotations")
     public void testAnnotationDoc() {
         BPackageSymbol testOrgPackage = (BPackageSymbol) symbol.scope.lookup(new Name("test_documentation")).symbol;
         BSymbol annotationSymbol = testOrgPackage.scope.lookup(new Name("Test")).symbol;
 
-        MarkdownDocAttachment markdownDocumentation = annotationSymbol.markdownDocumentation;
+        MarkdownDocAttachment markdownDocumentation = annotationSymbol.getMarkdownDocAttachment();
 
-        Assert.assertNotNull(annotationSymbol.markdownDocumentation);
+        Assert.assertNotNull(annotationSymbol.getMarkdownDocAttachment());
         Assert.assertEquals(markdownDocumentation.description, "Documentation for Test annotation");
     }
 }
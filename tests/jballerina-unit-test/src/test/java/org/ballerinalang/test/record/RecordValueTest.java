@@ -170,6 +170,11 @@ public class RecordValueTest {
         person.clear();
     }
 
+    @Test
+    public void testBasicTypeFieldUpdates() {
+        BRunUtil.invoke(compileResult, "testBasicTypeFieldUpdates");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
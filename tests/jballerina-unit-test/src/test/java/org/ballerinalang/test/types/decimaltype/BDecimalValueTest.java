@@ -290,7 +290,8 @@ public class BDecimalValueTest {
                 "testDecimalZeroOperations",
                 "testDecimalValueOverflow",
                 "testDecimalValUsingIntLiterals",
-                "testDecimalTypeRef"
+                "testDecimalTypeRef",
+                "testDecimalOperationsWithMixedScales"
         };
     }
 
@@ -28,3 +28,74 @@ function getNewPerson() returns Person {
 	Person p = {name: "Jane", age: 25, spouse: "John", "gender": "female"};
 	return p;
 }
+
+type Measurement record {
+    int count;
+    float total;
+    boolean valid;
+    int min?;
+    float max?;
+};
+
+type SmallMeasurement record {
+    int:Signed8 count;
+    float total;
+    boolean valid;
+};
+
+type IdentifiedMeasurement record {|
+    readonly int count;
+    float total;
+    boolean valid;
+|};
+
+function testBasicTypeFieldUpdates() {
+    Measurement m = {count: 1, total: 1.5, valid: false};
+    m.count += 10;
+    m.total = m.total * 2;
+    m.valid = !m.valid;
+    m.min = -3;
+    m.max = 9.5;
+    m["extra"] = 4;
+    assertEquality(11, m.count);
+    assertEquality(3.0, m.total);
+    assertEquality(true, m.valid);
+    assertEquality(-3, m.min);
+    assertEquality(9.5, m.max);
+    assertEquality({count: 11, total: 3.0, valid: true, min: -3, max: 9.5, "extra": 4}, m);
+
+    SmallMeasurement small = {count: 1, total: 0.5, valid: true};
+    Measurement view = small;
+    view.total = 2.5;
+    view.valid = false;
+    assertEquality(2.5, small.total);
+    assertEquality(false, small.valid);
+    error? err = trap updateCount(view, 1000);
+    assertEquality(true, err is error);
+    assertEquality(1, small.count);
+
+    IdentifiedMeasurement identified = {count: 5, total: 0.5, valid: true};
+    record {int count; float total; boolean valid;} identifiedView = identified;
+    identifiedView.total = 1.0;
+    assertEquality(1.0, identified.total);
+    err = trap updateCount(identifiedView, 6);
+    assertEquality(true, err is error);
+    assertEquality(5, identified.count);
+
+    Measurement frozen = m.cloneReadOnly();
+    err = trap updateCount(frozen, 12);
+    assertEquality(true, err is error);
+    assertEquality(11, frozen.count);
+}
+
+function updateCount(record {int count;} m, int count) {
+    m.count = count;
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(string `expected ${expected.toBalString()}, found ${actual.toBalString()}`);
+}
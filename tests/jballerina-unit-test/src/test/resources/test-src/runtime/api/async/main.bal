@@ -68,6 +68,16 @@ public class ObjectMethodsCallClass {
         'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
     } external;
 
+    public function callGetFieldValWithRequiredArgUsingCallSite(int num) returns int = @java:Method {
+        name: "getFieldValWithRequiredArgUsingCallSite",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
+
+    public function callGetFieldValWithMultipleOptionalArgsUsingCallSite() returns int = @java:Method {
+        name: "getFieldValWithMultipleOptionalArgsUsingCallSite",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
+
     public function callGetFieldValWithOptionalArgDefaultVal() returns int = @java:Method {
         name: "getFieldValWithOptionalArgDefaultVal",
         'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
@@ -317,6 +327,8 @@ public function main() {
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithProvidedOptionalArgVal("not a field"), -1);
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithDefaultValSpecialChars(), 12);
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithDefaultValSpecialCharsAsync(), 12);
+    test:assertEquals(objectMethodsCallClass.callGetFieldValWithRequiredArgUsingCallSite(2), 19);
+    test:assertEquals(objectMethodsCallClass.callGetFieldValWithMultipleOptionalArgsUsingCallSite(), 16);
 
     IsolatedClass isolatedClass = new ();
     test:assertEquals(isolatedClass.callGetA(), 1);
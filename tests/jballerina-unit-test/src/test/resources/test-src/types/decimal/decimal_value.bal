@@ -323,6 +323,28 @@ function testDecimalValueOverflow() {
     assertEquality("decimal range overflow", checkpanic <string|error> err.detail()["message"]);
 }
 
+function testDecimalOperationsWithMixedScales() {
+    decimal a = 10.50;
+    decimal b = 2.25;
+    assertEquality("12.75", (a + b).toString());
+    assertEquality("8.25", (a - b).toString());
+    assertEquality("23.6250", (a * b).toString());
+    assertEquality("1.21", (1.1d * 1.1d).toString());
+    assertEquality("0", (1.50d - 1.50d).toString());
+    assertEquality(true, 1.5d == 1.50d);
+    assertEquality(true, 2.25d > 2.249d);
+    assertEquality(false, 0.1d < 0.09d);
+
+    // Results which do not fit in 18 digits.
+    decimal max = 999999999999999999;
+    assertEquality("1000000000000000000", (max + 1).toString());
+    assertEquality("9.999999999999999980000000000000000E+35", (max * max).toString());
+    assertEquality("-999999999999999999.0000000000000000", (-0.000000000000000009d - max).toString());
+    assertEquality("1E-36", (0.000000000000000001d * 0.000000000000000001d).toString());
+    assertEquality(true, max + 1 > max);
+    assertEquality(true, 0.000000000000000001d > 0);
+}
+
 type AssertionError distinct error;
 
 const ASSERTION_ERROR_REASON = "AssertionError";